@@ -0,0 +1,61 @@
+package com.example.employeemanagementsystem.benchmark;
+
+import com.example.employeemanagementsystem.model.ConcurrentEmployeeDatabase;
+import com.example.employeemanagementsystem.model.Employee;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mixed read/write load on {@link ConcurrentEmployeeDatabase}. Run with increasing thread counts
+ * (for example {@code -t 1}, {@code -t 4}, {@code -t 16}) to check how throughput scales with cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx8g", "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn"})
+public class ConcurrentEmployeeDatabaseBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private ConcurrentEmployeeDatabase<Long> database;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = new ConcurrentEmployeeDatabase<>();
+        database.setMutationLogging(false);
+        for (Employee<Long> employee : WorkforceGenerator.workforce(size)) {
+            database.addEmployee(employee);
+        }
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(3)
+    public Employee<Long> read() throws Exception {
+        return database.getEmployee(ThreadLocalRandom.current().nextLong(size));
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public void write() throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        database.updateEmployeeDetails(random.nextLong(size), "performanceRating", random.nextInt(51) / 10.0);
+    }
+
+    @Benchmark
+    public Employee<Long> readOnly() throws Exception {
+        return database.getEmployee(ThreadLocalRandom.current().nextLong(size));
+    }
+
+    @Benchmark
+    public void writeOnly() throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        database.updateEmployeeDetails(random.nextLong(size), "yearsOfExperience", random.nextInt(41));
+    }
+}
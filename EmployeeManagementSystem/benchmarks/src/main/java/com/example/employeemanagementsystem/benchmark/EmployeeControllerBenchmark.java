@@ -0,0 +1,119 @@
+package com.example.employeemanagementsystem.benchmark;
+
+import com.example.employeemanagementsystem.controller.EmployeeController;
+import com.example.employeemanagementsystem.controller.QueryCache;
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeDatabase;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the {@link EmployeeController} operations used by the JavaFX UI, with and without
+ * its query cache. Queries repeat with nothing changing in between, so with the cache on they
+ * measure hits.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx16g", "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn"})
+public class EmployeeControllerBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean cached;
+
+    private EmployeeController<Long> controller;
+    private WorkforceGenerator generator;
+    private long nextId;
+    private long probe;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        controller = new EmployeeController<>(new EmployeeDatabase<>(), cached ? QueryCache.DEFAULT_MAX_WEIGHT : 0);
+        for (Employee<Long> employee : WorkforceGenerator.workforce(size)) {
+            controller.addEmployee(employee);
+        }
+        generator = new WorkforceGenerator(WorkforceGenerator.SEED + 1);
+        nextId = size;
+    }
+
+    private long nextExistingId() {
+        probe = (probe + 7_919) % size;
+        return probe;
+    }
+
+    @Benchmark
+    public void addThenRemove() throws Exception {
+        long employeeId = nextId++;
+        controller.addEmployee(generator.next(employeeId));
+        controller.removeEmployee(employeeId);
+    }
+
+    @Benchmark
+    public void updateSalary() throws Exception {
+        long employeeId = nextExistingId();
+        controller.updateEmployeeDetails(employeeId, "salary", 50_000.0 + employeeId % 1_000);
+    }
+
+    @Benchmark
+    public List<Employee<Long>> searchByName() {
+        return controller.searchByName("joanne mensah");
+    }
+
+    @Benchmark
+    public List<Employee<Long>> searchByDepartment() {
+        return controller.searchByDepartment("engineering");
+    }
+
+    @Benchmark
+    public List<Employee<Long>> filterByPerformance() {
+        return controller.filterByPerformance(4.9);
+    }
+
+    @Benchmark
+    public List<Employee<Long>> filterBySalaryRange() {
+        return controller.filterBySalaryRange(100_000, 101_000);
+    }
+
+    @Benchmark
+    public List<Employee<Long>> sortBySalary() {
+        return controller.sortBySalary();
+    }
+
+    @Benchmark
+    public List<Employee<Long>> sortByPerformance() {
+        return controller.sortByPerformance();
+    }
+
+    @Benchmark
+    public List<Employee<Long>> sortByExperience() {
+        return controller.sortByExperience();
+    }
+
+    @Benchmark
+    public List<Employee<Long>> getTop5HighestPaid() {
+        return controller.getTop5HighestPaid();
+    }
+
+    @Benchmark
+    public double averageSalaryByDepartment() {
+        return controller.averageSalaryByDepartment("Finance");
+    }
+
+    @Benchmark
+    public List<Employee<Long>> getAllEmployees() {
+        return controller.getAllEmployees();
+    }
+
+    // See EmployeeDatabaseBenchmark#giveRaiseToHighPerformers for why the raise is 0%.
+    @Benchmark
+    public void giveRaiseToHighPerformers() {
+        controller.giveRaiseToHighPerformers(4.5, 0.0);
+    }
+}
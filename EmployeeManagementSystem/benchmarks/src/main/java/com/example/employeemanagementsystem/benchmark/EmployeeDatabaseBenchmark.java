@@ -0,0 +1,156 @@
+package com.example.employeemanagementsystem.benchmark;
+
+import com.example.employeemanagementsystem.model.DepartmentStats;
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeDatabase;
+import com.example.employeemanagementsystem.model.EmployeeFilter;
+import com.example.employeemanagementsystem.model.EmployeeQuery;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link EmployeeDatabase} mutations and queries over synthetic workforces.
+ * Mutating benchmarks leave the dataset the same size so every iteration measures the same state.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx16g", "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn"})
+public class EmployeeDatabaseBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    public int size;
+
+    private EmployeeDatabase<Long> database;
+    private WorkforceGenerator generator;
+    private long nextId;
+    private long probe;
+    private final EmployeeQuery<Long> financeHighEarners = EmployeeQuery.<Long>builder()
+            .where(EmployeeFilter.department("Finance"))
+            .where(EmployeeFilter.salaryBetween(100_000, 101_000))
+            .where(EmployeeFilter.ratingAtLeast(4.0))
+            .build();
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = new EmployeeDatabase<>();
+        for (Employee<Long> employee : WorkforceGenerator.workforce(size)) {
+            database.addEmployee(employee);
+        }
+        generator = new WorkforceGenerator(WorkforceGenerator.SEED + 1);
+        nextId = size;
+    }
+
+    private long nextExistingId() {
+        probe = (probe + 7_919) % size;
+        return probe;
+    }
+
+    @Benchmark
+    public void addThenRemove() throws Exception {
+        long employeeId = nextId++;
+        database.addEmployee(generator.next(employeeId));
+        database.removeEmployee(employeeId);
+    }
+
+    @Benchmark
+    public void addThenDelete() throws Exception {
+        long employeeId = nextId++;
+        database.addEmployee(generator.next(employeeId));
+        database.deleteEmployee(employeeId);
+    }
+
+    @Benchmark
+    public void updatePerformanceRating() throws Exception {
+        long employeeId = nextExistingId();
+        database.updateEmployeeDetails(employeeId, "performanceRating", (employeeId % 51) / 10.0);
+    }
+
+    @Benchmark
+    public void updateName() throws Exception {
+        long employeeId = nextExistingId();
+        database.updateEmployeeDetails(employeeId, "name", "Renamed " + employeeId);
+    }
+
+    @Benchmark
+    public Employee<Long> getEmployee() throws Exception {
+        return database.getEmployee(nextExistingId());
+    }
+
+    @Benchmark
+    public List<Employee<Long>> searchByName() {
+        return database.searchByName("joanne mensah");
+    }
+
+    @Benchmark
+    public List<Employee<Long>> searchByNamePrefix() {
+        return database.searchByNamePrefix("joanne");
+    }
+
+    @Benchmark
+    public List<Employee<Long>> searchByDepartment() {
+        return database.searchByDepartment("engineering");
+    }
+
+    @Benchmark
+    public List<Employee<Long>> filterByPerformance() {
+        return database.filterByPerformance(4.9);
+    }
+
+    @Benchmark
+    public List<Employee<Long>> filterBySalaryRange() {
+        return database.filterBySalaryRange(100_000, 101_000);
+    }
+
+    @Benchmark
+    public List<Employee<Long>> filterByExperienceRange() {
+        return database.filterByExperienceRange(38, 40);
+    }
+
+    @Benchmark
+    public List<Employee<Long>> getTopPaidEmployees() {
+        return database.getTopPaidEmployees(10);
+    }
+
+    @Benchmark
+    public List<Employee<Long>> compositeQuery() {
+        return database.query(financeHighEarners);
+    }
+
+    @Benchmark
+    public double getAverageSalaryByDepartment() {
+        return database.getAverageSalaryByDepartment("Finance");
+    }
+
+    @Benchmark
+    public Map<String, DepartmentStats> departmentStats() {
+        return database.departmentStats();
+    }
+
+    @Benchmark
+    public List<Employee<Long>> getAllEmployees() {
+        return database.getAllEmployees();
+    }
+
+    @Benchmark
+    public void iterateEmployees(Blackhole blackhole) {
+        Iterator<Employee<Long>> iterator = database.getEmployeeIterator();
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+
+    // A 0% raise keeps salaries stable across iterations while still doing the selection and
+    // per-employee update work of a real raise.
+    @Benchmark
+    public void giveRaiseToHighPerformers() {
+        database.giveRaiseToHighPerformers(4.5, 0.0);
+    }
+}
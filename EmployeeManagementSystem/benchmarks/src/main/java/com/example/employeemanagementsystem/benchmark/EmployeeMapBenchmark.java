@@ -0,0 +1,58 @@
+package com.example.employeemanagementsystem.benchmark;
+
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeDatabase;
+import com.example.employeemanagementsystem.model.LongEmployeeDatabase;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ID lookups in an {@link EmployeeDatabase} backed by a {@code HashMap} against a
+ * {@link LongEmployeeDatabase} and its primitive-keyed map.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn"})
+public class EmployeeMapBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    @Param({"hashMap", "primitive"})
+    public String map;
+
+    private EmployeeDatabase<Long> generic;
+    private LongEmployeeDatabase primitive;
+    private boolean usePrimitive;
+    private long probe;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        generic = new EmployeeDatabase<>();
+        primitive = new LongEmployeeDatabase();
+        usePrimitive = map.equals("primitive");
+        EmployeeDatabase<Long> database = usePrimitive ? primitive : generic;
+        database.loadEmployees(WorkforceGenerator.workforce(size));
+    }
+
+    private long nextId() {
+        probe = (probe + 7_919) % size;
+        return probe;
+    }
+
+    @Benchmark
+    public Employee<Long> getEmployee() throws Exception {
+        long employeeId = nextId();
+        return usePrimitive ? primitive.getEmployee(employeeId) : generic.getEmployee(employeeId);
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+        long employeeId = size + nextId();
+        return usePrimitive ? primitive.containsEmployee(employeeId) : generic.containsEmployee(employeeId);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.employeemanagementsystem.benchmark;
+
+import com.example.employeemanagementsystem.model.ColumnarEmployeeStore;
+import com.example.employeemanagementsystem.model.EmployeeDatabase;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.Locale;
+import java.util.concurrent.Callable;
+
+/**
+ * Measures the retained heap of the same workforce in each representation with JOL, which walks
+ * the object graph and sums the real layout of every object in it, headers and padding included.
+ * Takes the workforce size as its only argument, 5,000,000 by default. Representations are built
+ * and measured one at a time so the largest one bounds the heap needed.
+ */
+public final class FootprintReport {
+    private FootprintReport() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("org.slf4j.simpleLogger.defaultLogLevel", "warn");
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+
+        System.out.printf(Locale.ROOT, "%,d employees%n", size);
+        System.out.printf(Locale.ROOT, "%-26s %12s %14s %8s%n", "representation", "MiB", "bytes/employee", "ratio");
+        long objects = report("Employee objects", size, 0, () -> WorkforceGenerator.workforce(size));
+        report("EmployeeDatabase", size, objects, () -> {
+            EmployeeDatabase<Long> database = new EmployeeDatabase<>();
+            database.setMutationLogging(false);
+            database.loadEmployees(WorkforceGenerator.workforce(size));
+            return database;
+        });
+        report("ColumnarEmployeeStore", size, objects, () -> {
+            ColumnarEmployeeStore<Long> store = new ColumnarEmployeeStore<>();
+            WorkforceGenerator generator = new WorkforceGenerator(WorkforceGenerator.SEED);
+            for (long id = 0; id < size; id++) {
+                store.addEmployee(generator.next(id));
+            }
+            store.trimToSize();
+            return store;
+        });
+    }
+
+    /**
+     * Prints the footprint of what {@code build} returns, with its ratio to {@code baseline} bytes
+     * if one is given, and returns the footprint.
+     */
+    private static long report(String name, int size, long baseline, Callable<?> build) throws Exception {
+        Object root = build.call();
+        long bytes = GraphLayout.parseInstance(root).totalSize();
+        String ratio = baseline == 0 ? "1.00x" : String.format(Locale.ROOT, "%.2fx", (double) baseline / bytes);
+        System.out.printf(Locale.ROOT, "%-26s %12.1f %14.1f %8s%n",
+                name, bytes / (1024.0 * 1024.0), (double) bytes / size, ratio);
+        return bytes;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.employeemanagementsystem.benchmark;
+
+import com.example.employeemanagementsystem.metrics.EmployeeMetrics;
+import com.example.employeemanagementsystem.metrics.RecordingEmployeeMetrics;
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeDatabase;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link EmployeeDatabase} metrics on cheap operations, where it is most visible: switched
+ * off, and recording into a {@link RecordingEmployeeMetrics}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn"})
+public class MetricsOverheadBenchmark {
+
+    @Param({"false", "true"})
+    public boolean recording;
+
+    private EmployeeDatabase<Long> database;
+    private long probe;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = new EmployeeDatabase<>();
+        for (Employee<Long> employee : WorkforceGenerator.workforce(100_000)) {
+            database.addEmployee(employee);
+        }
+        database.setMetrics(recording ? new RecordingEmployeeMetrics() : EmployeeMetrics.noop());
+    }
+
+    @Benchmark
+    public Employee<Long> getEmployee() throws Exception {
+        probe = (probe + 7_919) % 100_000;
+        return database.getEmployee(probe);
+    }
+
+    @Benchmark
+    public List<Employee<Long>> filterBySalaryRange() {
+        return database.filterBySalaryRange(100_000, 100_100);
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.employeemanagementsystem.benchmark;
+
+import com.example.employeemanagementsystem.controller.EmployeeController;
+import com.example.employeemanagementsystem.model.LongEmployeeDatabase;
+import com.example.employeemanagementsystem.server.EmployeeServer;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drives an in-process {@link EmployeeServer} over loopback with a fixed mix of requests and
+ * reports throughput, latency percentiles and refused requests. Arguments:
+ * {@code [employees] [clients] [seconds] [workers]}, by default 100,000 employees, 64 clients,
+ * 20 seconds and the server's default worker count. Each client is a thread sending one request
+ * at a time over a shared keep-alive {@link HttpClient}; a quarter of the run is warm-up.
+ * <p>
+ * Mix: 70% reads by ID, 10% department searches and 5% filters (both paged to 50 rows), 10% top-10
+ * by salary, 5% salary updates.
+ */
+public final class ServerLoadGenerator {
+    private ServerLoadGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("org.slf4j.simpleLogger.defaultLogLevel", "warn");
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+
+        LongEmployeeDatabase database = new LongEmployeeDatabase();
+        database.setMutationLogging(false);
+        database.loadEmployees(WorkforceGenerator.workforce(size));
+        InetSocketAddress address = new InetSocketAddress("127.0.0.1", 0);
+        EmployeeController<Long> controller = new EmployeeController<>(database);
+        try (EmployeeServer<Long> server = args.length > 3
+                ? new EmployeeServer<>(controller, Long::parseLong, address, Integer.parseInt(args[3]),
+                EmployeeServer.DEFAULT_MAX_QUEUED)
+                : new EmployeeServer<>(controller, Long::parseLong, address)) {
+            String base = "http://127.0.0.1:" + server.getAddress().getPort();
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+            long warmUpEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds) / 4;
+            long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+            LongAdder busy = new LongAdder();
+            LongAdder failed = new LongAdder();
+            long[][] latencies = new long[clients][];
+            int[] counts = new int[clients];
+            Thread[] threads = new Thread[clients];
+            for (int c = 0; c < clients; c++) {
+                int index = c;
+                threads[c] = new Thread(() -> {
+                    SplittableRandom random = new SplittableRandom(WorkforceGenerator.SEED + index);
+                    long[] samples = new long[1 << 16];
+                    int count = 0;
+                    while (true) {
+                        long started = System.nanoTime();
+                        if (started >= end) {
+                            break;
+                        }
+                        int status;
+                        try {
+                            status = client.send(request(base, random, size), HttpResponse.BodyHandlers.discarding())
+                                    .statusCode();
+                        } catch (Exception e) {
+                            failed.increment();
+                            continue;
+                        }
+                        long elapsed = System.nanoTime() - started;
+                        if (started < warmUpEnd) {
+                            continue;
+                        }
+                        if (status == 503) {
+                            busy.increment();
+                        } else if (status >= 400) {
+                            failed.increment();
+                        }
+                        if (count == samples.length) {
+                            samples = Arrays.copyOf(samples, count * 2);
+                        }
+                        samples[count++] = elapsed;
+                    }
+                    latencies[index] = samples;
+                    counts[index] = count;
+                }, "load-" + c);
+                threads[c].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            int total = 0;
+            for (int count : counts) {
+                total += count;
+            }
+            long[] all = new long[total];
+            int position = 0;
+            for (int c = 0; c < clients; c++) {
+                System.arraycopy(latencies[c], 0, all, position, counts[c]);
+                position += counts[c];
+            }
+            Arrays.sort(all);
+            double measured = seconds * 0.75;
+            System.out.printf(Locale.ROOT, "%,d employees, %d clients, %d cores%n",
+                    size, clients, Runtime.getRuntime().availableProcessors());
+            System.out.printf(Locale.ROOT, "%,.0f requests/s, p50 %.2f ms, p99 %.2f ms, p99.9 %.2f ms, "
+                            + "%d refused (503), %d failed%n",
+                    total / measured, percentile(all, 0.50), percentile(all, 0.99), percentile(all, 0.999),
+                    busy.sum(), failed.sum());
+        }
+    }
+
+    private static HttpRequest request(String base, SplittableRandom random, int size) {
+        int pick = random.nextInt(100);
+        long employeeId = random.nextLong(size);
+        if (pick < 70) {
+            return HttpRequest.newBuilder(URI.create(base + "/employees/" + employeeId)).build();
+        }
+        if (pick < 80) {
+            String department = WorkforceGenerator.DEPARTMENTS[random.nextInt(WorkforceGenerator.DEPARTMENTS.length)];
+            return HttpRequest.newBuilder(URI.create(base + "/employees/search?department=" + department
+                    + "&limit=50")).build();
+        }
+        if (pick < 85) {
+            return HttpRequest.newBuilder(URI.create(base + "/employees/filter?minRating=4.5&minSalary=200000"
+                    + "&limit=50")).build();
+        }
+        if (pick < 95) {
+            return HttpRequest.newBuilder(URI.create(base + "/employees/top?n=10")).build();
+        }
+        String body = "{\"salary\":" + (30_000 + random.nextInt(220_000)) + "}";
+        return HttpRequest.newBuilder(URI.create(base + "/employees/" + employeeId))
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static double percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * fraction))] / 1e6;
+    }
+}
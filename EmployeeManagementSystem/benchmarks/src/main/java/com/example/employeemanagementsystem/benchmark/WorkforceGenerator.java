@@ -0,0 +1,53 @@
+package com.example.employeemanagementsystem.benchmark;
+
+import com.example.employeemanagementsystem.model.Employee;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generates reproducible synthetic workforces. The same seed and size always yield the same
+ * employees, so results from different runs and branches are comparable.
+ */
+public final class WorkforceGenerator {
+    static final String[] DEPARTMENTS = {
+            "Engineering", "Sales", "Marketing", "Finance", "HR", "Legal", "Support", "Operations",
+            "Research", "Product", "Design", "Security", "Facilities", "Procurement", "Logistics", "Quality"
+    };
+    private static final String[] FIRST_NAMES = {
+            "Ama", "Kofi", "Anna", "John", "Maria", "Joanne", "Kwame", "Liam", "Olivia", "Noah",
+            "Emma", "Yaw", "Akosua", "Lucas", "Sofia", "Ethan", "Mia", "Daniel", "Esi", "Hannah"
+    };
+    private static final String[] LAST_NAMES = {
+            "Mensah", "Boateng", "Smith", "Johnson", "Owusu", "Brown", "Asante", "Garcia", "Miller",
+            "Davis", "Annan", "Wilson", "Taylor", "Anderson", "Thomas", "Osei", "Moore", "Martin"
+    };
+    static final long SEED = 42L;
+
+    private final SplittableRandom random;
+
+    public WorkforceGenerator(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    public Employee<Long> next(long employeeId) {
+        String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + employeeId;
+        String department = DEPARTMENTS[random.nextInt(DEPARTMENTS.length)];
+        double salary = Math.round(random.nextDouble(30_000, 250_000) * 100) / 100.0;
+        double rating = random.nextInt(0, 51) / 10.0;
+        int experience = random.nextInt(0, 41);
+        boolean active = random.nextInt(10) != 0;
+        return new Employee<>(employeeId, name, department, salary, rating, experience, active);
+    }
+
+    public static List<Employee<Long>> workforce(int size) {
+        WorkforceGenerator generator = new WorkforceGenerator(SEED);
+        List<Employee<Long>> employees = new ArrayList<>(size);
+        for (long id = 0; id < size; id++) {
+            employees.add(generator.next(id));
+        }
+        return employees;
+    }
+}
@@ -5,6 +5,9 @@ import javafx.scene.Scene;
 import javafx.stage.Stage;
 
 public class Main extends Application {
+    public Main() {
+    }
+
     @Override
     public void start(Stage primaryStage) {
         EmployeeManagementUI ui = new EmployeeManagementUI();
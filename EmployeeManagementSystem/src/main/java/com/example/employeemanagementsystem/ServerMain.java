@@ -0,0 +1,50 @@
+package com.example.employeemanagementsystem;
+
+import com.example.employeemanagementsystem.controller.EmployeeController;
+import com.example.employeemanagementsystem.model.LongEmployeeDatabase;
+import com.example.employeemanagementsystem.persistence.EmployeePersistence;
+import com.example.employeemanagementsystem.persistence.IdCodec;
+import com.example.employeemanagementsystem.server.EmployeeServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+
+/**
+ * Runs the employee database headless behind an {@link EmployeeServer} instead of the JavaFX UI.
+ * Arguments: {@code [port] [dataDirectory]}. The port defaults to 8080; with a data directory the
+ * database is recovered from it and every change is logged there.
+ */
+public class ServerMain {
+    private static final Logger logger = LoggerFactory.getLogger(ServerMain.class);
+
+    private ServerMain() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        // Without this the JDK server holds small responses back until the client's delayed ACK.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        LongEmployeeDatabase database = new LongEmployeeDatabase();
+        database.setMutationLogging(false);
+        EmployeePersistence<Long> persistence = args.length > 1
+                ? EmployeePersistence.open(Path.of(args[1]), database, IdCodec.longs()) : null;
+        EmployeeServer<Long> server = new EmployeeServer<>(new EmployeeController<>(database), Long::parseLong,
+                new InetSocketAddress(port));
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.close();
+            if (persistence != null) {
+                try {
+                    persistence.close();
+                } catch (IOException e) {
+                    logger.error("Failed to close the write-ahead log", e);
+                }
+            }
+        }, "employee-server-shutdown"));
+    }
+}
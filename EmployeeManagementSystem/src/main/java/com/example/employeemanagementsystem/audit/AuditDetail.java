@@ -0,0 +1,18 @@
+package com.example.employeemanagementsystem.audit;
+
+/**
+ * How much an {@link AuditLog} writes for bulk operations. Single-employee changes are always
+ * written as one event each.
+ */
+public enum AuditDetail {
+    /**
+     * Every employee touched by a batch or a raise gets its own event.
+     */
+    FULL,
+    /**
+     * A batch or a raise is written as one event: added employees in full, the IDs of removed and
+     * raised employees, and every field change of an update batch. Fewer, larger lines, but still
+     * a record of who was changed and how.
+     */
+    SUMMARY
+}
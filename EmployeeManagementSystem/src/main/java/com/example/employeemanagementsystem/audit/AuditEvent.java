@@ -0,0 +1,14 @@
+package com.example.employeemanagementsystem.audit;
+
+/**
+ * An event waiting in the {@link AuditLog} buffer. It holds a snapshot of the change, taken on the
+ * mutating thread, and is formatted on the writer thread.
+ */
+@FunctionalInterface
+interface AuditEvent {
+    /**
+     * Appends the event-specific members, starting with a comma, to a JSON object that already
+     * holds the sequence number and timestamp.
+     */
+    void appendTo(StringBuilder json);
+}
@@ -0,0 +1,423 @@
+package com.example.employeemanagementsystem.audit;
+
+import com.example.employeemanagementsystem.io.Json;
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeChangeListener;
+import com.example.employeemanagementsystem.model.EmployeeField;
+import com.example.employeemanagementsystem.model.FieldChange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Change listener that appends every mutation of an employee database to a JSON-lines file.
+ * <p>
+ * The mutating thread only snapshots the change into a bounded ring buffer; a single writer thread
+ * formats whatever has accumulated and writes it with one call, so a burst of changes costs one
+ * write instead of one per change. Each line is an object with a sequence number {@code seq},
+ * counted from the {@code opened} event at the top of each session, an epoch-millisecond
+ * {@code time} and a {@code type}:
+ * <pre>
+ * {"seq":1,"time":1700000000000,"type":"add","employee":{"employeeId":7,"name":"Ama",...}}
+ * {"seq":2,"time":1700000000003,"type":"update","employeeId":7,"field":"salary","old":5000.0,"new":5500.0}
+ * {"seq":3,"time":1700000000004,"type":"raise","minRating":4.5,"percent":10.0,"count":2,"employeeIds":[7,9]}
+ * </pre>
+ * When the buffer is full the {@link OverflowPolicy} decides whether the mutation waits or the
+ * event is dropped; dropped events are reported by a {@code dropped} line with their count. The
+ * {@link AuditDetail} decides whether bulk operations are written per employee or as one event.
+ * <p>
+ * Register it with {@code database.addChangeListener(log)} and
+ * {@code database.setMutationLogging(false)} to replace the per-mutation log lines. Events are
+ * buffered, so call {@link #flush} or {@link #close} before relying on the file.
+ */
+public class AuditLog<T> implements EmployeeChangeListener<T>, Closeable {
+    public static final int DEFAULT_CAPACITY = 16_384;
+    private static final int WRITE_CHUNK_CHARS = 1 << 20;
+    private static final Logger logger = LoggerFactory.getLogger(AuditLog.class);
+
+    private final FileChannel channel;
+    private final OverflowPolicy overflow;
+    private final AuditDetail detail;
+    private final AuditEvent[] events;
+    private final long[] timestamps;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Thread writer;
+
+    // Events [head, tail) are waiting; the writer owns their slots until it advances head.
+    private long head;
+    private long tail;
+    private long dropped;
+    private long droppedReported;
+    private IOException failure;
+    private boolean closed;
+
+    /**
+     * Opens or appends to {@code path} with the default capacity, blocking on overflow and
+     * summarising bulk operations.
+     */
+    public AuditLog(Path path) throws IOException {
+        this(path, DEFAULT_CAPACITY, OverflowPolicy.BLOCK, AuditDetail.SUMMARY);
+    }
+
+    public AuditLog(Path path, int capacity, OverflowPolicy overflow, AuditDetail detail) throws IOException {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        this.overflow = overflow;
+        this.detail = detail;
+        this.events = new AuditEvent[capacity];
+        this.timestamps = new long[capacity];
+        enqueue(json -> json.append(",\"type\":\"opened\",\"overflow\":\"").append(overflow)
+                .append("\",\"detail\":\"").append(detail).append('"'));
+        this.writer = new Thread(this::runWriter, "employee-audit-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflow;
+    }
+
+    public AuditDetail getDetail() {
+        return detail;
+    }
+
+    /**
+     * Number of events discarded because the buffer was full. Always zero with
+     * {@link OverflowPolicy#BLOCK}.
+     */
+    public long getDroppedEvents() {
+        lock.lock();
+        try {
+            return dropped;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void employeeAdded(Employee<T> employee) {
+        Employee<T> added = new Employee<>(employee);
+        enqueue(json -> {
+            json.append(",\"type\":\"add\",\"employee\":");
+            Json.appendEmployee(json, added);
+        });
+    }
+
+    @Override
+    public void employeesAdded(List<Employee<T>> employees) {
+        if (detail == AuditDetail.FULL) {
+            EmployeeChangeListener.super.employeesAdded(employees);
+            return;
+        }
+        Employee<?>[] added = new Employee<?>[employees.size()];
+        for (int i = 0; i < added.length; i++) {
+            added[i] = new Employee<>(employees.get(i));
+        }
+        enqueue(json -> {
+            json.append(",\"type\":\"add\",\"count\":").append(added.length).append(",\"employees\":[");
+            for (int i = 0; i < added.length; i++) {
+                if (i > 0) {
+                    json.append(',');
+                }
+                Json.appendEmployee(json, added[i]);
+            }
+            json.append(']');
+        });
+    }
+
+    @Override
+    public void employeeRemoved(Employee<T> employee) {
+        T employeeId = employee.getEmployeeId();
+        enqueue(json -> {
+            json.append(",\"type\":\"remove\",\"employeeId\":");
+            Json.appendValue(json, employeeId);
+        });
+    }
+
+    @Override
+    public void employeesRemoved(List<Employee<T>> employees) {
+        if (detail == AuditDetail.FULL) {
+            EmployeeChangeListener.super.employeesRemoved(employees);
+            return;
+        }
+        Object[] employeeIds = employeeIds(employees);
+        enqueue(json -> {
+            json.append(",\"type\":\"remove\",\"count\":").append(employeeIds.length);
+            appendIds(json, employeeIds);
+        });
+    }
+
+    @Override
+    public void employeeUpdated(Employee<T> employee, EmployeeField field, Object oldValue, Object newValue) {
+        T employeeId = employee.getEmployeeId();
+        enqueue(json -> {
+            json.append(",\"type\":\"update\",");
+            appendChange(json, employeeId, field, oldValue, newValue);
+        });
+    }
+
+    @Override
+    public void employeesUpdated(List<FieldChange<T>> changes) {
+        if (detail == AuditDetail.FULL) {
+            EmployeeChangeListener.super.employeesUpdated(changes);
+            return;
+        }
+        // Field values are immutable; only the ID has to be read from the live employee now.
+        Object[] flat = new Object[changes.size() * 4];
+        for (int i = 0; i < changes.size(); i++) {
+            FieldChange<T> change = changes.get(i);
+            flat[i * 4] = change.employee().getEmployeeId();
+            flat[i * 4 + 1] = change.field();
+            flat[i * 4 + 2] = change.oldValue();
+            flat[i * 4 + 3] = change.newValue();
+        }
+        enqueue(json -> {
+            json.append(",\"type\":\"update\",\"count\":").append(flat.length / 4).append(",\"changes\":[");
+            for (int i = 0; i < flat.length; i += 4) {
+                json.append(i == 0 ? "{" : ",{");
+                appendChange(json, flat[i], (EmployeeField) flat[i + 1], flat[i + 2], flat[i + 3]);
+                json.append('}');
+            }
+            json.append(']');
+        });
+    }
+
+    @Override
+    public void raiseGiven(double minRating, double raisePercent, List<Employee<T>> raised) {
+        if (detail == AuditDetail.FULL) {
+            for (Employee<T> employee : raised) {
+                T employeeId = employee.getEmployeeId();
+                double salary = employee.getSalary();
+                enqueue(json -> {
+                    json.append(",\"type\":\"raise\",\"minRating\":");
+                    Json.appendNumber(json, minRating);
+                    json.append(",\"percent\":");
+                    Json.appendNumber(json, raisePercent);
+                    json.append(",\"employeeId\":");
+                    Json.appendValue(json, employeeId);
+                    json.append(",\"salary\":");
+                    Json.appendNumber(json, salary);
+                });
+            }
+            return;
+        }
+        // The new salaries follow from the percentage, so the IDs are enough to replay the raise.
+        Object[] employeeIds = employeeIds(raised);
+        enqueue(json -> {
+            json.append(",\"type\":\"raise\",\"minRating\":");
+            Json.appendNumber(json, minRating);
+            json.append(",\"percent\":");
+            Json.appendNumber(json, raisePercent);
+            json.append(",\"count\":").append(employeeIds.length);
+            appendIds(json, employeeIds);
+        });
+    }
+
+    /**
+     * Waits until every event recorded so far is written and forces the file to disk.
+     */
+    public void flush() throws IOException {
+        lock.lock();
+        try {
+            long target = tail;
+            while (head < target && failure == null && writer.isAlive()) {
+                notFull.awaitUninterruptibly();
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            lock.unlock();
+        }
+        channel.force(false);
+    }
+
+    /**
+     * Writes the remaining events and closes the file. Changes reported afterwards are rejected.
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        boolean interrupted = false;
+        while (writer.isAlive()) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        try {
+            if (failure == null) {
+                channel.force(false);
+            }
+        } finally {
+            channel.close();
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void enqueue(AuditEvent event) {
+        long timestamp = System.currentTimeMillis();
+        lock.lock();
+        try {
+            while (true) {
+                if (closed) {
+                    throw new IllegalStateException("Audit log is closed");
+                }
+                if (failure != null && overflow == OverflowPolicy.BLOCK) {
+                    throw new UncheckedIOException("Audit log can no longer be written", failure);
+                }
+                if (tail - head < events.length) {
+                    break;
+                }
+                if (overflow == OverflowPolicy.DROP) {
+                    dropped++;
+                    return;
+                }
+                notFull.awaitUninterruptibly();
+            }
+            int slot = (int) (tail % events.length);
+            events[slot] = event;
+            timestamps[slot] = timestamp;
+            if (tail++ == head) {
+                notEmpty.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runWriter() {
+        StringBuilder json = new StringBuilder(8 * 1024);
+        long sequence = 0;
+        while (true) {
+            long from;
+            long to;
+            long droppedSince;
+            lock.lock();
+            try {
+                while (head == tail && dropped == droppedReported && !closed) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                if (head == tail && dropped == droppedReported) {
+                    return;
+                }
+                from = head;
+                to = tail;
+                droppedSince = dropped - droppedReported;
+                droppedReported = dropped;
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                json.setLength(0);
+                if (droppedSince > 0) {
+                    appendHeader(json, ++sequence, System.currentTimeMillis());
+                    json.append(",\"type\":\"dropped\",\"count\":").append(droppedSince).append("}\n");
+                }
+                for (long position = from; position < to; position++) {
+                    int slot = (int) (position % events.length);
+                    appendHeader(json, ++sequence, timestamps[slot]);
+                    events[slot].appendTo(json);
+                    json.append("}\n");
+                    events[slot] = null;
+                    if (json.length() >= WRITE_CHUNK_CHARS) {
+                        write(json);
+                        json.setLength(0);
+                    }
+                }
+                write(json);
+            } catch (IOException | RuntimeException e) {
+                logger.error("Failed to write the audit log; further events cannot be recorded", e);
+                lock.lock();
+                try {
+                    failure = e instanceof IOException io ? io : new IOException(e);
+                    notFull.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+                return;
+            }
+
+            lock.lock();
+            try {
+                head = to;
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void write(StringBuilder json) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(json.toString().getBytes(StandardCharsets.UTF_8));
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+
+    private static void appendHeader(StringBuilder json, long sequence, long timestamp) {
+        json.append("{\"seq\":").append(sequence).append(",\"time\":").append(timestamp);
+    }
+
+    private static void appendChange(StringBuilder json, Object employeeId, EmployeeField field,
+                                     Object oldValue, Object newValue) {
+        json.append("\"employeeId\":");
+        Json.appendValue(json, employeeId);
+        json.append(",\"field\":\"").append(field.fieldName()).append("\",\"old\":");
+        Json.appendValue(json, oldValue);
+        json.append(",\"new\":");
+        Json.appendValue(json, newValue);
+    }
+
+    private static void appendIds(StringBuilder json, Object[] employeeIds) {
+        json.append(",\"employeeIds\":[");
+        for (int i = 0; i < employeeIds.length; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            Json.appendValue(json, employeeIds[i]);
+        }
+        json.append(']');
+    }
+
+    private static Object[] employeeIds(List<? extends Employee<?>> employees) {
+        Object[] employeeIds = new Object[employees.size()];
+        for (int i = 0; i < employeeIds.length; i++) {
+            employeeIds[i] = employees.get(i).getEmployeeId();
+        }
+        return employeeIds;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.employeemanagementsystem.audit;
+
+/**
+ * What an {@link AuditLog} does with a new event when its buffer is full.
+ */
+public enum OverflowPolicy {
+    /**
+     * The mutating thread waits for the writer to make room. No event is ever lost, so this is the
+     * policy to use when the log is the audit trail of record.
+     */
+    BLOCK,
+    /**
+     * The event is discarded and counted, and the writer records how many events were dropped at
+     * that point in the file. Mutations never wait for the disk.
+     */
+    DROP
+}
@@ -0,0 +1,50 @@
+package com.example.employeemanagementsystem.cdc;
+
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeField;
+
+import java.util.List;
+
+/**
+ * One change to an employee database, as published by {@link ChangePublisher}. Sequence numbers
+ * start at 1 and increase by one per event, so a consumer that remembers the last sequence it
+ * applied can resume from there.
+ */
+public sealed interface ChangeEvent<T> {
+
+    long sequence();
+
+    /**
+     * Milliseconds since the epoch at which the change was published.
+     */
+    long timestamp();
+
+    /**
+     * An employee was added, or replaced an employee with the same ID. {@code employee} is a
+     * snapshot taken at that moment.
+     */
+    record Inserted<T>(long sequence, long timestamp, Employee<T> employee) implements ChangeEvent<T> {
+    }
+
+    record Deleted<T>(long sequence, long timestamp, T employeeId) implements ChangeEvent<T> {
+    }
+
+    record Updated<T>(long sequence, long timestamp, T employeeId, EmployeeField field, Object oldValue,
+                      Object newValue) implements ChangeEvent<T> {
+    }
+
+    /**
+     * Every employee in {@code employeeIds} got a raise of {@code raisePercent}. Their new
+     * salaries follow from the old ones through {@link #raise}.
+     */
+    record RaiseGiven<T>(long sequence, long timestamp, double minRating, double raisePercent,
+                         List<T> employeeIds) implements ChangeEvent<T> {
+
+        /**
+         * Returns {@code salary} after this raise, computed exactly as the database does.
+         */
+        public double raise(double salary) {
+            return salary + salary * (raisePercent / 100);
+        }
+    }
+}
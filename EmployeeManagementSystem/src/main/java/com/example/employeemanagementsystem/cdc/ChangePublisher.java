@@ -0,0 +1,364 @@
+package com.example.employeemanagementsystem.cdc;
+
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeChangeListener;
+import com.example.employeemanagementsystem.model.EmployeeField;
+import com.example.employeemanagementsystem.model.FieldChange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+/**
+ * Publishes every change to an employee database as an ordered stream of {@link ChangeEvent}s.
+ * <p>
+ * Register it with {@code EmployeeDatabase.addChangeListener}; each change gets the next sequence
+ * number and goes into a bounded ring of recent events. The ring is both the replay buffer and the
+ * only buffer: subscriptions keep a cursor into it and read at the pace of their own
+ * {@link Flow.Subscription#request demand}, so a slow subscriber never holds up the database or
+ * other subscribers. A subscriber whose next event has been overwritten, because it resumed from
+ * too old a sequence or fell more than the ring's capacity behind, receives
+ * {@link ReplayUnavailableException} and must reload the dataset.
+ * <p>
+ * To pair a full load with the stream, read {@link #lastSequence()} and the employees while no
+ * writes are running, then {@link #subscribe(Flow.Subscriber, long) subscribe} after that
+ * sequence.
+ * <p>
+ * Events are delivered on the given executor, one subscriber at a time in sequence order.
+ */
+public class ChangePublisher<T> implements Flow.Publisher<ChangeEvent<T>>, EmployeeChangeListener<T>, AutoCloseable {
+    public static final int DEFAULT_REPLAY_CAPACITY = 65_536;
+    private static final Logger logger = LoggerFactory.getLogger(ChangePublisher.class);
+    // Most events copied out of the ring per lock acquisition when delivering.
+    private static final int DELIVERY_BATCH = 256;
+
+    private final Executor executor;
+    private final ChangeEvent<T>[] ring;
+    private final List<ChangeSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final Object lock = new Object();
+    // Guarded by lock.
+    private long lastSequence;
+    private boolean closed;
+
+    public ChangePublisher() {
+        this(DEFAULT_REPLAY_CAPACITY, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param replayCapacity how many of the most recent events stay available for replay and for
+     *                       subscribers that are behind
+     * @param executor       runs deliveries to subscribers
+     */
+    @SuppressWarnings("unchecked")
+    public ChangePublisher(int replayCapacity, Executor executor) {
+        if (replayCapacity <= 0) {
+            throw new IllegalArgumentException("Replay capacity must be positive: " + replayCapacity);
+        }
+        this.ring = (ChangeEvent<T>[]) new ChangeEvent<?>[replayCapacity];
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    /**
+     * The sequence of the latest event, or 0 if nothing has been published yet.
+     */
+    public long lastSequence() {
+        synchronized (lock) {
+            return lastSequence;
+        }
+    }
+
+    /**
+     * The oldest sequence that can still be replayed; one past {@link #lastSequence()} when the
+     * buffer is empty.
+     */
+    public long oldestSequence() {
+        synchronized (lock) {
+            return oldestRetained();
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Subscribes to changes published from now on.
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super ChangeEvent<T>> subscriber) {
+        subscribe(subscriber, lastSequence());
+    }
+
+    /**
+     * Subscribes to every change after {@code afterSequence}, replaying the buffered ones first.
+     * Pass 0 to start from the first change ever published.
+     */
+    public void subscribe(Flow.Subscriber<? super ChangeEvent<T>> subscriber, long afterSequence) {
+        Objects.requireNonNull(subscriber);
+        ChangeSubscription subscription = new ChangeSubscription(subscriber, afterSequence + 1);
+        long last = lastSequence();
+        if (afterSequence < 0 || afterSequence > last) {
+            subscription.error = new IllegalArgumentException(
+                    "Cannot resume after " + afterSequence + "; the latest change is " + last);
+        } else {
+            subscriptions.add(subscription);
+        }
+        subscriber.onSubscribe(subscription);
+        subscription.signal();
+    }
+
+    /**
+     * Stops accepting changes. Subscribers receive the events still buffered for them, then
+     * {@code onComplete}.
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        signalAll();
+    }
+
+    @Override
+    public void employeeAdded(Employee<T> employee) {
+        Employee<T> snapshot = new Employee<>(employee);
+        publish(sequence -> new ChangeEvent.Inserted<>(sequence, System.currentTimeMillis(), snapshot));
+    }
+
+    @Override
+    public void employeesAdded(List<Employee<T>> employees) {
+        long now = System.currentTimeMillis();
+        List<LongFunction<ChangeEvent<T>>> events = new ArrayList<>(employees.size());
+        for (Employee<T> employee : employees) {
+            Employee<T> snapshot = new Employee<>(employee);
+            events.add(sequence -> new ChangeEvent.Inserted<>(sequence, now, snapshot));
+        }
+        publishAll(events);
+    }
+
+    @Override
+    public void employeeRemoved(Employee<T> employee) {
+        T employeeId = employee.getEmployeeId();
+        publish(sequence -> new ChangeEvent.Deleted<>(sequence, System.currentTimeMillis(), employeeId));
+    }
+
+    @Override
+    public void employeesRemoved(List<Employee<T>> employees) {
+        long now = System.currentTimeMillis();
+        List<LongFunction<ChangeEvent<T>>> events = new ArrayList<>(employees.size());
+        for (Employee<T> employee : employees) {
+            T employeeId = employee.getEmployeeId();
+            events.add(sequence -> new ChangeEvent.Deleted<>(sequence, now, employeeId));
+        }
+        publishAll(events);
+    }
+
+    @Override
+    public void employeeUpdated(Employee<T> employee, EmployeeField field, Object oldValue, Object newValue) {
+        T employeeId = employee.getEmployeeId();
+        publish(sequence -> new ChangeEvent.Updated<>(sequence, System.currentTimeMillis(), employeeId, field,
+                oldValue, newValue));
+    }
+
+    @Override
+    public void employeesUpdated(List<FieldChange<T>> changes) {
+        long now = System.currentTimeMillis();
+        List<LongFunction<ChangeEvent<T>>> events = new ArrayList<>(changes.size());
+        for (FieldChange<T> change : changes) {
+            T employeeId = change.employee().getEmployeeId();
+            events.add(sequence -> new ChangeEvent.Updated<>(sequence, now, employeeId, change.field(),
+                    change.oldValue(), change.newValue()));
+        }
+        publishAll(events);
+    }
+
+    @Override
+    public void raiseGiven(double minRating, double raisePercent, List<Employee<T>> raised) {
+        if (raised.isEmpty()) {
+            return;
+        }
+        List<T> employeeIds = new ArrayList<>(raised.size());
+        for (Employee<T> employee : raised) {
+            employeeIds.add(employee.getEmployeeId());
+        }
+        List<T> ids = List.copyOf(employeeIds);
+        publish(sequence -> new ChangeEvent.RaiseGiven<>(sequence, System.currentTimeMillis(), minRating,
+                raisePercent, ids));
+    }
+
+    private void publish(LongFunction<ChangeEvent<T>> event) {
+        synchronized (lock) {
+            if (!append(event)) {
+                return;
+            }
+        }
+        signalAll();
+    }
+
+    private void publishAll(List<LongFunction<ChangeEvent<T>>> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        synchronized (lock) {
+            for (LongFunction<ChangeEvent<T>> event : events) {
+                if (!append(event)) {
+                    return;
+                }
+            }
+        }
+        signalAll();
+    }
+
+    // Called with the lock held.
+    private boolean append(LongFunction<ChangeEvent<T>> event) {
+        if (closed) {
+            logger.warn("Change published after the change stream was closed; dropping it");
+            return false;
+        }
+        long sequence = ++lastSequence;
+        ring[slot(sequence)] = event.apply(sequence);
+        return true;
+    }
+
+    // Called with the lock held.
+    private long oldestRetained() {
+        return Math.max(1, lastSequence - ring.length + 1);
+    }
+
+    private int slot(long sequence) {
+        return (int) ((sequence - 1) % ring.length);
+    }
+
+    private void signalAll() {
+        for (ChangeSubscription subscription : subscriptions) {
+            subscription.signal();
+        }
+    }
+
+    private final class ChangeSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super ChangeEvent<T>> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        // Counts signals since the last drain started; the drain that moves it off zero runs them all.
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable error;
+        // Only touched by the running drain.
+        private long next;
+
+        ChangeSubscription(Flow.Subscriber<? super ChangeEvent<T>> subscriber, long next) {
+            this.subscriber = subscriber;
+            this.next = next;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Requested a non-positive number of changes: " + n);
+            } else {
+                demand.accumulateAndGet(n, (current, added) -> {
+                    long sum = current + added;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            subscriptions.remove(this);
+        }
+
+        void signal() {
+            if (pending.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    logger.error("Could not schedule change delivery", e);
+                    cancel();
+                }
+            }
+        }
+
+        private void drain() {
+            int signals = 1;
+            do {
+                if (!deliver()) {
+                    return;
+                }
+                signals = pending.addAndGet(-signals);
+            } while (signals != 0);
+        }
+
+        // Delivers as much as demand allows; false once the subscription has ended.
+        private boolean deliver() {
+            List<ChangeEvent<T>> batch = new ArrayList<>();
+            while (!cancelled) {
+                Throwable failure = error;
+                if (failure != null) {
+                    cancel();
+                    subscriber.onError(failure);
+                    return false;
+                }
+                long wanted = demand.get();
+                long oldest;
+                boolean finished;
+                synchronized (lock) {
+                    oldest = oldestRetained();
+                    long available = lastSequence - next + 1;
+                    finished = closed && available == 0;
+                    if (next >= oldest) {
+                        long count = Math.min(Math.min(wanted, available), DELIVERY_BATCH);
+                        for (long sequence = next; sequence < next + count; sequence++) {
+                            batch.add(ring[slot(sequence)]);
+                        }
+                    }
+                }
+                if (next < oldest) {
+                    cancel();
+                    subscriber.onError(new ReplayUnavailableException(next, oldest));
+                    return false;
+                }
+                if (batch.isEmpty()) {
+                    if (finished) {
+                        cancel();
+                        subscriber.onComplete();
+                        return false;
+                    }
+                    return true;
+                }
+                for (ChangeEvent<T> event : batch) {
+                    if (cancelled) {
+                        return false;
+                    }
+                    try {
+                        subscriber.onNext(event);
+                    } catch (RuntimeException e) {
+                        logger.error("Change subscriber failed on change {}; cancelling it", event.sequence(), e);
+                        cancel();
+                        return false;
+                    }
+                    next++;
+                }
+                if (wanted != Long.MAX_VALUE) {
+                    demand.addAndGet(-batch.size());
+                }
+                batch.clear();
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.employeemanagementsystem.cdc;
+
+/**
+ * Signalled to a subscriber whose next event has already left the replay buffer, either because it
+ * asked to resume from too old a sequence or because it fell too far behind. The subscriber has to
+ * reload the full dataset and subscribe again from the sequence current at that time.
+ */
+public class ReplayUnavailableException extends Exception {
+    private static final long serialVersionUID = 1L;
+
+    private final long requestedSequence;
+    private final long oldestAvailable;
+
+    public ReplayUnavailableException(long requestedSequence, long oldestAvailable) {
+        super("Change " + requestedSequence + " is no longer buffered; the oldest available is " + oldestAvailable);
+        this.requestedSequence = requestedSequence;
+        this.oldestAvailable = oldestAvailable;
+    }
+
+    public long getRequestedSequence() {
+        return requestedSequence;
+    }
+
+    public long getOldestAvailable() {
+        return oldestAvailable;
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.employeemanagementsystem.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeField;
+import com.example.employeemanagementsystem.model.EmployeeFilter;
+import com.example.employeemanagementsystem.model.EmployeeQuery;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Runs {@link EmployeeController} calls on a small worker pool so the JavaFX application thread
+ * never waits for them.
+ * <p>
+ * Every method returns a {@link CompletableFuture} that completes on the UI executor, normally
+ * {@code Platform::runLater}, so callbacks can touch controls directly. Reads share a read lock and
+ * run in parallel; writes take the write lock and run one at a time in the order they were
+ * submitted. Change listeners on the database are therefore called from worker threads.
+ * <p>
+ * Starting a {@link #search} cancels the previous one if it has not finished, so typing into a
+ * search box only ever delivers the results for the latest text. The pool and its queue are
+ * bounded, and so are writes, which wait for the write before them rather than in the queue: at
+ * most {@code maxPendingWrites} may be submitted and not yet finished. When either is full the
+ * returned future fails with a {@link RejectedExecutionException} instead of piling up work.
+ */
+public class AsyncEmployeeController<T> implements AutoCloseable {
+    private static final int QUEUE_CAPACITY = 1_024;
+    public static final int DEFAULT_MAX_PENDING_WRITES = QUEUE_CAPACITY;
+    private static final Logger logger = LoggerFactory.getLogger(AsyncEmployeeController.class);
+
+    private final EmployeeController<T> controller;
+    private final Executor uiExecutor;
+    private final ExecutorService workers;
+    private final Semaphore pendingWrites;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object writeOrder = new Object();
+    private CompletableFuture<?> lastWrite = CompletableFuture.completedFuture(null);
+    private CompletableFuture<?> currentSearch = CompletableFuture.completedFuture(null);
+
+    public AsyncEmployeeController(EmployeeController<T> controller, Executor uiExecutor) {
+        this(controller, uiExecutor, newWorkerPool(Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()))));
+    }
+
+    public AsyncEmployeeController(EmployeeController<T> controller, Executor uiExecutor, ExecutorService workers) {
+        this(controller, uiExecutor, workers, DEFAULT_MAX_PENDING_WRITES);
+    }
+
+    public AsyncEmployeeController(EmployeeController<T> controller, Executor uiExecutor, ExecutorService workers,
+                                   int maxPendingWrites) {
+        if (maxPendingWrites <= 0) {
+            throw new IllegalArgumentException("Pending write limit must be positive");
+        }
+        this.controller = controller;
+        this.uiExecutor = uiExecutor;
+        this.workers = workers;
+        this.pendingWrites = new Semaphore(maxPendingWrites);
+    }
+
+    public EmployeeController<T> getController() {
+        return controller;
+    }
+
+    /**
+     * The worker pool, for background work that does not touch the database, such as sorting
+     * table rows.
+     */
+    public Executor getExecutor() {
+        return workers;
+    }
+
+    public CompletableFuture<Void> addEmployee(Employee<T> employee) {
+        return write(() -> {
+            controller.addEmployee(employee);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> removeEmployee(T employeeId) {
+        return write(() -> {
+            controller.removeEmployee(employeeId);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> updateEmployeeDetails(T employeeId, EmployeeField field, Object newValue) {
+        return write(() -> {
+            controller.updateEmployeeDetails(employeeId, field, newValue);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> giveRaiseToHighPerformers(double minRating, double raisePercent) {
+        return write(() -> {
+            controller.giveRaiseToHighPerformers(minRating, raisePercent);
+            return null;
+        });
+    }
+
+    /**
+     * Finds employees whose name contains {@code term} or whose department is {@code term}, each
+     * employee once. Cancels the search started before this one.
+     */
+    public CompletableFuture<List<Employee<T>>> search(String term) {
+        EmployeeQuery<T> query = EmployeeQuery.<T>builder()
+                .where(EmployeeFilter.nameContains(term).or(EmployeeFilter.department(term)))
+                .build();
+        CompletableFuture<List<Employee<T>>> search = read(() -> controller.query(query));
+        CompletableFuture<?> previous;
+        synchronized (this) {
+            previous = currentSearch;
+            currentSearch = search;
+        }
+        previous.cancel(true);
+        return search;
+    }
+
+    /**
+     * Cancels the latest {@link #search} if it has not finished.
+     */
+    public void cancelSearch() {
+        CompletableFuture<?> latest;
+        synchronized (this) {
+            latest = currentSearch;
+        }
+        latest.cancel(true);
+    }
+
+    public CompletableFuture<List<Employee<T>>> query(EmployeeQuery<T> query) {
+        return read(() -> controller.query(query));
+    }
+
+    public CompletableFuture<List<Employee<T>>> getTop5HighestPaid() {
+        return read(controller::getTop5HighestPaid);
+    }
+
+    public CompletableFuture<Double> averageSalaryByDepartment(String department) {
+        return read(() -> controller.averageSalaryByDepartment(department));
+    }
+
+    /**
+     * Stops accepting work and waits briefly for queued writes to finish.
+     */
+    @Override
+    public void close() {
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(5, TimeUnit.SECONDS)) {
+                logger.warn("Employee workers did not finish within 5 seconds");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private <R> CompletableFuture<R> read(Callable<R> task) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+        try {
+            Future<?> running = workers.submit(() -> run(task, lock.readLock(), result, () -> { }));
+            // Reads hold no state worth protecting, so cancelling one may interrupt it.
+            result.whenComplete((value, failure) -> {
+                if (result.isCancelled()) {
+                    running.cancel(true);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.error("Employee workers are saturated; rejected a read");
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    private <R> CompletableFuture<R> write(Callable<R> task) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+        if (!pendingWrites.tryAcquire()) {
+            logger.error("Too many pending writes; rejected a write");
+            result.completeExceptionally(new RejectedExecutionException("Too many pending writes"));
+            return result;
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable finished = () -> {
+            if (released.compareAndSet(false, true)) {
+                pendingWrites.release();
+            }
+        };
+        synchronized (writeOrder) {
+            // Chaining on the previous write keeps writes in submission order across the pool.
+            lastWrite = lastWrite.handleAsync((ignored, failure) ->
+                            run(task, lock.writeLock(), result, finished), workers)
+                    .exceptionally(failure -> {
+                        finished.run();
+                        logger.error("Employee workers are saturated; rejected a write");
+                        result.completeExceptionally(failure);
+                        return null;
+                    });
+        }
+        return result;
+    }
+
+    // Calls finished once the task is over, before the result is handed to the UI executor.
+    private <R> Void run(Callable<R> task, Lock held, CompletableFuture<R> result, Runnable finished) {
+        if (result.isDone()) {
+            // Cancelled while queued.
+            finished.run();
+            return null;
+        }
+        R value;
+        held.lock();
+        try {
+            value = task.call();
+        } catch (Exception e) {
+            finished.run();
+            uiExecutor.execute(() -> result.completeExceptionally(e));
+            return null;
+        } finally {
+            held.unlock();
+        }
+        finished.run();
+        uiExecutor.execute(() -> result.complete(value));
+        return null;
+    }
+
+    private static ExecutorService newWorkerPool(int threads) {
+        AtomicInteger count = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+                    Thread thread = new Thread(runnable, "employee-worker-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+}
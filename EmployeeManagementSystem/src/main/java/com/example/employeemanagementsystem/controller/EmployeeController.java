@@ -1,114 +1,193 @@
 package com.example.employeemanagementsystem.controller;
+import com.example.employeemanagementsystem.cdc.ChangePublisher;
+import com.example.employeemanagementsystem.exception.EmployeeNotFoundException;
+import com.example.employeemanagementsystem.exception.InvalidDepartmentException;
+import com.example.employeemanagementsystem.exception.InvalidSalaryException;
+import com.example.employeemanagementsystem.model.DepartmentStats;
 import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeDatabase;
+import com.example.employeemanagementsystem.model.EmployeeField;
+import com.example.employeemanagementsystem.model.EmployeePatch;
+import com.example.employeemanagementsystem.model.EmployeeQuery;
+import com.example.employeemanagementsystem.model.EmployeeSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.function.Supplier;
 
 public class EmployeeController<T> {
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeController.class);
 
-    private final Map<T, Employee<T>> employeeMap;
+    // Storage, validation and the secondary indexes live in the database
+    private final EmployeeDatabase<T> database;
+    // Repeated searches and sorts are answered from here until a change they depend on
+    private final QueryCache<T> cache;
+    // Created on first use, so databases nobody streams from pay nothing for it
+    private ChangePublisher<T> changes;
 
     public EmployeeController() {
-        this.employeeMap = new HashMap<>();
+        this(new EmployeeDatabase<>());
+    }
+
+    public EmployeeController(EmployeeDatabase<T> database) {
+        this(database, QueryCache.DEFAULT_MAX_WEIGHT);
+    }
+
+    // maxCachedEmployees bounds the employees held across cached results; 0 turns caching off
+    public EmployeeController(EmployeeDatabase<T> database, long maxCachedEmployees) {
+        this.database = database;
+        this.cache = new QueryCache<>(maxCachedEmployees);
+        database.addChangeListener(cache);
+    }
+
+    public EmployeeDatabase<T> getDatabase() {
+        return database;
+    }
+
+    public QueryCacheStats getCacheStats() {
+        return cache.stats();
+    }
+
+    // Consistent read-only view for reports that must not block or be torn by concurrent edits
+    public EmployeeSnapshot<T> snapshot() {
+        return database.snapshot();
+    }
+
+    // Ordered stream of every change made from the first call on, for replicas and other consumers
+    public synchronized ChangePublisher<T> changes() {
+        if (changes == null) {
+            changes = new ChangePublisher<>();
+            database.addChangeListener(changes);
+        }
+        return changes;
     }
 
     // Add a new employee
-    public void addEmployee(Employee<T> employee) {
-        employeeMap.put(employee.getEmployeeId(), employee);
+    public void addEmployee(Employee<T> employee) throws InvalidDepartmentException, InvalidSalaryException {
+        database.addEmployee(employee);
     }
 
-    // Remove employee by ID
+    // Remove employee by ID; unknown IDs are ignored
     public void removeEmployee(T employeeId) {
-        employeeMap.remove(employeeId);
+        if (database.containsEmployee(employeeId)) {
+            try {
+                database.removeEmployee(employeeId);
+            } catch (EmployeeNotFoundException e) {
+                // Checked just above.
+            }
+        }
     }
 
     // Update any employee field dynamically
-    public void updateEmployeeDetails(T employeeId, String field, Object newValue) {
-        Employee<T> employee = employeeMap.get(employeeId);
-        if (employee != null) {
-            switch (field.toLowerCase()) {
-                case "name" -> employee.setName((String) newValue);
-                case "department" -> employee.setDepartment((String) newValue);
-                case "salary" -> employee.setSalary((Double) newValue);
-                case "performancerating" -> employee.setPerformanceRating((Double) newValue);
-                case "yearsofexperience" -> employee.setYearsOfExperience((Integer) newValue);
-                case "isactive" -> employee.setActive((Boolean) newValue);
-                default -> System.out.println("Invalid field: " + field);
+    public void updateEmployeeDetails(T employeeId, String field, Object newValue)
+            throws InvalidDepartmentException, InvalidSalaryException {
+        EmployeeField employeeField;
+        try {
+            employeeField = EmployeeField.fromName(field);
+        } catch (IllegalArgumentException e) {
+            logger.error("Unknown field {} provided for update", field);
+            throw e;
+        }
+        updateEmployeeDetails(employeeId, employeeField, newValue);
+    }
+
+    public void updateEmployeeDetails(T employeeId, EmployeeField field, Object newValue)
+            throws InvalidDepartmentException, InvalidSalaryException {
+        if (database.containsEmployee(employeeId)) {
+            try {
+                database.updateEmployeeDetails(employeeId, field, newValue);
+            } catch (EmployeeNotFoundException e) {
+                // Checked just above.
+            }
+        }
+    }
+
+    // Apply several pre-validated field changes at once
+    public void applyPatch(T employeeId, EmployeePatch patch) {
+        if (database.containsEmployee(employeeId)) {
+            try {
+                database.applyPatch(employeeId, patch);
+            } catch (EmployeeNotFoundException e) {
+                // Checked just above.
             }
         }
     }
 
     // Return all employees
     public List<Employee<T>> getAllEmployees() {
-        return new ArrayList<>(employeeMap.values());
+        return database.getAllEmployees();
     }
 
     public List<Employee<T>> searchByDepartment(String department) {
-        return employeeMap.values().stream()
-                .filter(emp -> emp.getDepartment().equalsIgnoreCase(department))
-                .collect(Collectors.toList());
+        return cached(Arrays.asList("searchByDepartment", department),
+                EnumSet.of(EmployeeField.DEPARTMENT), () -> database.searchByDepartment(department));
     }
 
     public List<Employee<T>> searchByName(String namePart) {
-        return employeeMap.values().stream()
-                .filter(emp -> emp.getName().toLowerCase().contains(namePart.toLowerCase()))
-                .collect(Collectors.toList());
+        return cached(Arrays.asList("searchByName", namePart),
+                EnumSet.of(EmployeeField.NAME), () -> database.searchByName(namePart));
+    }
+
+    // Combined conditions, order and limit in one pass over the best index
+    public List<Employee<T>> query(EmployeeQuery<T> query) {
+        // The comparator may read any field
+        Set<EmployeeField> fields = query.order() == null ? query.filter().fields() : EnumSet.allOf(EmployeeField.class);
+        return cached(query, fields, () -> database.query(query));
     }
 
     public List<Employee<T>> filterByPerformance(double minRating) {
-        return employeeMap.values().stream()
-                .filter(emp -> emp.getPerformanceRating() >= minRating)
-                .collect(Collectors.toList());
+        return cached(List.of("filterByPerformance", minRating),
+                EnumSet.of(EmployeeField.PERFORMANCE_RATING), () -> database.filterByPerformance(minRating));
     }
 
     public List<Employee<T>> filterBySalaryRange(double min, double max) {
-        return employeeMap.values().stream()
-                .filter(emp -> emp.getSalary() >= min && emp.getSalary() <= max)
-                .collect(Collectors.toList());
+        return cached(List.of("filterBySalaryRange", min, max),
+                EnumSet.of(EmployeeField.SALARY), () -> database.filterBySalaryRange(min, max));
     }
 
+    // Sorts run in parallel when the database is configured for it
     public List<Employee<T>> sortBySalary() {
-        return employeeMap.values().stream()
-                .sorted((a, b) -> Double.compare(b.getSalary(), a.getSalary()))
-                .collect(Collectors.toList());
+        return cached(List.of("sortBySalary"), EnumSet.of(EmployeeField.SALARY),
+                () -> database.getAllEmployeesSorted((a, b) -> Double.compare(b.getSalary(), a.getSalary())));
     }
 
     public List<Employee<T>> sortByPerformance() {
-        return employeeMap.values().stream()
-                .sorted((a, b) -> Double.compare(b.getPerformanceRating(), a.getPerformanceRating()))
-                .collect(Collectors.toList());
+        return cached(List.of("sortByPerformance"), EnumSet.of(EmployeeField.PERFORMANCE_RATING),
+                () -> database.getAllEmployeesSorted((a, b) -> Double.compare(b.getPerformanceRating(), a.getPerformanceRating())));
     }
 
     public List<Employee<T>> sortByExperience() {
-        return employeeMap.values().stream()
-                .sorted()
-                .collect(Collectors.toList());
+        return cached(List.of("sortByExperience"), EnumSet.of(EmployeeField.YEARS_OF_EXPERIENCE),
+                () -> database.getAllEmployeesSorted(Comparator.naturalOrder()));
     }
 
     public List<Employee<T>> getTop5HighestPaid() {
-        return employeeMap.values().stream()
-                .sorted((a, b) -> Double.compare(b.getSalary(), a.getSalary()))
-                .limit(5)
-                .collect(Collectors.toList());
+        return cached(List.of("getTop5HighestPaid"), EnumSet.of(EmployeeField.SALARY),
+                () -> database.getTopPaidEmployees(5));
     }
 
     public void giveRaiseToHighPerformers(double minRating, double raisePercent) {
-        for (Employee<T> emp : employeeMap.values()) {
-            if (emp.getPerformanceRating() >= minRating) {
-                double newSalary = emp.getSalary() * (1 + raisePercent / 100);
-                emp.setSalary(newSalary);
-            }
-        }
+        database.giveRaiseToHighPerformers(minRating, raisePercent);
     }
 
     public double averageSalaryByDepartment(String department) {
-        return employeeMap.values().stream()
-                .filter(emp -> emp.getDepartment().equalsIgnoreCase(department))
-                .mapToDouble(Employee::getSalary)
-                .average()
-                .orElse(0.0);
+        return database.getAverageSalaryByDepartment(department);
+    }
+
+    // Headcount and salary aggregates for every department
+    public Map<String, DepartmentStats> departmentStats() {
+        return database.departmentStats();
+    }
+
+    // Callers get their own copy; the cached list is shared
+    private List<Employee<T>> cached(Object key, Set<EmployeeField> dependsOn, Supplier<List<Employee<T>>> query) {
+        return new ArrayList<>(cache.get(key, dependsOn, query));
     }
 }
@@ -0,0 +1,178 @@
+package com.example.employeemanagementsystem.controller;
+
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeChangeListener;
+import com.example.employeemanagementsystem.model.EmployeeField;
+import com.example.employeemanagementsystem.model.FieldChange;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Least-recently-used cache of query results, bounded by the total number of employees it holds.
+ * <p>
+ * Every entry declares the employee fields its result depends on. The cache listens to the
+ * database and, on each change, drops exactly the entries that depend on a changed field; adding
+ * or removing employees drops everything. A version counter per field guards the gap between
+ * computing a result and storing it: a result is only stored if none of its fields changed in
+ * between. Cached lists are shared and must not be modified; {@link EmployeeController} hands out
+ * copies.
+ */
+public class QueryCache<T> implements EmployeeChangeListener<T> {
+    public static final long DEFAULT_MAX_WEIGHT = 2_000_000;
+    private static final EmployeeField[] FIELDS = EmployeeField.values();
+    private static final int MEMBERSHIP = 1 << FIELDS.length;
+
+    private final long maxWeight;
+    private final Map<Object, Entry<T>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    // One counter per field, plus one for membership, each bumped whenever it changes.
+    private final long[] versions = new long[FIELDS.length + 1];
+    private long weight;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+
+    /**
+     * @param maxWeight the most employees, summed over all cached results, the cache may hold;
+     *                  zero disables caching
+     */
+    public QueryCache(long maxWeight) {
+        if (maxWeight < 0) {
+            throw new IllegalArgumentException("Maximum weight must not be negative: " + maxWeight);
+        }
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * Returns the cached result for {@code key}, or computes, stores and returns it. The key must
+     * identify the query and all of its parameters.
+     */
+    public List<Employee<T>> get(Object key, Set<EmployeeField> dependsOn, Supplier<List<Employee<T>>> query) {
+        int dependencies = mask(dependsOn);
+        long stamp;
+        synchronized (this) {
+            Entry<T> entry = entries.get(key);
+            if (entry != null) {
+                hits++;
+                return entry.result;
+            }
+            misses++;
+            stamp = stamp(dependencies);
+        }
+        // Computed outside the lock so concurrent reads of other queries are not held up.
+        List<Employee<T>> result = query.get();
+        long resultWeight = result.size() + 1L;
+        synchronized (this) {
+            if (resultWeight <= maxWeight && stamp(dependencies) == stamp && !entries.containsKey(key)) {
+                entries.put(key, new Entry<>(result, dependencies, resultWeight));
+                weight += resultWeight;
+                evictToFit();
+            }
+        }
+        return result;
+    }
+
+    public synchronized QueryCacheStats stats() {
+        return new QueryCacheStats(hits, misses, evictions, invalidations, entries.size(), weight);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        weight = 0;
+    }
+
+    @Override
+    public void employeeAdded(Employee<T> employee) {
+        changed(MEMBERSHIP);
+    }
+
+    @Override
+    public void employeesAdded(List<Employee<T>> employees) {
+        changed(MEMBERSHIP);
+    }
+
+    @Override
+    public void employeeRemoved(Employee<T> employee) {
+        changed(MEMBERSHIP);
+    }
+
+    @Override
+    public void employeesRemoved(List<Employee<T>> employees) {
+        changed(MEMBERSHIP);
+    }
+
+    @Override
+    public void employeeUpdated(Employee<T> employee, EmployeeField field, Object oldValue, Object newValue) {
+        changed(1 << field.ordinal());
+    }
+
+    @Override
+    public void employeesUpdated(List<FieldChange<T>> changes) {
+        int fields = 0;
+        for (FieldChange<T> change : changes) {
+            fields |= 1 << change.field().ordinal();
+        }
+        changed(fields);
+    }
+
+    @Override
+    public void raiseGiven(double minRating, double raisePercent, List<Employee<T>> raised) {
+        if (!raised.isEmpty()) {
+            changed(1 << EmployeeField.SALARY.ordinal());
+        }
+    }
+
+    private synchronized void changed(int fields) {
+        for (int i = 0; i < versions.length; i++) {
+            if ((fields & (1 << i)) != 0) {
+                versions[i]++;
+            }
+        }
+        Iterator<Entry<T>> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry<T> entry = iterator.next();
+            if ((entry.dependencies & fields) != 0) {
+                iterator.remove();
+                weight -= entry.weight;
+                invalidations++;
+            }
+        }
+    }
+
+    private void evictToFit() {
+        Iterator<Entry<T>> eldest = entries.values().iterator();
+        while (weight > maxWeight && eldest.hasNext()) {
+            Entry<T> entry = eldest.next();
+            eldest.remove();
+            weight -= entry.weight;
+            evictions++;
+        }
+    }
+
+    // Versions only grow, so the sum is unchanged exactly when none of the counters moved.
+    private long stamp(int dependencies) {
+        long sum = 0;
+        for (int i = 0; i < versions.length; i++) {
+            if ((dependencies & (1 << i)) != 0) {
+                sum += versions[i];
+            }
+        }
+        return sum;
+    }
+
+    private static int mask(Set<EmployeeField> fields) {
+        int mask = MEMBERSHIP;
+        for (EmployeeField field : fields) {
+            mask |= 1 << field.ordinal();
+        }
+        return mask;
+    }
+
+    private record Entry<T>(List<Employee<T>> result, int dependencies, long weight) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.employeemanagementsystem.controller;
+
+/**
+ * Counters of a {@link QueryCache} since it was created. {@code weight} is the number of employees
+ * held across all cached results.
+ */
+public record QueryCacheStats(long hits, long misses, long evictions, long invalidations, int entries, long weight) {
+
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.employeemanagementsystem.exception;
 
 public class EmployeeNotFoundException extends Exception{
+    private static final long serialVersionUID = 1L;
+
     public EmployeeNotFoundException(String message) {
         super(message);
     }
@@ -1,6 +1,8 @@
 package com.example.employeemanagementsystem.exception;
 
 public class InvalidDepartmentException extends Exception {
+    private static final long serialVersionUID = 1L;
+
     public InvalidDepartmentException (String message) {
         super(message);
     }
@@ -1,6 +1,8 @@
 package com.example.employeemanagementsystem.exception;
 
 public class InvalidSalaryException extends Exception {
+    private static final long serialVersionUID = 1L;
+
     public InvalidSalaryException (String message) {
         super(message);
     }
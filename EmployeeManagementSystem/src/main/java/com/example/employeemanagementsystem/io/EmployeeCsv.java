@@ -0,0 +1,72 @@
+package com.example.employeemanagementsystem.io;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV dialect used for employee import and export, as in RFC 4180: comma separated, and fields
+ * containing commas, quotes or line breaks are wrapped in double quotes with embedded quotes
+ * doubled. A quoted field may therefore span lines.
+ */
+final class EmployeeCsv {
+    static final String HEADER = "employeeId,name,department,salary,performanceRating,yearsOfExperience,active";
+    static final int FIELD_COUNT = 7;
+
+    private EmployeeCsv() {
+    }
+
+    static List<String> split(String line) {
+        List<String> fields = new ArrayList<>(FIELD_COUNT);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    static void appendField(StringBuilder out, String value) {
+        if (value == null) {
+            return;
+        }
+        boolean needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            char c = value.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            out.append(value);
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.append('"');
+            }
+            out.append(c);
+        }
+        out.append('"');
+    }
+}
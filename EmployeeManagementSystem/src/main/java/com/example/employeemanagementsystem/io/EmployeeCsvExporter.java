@@ -0,0 +1,74 @@
+package com.example.employeemanagementsystem.io;
+
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeDatabase;
+import com.example.employeemanagementsystem.model.EmployeeSnapshot;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+/**
+ * Streams employees to CSV in the format read by {@link EmployeeCsvImporter}. Rows are written as
+ * they are iterated, so exporting does not copy the dataset. A database is exported from a
+ * {@link EmployeeDatabase#snapshot()}, so the file is consistent even while other threads write.
+ */
+public final class EmployeeCsvExporter {
+    private static final int BUFFER_CHARS = 1 << 16;
+
+    private EmployeeCsvExporter() {
+    }
+
+    /**
+     * Exports a snapshot of {@code database}. If the database was not keeping snapshots, it stops
+     * again once the snapshot is taken, which stays valid on its own, so a one-off export does not
+     * leave every later change paying to maintain them.
+     */
+    public static <T> long export(EmployeeDatabase<T> database, Path path) throws IOException {
+        boolean snapshotsEnabled = database.isSnapshotsEnabled();
+        EmployeeSnapshot<T> snapshot = database.snapshot();
+        if (!snapshotsEnabled) {
+            database.setSnapshotsEnabled(false);
+        }
+        return export(snapshot, path);
+    }
+
+    public static <T> long export(EmployeeSnapshot<T> snapshot, Path path) throws IOException {
+        return export(snapshot.iterator(), path);
+    }
+
+    public static <T> long export(Iterator<Employee<T>> employees, Path path) throws IOException {
+        try (Writer writer = new BufferedWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8), BUFFER_CHARS)) {
+            return export(employees, writer);
+        }
+    }
+
+    public static <T> long export(Iterator<Employee<T>> employees, Writer writer) throws IOException {
+        StringBuilder line = new StringBuilder(128);
+        writer.write(EmployeeCsv.HEADER);
+        writer.write('\n');
+        long written = 0;
+        while (employees.hasNext()) {
+            Employee<T> employee = employees.next();
+            line.setLength(0);
+            EmployeeCsv.appendField(line, String.valueOf(employee.getEmployeeId()));
+            line.append(',');
+            EmployeeCsv.appendField(line, employee.getName());
+            line.append(',');
+            EmployeeCsv.appendField(line, employee.getDepartment());
+            line.append(',').append(employee.getSalary())
+                    .append(',').append(employee.getPerformanceRating())
+                    .append(',').append(employee.getYearsOfExperience())
+                    .append(',').append(employee.isActive())
+                    .append('\n');
+            writer.append(line);
+            written++;
+        }
+        writer.flush();
+        return written;
+    }
+}
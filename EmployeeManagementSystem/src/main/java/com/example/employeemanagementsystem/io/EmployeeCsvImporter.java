@@ -0,0 +1,214 @@
+package com.example.employeemanagementsystem.io;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeDatabase;
+import com.example.employeemanagementsystem.model.EmployeeValidator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * Streams a CSV file of employees into an {@link EmployeeDatabase}.
+ * <p>
+ * The file is read with NIO in fixed-size chunks cut at record boundaries, that is at line breaks
+ * outside quoted fields, since a quoted field may span lines. Chunks are parsed and
+ * validated in parallel with the same rules as {@link EmployeeDatabase#addEmployee}, then inserted
+ * in file order, one batch per chunk. At most {@code 2 * parallelism} chunks are in flight at a
+ * time, so memory use does not depend on the file size. Rows that fail to parse or validate are
+ * reported instead of aborting the import.
+ */
+public final class EmployeeCsvImporter<T> {
+    public static final int DEFAULT_CHUNK_BYTES = 4 * 1024 * 1024;
+    private static final int MAX_REPORTED_REJECTIONS = 1_000;
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeCsvImporter.class);
+
+    private final Function<String, T> idParser;
+    private final int parallelism;
+    private final int chunkBytes;
+
+    public EmployeeCsvImporter(Function<String, T> idParser) {
+        this(idParser, Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_BYTES);
+    }
+
+    public EmployeeCsvImporter(Function<String, T> idParser, int parallelism, int chunkBytes) {
+        if (parallelism <= 0 || chunkBytes <= 0) {
+            throw new IllegalArgumentException("Parallelism and chunk size must be positive");
+        }
+        this.idParser = idParser;
+        this.parallelism = parallelism;
+        this.chunkBytes = chunkBytes;
+    }
+
+    public ImportReport importFile(Path path, EmployeeDatabase<T> database) throws IOException {
+        long started = System.nanoTime();
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "employee-csv-parser");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Deque<Future<ParsedChunk<T>>> inFlight = new ArrayDeque<>();
+        Totals totals = new Totals();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            byte[] pending = new byte[0];
+            boolean first = true;
+            boolean endOfFile = false;
+            while (!endOfFile) {
+                byte[] chunk = Arrays.copyOf(pending, pending.length + chunkBytes);
+                ByteBuffer target = ByteBuffer.wrap(chunk, pending.length, chunkBytes);
+                while (target.hasRemaining()) {
+                    if (channel.read(target) < 0) {
+                        endOfFile = true;
+                        break;
+                    }
+                }
+                int filled = target.position();
+                int end = endOfFile ? filled : lastRecordEnd(chunk, filled);
+                if (end < 0) {
+                    // A single record longer than the chunk: keep accumulating.
+                    pending = Arrays.copyOf(chunk, filled);
+                    continue;
+                }
+                pending = Arrays.copyOfRange(chunk, end, filled);
+
+                boolean skipHeader = first;
+                first = false;
+                inFlight.add(workers.submit(() -> parse(chunk, end, skipHeader)));
+                if (inFlight.size() >= 2 * parallelism) {
+                    insert(inFlight.removeFirst(), database, totals);
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                insert(inFlight.removeFirst(), database, totals);
+            }
+        } finally {
+            for (Future<ParsedChunk<T>> future : inFlight) {
+                future.cancel(true);
+            }
+            workers.shutdownNow();
+        }
+
+        ImportReport report = new ImportReport(totals.read, totals.imported, totals.rejected,
+                totals.rejectedRows, Duration.ofNanos(System.nanoTime() - started));
+        logger.info("Imported {} from {}", report, path);
+        return report;
+    }
+
+    private void insert(Future<ParsedChunk<T>> future, EmployeeDatabase<T> database, Totals totals)
+            throws IOException {
+        ParsedChunk<T> chunk;
+        try {
+            chunk = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Import interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to parse employee CSV", e.getCause());
+        }
+        if (!chunk.employees.isEmpty()) {
+            database.loadEmployees(chunk.employees);
+        }
+        totals.read += chunk.rows;
+        totals.imported += chunk.employees.size();
+        totals.rejected += chunk.rejected.size();
+        for (RejectedRow row : chunk.rejected) {
+            if (totals.rejectedRows.size() >= MAX_REPORTED_REJECTIONS) {
+                break;
+            }
+            totals.rejectedRows.add(new RejectedRow(totals.lines + row.lineNumber(), row.line(), row.reason()));
+        }
+        totals.lines += chunk.lines;
+    }
+
+    private ParsedChunk<T> parse(byte[] bytes, int length, boolean skipHeader) {
+        ParsedChunk<T> result = new ParsedChunk<>();
+        int start = 0;
+        while (start < length) {
+            int end = start;
+            int lineBreaks = 0;
+            boolean quoted = false;
+            while (end < length && (quoted || bytes[end] != '\n')) {
+                if (bytes[end] == '"') {
+                    quoted = !quoted;
+                } else if (bytes[end] == '\n') {
+                    lineBreaks++;
+                }
+                end++;
+            }
+            int lineEnd = end > start && bytes[end - 1] == '\r' ? end - 1 : end;
+            String line = new String(bytes, start, lineEnd - start, StandardCharsets.UTF_8);
+            long firstLine = result.lines + 1;
+            result.lines += 1 + lineBreaks;
+            start = end + 1;
+
+            if (line.isBlank() || (skipHeader && firstLine == 1 && line.startsWith("employeeId"))) {
+                continue;
+            }
+            result.rows++;
+            try {
+                Employee<T> employee = parseEmployee(line);
+                EmployeeValidator.validate(employee);
+                result.employees.add(employee);
+            } catch (Exception e) {
+                result.rejected.add(new RejectedRow(firstLine, line, e.getMessage()));
+            }
+        }
+        return result;
+    }
+
+    private Employee<T> parseEmployee(String line) {
+        List<String> fields = EmployeeCsv.split(line);
+        if (fields.size() != EmployeeCsv.FIELD_COUNT) {
+            throw new IllegalArgumentException("Expected " + EmployeeCsv.FIELD_COUNT + " fields but found " + fields.size());
+        }
+        String active = fields.get(6).trim();
+        if (!active.equalsIgnoreCase("true") && !active.equalsIgnoreCase("false")) {
+            throw new IllegalArgumentException("Active flag must be true or false");
+        }
+        return new Employee<>(idParser.apply(fields.get(0).trim()), fields.get(1), fields.get(2),
+                Double.parseDouble(fields.get(3)), Double.parseDouble(fields.get(4)),
+                Integer.parseInt(fields.get(5).trim()), Boolean.parseBoolean(active));
+    }
+
+    // Chunks start at a record boundary, so quote state can be tracked from the first byte. A
+    // doubled quote toggles twice, leaving the state unchanged.
+    private static int lastRecordEnd(byte[] bytes, int length) {
+        int end = -1;
+        boolean quoted = false;
+        for (int i = 0; i < length; i++) {
+            byte b = bytes[i];
+            if (b == '"') {
+                quoted = !quoted;
+            } else if (b == '\n' && !quoted) {
+                end = i + 1;
+            }
+        }
+        return end;
+    }
+
+    private static final class ParsedChunk<T> {
+        final List<Employee<T>> employees = new ArrayList<>();
+        final List<RejectedRow> rejected = new ArrayList<>();
+        long lines;
+        long rows;
+    }
+
+    private static final class Totals {
+        final List<RejectedRow> rejectedRows = new ArrayList<>();
+        long lines;
+        long read;
+        long imported;
+        long rejected;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.employeemanagementsystem.io;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. Only the first rejected rows are kept in full, so a badly broken file
+ * cannot exhaust memory; {@link #getRejectedCount()} always counts all of them.
+ */
+public final class ImportReport {
+    private final long rowsRead;
+    private final long rowsImported;
+    private final long rejectedCount;
+    private final List<RejectedRow> rejectedRows;
+    private final Duration elapsed;
+
+    ImportReport(long rowsRead, long rowsImported, long rejectedCount, List<RejectedRow> rejectedRows,
+                 Duration elapsed) {
+        this.rowsRead = rowsRead;
+        this.rowsImported = rowsImported;
+        this.rejectedCount = rejectedCount;
+        this.rejectedRows = List.copyOf(rejectedRows);
+        this.elapsed = elapsed;
+    }
+
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public long getRowsImported() {
+        return rowsImported;
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public List<RejectedRow> getRejectedRows() {
+        return rejectedRows;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    @Override
+    public String toString() {
+        return "ImportReport{" +
+                "read=" + rowsRead +
+                ", imported=" + rowsImported +
+                ", rejected=" + rejectedCount +
+                ", elapsed=" + elapsed +
+                '}';
+    }
+}
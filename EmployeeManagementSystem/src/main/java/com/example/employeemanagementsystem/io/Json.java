@@ -0,0 +1,237 @@
+package com.example.employeemanagementsystem.io;
+
+import com.example.employeemanagementsystem.model.Employee;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Appends JSON values to a {@link StringBuilder}, and reads flat JSON objects back. Only what the
+ * audit log, the HTTP server and other line-oriented code need: strings, numbers, booleans and
+ * flat employee objects.
+ */
+public final class Json {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private Json() {
+    }
+
+    public static void appendString(StringBuilder out, String value) {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+
+    /**
+     * Appends a number, or a string for NaN and the infinities, which JSON cannot represent.
+     */
+    public static void appendNumber(StringBuilder out, double value) {
+        if (Double.isFinite(value)) {
+            out.append(value);
+        } else {
+            out.append('"').append(value).append('"');
+        }
+    }
+
+    /**
+     * Appends numbers and booleans as themselves, {@code null} as null and anything else as a
+     * string.
+     */
+    public static void appendValue(StringBuilder out, Object value) {
+        if (value == null) {
+            out.append("null");
+        } else if (value instanceof Double || value instanceof Float) {
+            appendNumber(out, ((Number) value).doubleValue());
+        } else if (value instanceof Number || value instanceof Boolean) {
+            out.append(value);
+        } else {
+            appendString(out, value.toString());
+        }
+    }
+
+    public static void appendEmployee(StringBuilder out, Employee<?> employee) {
+        out.append("{\"employeeId\":");
+        appendValue(out, employee.getEmployeeId());
+        out.append(",\"name\":");
+        appendString(out, employee.getName());
+        out.append(",\"department\":");
+        appendString(out, employee.getDepartment());
+        out.append(",\"salary\":");
+        appendNumber(out, employee.getSalary());
+        out.append(",\"performanceRating\":");
+        appendNumber(out, employee.getPerformanceRating());
+        out.append(",\"yearsOfExperience\":").append(employee.getYearsOfExperience())
+                .append(",\"active\":").append(employee.isActive())
+                .append('}');
+    }
+
+    /**
+     * Parses a JSON object whose values are strings, numbers, booleans or null. Integral numbers
+     * become {@link Long}, others {@link Double}. Nested objects and arrays are rejected.
+     *
+     * @throws IllegalArgumentException if {@code text} is not such an object
+     */
+    public static Map<String, Object> parseObject(String text) {
+        return new Parser(text).object();
+    }
+
+    private static final class Parser {
+        private final String text;
+        private int position;
+
+        Parser(String text) {
+            this.text = text;
+        }
+
+        Map<String, Object> object() {
+            Map<String, Object> result = new LinkedHashMap<>();
+            expect('{');
+            if (peek() == '}') {
+                position++;
+            } else {
+                do {
+                    String key = string();
+                    expect(':');
+                    result.put(key, value());
+                } while (consume(','));
+                expect('}');
+            }
+            if (peek() != 0) {
+                throw error("Unexpected content after the object");
+            }
+            return result;
+        }
+
+        private Object value() {
+            char c = peek();
+            if (c == '"') {
+                return string();
+            }
+            if (c == '-' || (c >= '0' && c <= '9')) {
+                return number();
+            }
+            if (text.startsWith("true", position)) {
+                position += 4;
+                return Boolean.TRUE;
+            }
+            if (text.startsWith("false", position)) {
+                position += 5;
+                return Boolean.FALSE;
+            }
+            if (text.startsWith("null", position)) {
+                position += 4;
+                return null;
+            }
+            throw error(c == '{' || c == '[' ? "Nested values are not supported" : "Expected a value");
+        }
+
+        private Object number() {
+            int start = position;
+            boolean integral = true;
+            while (position < text.length()) {
+                char c = text.charAt(position);
+                if (c == '.' || c == 'e' || c == 'E') {
+                    integral = false;
+                } else if (!(c == '-' || c == '+' || (c >= '0' && c <= '9'))) {
+                    break;
+                }
+                position++;
+            }
+            String literal = text.substring(start, position);
+            try {
+                return integral ? (Object) Long.parseLong(literal) : (Object) Double.parseDouble(literal);
+            } catch (NumberFormatException e) {
+                throw error("Malformed number " + literal);
+            }
+        }
+
+        private String string() {
+            expect('"');
+            StringBuilder out = new StringBuilder();
+            while (true) {
+                if (position >= text.length()) {
+                    throw error("Unterminated string");
+                }
+                char c = text.charAt(position++);
+                if (c == '"') {
+                    return out.toString();
+                }
+                if (c != '\\') {
+                    out.append(c);
+                    continue;
+                }
+                if (position >= text.length()) {
+                    throw error("Unterminated string");
+                }
+                char escaped = text.charAt(position++);
+                switch (escaped) {
+                    case '"', '\\', '/' -> out.append(escaped);
+                    case 'b' -> out.append('\b');
+                    case 'f' -> out.append('\f');
+                    case 'n' -> out.append('\n');
+                    case 'r' -> out.append('\r');
+                    case 't' -> out.append('\t');
+                    case 'u' -> {
+                        if (position + 4 > text.length()) {
+                            throw error("Truncated escape");
+                        }
+                        try {
+                            out.append((char) Integer.parseInt(text.substring(position, position + 4), 16));
+                        } catch (NumberFormatException e) {
+                            throw error("Malformed escape");
+                        }
+                        position += 4;
+                    }
+                    default -> throw error("Unknown escape \\" + escaped);
+                }
+            }
+        }
+
+        private void expect(char expected) {
+            if (peek() != expected) {
+                throw error("Expected '" + expected + "'");
+            }
+            position++;
+        }
+
+        private boolean consume(char c) {
+            if (peek() == c) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        // The next character after any whitespace, or 0 at the end.
+        private char peek() {
+            while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+            return position < text.length() ? text.charAt(position) : 0;
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at offset " + position);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.employeemanagementsystem.io;
+
+/**
+ * A CSV row that could not be imported, with its 1-based line number and the reason.
+ */
+public record RejectedRow(long lineNumber, String line, String reason) {
+}
@@ -0,0 +1,41 @@
+package com.example.employeemanagementsystem.metrics;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Receives timings from {@code EmployeeDatabase}. A call site looks like
+ * <pre>{@code
+ * long started = metrics.start(Operation.GET);
+ * ... do the work ...
+ * metrics.record(Operation.GET, started, 1);
+ * }</pre>
+ * The {@link #noop() no-op} implementation does not even read the clock, so leaving metrics off
+ * costs two empty calls that the JIT removes.
+ */
+public interface EmployeeMetrics {
+
+    /**
+     * Counts a call to {@code operation} and returns a start timestamp to pass to {@link #record}.
+     */
+    long start(Operation operation);
+
+    /**
+     * Records a completed operation that took from {@code startNanos} until now and produced or
+     * touched {@code resultSize} employees.
+     */
+    void record(Operation operation, long startNanos, int resultSize);
+
+    /**
+     * Records an operation that was rejected, for example by validation.
+     */
+    void failed(Operation operation);
+
+    /**
+     * Supplies the current number of employees for the dataset-size gauge.
+     */
+    void datasetSize(IntSupplier size);
+
+    static EmployeeMetrics noop() {
+        return NoopEmployeeMetrics.INSTANCE;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.employeemanagementsystem.metrics;
+
+import java.util.List;
+
+/**
+ * JMX view of a {@link RecordingEmployeeMetrics}.
+ */
+public interface EmployeeMetricsMXBean {
+
+    int getDatasetSize();
+
+    /**
+     * Statistics for every operation that has been called at least once.
+     */
+    List<OperationStatistics> getOperations();
+
+    void reset();
+}
@@ -0,0 +1,27 @@
+package com.example.employeemanagementsystem.metrics;
+
+import java.util.function.IntSupplier;
+
+final class NoopEmployeeMetrics implements EmployeeMetrics {
+    static final NoopEmployeeMetrics INSTANCE = new NoopEmployeeMetrics();
+
+    private NoopEmployeeMetrics() {
+    }
+
+    @Override
+    public long start(Operation operation) {
+        return 0L;
+    }
+
+    @Override
+    public void record(Operation operation, long startNanos, int resultSize) {
+    }
+
+    @Override
+    public void failed(Operation operation) {
+    }
+
+    @Override
+    public void datasetSize(IntSupplier size) {
+    }
+}
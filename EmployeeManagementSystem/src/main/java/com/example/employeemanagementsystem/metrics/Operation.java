@@ -0,0 +1,27 @@
+package com.example.employeemanagementsystem.metrics;
+
+/**
+ * The {@code EmployeeDatabase} operations that are timed by {@link EmployeeMetrics}.
+ */
+public enum Operation {
+    ADD,
+    LOAD,
+    REMOVE,
+    UPDATE,
+    PATCH,
+    GET,
+    SEARCH_BY_DEPARTMENT,
+    SEARCH_BY_NAME,
+    SEARCH_BY_NAME_PREFIX,
+    FILTER_BY_PERFORMANCE,
+    FILTER_BY_SALARY_RANGE,
+    FILTER_BY_EXPERIENCE_RANGE,
+    QUERY,
+    TOP_PAID,
+    AVERAGE_SALARY_BY_DEPARTMENT,
+    DEPARTMENT_STATS,
+    RAISE,
+    BATCH_ADD,
+    BATCH_UPDATE,
+    BATCH_REMOVE
+}
@@ -0,0 +1,89 @@
+package com.example.employeemanagementsystem.metrics;
+
+/**
+ * Point-in-time statistics for one {@link Operation}. {@code count} covers every call, including
+ * failed ones; latencies (in nanoseconds) and result sizes cover the sampled calls, with
+ * percentiles accurate to about 3%. Getter-style
+ * accessors let JMX expose it as composite data.
+ */
+public final class OperationStatistics {
+    private final String operation;
+    private final long count;
+    private final long failures;
+    private final double meanNanos;
+    private final long p50Nanos;
+    private final long p99Nanos;
+    private final long p999Nanos;
+    private final long maxNanos;
+    private final double meanResultSize;
+    private final long p99ResultSize;
+    private final long maxResultSize;
+
+    public OperationStatistics(String operation, long count, long failures, double meanNanos, long p50Nanos,
+                               long p99Nanos, long p999Nanos, long maxNanos, double meanResultSize,
+                               long p99ResultSize, long maxResultSize) {
+        this.operation = operation;
+        this.count = count;
+        this.failures = failures;
+        this.meanNanos = meanNanos;
+        this.p50Nanos = p50Nanos;
+        this.p99Nanos = p99Nanos;
+        this.p999Nanos = p999Nanos;
+        this.maxNanos = maxNanos;
+        this.meanResultSize = meanResultSize;
+        this.p99ResultSize = p99ResultSize;
+        this.maxResultSize = maxResultSize;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    public double getMeanNanos() {
+        return meanNanos;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public long getP999Nanos() {
+        return p999Nanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public double getMeanResultSize() {
+        return meanResultSize;
+    }
+
+    public long getP99ResultSize() {
+        return p99ResultSize;
+    }
+
+    public long getMaxResultSize() {
+        return maxResultSize;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: count=%d failures=%d mean=%.0fns p50=%dns p99=%dns p99.9=%dns max=%dns "
+                        + "meanResult=%.1f maxResult=%d",
+                operation, count, failures, meanNanos, p50Nanos, p99Nanos, p999Nanos, maxNanos,
+                meanResultSize, maxResultSize);
+    }
+}
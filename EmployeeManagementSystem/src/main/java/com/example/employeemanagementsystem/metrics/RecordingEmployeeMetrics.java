@@ -0,0 +1,210 @@
+package com.example.employeemanagementsystem.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * {@link EmployeeMetrics} that keeps a call counter, a latency histogram and a result-size
+ * histogram per {@link Operation}. Read the numbers with {@link #snapshot()} or over JMX after
+ * {@link #register}.
+ * <p>
+ * Recording has to stay cheap next to lookups that take tens of nanoseconds. Both reading the clock
+ * and atomic read-modify-write instructions are ordered with the memory accesses around them, so
+ * either one makes the caller wait out a cache miss it would otherwise overlap with later work.
+ * Calls are therefore counted in per-thread arrays with plain (opaque) stores, which need no
+ * atomics because each array has a single writer, and only one call in
+ * {@code latencySampleInterval} per thread is timed and added to the shared histograms. When a
+ * thread has exited, its counts are folded into a shared total and its array is dropped, so pools
+ * that replace their threads do not grow the list.
+ */
+public final class RecordingEmployeeMetrics implements EmployeeMetrics, EmployeeMetricsMXBean {
+    public static final int DEFAULT_LATENCY_SAMPLE_INTERVAL = 16;
+    private static final long NOT_TIMED = Long.MIN_VALUE;
+    private static final VarHandle COUNTS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final Operation[] OPERATIONS = Operation.values();
+    private static final Logger logger = LoggerFactory.getLogger(RecordingEmployeeMetrics.class);
+
+    private final int sampleMask;
+    // Both guarded by threadCounts, which is only locked when a thread first records and on reads.
+    private final List<ThreadCounts> threadCounts = new ArrayList<>();
+    // Calls made by threads that have exited.
+    private final long[] exitedCounts = new long[OPERATIONS.length];
+    private final ThreadLocal<long[]> counts = ThreadLocal.withInitial(this::newThreadCounts);
+    // Counts at the last reset; per-thread arrays are never written by other threads.
+    private final AtomicLongArray countsAtReset = new AtomicLongArray(OPERATIONS.length);
+    private final LogLinearHistogram[] latencies = new LogLinearHistogram[OPERATIONS.length];
+    private final LogLinearHistogram[] resultSizes = new LogLinearHistogram[OPERATIONS.length];
+    private final LongAdder[] failures = new LongAdder[OPERATIONS.length];
+    private volatile IntSupplier datasetSize = () -> 0;
+
+    public RecordingEmployeeMetrics() {
+        this(DEFAULT_LATENCY_SAMPLE_INTERVAL);
+    }
+
+    /**
+     * @param latencySampleInterval time one call in this many per thread; a power of two, where 1
+     *                              times every call
+     */
+    public RecordingEmployeeMetrics(int latencySampleInterval) {
+        if (latencySampleInterval <= 0 || Integer.bitCount(latencySampleInterval) != 1) {
+            throw new IllegalArgumentException("Sample interval must be a power of two");
+        }
+        this.sampleMask = latencySampleInterval - 1;
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            latencies[i] = new LogLinearHistogram();
+            resultSizes[i] = new LogLinearHistogram();
+            failures[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public long start(Operation operation) {
+        long[] calls = counts.get();
+        int slot = operation.ordinal();
+        long call = (long) COUNTS.getOpaque(calls, slot);
+        COUNTS.setOpaque(calls, slot, call + 1);
+        return (call & sampleMask) == 0 ? System.nanoTime() : NOT_TIMED;
+    }
+
+    @Override
+    public void record(Operation operation, long startNanos, int resultSize) {
+        if (startNanos != NOT_TIMED) {
+            latencies[operation.ordinal()].record(System.nanoTime() - startNanos);
+            resultSizes[operation.ordinal()].record(resultSize);
+        }
+    }
+
+    @Override
+    public void failed(Operation operation) {
+        failures[operation.ordinal()].increment();
+    }
+
+    @Override
+    public void datasetSize(IntSupplier size) {
+        this.datasetSize = size;
+    }
+
+    @Override
+    public int getDatasetSize() {
+        return datasetSize.getAsInt();
+    }
+
+    /**
+     * Calls to {@code operation} since the last reset, including failed ones.
+     */
+    public long count(Operation operation) {
+        return totalCount(operation.ordinal()) - countsAtReset.get(operation.ordinal());
+    }
+
+    public OperationStatistics snapshot(Operation operation) {
+        int slot = operation.ordinal();
+        LogLinearHistogram latency = latencies[slot];
+        LogLinearHistogram resultSize = resultSizes[slot];
+        return new OperationStatistics(operation.name(), count(operation), failures[slot].sum(), latency.mean(),
+                latency.valueAt(0.5), latency.valueAt(0.99), latency.valueAt(0.999), latency.max(),
+                resultSize.mean(), resultSize.valueAt(0.99), resultSize.max());
+    }
+
+    /**
+     * Statistics for every operation that has been called since the last reset.
+     */
+    public List<OperationStatistics> snapshot() {
+        List<OperationStatistics> result = new ArrayList<>();
+        for (Operation operation : OPERATIONS) {
+            if (count(operation) > 0) {
+                result.add(snapshot(operation));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<OperationStatistics> getOperations() {
+        return snapshot();
+    }
+
+    /**
+     * Starts counting from zero. Calls that race with the reset may land on either side of it.
+     */
+    @Override
+    public void reset() {
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            countsAtReset.set(i, totalCount(i));
+            latencies[i].reset();
+            resultSizes[i].reset();
+            failures[i].reset();
+        }
+    }
+
+    /**
+     * Registers these metrics with the platform MBean server under
+     * {@code com.example.employeemanagementsystem:type=EmployeeMetrics,name=<name>}.
+     */
+    public ObjectName register(String name) throws JMException {
+        ObjectName objectName = objectName(name);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        server.registerMBean(this, objectName);
+        logger.info("Registered employee metrics as {}", objectName);
+        return objectName;
+    }
+
+    public void unregister(String name) throws JMException {
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName(name));
+    }
+
+    private long totalCount(int slot) {
+        synchronized (threadCounts) {
+            pruneExitedThreads();
+            long total = exitedCounts[slot];
+            for (ThreadCounts thread : threadCounts) {
+                total += (long) COUNTS.getOpaque(thread.calls(), slot);
+            }
+            return total;
+        }
+    }
+
+    private long[] newThreadCounts() {
+        long[] calls = new long[OPERATIONS.length];
+        synchronized (threadCounts) {
+            pruneExitedThreads();
+            threadCounts.add(new ThreadCounts(new WeakReference<>(Thread.currentThread()), calls));
+        }
+        return calls;
+    }
+
+    // An exited thread writes no more, so its final counts can be moved to exitedCounts.
+    private void pruneExitedThreads() {
+        for (Iterator<ThreadCounts> it = threadCounts.iterator(); it.hasNext(); ) {
+            ThreadCounts thread = it.next();
+            Thread owner = thread.owner().get();
+            if (owner == null || !owner.isAlive()) {
+                for (int i = 0; i < exitedCounts.length; i++) {
+                    exitedCounts[i] += (long) COUNTS.getOpaque(thread.calls(), i);
+                }
+                it.remove();
+            }
+        }
+    }
+
+    private record ThreadCounts(WeakReference<Thread> owner, long[] calls) {
+    }
+
+    private static ObjectName objectName(String name) throws JMException {
+        return new ObjectName("com.example.employeemanagementsystem:type=EmployeeMetrics,name="
+                + ObjectName.quote(name));
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.employeemanagementsystem.model;
+
+import java.util.List;
+
+/**
+ * Outcome of a best-effort batch operation: how many items were applied and why the others were
+ * skipped. Failure positions are indexes into the submitted collection.
+ */
+public record BatchResult<T>(int applied, List<Failure<T>> failures) {
+
+    public BatchResult {
+        failures = List.copyOf(failures);
+    }
+
+    public boolean isComplete() {
+        return failures.isEmpty();
+    }
+
+    public record Failure<T>(int position, T employeeId, Exception cause) {
+    }
+}
@@ -0,0 +1,445 @@
+package com.example.employeemanagementsystem.model;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.employeemanagementsystem.exception.EmployeeNotFoundException;
+import com.example.employeemanagementsystem.exception.InvalidDepartmentException;
+import com.example.employeemanagementsystem.exception.InvalidSalaryException;
+import java.util.*;
+
+/**
+ * Column-oriented {@link EmployeeStore} for analytics-heavy workloads.
+ * <p>
+ * Each field lives in its own primitive array, so filters and aggregations are tight loops over
+ * contiguous memory instead of walks over individual {@link Employee} objects. The columns are
+ * also compact: {@code Long} and {@code Integer} IDs are stored unboxed, names are packed into a
+ * shared byte arena, Latin-1 names at one byte per character, departments are dictionary-encoded
+ * as {@code int} codes, and the active flags share a bit set. IDs are found through an
+ * open-addressing table of row numbers rather than a map of boxed entries. Rows are kept dense:
+ * removing an employee moves the last row into its slot.
+ * <p>
+ * Employees returned by this store are detached copies built on demand; changes must go through
+ * {@link #updateEmployeeDetails}. Read paths that only need a few fields can use a
+ * {@link #cursor() cursor} instead, which reads the columns in place without building employees.
+ */
+public class ColumnarEmployeeStore<T> implements EmployeeStore<T> {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final Logger logger = LoggerFactory.getLogger(ColumnarEmployeeStore.class);
+
+    private final DepartmentDictionary departments = new DepartmentDictionary();
+    private final BitSet active = new BitSet();
+    private final IdColumn ids = new IdColumn(INITIAL_CAPACITY);
+    private final RowIndex rowById = new RowIndex(ids);
+    private final NameColumn names = new NameColumn(INITIAL_CAPACITY);
+    private int capacity = INITIAL_CAPACITY;
+    private int[] departmentCodes = new int[INITIAL_CAPACITY];
+    private double[] salaries = new double[INITIAL_CAPACITY];
+    private double[] ratings = new double[INITIAL_CAPACITY];
+    private int[] experience = new int[INITIAL_CAPACITY];
+    private int size;
+
+    public ColumnarEmployeeStore() {
+    }
+
+    @Override
+    public void addEmployee(Employee<T> employee) throws InvalidDepartmentException, InvalidSalaryException {
+        try {
+            EmployeeValidator.validate(employee);
+        } catch (InvalidSalaryException e) {
+            logger.error("Failed to add employee: Salary is invalid for {}", employee.getName());
+            throw e;
+        } catch (InvalidDepartmentException e) {
+            logger.error("Failed to add employee: Department is empty for {}", employee.getName());
+            throw e;
+        }
+
+        int row = rowById.find(employee.getEmployeeId());
+        if (row < 0) {
+            ensureCapacity(size + 1);
+            row = size++;
+            ids.set(row, employee.getEmployeeId());
+            rowById.add(row);
+        }
+        names.set(row, employee.getName(), size);
+        departmentCodes[row] = departments.encode(employee.getDepartment());
+        salaries[row] = employee.getSalary();
+        ratings[row] = employee.getPerformanceRating();
+        experience[row] = employee.getYearsOfExperience();
+        active.set(row, employee.isActive());
+        logger.info("Successfully added employee with ID {}", employee.getEmployeeId());
+    }
+
+    @Override
+    public void removeEmployee(T employeeId) throws EmployeeNotFoundException {
+        int row = rowById.find(employeeId);
+        if (row < 0) {
+            logger.error("Failed to remove employee: ID {} not found", employeeId);
+            throw new EmployeeNotFoundException("Employee ID not found!");
+        }
+        rowById.remove(row);
+        names.release(row, size);
+        int last = --size;
+        if (row != last) {
+            moveRow(last, row);
+        }
+        ids.clear(last);
+        active.clear(last);
+        logger.info("Successfully removed employee with ID {}", employeeId);
+    }
+
+    @Override
+    public void updateEmployeeDetails(T employeeId, String field, Object newValue)
+            throws EmployeeNotFoundException, InvalidDepartmentException, InvalidSalaryException {
+        EmployeeField employeeField;
+        try {
+            employeeField = EmployeeField.fromName(field);
+        } catch (IllegalArgumentException e) {
+            logger.error("Unknown field {} provided for update", field);
+            throw e;
+        }
+        int row = rowById.find(employeeId);
+        if (row < 0) {
+            logger.error("Failed to update: Employee with ID {} not found", employeeId);
+            throw new EmployeeNotFoundException("Employee with ID " + employeeId + " not found");
+        }
+        try {
+            employeeField.checkValue(newValue);
+        } catch (InvalidDepartmentException e) {
+            logger.error("Failed to update employee {}: Department is empty", employeeId);
+            throw e;
+        } catch (InvalidSalaryException e) {
+            logger.error("Failed to update employee {}: salary is invalid", employeeId);
+            throw e;
+        } catch (IllegalArgumentException e) {
+            logger.error("Failed to update employee {}: {}", employeeId, e.getMessage());
+            throw e;
+        }
+
+        switch (employeeField) {
+            case NAME -> names.set(row, (String) newValue, size);
+            case DEPARTMENT -> departmentCodes[row] = departments.encode((String) newValue);
+            case SALARY -> salaries[row] = (Double) newValue;
+            case PERFORMANCE_RATING -> ratings[row] = (Double) newValue;
+            case YEARS_OF_EXPERIENCE -> experience[row] = (Integer) newValue;
+            case ACTIVE -> active.set(row, (Boolean) newValue);
+        }
+        logger.info("Successfully updated {} for employee ID {}", field, employeeId);
+    }
+
+    @Override
+    public void giveRaiseToHighPerformers(double minRating, double raisePercent) {
+        for (int row = 0; row < size; row++) {
+            if (ratings[row] >= minRating) {
+                try {
+                    EmployeeValidator.raisedSalary(salaries[row], raisePercent);
+                } catch (InvalidSalaryException e) {
+                    logger.error("Rejected a raise of {}%: {}", raisePercent, e.getMessage());
+                    throw new IllegalArgumentException("A raise of " + raisePercent + "% would give employee "
+                            + ids.get(row) + " an invalid salary", e);
+                }
+            }
+        }
+        double factor = raisePercent / 100;
+        int raised = 0;
+        for (int row = 0; row < size; row++) {
+            if (ratings[row] >= minRating) {
+                salaries[row] += salaries[row] * factor;
+                raised++;
+            }
+        }
+        logger.info("Gave a raise of {}% to {} employees", raisePercent, raised);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Employee<T> getEmployee(T employeeId) throws EmployeeNotFoundException {
+        int row = rowById.find(employeeId);
+        if (row < 0) {
+            logger.error("Failed to retrieve employee: ID {} not found", employeeId);
+            throw new EmployeeNotFoundException("Employee with ID " + employeeId + " is not found!");
+        }
+        return materialize(row);
+    }
+
+    @Override
+    public List<Employee<T>> getAllEmployees() {
+        List<Employee<T>> result = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            result.add(materialize(row));
+        }
+        return result;
+    }
+
+    @Override
+    public List<Employee<T>> searchByDepartment(String department) {
+        boolean[] mask = departments.matching(department);
+        if (mask == null) {
+            return List.of();
+        }
+        List<Employee<T>> result = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            if (mask[departmentCodes[row]]) {
+                result.add(materialize(row));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Employee<T>> searchByName(String keyword) {
+        List<Employee<T>> result = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            if (names.containsIgnoreCase(row, keyword)) {
+                result.add(materialize(row));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Employee<T>> filterByPerformance(double minRating) {
+        List<Employee<T>> result = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            if (ratings[row] >= minRating) {
+                result.add(materialize(row));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Employee<T>> filterBySalaryRange(double minSalary, double maxSalary) {
+        List<Employee<T>> result = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            double salary = salaries[row];
+            if (salary >= minSalary && salary <= maxSalary) {
+                result.add(materialize(row));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public double getAverageSalaryByDepartment(String department) {
+        boolean[] mask = departments.matching(department);
+        if (mask == null) {
+            return 0.0;
+        }
+        // Compensated like EmployeeDatabase's department totals, so both stores give the same average.
+        CompensatedSum sum = new CompensatedSum();
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (mask[departmentCodes[row]]) {
+                sum.add(salaries[row]);
+                count++;
+            }
+        }
+        return count == 0 ? 0.0 : sum.value() / count;
+    }
+
+    @Override
+    public List<Employee<T>> getTopPaidEmployees(int topN) {
+        if (topN <= 0 || size == 0) {
+            return List.of();
+        }
+        // Min-heap of row numbers keyed by salary, so the cheapest kept row sits at the root.
+        int[] heap = new int[Math.min(topN, size)];
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (count < heap.length) {
+                heap[count] = row;
+                siftUp(heap, count++);
+            } else if (salaries[row] > salaries[heap[0]]) {
+                heap[0] = row;
+                siftDown(heap, 0, count);
+            }
+        }
+        List<Employee<T>> result = new ArrayList<>(count);
+        while (count > 0) {
+            result.add(materialize(heap[0]));
+            heap[0] = heap[--count];
+            siftDown(heap, 0, count);
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    public int countActive() {
+        return active.cardinality();
+    }
+
+    /**
+     * Returns a cursor positioned before the first row.
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Releases the spare capacity the columns keep for growth, for example after a bulk load.
+     */
+    public void trimToSize() {
+        resize(Math.max(size, 1));
+        names.trimToSize(size);
+        rowById.trimToSize();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Employee<T> materialize(int row) {
+        return new Employee<>((T) ids.get(row), names.get(row), departments.decode(departmentCodes[row]),
+                salaries[row], ratings[row], experience[row], active.get(row));
+    }
+
+    private void moveRow(int from, int to) {
+        ids.move(from, to);
+        rowById.moved(from, to);
+        names.move(from, to);
+        departmentCodes[to] = departmentCodes[from];
+        salaries[to] = salaries[from];
+        ratings[to] = ratings[from];
+        experience[to] = experience[from];
+        active.set(to, active.get(from));
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > capacity) {
+            resize(Math.max(required, capacity + (capacity >> 1)));
+        }
+    }
+
+    private void resize(int newCapacity) {
+        ids.resize(newCapacity);
+        names.resize(newCapacity);
+        departmentCodes = Arrays.copyOf(departmentCodes, newCapacity);
+        salaries = Arrays.copyOf(salaries, newCapacity);
+        ratings = Arrays.copyOf(ratings, newCapacity);
+        experience = Arrays.copyOf(experience, newCapacity);
+        capacity = newCapacity;
+    }
+
+    private void siftUp(int[] heap, int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (salaries[heap[i]] >= salaries[heap[parent]]) {
+                return;
+            }
+            swap(heap, i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int[] heap, int i, int count) {
+        while (true) {
+            int smallest = i;
+            int left = 2 * i + 1;
+            int right = left + 1;
+            if (left < count && salaries[heap[left]] < salaries[heap[smallest]]) {
+                smallest = left;
+            }
+            if (right < count && salaries[heap[right]] < salaries[heap[smallest]]) {
+                smallest = right;
+            }
+            if (smallest == i) {
+                return;
+            }
+            swap(heap, i, smallest);
+            i = smallest;
+        }
+    }
+
+    private static void swap(int[] heap, int i, int j) {
+        int tmp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = tmp;
+    }
+
+    /**
+     * A flyweight over the rows of this store: one object that moves from row to row and reads
+     * the columns in place. Only {@link #getName()} and {@link #toEmployee()} allocate. A cursor
+     * must not be used after the store changes.
+     * <pre>{@code
+     * ColumnarEmployeeStore<Long>.Cursor cursor = store.cursor();
+     * while (cursor.next()) {
+     *     if (cursor.isActive() && cursor.nameContains("mensah")) {
+     *         total += cursor.getSalary();
+     *     }
+     * }
+     * }</pre>
+     */
+    public final class Cursor {
+        private int row = -1;
+
+        private Cursor() {
+        }
+
+        /**
+         * Moves to the next row; {@code false} once every row has been visited.
+         */
+        public boolean next() {
+            if (row + 1 >= size) {
+                row = size;
+                return false;
+            }
+            row++;
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        public T getEmployeeId() {
+            return (T) ids.get(current());
+        }
+
+        public String getName() {
+            return names.get(current());
+        }
+
+        /**
+         * Whether the name contains {@code keyword}, ignoring case, without decoding the name.
+         */
+        public boolean nameContains(String keyword) {
+            return names.containsIgnoreCase(current(), keyword);
+        }
+
+        /**
+         * The department, as the shared instance from the store's dictionary.
+         */
+        public String getDepartment() {
+            return departments.decode(departmentCodes[current()]);
+        }
+
+        public double getSalary() {
+            return salaries[current()];
+        }
+
+        public double getPerformanceRating() {
+            return ratings[current()];
+        }
+
+        public int getYearsOfExperience() {
+            return experience[current()];
+        }
+
+        public boolean isActive() {
+            return active.get(current());
+        }
+
+        /**
+         * Returns a detached copy of the current row.
+         */
+        public Employee<T> toEmployee() {
+            return materialize(current());
+        }
+
+        private int current() {
+            if (row < 0 || row >= size) {
+                throw new IllegalStateException("Cursor is not on a row");
+            }
+            return row;
+        }
+    }
+}
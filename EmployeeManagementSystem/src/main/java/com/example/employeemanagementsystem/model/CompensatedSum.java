@@ -0,0 +1,24 @@
+package com.example.employeemanagementsystem.model;
+
+/**
+ * A running sum with Neumaier compensation: the low-order bits each addition rounds away are kept
+ * in a second term, so long runs of additions and subtractions do not drift.
+ */
+final class CompensatedSum {
+    private double sum;
+    private double compensation;
+
+    void add(double value) {
+        double total = sum + value;
+        if (Math.abs(sum) >= Math.abs(value)) {
+            compensation += (sum - total) + value;
+        } else {
+            compensation += (value - total) + sum;
+        }
+        sum = total;
+    }
+
+    double value() {
+        return sum + compensation;
+    }
+}
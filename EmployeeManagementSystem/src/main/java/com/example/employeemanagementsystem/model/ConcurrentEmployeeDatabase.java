@@ -0,0 +1,263 @@
+package com.example.employeemanagementsystem.model;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.employeemanagementsystem.exception.EmployeeNotFoundException;
+import com.example.employeemanagementsystem.exception.InvalidDepartmentException;
+import com.example.employeemanagementsystem.exception.InvalidSalaryException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Thread-safe counterpart of {@link EmployeeDatabase} for many concurrent readers and writers.
+ * <p>
+ * Employees are stored as private snapshots that are never modified once published. Writers take
+ * a lock stripe chosen by employee ID, copy the current snapshot, change the copy and publish it,
+ * so updates to the same employee are serialized while updates to different employees proceed in
+ * parallel. Readers never lock: they see either the old or the new snapshot of an employee, never a
+ * half-applied change. Employees handed out by this class are those snapshots, whose setters throw
+ * {@link UnsupportedOperationException}; to change one, copy it with
+ * {@link Employee#Employee(Employee)} or go through {@link #updateEmployeeDetails}.
+ */
+public class ConcurrentEmployeeDatabase<T> implements EmployeeStore<T> {
+    private static final int DEFAULT_STRIPES = 64;
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrentEmployeeDatabase.class);
+
+    private final Map<T, Employee<T>> employeeMap = new ConcurrentHashMap<>();
+    private final ReentrantLock[] stripes;
+    private volatile boolean logMutations = true;
+
+    public ConcurrentEmployeeDatabase() {
+        this(DEFAULT_STRIPES);
+    }
+
+    public ConcurrentEmployeeDatabase(int stripeCount) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("Stripe count must be positive");
+        }
+        // Round up to a power of two so a stripe can be picked with a mask.
+        int size = Integer.highestOneBit(stripeCount - 1) << 1;
+        stripes = new ReentrantLock[Math.max(size, 1)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Turns the INFO line written for every successful mutation on or off; failures are always
+     * logged. Logging is synchronous and serializes writers that would otherwise run in parallel,
+     * so turn it off when many threads write at once.
+     */
+    public void setMutationLogging(boolean enabled) {
+        this.logMutations = enabled;
+    }
+
+    public boolean isMutationLogging() {
+        return logMutations;
+    }
+
+    public void addEmployee(Employee<T> employee) throws InvalidDepartmentException, InvalidSalaryException {
+        try {
+            EmployeeValidator.validate(employee);
+        } catch (InvalidSalaryException e) {
+            logger.error("Failed to add employee: Salary is invalid for {}", employee.getName());
+            throw e;
+        } catch (InvalidDepartmentException e) {
+            logger.error("Failed to add employee: Department is empty for {}", employee.getName());
+            throw e;
+        }
+
+        T employeeId = employee.getEmployeeId();
+        Employee<T> snapshot = new FrozenEmployee<>(employee);
+        ReentrantLock lock = stripeFor(employeeId);
+        lock.lock();
+        try {
+            employeeMap.put(employeeId, snapshot);
+        } finally {
+            lock.unlock();
+        }
+        if (logMutations) {
+            logger.info("Successfully added employee with ID {}", employeeId);
+        }
+    }
+
+    public void removeEmployee(T employeeId) throws EmployeeNotFoundException {
+        Employee<T> removed;
+        ReentrantLock lock = stripeFor(employeeId);
+        lock.lock();
+        try {
+            removed = employeeMap.remove(employeeId);
+        } finally {
+            lock.unlock();
+        }
+        if (removed == null) {
+            logger.error("Failed to remove employee: ID {} not found", employeeId);
+            throw new EmployeeNotFoundException("Employee ID not found!");
+        }
+        if (logMutations) {
+            logger.info("Successfully removed employee with ID {}", employeeId);
+        }
+    }
+
+    public void updateEmployeeDetails(T employeeId, String field, Object newValue)
+            throws EmployeeNotFoundException, InvalidDepartmentException, InvalidSalaryException {
+        Consumer<Employee<T>> change = switch (field.toLowerCase()) {
+            case "name" -> emp -> emp.setName((String) newValue);
+            case "department" -> {
+                String dept = (String) newValue;
+                if (dept == null || dept.isBlank()) {
+                    logger.error("Failed to update employee {}: Department is empty", employeeId);
+                    throw new InvalidDepartmentException("Department cannot be empty");
+                }
+                yield emp -> emp.setDepartment(dept);
+            }
+            case "salary" -> {
+                double salary = (Double) newValue;
+                try {
+                    EmployeeValidator.checkSalary(salary);
+                } catch (InvalidSalaryException e) {
+                    logger.error("Failed to update employee {}: salary is invalid", employeeId);
+                    throw e;
+                }
+                yield emp -> emp.setSalary(salary);
+            }
+            case "performancerating" -> {
+                double rating = (Double) newValue;
+                EmployeeValidator.checkRating(rating);
+                yield emp -> emp.setPerformanceRating(rating);
+            }
+            case "yearsofexperience" -> {
+                int years = (Integer) newValue;
+                yield emp -> emp.setYearsOfExperience(years);
+            }
+            case "isactive" -> {
+                boolean active = (Boolean) newValue;
+                yield emp -> emp.setActive(active);
+            }
+            default -> {
+                logger.error("Unknown field {} provided for update", field);
+                throw new IllegalArgumentException("Unknown field " + field);
+            }
+        };
+
+        ReentrantLock lock = stripeFor(employeeId);
+        lock.lock();
+        try {
+            Employee<T> current = employeeMap.get(employeeId);
+            if (current == null) {
+                logger.error("Failed to update: Employee with ID {} not found", employeeId);
+                throw new EmployeeNotFoundException("Employee with ID " + employeeId + " not found");
+            }
+            Employee<T> updated = new Employee<>(current);
+            change.accept(updated);
+            employeeMap.put(employeeId, new FrozenEmployee<>(updated));
+        } finally {
+            lock.unlock();
+        }
+        if (logMutations) {
+            logger.info("Successfully updated {} for employee ID {}", field, employeeId);
+        }
+    }
+
+    public Employee<T> getEmployee(T employeeId) throws EmployeeNotFoundException {
+        Employee<T> employee = employeeMap.get(employeeId);
+        if (employee == null) {
+            logger.error("Failed to retrieve employee: ID {} not found", employeeId);
+            throw new EmployeeNotFoundException("Employee with ID " + employeeId + " is not found!");
+        }
+        return employee;
+    }
+
+    public List<Employee<T>> getAllEmployees() {
+        return new ArrayList<>(employeeMap.values());
+    }
+
+    public int size() {
+        return employeeMap.size();
+    }
+
+    public List<Employee<T>> searchByDepartment(String department) {
+        return employeeMap.values().stream().filter(
+                emp -> emp.getDepartment().equalsIgnoreCase(department)).toList();
+    }
+
+    public List<Employee<T>> searchByName(String keyword) {
+        String needle = keyword.toLowerCase();
+        return employeeMap.values().stream().filter(
+                emp -> emp.getName().toLowerCase().contains(needle)).toList();
+    }
+
+    public List<Employee<T>> filterByPerformance(double minRating) {
+        return employeeMap.values().stream().filter(
+                emp -> emp.getPerformanceRating() >= minRating).toList();
+    }
+
+    public List<Employee<T>> filterBySalaryRange(double minSalary, double maxSalary) {
+        return employeeMap.values().stream().filter(
+                emp -> emp.getSalary() >= minSalary && emp.getSalary() <= maxSalary).toList();
+    }
+
+    public double getAverageSalaryByDepartment(String department) {
+        return employeeMap.values().stream().filter(
+                emp -> emp.getDepartment().equalsIgnoreCase(department)).mapToDouble(
+                        Employee::getSalary).average().orElse(0.0);
+    }
+
+    public List<Employee<T>> getTopPaidEmployees(int topN) {
+        return getTopEmployees(topN, new EmployeeSalaryComparator<>());
+    }
+
+    public List<Employee<T>> getTopEmployees(int topN, Comparator<? super Employee<T>> order) {
+        return TopK.select(employeeMap.values(), topN, order);
+    }
+
+    /**
+     * Raises the salary of every employee whose rating is at least {@code minRating}. Each raise is
+     * applied atomically under that employee's stripe, re-checking the rating against the latest
+     * snapshot, so concurrent raises and updates are never lost. An employee whose raised salary
+     * would be negative or not finite keeps the old salary, and the method then throws
+     * {@link IllegalArgumentException} once the other raises are applied.
+     */
+    public void giveRaiseToHighPerformers(double minRating, double raisePercent) {
+        T rejected = null;
+        int raised = 0;
+        for (T employeeId : employeeMap.keySet()) {
+            ReentrantLock lock = stripeFor(employeeId);
+            lock.lock();
+            try {
+                Employee<T> current = employeeMap.get(employeeId);
+                if (current == null || !(current.getPerformanceRating() >= minRating)) {
+                    continue;
+                }
+                Employee<T> updated = new Employee<>(current);
+                try {
+                    updated.setSalary(EmployeeValidator.raisedSalary(current.getSalary(), raisePercent));
+                } catch (InvalidSalaryException e) {
+                    rejected = employeeId;
+                    continue;
+                }
+                employeeMap.put(employeeId, new FrozenEmployee<>(updated));
+                raised++;
+            } finally {
+                lock.unlock();
+            }
+        }
+        if (logMutations) {
+            logger.info("Gave a raise of {}% to {} employees rated at least {}", raisePercent, raised, minRating);
+        }
+        if (rejected != null) {
+            logger.error("Rejected a raise of {}% for employee {}: salary would be invalid", raisePercent, rejected);
+            throw new IllegalArgumentException("A raise of " + raisePercent + "% would give employee "
+                    + rejected + " an invalid salary");
+        }
+    }
+
+    private ReentrantLock stripeFor(T employeeId) {
+        int h = employeeId.hashCode();
+        h ^= h >>> 16;
+        return stripes[h & (stripes.length - 1)];
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.employeemanagementsystem.model;
+
+import java.util.TreeMap;
+
+/**
+ * Running totals for one department, updated as employees join and leave it.
+ * <p>
+ * Counts and sums change in constant time. Sums are {@link CompensatedSum}s, so adding and later
+ * subtracting the same salaries many times does not drift the average. Minimum and maximum come
+ * from a sorted multiset of salaries, which costs a logarithmic step per change but survives
+ * removing the current extreme.
+ */
+final class DepartmentAggregate {
+    private final String department;
+    private final TreeMap<Double, Integer> salaries = new TreeMap<>();
+    private final CompensatedSum salarySum = new CompensatedSum();
+    private final CompensatedSum ratingSum = new CompensatedSum();
+    private int headcount;
+    private int activeHeadcount;
+
+    DepartmentAggregate(String department) {
+        this.department = department;
+    }
+
+    void add(Employee<?> employee) {
+        headcount++;
+        if (employee.isActive()) {
+            activeHeadcount++;
+        }
+        salarySum.add(employee.getSalary());
+        ratingSum.add(employee.getPerformanceRating());
+        salaries.merge(normalize(employee.getSalary()), 1, Integer::sum);
+    }
+
+    void remove(Employee<?> employee) {
+        headcount--;
+        if (employee.isActive()) {
+            activeHeadcount--;
+        }
+        salarySum.add(-employee.getSalary());
+        ratingSum.add(-employee.getPerformanceRating());
+        salaries.computeIfPresent(normalize(employee.getSalary()), (salary, count) -> count == 1 ? null : count - 1);
+    }
+
+    void salaryChanged(double oldSalary, double newSalary) {
+        salarySum.add(-oldSalary);
+        salarySum.add(newSalary);
+        salaries.computeIfPresent(normalize(oldSalary), (salary, count) -> count == 1 ? null : count - 1);
+        salaries.merge(normalize(newSalary), 1, Integer::sum);
+    }
+
+    void ratingChanged(double oldRating, double newRating) {
+        ratingSum.add(-oldRating);
+        ratingSum.add(newRating);
+    }
+
+    void activeChanged(boolean active) {
+        activeHeadcount += active ? 1 : -1;
+    }
+
+    boolean isEmpty() {
+        return headcount == 0;
+    }
+
+    DepartmentStats toStats() {
+        if (headcount == 0) {
+            return DepartmentStats.empty(department);
+        }
+        return new DepartmentStats(department, headcount, activeHeadcount, salarySum.value(),
+                salaries.firstKey(), salaries.lastKey(), ratingSum.value());
+    }
+
+    // Adding 0.0 folds -0.0 into 0.0, as EmployeeIndex does for its salary keys.
+    private static double normalize(double value) {
+        return value + 0.0;
+    }
+}
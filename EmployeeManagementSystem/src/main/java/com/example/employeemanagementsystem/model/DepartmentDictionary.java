@@ -0,0 +1,62 @@
+package com.example.employeemanagementsystem.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dictionary encoding for department names. Every distinct spelling gets a dense {@code int} code,
+ * and spellings that differ only in case share a folded code so case-insensitive lookups can be
+ * answered by comparing integers.
+ */
+final class DepartmentDictionary {
+    private final Map<String, Integer> codeByName = new HashMap<>();
+    private final Map<String, Integer> foldedCodeByKey = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+    private int[] foldedCodes = new int[8];
+
+    int encode(String department) {
+        Integer code = codeByName.get(department);
+        if (code != null) {
+            return code;
+        }
+        int newCode = names.size();
+        names.add(department);
+        codeByName.put(department, newCode);
+        if (newCode == foldedCodes.length) {
+            foldedCodes = Arrays.copyOf(foldedCodes, newCode * 2);
+        }
+        foldedCodes[newCode] = foldedCodeByKey.computeIfAbsent(
+                EmployeeIndex.departmentKey(department), key -> foldedCodeByKey.size());
+        return newCode;
+    }
+
+    String decode(int code) {
+        return names.get(code);
+    }
+
+    int size() {
+        return names.size();
+    }
+
+    /**
+     * Returns a mask indexed by department code that is {@code true} for every spelling matching
+     * {@code department} case-insensitively, or {@code null} if no employee was ever in it.
+     */
+    boolean[] matching(String department) {
+        if (department == null) {
+            return null;
+        }
+        Integer folded = foldedCodeByKey.get(EmployeeIndex.departmentKey(department));
+        if (folded == null) {
+            return null;
+        }
+        boolean[] mask = new boolean[names.size()];
+        for (int code = 0; code < mask.length; code++) {
+            mask[code] = foldedCodes[code] == folded;
+        }
+        return mask;
+    }
+}
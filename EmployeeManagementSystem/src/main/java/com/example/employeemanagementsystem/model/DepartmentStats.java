@@ -0,0 +1,23 @@
+package com.example.employeemanagementsystem.model;
+
+/**
+ * Aggregates over the employees of one department, as returned by
+ * {@link EmployeeQueries#departmentStats()}. Departments are grouped ignoring case;
+ * {@code department} is the spelling of one of its employees. Salaries and ratings are kept as
+ * totals rather than averages so that the stats of several shards can be added up exactly.
+ */
+public record DepartmentStats(String department, int headcount, int activeHeadcount, double totalSalary,
+                              double minSalary, double maxSalary, double totalRating) {
+
+    public static DepartmentStats empty(String department) {
+        return new DepartmentStats(department, 0, 0, 0.0, 0.0, 0.0, 0.0);
+    }
+
+    public double averageSalary() {
+        return headcount == 0 ? 0.0 : totalSalary / headcount;
+    }
+
+    public double averageRating() {
+        return headcount == 0 ? 0.0 : totalRating / headcount;
+    }
+}
@@ -20,6 +20,11 @@ public class Employee<T> implements Comparable<Employee<T>> {
         this.isActive = isActive;
     }
 
+    public Employee(Employee<T> other) {
+        this(other.employeeId, other.name, other.department, other.salary,
+                other.performanceRating, other.yearsOfExperience, other.isActive);
+    }
+
     // Getters and setters
     public T getEmployeeId() {
         return employeeId;
@@ -0,0 +1,53 @@
+package com.example.employeemanagementsystem.model;
+
+import java.util.List;
+
+/**
+ * Callback for successful mutations of an {@link EmployeeDatabase}. Listeners are invoked on the
+ * mutating thread after the change has been applied and indexed; failed mutations are not reported.
+ * A listener that throws cannot undo the change: the database logs the exception and goes on to
+ * notify the remaining listeners, and the mutation still succeeds for its caller.
+ */
+public interface EmployeeChangeListener<T> {
+    default void employeeAdded(Employee<T> employee) {
+    }
+
+    /**
+     * Called once for a bulk load or batch add. The default reports each employee through {@link #employeeAdded};
+     * listeners with per-event overhead can override it to handle the batch at once.
+     */
+    default void employeesAdded(List<Employee<T>> employees) {
+        for (Employee<T> employee : employees) {
+            employeeAdded(employee);
+        }
+    }
+
+    default void employeeRemoved(Employee<T> employee) {
+    }
+
+    /**
+     * Called once for a batch removal; the default reports each employee through
+     * {@link #employeeRemoved}.
+     */
+    default void employeesRemoved(List<Employee<T>> employees) {
+        for (Employee<T> employee : employees) {
+            employeeRemoved(employee);
+        }
+    }
+
+    default void employeeUpdated(Employee<T> employee, EmployeeField field, Object oldValue, Object newValue) {
+    }
+
+    /**
+     * Called once for a batch update, with the changes in the order they were applied; the default
+     * reports each one through {@link #employeeUpdated}.
+     */
+    default void employeesUpdated(List<FieldChange<T>> changes) {
+        for (FieldChange<T> change : changes) {
+            employeeUpdated(change.employee(), change.field(), change.oldValue(), change.newValue());
+        }
+    }
+
+    default void raiseGiven(double minRating, double raisePercent, List<Employee<T>> raised) {
+    }
+}
@@ -6,143 +6,944 @@ import org.slf4j.LoggerFactory;
 import com.example.employeemanagementsystem.exception.EmployeeNotFoundException;
 import com.example.employeemanagementsystem.exception.InvalidDepartmentException;
 import com.example.employeemanagementsystem.exception.InvalidSalaryException;
+import com.example.employeemanagementsystem.metrics.EmployeeMetrics;
+import com.example.employeemanagementsystem.metrics.Operation;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
-public class EmployeeDatabase<T> {
+/**
+ * Single-threaded, indexed employee store.
+ * <p>
+ * The database keeps its own copy of every employee it is given, and its read methods return
+ * read-only copies whose setters throw {@link UnsupportedOperationException}. The stored employees
+ * are filed in the secondary indexes under their current field values, so they may only change
+ * through the update methods here, which move them in the indexes as they go. Change listeners
+ * receive the stored employees themselves and must not modify them.
+ */
+public class EmployeeDatabase<T> implements EmployeeStore<T> {
     private final Map<T, Employee<T>> employeeMap;
+    private final EmployeeIndex<T> index = new EmployeeIndex<>();
+    private final QueryPlanner<T> planner;
+    private final List<EmployeeChangeListener<T>> listeners = new CopyOnWriteArrayList<>();
+    private volatile ParallelExecution parallelExecution = ParallelExecution.sequential();
+    private volatile EmployeeMetrics metrics = EmployeeMetrics.noop();
+    private volatile boolean logMutations = true;
+    // Null until snapshots are first asked for.
+    private volatile SnapshotTracker<T> snapshots;
     private static final Logger logger = LoggerFactory.getLogger(EmployeeDatabase.class);
 
     public EmployeeDatabase() {
-        employeeMap = new HashMap<>();
+        this(new HashMap<>());
+    }
+
+    // For subclasses that keep employees in a map specialised for their ID type.
+    EmployeeDatabase(Map<T, Employee<T>> employeeMap) {
+        this.employeeMap = employeeMap;
+        this.planner = new QueryPlanner<>(index, employeeMap);
     }
 
     public void addEmployee(Employee<T> employee) throws InvalidDepartmentException, InvalidSalaryException {
-        if (employee.getSalary() < 0) {
-            logger.error("Failed to add employee: Salary is negative for {}", employee.getName());
-            throw new InvalidSalaryException("Salary cannot be negative!");
+        EmployeeMetrics metrics = this.metrics;
+        long started = metrics.start(Operation.ADD);
+        try {
+            EmployeeValidator.validate(employee);
+        } catch (InvalidSalaryException e) {
+            logger.error("Failed to add employee: Salary is invalid for {}", employee.getName());
+            metrics.failed(Operation.ADD);
+            throw e;
+        } catch (InvalidDepartmentException e) {
+            logger.error("Failed to add employee: Department is empty for {}", employee.getName());
+            metrics.failed(Operation.ADD);
+            throw e;
+        } catch (IllegalArgumentException e) {
+            logger.error("Failed to add employee {}: {}", employee.getName(), e.getMessage());
+            metrics.failed(Operation.ADD);
+            throw e;
         }
 
-        if (employee.getDepartment() == null || employee.getDepartment().isEmpty()) {
-            logger.error("Failed to add employee: Department is empty for {}", employee.getName());
-            throw new InvalidDepartmentException("Department cannot be empty");
+        Employee<T> stored = admit(employee);
+        Employee<T> previous = employeeMap.put(stored.getEmployeeId(), stored);
+        if (previous != null) {
+            index.remove(previous);
+        }
+        index.add(stored);
+        metrics.record(Operation.ADD, started, 1);
+        if (logMutations) {
+            logger.info("Successfully added employee with ID {}", stored.getEmployeeId());
+        }
+        notifyListeners(listener -> listener.employeeAdded(stored));
+    }
+
+    /**
+     * Bulk-loads employees that were already validated, for example when restoring persisted state
+     * or importing a file. Skips validation and per-employee logging; change listeners receive the
+     * whole batch through {@link EmployeeChangeListener#employeesAdded}.
+     */
+    public void loadEmployees(Collection<Employee<T>> employees) {
+        EmployeeMetrics metrics = this.metrics;
+        long started = metrics.start(Operation.LOAD);
+        storeAll(List.copyOf(employees));
+        metrics.record(Operation.LOAD, started, employees.size());
+        if (logMutations) {
+            logger.info("Loaded {} employees", employees.size());
+        }
+    }
+
+    /**
+     * Chooses how bulk sorts and raises run. Sequential by default.
+     */
+    public void setParallelExecution(ParallelExecution parallelExecution) {
+        this.parallelExecution = Objects.requireNonNull(parallelExecution);
+    }
+
+    public ParallelExecution getParallelExecution() {
+        return parallelExecution;
+    }
+
+    /**
+     * Sends operation timings to {@code metrics}. Off by default.
+     */
+    public void setMetrics(EmployeeMetrics metrics) {
+        metrics.datasetSize(this::size);
+        this.metrics = metrics;
+    }
+
+    public EmployeeMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Turns the INFO line written for every successful mutation on or off; failures are always
+     * logged. Logging is synchronous, so in bulk work it can cost more than the change itself. Turn
+     * it off when a change listener, such as an audit log, keeps the record instead.
+     */
+    public void setMutationLogging(boolean enabled) {
+        this.logMutations = enabled;
+    }
+
+    public boolean isMutationLogging() {
+        return logMutations;
+    }
+
+    /**
+     * Returns an immutable point-in-time view of every employee. Taking a snapshot is O(1) and
+     * needs no lock: the database keeps a persistent copy of its employees that every change
+     * updates in O(log n) per employee changed, sharing the rest with earlier snapshots.
+     * <p>
+     * That copy is built on the first call, or by {@link #setSnapshotsEnabled}, in O(n). Enable
+     * snapshots before other threads start writing, like the other settings here.
+     */
+    public EmployeeSnapshot<T> snapshot() {
+        SnapshotTracker<T> tracker = snapshots;
+        if (tracker == null) {
+            setSnapshotsEnabled(true);
+            tracker = snapshots;
         }
+        return tracker.snapshot();
+    }
+
+    /**
+     * Starts or stops maintaining the copy behind {@link #snapshot()}. Off until first needed, so
+     * databases that never take snapshots pay nothing for them.
+     */
+    public synchronized void setSnapshotsEnabled(boolean enabled) {
+        SnapshotTracker<T> tracker = snapshots;
+        if (enabled && tracker == null) {
+            tracker = new SnapshotTracker<>(employeeMap.values());
+            // First, so other listeners already see the change in a snapshot.
+            listeners.add(0, tracker);
+            snapshots = tracker;
+        } else if (!enabled && tracker != null) {
+            listeners.remove(tracker);
+            snapshots = null;
+        }
+    }
+
+    public boolean isSnapshotsEnabled() {
+        return snapshots != null;
+    }
 
-        employeeMap.put(employee.getEmployeeId(), employee);
-        logger.info("Successfully added employee with ID {}", employee.getEmployeeId());
+    public void addChangeListener(EmployeeChangeListener<T> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeChangeListener(EmployeeChangeListener<T> listener) {
+        listeners.remove(listener);
     }
 
     public void removeEmployee(T employeeId) throws EmployeeNotFoundException {
-        if (!employeeMap.containsKey(employeeId)) {
+        EmployeeMetrics metrics = this.metrics;
+        long started = metrics.start(Operation.REMOVE);
+        Employee<T> employee = employeeMap.remove(employeeId);
+        if (employee == null) {
             logger.error("Failed to remove employee: ID {} not found", employeeId);
+            metrics.failed(Operation.REMOVE);
             throw new EmployeeNotFoundException("Employee ID not found!");
         }
-        employeeMap.remove(employeeId);
-        logger.info("Successfully removed employee with ID {}", employeeId);
+        removed(employee, metrics, started);
+    }
+
+    // Unindexes, records and reports an employee that was just taken out of the map.
+    void removed(Employee<T> employee, EmployeeMetrics metrics, long started) {
+        index.remove(employee);
+        metrics.record(Operation.REMOVE, started, 1);
+        if (logMutations) {
+            logger.info("Successfully removed employee with ID {}", employee.getEmployeeId());
+        }
+        notifyListeners(listener -> listener.employeeRemoved(employee));
     }
 
     public void updateEmployeeDetails(T employeeId, String field, Object newValue)
             throws EmployeeNotFoundException, InvalidDepartmentException, InvalidSalaryException {
-        Employee<T> employee = employeeMap.get(employeeId);
+        EmployeeField employeeField;
+        try {
+            employeeField = EmployeeField.fromName(field);
+        } catch (IllegalArgumentException e) {
+            logger.error("Unknown field {} provided for update", field);
+            throw e;
+        }
+        updateEmployeeDetails(employeeId, employeeField, newValue);
+    }
 
+    public void updateEmployeeDetails(T employeeId, EmployeeField field, Object newValue)
+            throws EmployeeNotFoundException, InvalidDepartmentException, InvalidSalaryException {
+        EmployeeMetrics metrics = this.metrics;
+        long started = metrics.start(Operation.UPDATE);
+        Employee<T> employee = findForUpdate(employeeId, Operation.UPDATE);
+        try {
+            field.checkValue(newValue);
+        } catch (InvalidDepartmentException e) {
+            logger.error("Failed to update employee {}: Department is empty", employeeId);
+            metrics.failed(Operation.UPDATE);
+            throw e;
+        } catch (InvalidSalaryException e) {
+            logger.error("Failed to update employee {}: salary is invalid", employeeId);
+            metrics.failed(Operation.UPDATE);
+            throw e;
+        } catch (IllegalArgumentException e) {
+            logger.error("Failed to update employee {}: {}", employeeId, e.getMessage());
+            metrics.failed(Operation.UPDATE);
+            throw e;
+        }
+
+        Object oldValue = applyUpdate(employee, field, newValue);
+        metrics.record(Operation.UPDATE, started, 1);
+        if (logMutations) {
+            logger.info("Successfully updated {} for employee ID {}", field.fieldName(), employeeId);
+        }
+        fireUpdated(employee, field, oldValue, newValue);
+    }
+
+    // Typed single-field updates: no field-name lookup, and values are only boxed for listeners. Each
+    // sets the field first and then moves the employee in that field's index only, so a setter that
+    // throws leaves the indexes untouched.
+    public void updateName(T employeeId, String name) throws EmployeeNotFoundException {
+        EmployeeMetrics metrics = this.metrics;
+        long started = metrics.start(Operation.UPDATE);
+        Employee<T> employee = findForUpdate(employeeId, Operation.UPDATE);
+        String oldValue = employee.getName();
+        employee.setName(name);
+        index.nameChanged(employee);
+        metrics.record(Operation.UPDATE, started, 1);
+        if (logMutations) {
+            logger.info("Successfully updated name for employee ID {}", employeeId);
+        }
+        fireUpdated(employee, EmployeeField.NAME, oldValue, name);
+    }
+
+    public void updateDepartment(T employeeId, String department)
+            throws EmployeeNotFoundException, InvalidDepartmentException {
+        EmployeeMetrics metrics = this.metrics;
+        long started = metrics.start(Operation.UPDATE);
+        Employee<T> employee = findForUpdate(employeeId, Operation.UPDATE);
+        try {
+            EmployeeValidator.checkDepartment(department);
+        } catch (InvalidDepartmentException e) {
+            logger.error("Failed to update employee {}: Department is empty", employeeId);
+            metrics.failed(Operation.UPDATE);
+            throw e;
+        }
+        String oldValue = employee.getDepartment();
+        employee.setDepartment(index.sharedDepartment(department));
+        index.departmentChanged(employee, oldValue);
+        metrics.record(Operation.UPDATE, started, 1);
+        if (logMutations) {
+            logger.info("Successfully updated department for employee ID {}", employeeId);
+        }
+        fireUpdated(employee, EmployeeField.DEPARTMENT, oldValue, department);
+    }
+
+    public void updateSalary(T employeeId, double salary) throws EmployeeNotFoundException, InvalidSalaryException {
+        EmployeeMetrics metrics = this.metrics;
+        long started = metrics.start(Operation.UPDATE);
+        Employee<T> employee = findForUpdate(employeeId, Operation.UPDATE);
+        try {
+            EmployeeValidator.checkSalary(salary);
+        } catch (InvalidSalaryException e) {
+            logger.error("Failed to update employee {}: salary is invalid", employeeId);
+            metrics.failed(Operation.UPDATE);
+            throw e;
+        }
+        double oldValue = employee.getSalary();
+        employee.setSalary(salary);
+        index.salaryChanged(employee, oldValue);
+        metrics.record(Operation.UPDATE, started, 1);
+        if (logMutations) {
+            logger.info("Successfully updated salary for employee ID {}", employeeId);
+        }
+        if (!listeners.isEmpty()) {
+            fireUpdated(employee, EmployeeField.SALARY, oldValue, salary);
+        }
+    }
+
+    public void updatePerformanceRating(T employeeId, double performanceRating) throws EmployeeNotFoundException {
+        EmployeeMetrics metrics = this.metrics;
+        long started = metrics.start(Operation.UPDATE);
+        Employee<T> employee = findForUpdate(employeeId, Operation.UPDATE);
+        try {
+            EmployeeValidator.checkRating(performanceRating);
+        } catch (IllegalArgumentException e) {
+            logger.error("Failed to update employee {}: {}", employeeId, e.getMessage());
+            metrics.failed(Operation.UPDATE);
+            throw e;
+        }
+        double oldValue = employee.getPerformanceRating();
+        employee.setPerformanceRating(performanceRating);
+        index.ratingChanged(employee, oldValue);
+        metrics.record(Operation.UPDATE, started, 1);
+        if (logMutations) {
+            logger.info("Successfully updated performanceRating for employee ID {}", employeeId);
+        }
+        if (!listeners.isEmpty()) {
+            fireUpdated(employee, EmployeeField.PERFORMANCE_RATING, oldValue, performanceRating);
+        }
+    }
+
+    public void updateYearsOfExperience(T employeeId, int yearsOfExperience) throws EmployeeNotFoundException {
+        EmployeeMetrics metrics = this.metrics;
+        long started = metrics.start(Operation.UPDATE);
+        Employee<T> employee = findForUpdate(employeeId, Operation.UPDATE);
+        int oldValue = employee.getYearsOfExperience();
+        employee.setYearsOfExperience(yearsOfExperience);
+        index.experienceChanged(employee, oldValue);
+        metrics.record(Operation.UPDATE, started, 1);
+        if (logMutations) {
+            logger.info("Successfully updated yearsOfExperience for employee ID {}", employeeId);
+        }
+        if (!listeners.isEmpty()) {
+            fireUpdated(employee, EmployeeField.YEARS_OF_EXPERIENCE, oldValue, yearsOfExperience);
+        }
+    }
+
+    public void updateActive(T employeeId, boolean active) throws EmployeeNotFoundException {
+        EmployeeMetrics metrics = this.metrics;
+        long started = metrics.start(Operation.UPDATE);
+        Employee<T> employee = findForUpdate(employeeId, Operation.UPDATE);
+        boolean oldValue = employee.isActive();
+        employee.setActive(active);
+        if (oldValue != active) {
+            index.activeChanged(employee);
+        }
+        metrics.record(Operation.UPDATE, started, 1);
+        if (logMutations) {
+            logger.info("Successfully updated isActive for employee ID {}", employeeId);
+        }
+        fireUpdated(employee, EmployeeField.ACTIVE, oldValue, active);
+    }
+
+    /**
+     * Applies a pre-validated patch to one employee, moving it only in the indexes of the fields
+     * that change. Listeners receive one {@link EmployeeChangeListener#employeesUpdated} event.
+     */
+    public void applyPatch(T employeeId, EmployeePatch patch) throws EmployeeNotFoundException {
+        EmployeeMetrics metrics = this.metrics;
+        long started = metrics.start(Operation.PATCH);
+        Employee<T> employee = findForUpdate(employeeId, Operation.PATCH);
+        List<FieldChange<T>> changes = listeners.isEmpty() ? null : new ArrayList<>();
+        patch(employee, patch, changes);
+        metrics.record(Operation.PATCH, started, 1);
+        if (logMutations) {
+            logger.info("Successfully applied {} to employee ID {}", patch, employeeId);
+        }
+        if (changes != null) {
+            fireUpdated(changes);
+        }
+    }
+
+    /**
+     * Applies the same patch to every listed employee, or to none of them if any ID is unknown.
+     */
+    public void applyPatch(Collection<T> employeeIds, EmployeePatch patch) throws EmployeeNotFoundException {
+        EmployeeMetrics metrics = this.metrics;
+        long started = metrics.start(Operation.PATCH);
+        List<Employee<T>> targets = new ArrayList<>(employeeIds.size());
+        for (T employeeId : employeeIds) {
+            Employee<T> employee = employeeMap.get(employeeId);
+            if (employee == null) {
+                logger.error("Rejected patch of {} employees: ID {} not found", employeeIds.size(), employeeId);
+                metrics.failed(Operation.PATCH);
+                throw new EmployeeNotFoundException("Employee with ID " + employeeId + " is not found!");
+            }
+            targets.add(employee);
+        }
+        List<FieldChange<T>> changes = listeners.isEmpty() ? null : new ArrayList<>();
+        for (Employee<T> employee : targets) {
+            patch(employee, patch, changes);
+        }
+        metrics.record(Operation.PATCH, started, targets.size());
+        if (logMutations) {
+            logger.info("Successfully applied {} to {} employees", patch, targets.size());
+        }
+        if (changes != null) {
+            fireUpdated(changes);
+        }
+    }
+
+    private void patch(Employee<T> employee, EmployeePatch patch, List<FieldChange<T>> changes) {
+        if (changes != null) {
+            for (EmployeeField field : patch.fields()) {
+                changes.add(new FieldChange<>(employee, field, field.get(employee), patch.value(field)));
+            }
+        }
+        patch.applyTo(employee, index);
+    }
+
+    private Employee<T> findForUpdate(T employeeId, Operation operation) throws EmployeeNotFoundException {
+        Employee<T> employee = employeeMap.get(employeeId);
         if (employee == null) {
             logger.error("Failed to update: Employee with ID {} not found", employeeId);
-            throw new EmployeeNotFoundException("Employee with ID " + employeeId + "not found");
+            metrics.failed(operation);
+            throw new EmployeeNotFoundException("Employee with ID " + employeeId + " not found");
+        }
+        return employee;
+    }
+
+    private void fireUpdated(Employee<T> employee, EmployeeField field, Object oldValue, Object newValue) {
+        notifyListeners(listener -> listener.employeeUpdated(employee, field, oldValue, newValue));
+    }
+
+    /**
+     * Adds every employee or none of them. The whole batch is validated before anything is stored;
+     * the first invalid employee's exception is rethrown and the database is left unchanged.
+     * Listeners receive one {@link EmployeeChangeListener#employeesAdded} event.
+     */
+    public void addAll(Collection<Employee<T>> employees) throws InvalidDepartmentException, InvalidSalaryException {
+        EmployeeMetrics metrics = this.metrics;
+        long started = metrics.start(Operation.BATCH_ADD);
+        for (Employee<T> employee : employees) {
+            try {
+                EmployeeValidator.validate(employee);
+            } catch (InvalidDepartmentException | InvalidSalaryException | IllegalArgumentException e) {
+                logger.error("Rejected batch of {} employees: {} (employee {})",
+                        employees.size(), e.getMessage(), employee.getEmployeeId());
+                metrics.failed(Operation.BATCH_ADD);
+                throw e;
+            }
+        }
+        List<Employee<T>> added = List.copyOf(employees);
+        storeAll(added);
+        metrics.record(Operation.BATCH_ADD, started, added.size());
+        if (logMutations) {
+            logger.info("Successfully added {} employees", added.size());
+        }
+    }
+
+    /**
+     * Adds the valid employees of a batch and reports the invalid ones instead of throwing.
+     */
+    public BatchResult<T> tryAddAll(Collection<Employee<T>> employees) {
+        EmployeeMetrics metrics = this.metrics;
+        long started = metrics.start(Operation.BATCH_ADD);
+        List<Employee<T>> valid = new ArrayList<>(employees.size());
+        List<BatchResult.Failure<T>> failures = new ArrayList<>();
+        int position = 0;
+        for (Employee<T> employee : employees) {
+            try {
+                EmployeeValidator.validate(employee);
+                valid.add(employee);
+            } catch (InvalidDepartmentException | InvalidSalaryException | IllegalArgumentException e) {
+                failures.add(new BatchResult.Failure<>(position, employee.getEmployeeId(), e));
+            }
+            position++;
+        }
+        storeAll(valid);
+        metrics.record(Operation.BATCH_ADD, started, valid.size());
+        if (logMutations) {
+            logger.info("Added {} of {} employees", valid.size(), employees.size());
         }
+        return new BatchResult<>(valid.size(), failures);
+    }
 
-        switch (field.toLowerCase()) {
-            case "name" -> employee.setName((String) newValue);
-            case "department" -> {
-                String dept = (String) newValue;
-                if (dept == null || dept.isBlank()) {
-                    logger.error("Failed to update employee {}: Department is empty", employeeId);
-                    throw new InvalidDepartmentException("Department cannot be empty");
+    /**
+     * Removes every listed employee or none of them: if any ID is unknown the database is left
+     * unchanged. Listeners receive one {@link EmployeeChangeListener#employeesRemoved} event.
+     */
+    public void removeAll(Collection<T> employeeIds) throws EmployeeNotFoundException {
+        EmployeeMetrics metrics = this.metrics;
+        long started = metrics.start(Operation.BATCH_REMOVE);
+        for (T employeeId : employeeIds) {
+            if (!employeeMap.containsKey(employeeId)) {
+                logger.error("Rejected batch of {} removals: ID {} not found", employeeIds.size(), employeeId);
+                metrics.failed(Operation.BATCH_REMOVE);
+                throw new EmployeeNotFoundException("Employee with ID " + employeeId + " is not found!");
+            }
+        }
+        List<Employee<T>> removed = new ArrayList<>(employeeIds.size());
+        for (T employeeId : employeeIds) {
+            Employee<T> employee = employeeMap.remove(employeeId);
+            if (employee != null) {
+                index.remove(employee);
+                removed.add(employee);
+            }
+        }
+        metrics.record(Operation.BATCH_REMOVE, started, removed.size());
+        if (logMutations) {
+            logger.info("Successfully removed {} employees", removed.size());
+        }
+        fireRemoved(removed);
+    }
+
+    /**
+     * Removes the listed employees that exist and reports the unknown IDs instead of throwing.
+     */
+    public BatchResult<T> tryRemoveAll(Collection<T> employeeIds) {
+        EmployeeMetrics metrics = this.metrics;
+        long started = metrics.start(Operation.BATCH_REMOVE);
+        List<Employee<T>> removed = new ArrayList<>(employeeIds.size());
+        List<BatchResult.Failure<T>> failures = new ArrayList<>();
+        int position = 0;
+        for (T employeeId : employeeIds) {
+            Employee<T> employee = employeeMap.remove(employeeId);
+            if (employee == null) {
+                failures.add(new BatchResult.Failure<>(position, employeeId,
+                        new EmployeeNotFoundException("Employee with ID " + employeeId + " is not found!")));
+            } else {
+                index.remove(employee);
+                removed.add(employee);
+            }
+            position++;
+        }
+        metrics.record(Operation.BATCH_REMOVE, started, removed.size());
+        if (logMutations) {
+            logger.info("Removed {} of {} employees", removed.size(), employeeIds.size());
+        }
+        fireRemoved(removed);
+        return new BatchResult<>(removed.size(), failures);
+    }
+
+    /**
+     * Applies every update or none of them. All updates are checked (employee exists, field known,
+     * value valid) before the first is applied; the first failure is rethrown and the database is
+     * left unchanged. Updates are then applied in order and listeners receive one
+     * {@link EmployeeChangeListener#employeesUpdated} event.
+     */
+    public void updateAll(Collection<EmployeeUpdate<T>> updates)
+            throws EmployeeNotFoundException, InvalidDepartmentException, InvalidSalaryException {
+        EmployeeMetrics metrics = this.metrics;
+        long started = metrics.start(Operation.BATCH_UPDATE);
+        List<Employee<T>> targets = new ArrayList<>(updates.size());
+        for (EmployeeUpdate<T> update : updates) {
+            Employee<T> employee = employeeMap.get(update.employeeId());
+            try {
+                if (employee == null) {
+                    throw new EmployeeNotFoundException("Employee with ID " + update.employeeId() + " is not found!");
                 }
+                update.field().checkValue(update.newValue());
+            } catch (EmployeeNotFoundException | InvalidDepartmentException | InvalidSalaryException
+                     | IllegalArgumentException e) {
+                logger.error("Rejected batch of {} updates: {} (employee {})",
+                        updates.size(), e.getMessage(), update.employeeId());
+                metrics.failed(Operation.BATCH_UPDATE);
+                throw e;
             }
-            case "salary" -> {
-                double salary = (Double) newValue;
-                if (salary < 0) {
-                    logger.error("Failed to update employee {}: salary is negative", employeeId);
-                    throw new InvalidSalaryException("Salary must not be negative!");
+            targets.add(employee);
+        }
+
+        List<FieldChange<T>> changes = new ArrayList<>(updates.size());
+        int i = 0;
+        for (EmployeeUpdate<T> update : updates) {
+            Employee<T> employee = targets.get(i);
+            Object oldValue = applyUpdate(employee, update.field(), update.newValue());
+            changes.add(new FieldChange<>(employee, update.field(), oldValue, update.newValue()));
+            i++;
+        }
+        metrics.record(Operation.BATCH_UPDATE, started, changes.size());
+        if (logMutations) {
+            logger.info("Successfully applied {} updates", changes.size());
+        }
+        fireUpdated(changes);
+    }
+
+    /**
+     * Applies the valid updates of a batch in order and reports the others instead of throwing.
+     */
+    public BatchResult<T> tryUpdateAll(Collection<EmployeeUpdate<T>> updates) {
+        EmployeeMetrics metrics = this.metrics;
+        long started = metrics.start(Operation.BATCH_UPDATE);
+        List<FieldChange<T>> changes = new ArrayList<>(updates.size());
+        List<BatchResult.Failure<T>> failures = new ArrayList<>();
+        int position = 0;
+        for (EmployeeUpdate<T> update : updates) {
+            Employee<T> employee = employeeMap.get(update.employeeId());
+            try {
+                if (employee == null) {
+                    throw new EmployeeNotFoundException("Employee with ID " + update.employeeId() + " is not found!");
                 }
+                update.field().checkValue(update.newValue());
+                Object oldValue = applyUpdate(employee, update.field(), update.newValue());
+                changes.add(new FieldChange<>(employee, update.field(), oldValue, update.newValue()));
+            } catch (EmployeeNotFoundException | InvalidDepartmentException | InvalidSalaryException
+                     | IllegalArgumentException e) {
+                failures.add(new BatchResult.Failure<>(position, update.employeeId(), e));
             }
-            case "performancerating" -> employee.setPerformanceRating((double) newValue);
-            case "yearsofexperience" -> employee.setYearsOfExperience((Integer) newValue);
-            case "isactive" -> employee.setActive((boolean) newValue);
-            default -> {
-                logger.error("Unknown field {} provided for update", field);
-                throw new IllegalArgumentException("Unknown field " + field);
+            position++;
+        }
+        metrics.record(Operation.BATCH_UPDATE, started, changes.size());
+        if (logMutations) {
+            logger.info("Applied {} of {} updates", changes.size(), updates.size());
+        }
+        fireUpdated(changes);
+        return new BatchResult<>(changes.size(), failures);
+    }
+
+    /**
+     * Applies an update whose value passed {@link EmployeeField#checkValue}, moving the employee in
+     * that field's index only, and returns the previous value.
+     */
+    private Object applyUpdate(Employee<T> employee, EmployeeField field, Object newValue) {
+        Object oldValue = field.get(employee);
+        if (field == EmployeeField.DEPARTMENT) {
+            newValue = index.sharedDepartment((String) newValue);
+        }
+        field.set(employee, newValue);
+        index.changed(employee, field, oldValue);
+        return oldValue;
+    }
+
+    /**
+     * Returns the instance to store for {@code employee}: a private, mutable copy, so the caller
+     * cannot move it behind the indexes' back, whose department is the shared string of the same
+     * spelling.
+     */
+    private Employee<T> admit(Employee<T> employee) {
+        Employee<T> admitted = new Employee<>(employee);
+        admitted.setDepartment(index.sharedDepartment(admitted.getDepartment()));
+        return admitted;
+    }
+
+    /**
+     * Copies stored employees into read-only employees for a caller.
+     */
+    static <T> List<Employee<T>> readOnly(Collection<Employee<T>> employees) {
+        List<Employee<T>> copies = new ArrayList<>(employees.size());
+        for (Employee<T> employee : employees) {
+            copies.add(new FrozenEmployee<>(employee));
+        }
+        return copies;
+    }
+
+    private void storeAll(List<Employee<T>> batch) {
+        List<Employee<T>> employees = new ArrayList<>(batch.size());
+        for (Employee<T> given : batch) {
+            Employee<T> employee = admit(given);
+            employees.add(employee);
+            Employee<T> previous = employeeMap.put(employee.getEmployeeId(), employee);
+            if (previous != null) {
+                index.remove(previous);
             }
+            index.add(employee);
+        }
+        if (!employees.isEmpty()) {
+            List<Employee<T>> added = Collections.unmodifiableList(employees);
+            notifyListeners(listener -> listener.employeesAdded(added));
+        }
+    }
+
+    /**
+     * Delivers an event to every listener. The change is already applied when listeners hear of it,
+     * so a listener that throws must neither fail the caller nor keep the event from the listeners
+     * after it; its failure is logged instead.
+     */
+    private void notifyListeners(Consumer<EmployeeChangeListener<T>> event) {
+        for (EmployeeChangeListener<T> listener : listeners) {
+            try {
+                event.accept(listener);
+            } catch (RuntimeException e) {
+                logger.error("Change listener {} failed to handle a committed change", listener, e);
+            }
+        }
+    }
+
+    private void fireRemoved(List<Employee<T>> removed) {
+        if (!removed.isEmpty()) {
+            notifyListeners(listener -> listener.employeesRemoved(removed));
+        }
+    }
+
+    private void fireUpdated(List<FieldChange<T>> changes) {
+        if (!changes.isEmpty()) {
+            notifyListeners(listener -> listener.employeesUpdated(changes));
         }
-        logger.info("Successfully updated {} for employee ID {}", field, employeeId);
     }
 
     public List<Employee<T>> getAllEmployees() {
-        return new ArrayList<>(employeeMap.values());
+        return readOnly(employeeMap.values());
+    }
+
+    /**
+     * Returns every employee in the given order. Both modes use a stable sort over the same input,
+     * so equal employees come out in the same order whether or not the sort runs in parallel.
+     */
+    public List<Employee<T>> getAllEmployeesSorted(Comparator<? super Employee<T>> order) {
+        ParallelExecution execution = parallelExecution;
+        if (!execution.isParallel(employeeMap.size())) {
+            List<Employee<T>> result = getAllEmployees();
+            result.sort(order);
+            return result;
+        }
+        @SuppressWarnings("unchecked")
+        Employee<T>[] sorted = (Employee<T>[]) getAllEmployees().toArray(new Employee<?>[0]);
+        execution.run(() -> Arrays.parallelSort(sorted, order));
+        return new ArrayList<>(Arrays.asList(sorted));
+    }
+
+    public int size() {
+        return employeeMap.size();
+    }
+
+    public boolean containsEmployee(T employeeId) {
+        return employeeMap.containsKey(employeeId);
     }
 
     // Search by Fields
     public List<Employee<T>> searchByDepartment(String department) {
-        return employeeMap.values().stream().filter(
-                emp -> emp.getDepartment().equalsIgnoreCase(department)).toList();
+        EmployeeMetrics metrics = this.metrics;
+        long started = metrics.start(Operation.SEARCH_BY_DEPARTMENT);
+        List<Employee<T>> result = readOnly(index.department(department));
+        metrics.record(Operation.SEARCH_BY_DEPARTMENT, started, result.size());
+        return result;
     }
 
     public List<Employee<T>> searchByName(String keyword) {
-        return employeeMap.values().stream().filter(
-                emp -> emp.getName().toLowerCase().contains(keyword.toLowerCase())).toList();
+        EmployeeMetrics metrics = this.metrics;
+        long started = metrics.start(Operation.SEARCH_BY_NAME);
+        List<Employee<T>> result = readOnly(index.nameContaining(keyword));
+        metrics.record(Operation.SEARCH_BY_NAME, started, result.size());
+        return result;
+    }
+
+    public List<Employee<T>> searchByNamePrefix(String prefix) {
+        EmployeeMetrics metrics = this.metrics;
+        long started = metrics.start(Operation.SEARCH_BY_NAME_PREFIX);
+        List<Employee<T>> result = readOnly(index.nameStartingWith(prefix));
+        metrics.record(Operation.SEARCH_BY_NAME_PREFIX, started, result.size());
+        return result;
     }
 
     public List<Employee<T>> filterByPerformance(double minRating) {
-        return employeeMap.values().stream().filter(
-                emp -> emp.getPerformanceRating() >= minRating).toList();
+        EmployeeMetrics metrics = this.metrics;
+        long started = metrics.start(Operation.FILTER_BY_PERFORMANCE);
+        List<Employee<T>> result = readOnly(index.ratingAtLeast(minRating));
+        metrics.record(Operation.FILTER_BY_PERFORMANCE, started, result.size());
+        return result;
     }
 
     public List<Employee<T>> filterBySalaryRange(double minSalary, double maxSalary) {
-        return employeeMap.values().stream().filter(
-                emp -> emp.getSalary() >= minSalary && emp.getSalary() <= maxSalary).toList();
+        EmployeeMetrics metrics = this.metrics;
+        long started = metrics.start(Operation.FILTER_BY_SALARY_RANGE);
+        List<Employee<T>> result = readOnly(index.salaryBetween(minSalary, maxSalary));
+        metrics.record(Operation.FILTER_BY_SALARY_RANGE, started, result.size());
+        return result;
+    }
+
+    public List<Employee<T>> filterByExperienceRange(int minYears, int maxYears) {
+        EmployeeMetrics metrics = this.metrics;
+        long started = metrics.start(Operation.FILTER_BY_EXPERIENCE_RANGE);
+        List<Employee<T>> result = readOnly(index.experienceBetween(minYears, maxYears));
+        metrics.record(Operation.FILTER_BY_EXPERIENCE_RANGE, started, result.size());
+        return result;
+    }
+
+    /**
+     * Runs a composite query. Candidates come from the most selective index the filter allows,
+     * or from a full scan when no index helps; the whole filter, order and limit are then applied
+     * in one pass. See {@link #explain} for the chosen access path.
+     */
+    @Override
+    public List<Employee<T>> query(EmployeeQuery<T> query) {
+        EmployeeMetrics metrics = this.metrics;
+        long started = metrics.start(Operation.QUERY);
+        List<Employee<T>> result = readOnly(query.apply(planner.plan(query.filter()).candidates().get()));
+        metrics.record(Operation.QUERY, started, result.size());
+        return result;
     }
 
+    /**
+     * Counts the employees matching {@code filter}, finding the candidates as {@link #query} does,
+     * without copying any of them.
+     */
+    public int count(EmployeeFilter filter) {
+        int count = 0;
+        for (Employee<T> employee : planner.plan(filter).candidates().get()) {
+            if (filter.test(employee)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Describes how {@link #query} would find the candidates for {@code query}, for example
+     * {@code "department=Finance (~120 rows)"}.
+     */
+    public String explain(EmployeeQuery<T> query) {
+        return planner.plan(query.filter()).toString();
+    }
+
+    /**
+     * Iterates over the live employees, returning a read-only copy of each; changes made while
+     * iterating break it. Long-running readers should iterate a {@link #snapshot()} instead.
+     */
     public Iterator<Employee<T>> getEmployeeIterator() {
-        return employeeMap.values().iterator();
+        Iterator<Employee<T>> live = employeeMap.values().iterator();
+        // Removal through the iterator would bypass the secondary indexes.
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return live.hasNext();
+            }
+
+            @Override
+            public Employee<T> next() {
+                return new FrozenEmployee<>(live.next());
+            }
+        };
     }
 
+    /**
+     * Raises the salary of every employee rated at least {@code minRating}. Only the salary index
+     * and department totals are updated. With {@link #setParallelExecution parallel execution},
+     * the new salaries of a large group are computed on the pool, and the indexes are then updated
+     * on the calling thread. One summary line is logged; per-employee lines are logged at DEBUG.
+     *
+     * @throws IllegalArgumentException if any raised salary would be negative or not finite, in
+     *                                  which case no salary is changed
+     */
     public void giveRaiseToHighPerformers(double minRating, double raisePercent) {
-        employeeMap.values().stream().filter(emp ->
-                emp.getPerformanceRating() >= minRating).forEach(
-                emp -> {
-                    double currentSalary = emp.getSalary();
-                    double raiseAmount = currentSalary * (raisePercent / 100);
-                    emp.setSalary(currentSalary + raiseAmount);
-                    logger.info("Gave a raise of {}% to employee {}", raisePercent, emp.getEmployeeId());
-                }
-        );
+        EmployeeMetrics metrics = this.metrics;
+        long started = metrics.start(Operation.RAISE);
+        List<Employee<T>> raised = index.ratingAtLeast(minRating);
+        for (Employee<T> emp : raised) {
+            try {
+                EmployeeValidator.raisedSalary(emp.getSalary(), raisePercent);
+            } catch (InvalidSalaryException e) {
+                logger.error("Rejected a raise of {}% for employee {}: {}", raisePercent, emp.getEmployeeId(), e.getMessage());
+                metrics.failed(Operation.RAISE);
+                throw new IllegalArgumentException("A raise of " + raisePercent + "% would give employee "
+                        + emp.getEmployeeId() + " an invalid salary", e);
+            }
+        }
+        double[] oldSalaries = new double[raised.size()];
+        double factor = raisePercent / 100;
+        ParallelExecution execution = parallelExecution;
+        if (execution.isParallel(raised.size())) {
+            execution.run(() -> IntStream.range(0, raised.size()).parallel()
+                    .forEach(i -> oldSalaries[i] = raise(raised.get(i), factor)));
+        } else {
+            for (int i = 0; i < oldSalaries.length; i++) {
+                oldSalaries[i] = raise(raised.get(i), factor);
+            }
+        }
+        boolean debug = logMutations && logger.isDebugEnabled();
+        for (int i = 0; i < oldSalaries.length; i++) {
+            Employee<T> emp = raised.get(i);
+            index.salaryChanged(emp, oldSalaries[i]);
+            if (debug) {
+                logger.debug("Gave a raise of {}% to employee {}", raisePercent, emp.getEmployeeId());
+            }
+        }
+        metrics.record(Operation.RAISE, started, raised.size());
+        if (logMutations) {
+            logger.info("Gave a raise of {}% to {} employees rated at least {}", raisePercent, raised.size(), minRating);
+        }
+        notifyListeners(listener -> listener.raiseGiven(minRating, raisePercent, raised));
+    }
+
+    // Returns the salary before the raise.
+    private static double raise(Employee<?> employee, double factor) {
+        double currentSalary = employee.getSalary();
+        double raiseAmount = currentSalary * factor;
+        employee.setSalary(currentSalary + raiseAmount);
+        return currentSalary;
     }
 
-    public List<Employee<T>> getTopPaidEmployees(int topN){
-        return employeeMap.values().stream().sorted(
-                Comparator.comparingDouble(Employee::getSalary)).limit(topN).toList();
+    public List<Employee<T>> getTopPaidEmployees(int topN) {
+        EmployeeMetrics metrics = this.metrics;
+        long started = metrics.start(Operation.TOP_PAID);
+        List<Employee<T>> result = readOnly(index.highestSalaries(topN));
+        metrics.record(Operation.TOP_PAID, started, result.size());
+        return result;
+    }
+
+    public List<Employee<T>> getTopEmployees(int topN, Comparator<? super Employee<T>> order) {
+        return readOnly(TopK.select(employeeMap.values(), topN, order));
     }
 
     public double getAverageSalaryByDepartment(String department) {
-        return employeeMap.values().stream().filter(
-                emp -> emp.getDepartment().equalsIgnoreCase(department)).mapToDouble(
-                        Employee::getSalary).average().orElse(0.0);
+        EmployeeMetrics metrics = this.metrics;
+        long started = metrics.start(Operation.AVERAGE_SALARY_BY_DEPARTMENT);
+        double result = index.departmentStats(department).averageSalary();
+        metrics.record(Operation.AVERAGE_SALARY_BY_DEPARTMENT, started, 1);
+        return result;
+    }
+
+    /**
+     * Returns the aggregates of every department. They are maintained on every change, so this
+     * costs one small object per department regardless of headcount.
+     */
+    @Override
+    public Map<String, DepartmentStats> departmentStats() {
+        EmployeeMetrics metrics = this.metrics;
+        long started = metrics.start(Operation.DEPARTMENT_STATS);
+        Map<String, DepartmentStats> result = index.departmentStats();
+        metrics.record(Operation.DEPARTMENT_STATS, started, result.size());
+        return result;
+    }
+
+    @Override
+    public DepartmentStats departmentStats(String department) {
+        return index.departmentStats(department);
     }
 
     public Employee<T> getEmployee(T employeeId) throws EmployeeNotFoundException {
+        EmployeeMetrics metrics = this.metrics;
+        long started = metrics.start(Operation.GET);
         Employee<T> employee = employeeMap.get(employeeId);
         if (employee == null) {
             logger.error("Failed to retrieve employee: ID {} not found", employeeId);
+            metrics.failed(Operation.GET);
             throw new EmployeeNotFoundException("Employee with ID " + employeeId + " is not found!");
         }
-        return employee;
+        metrics.record(Operation.GET, started, 1);
+        return new FrozenEmployee<>(employee);
     }
 
     public void deleteEmployee(T employeeId) throws EmployeeNotFoundException {
+        EmployeeMetrics metrics = this.metrics;
+        long started = metrics.start(Operation.REMOVE);
         Employee<T> employee = employeeMap.remove(employeeId);
         if (employee == null) {
             logger.error("Failed to delete employee: ID {} not found", employeeId);
+            metrics.failed(Operation.REMOVE);
             throw new EmployeeNotFoundException("Employee with ID " + employeeId + " is not found!");
         }
-        logger.info("Successfully deleted employee with ID {}", employeeId);
+        index.remove(employee);
+        metrics.record(Operation.REMOVE, started, 1);
+        if (logMutations) {
+            logger.info("Successfully deleted employee with ID {}", employeeId);
+        }
+        notifyListeners(listener -> listener.employeeRemoved(employee));
     }
 }
@@ -0,0 +1,13 @@
+package com.example.employeemanagementsystem.model;
+
+import java.util.Comparator;
+
+public class EmployeeExperienceComparator<T> implements Comparator<Employee<T>> {
+    public EmployeeExperienceComparator() {
+    }
+
+    @Override
+    public int compare(Employee<T> e1, Employee<T> e2) {
+        return Integer.compare(e2.getYearsOfExperience(), e1.getYearsOfExperience());
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.employeemanagementsystem.model;
+
+import com.example.employeemanagementsystem.exception.InvalidDepartmentException;
+import com.example.employeemanagementsystem.exception.InvalidSalaryException;
+
+/**
+ * The updatable fields of an {@link Employee}. Resolving a field name once with {@link #fromName}
+ * lets callers switch on the constant instead of comparing strings on every update.
+ */
+public enum EmployeeField {
+    NAME("name", String.class, true),
+    DEPARTMENT("department", String.class, true),
+    SALARY("salary", Double.class, true),
+    PERFORMANCE_RATING("performanceRating", Double.class, true),
+    YEARS_OF_EXPERIENCE("yearsOfExperience", Integer.class, true),
+    ACTIVE("isActive", Boolean.class, false);
+
+    private static final EmployeeField[] VALUES = values();
+
+    private final String fieldName;
+    private final Class<?> valueType;
+    private final boolean indexed;
+
+    EmployeeField(String fieldName, Class<?> valueType, boolean indexed) {
+        this.fieldName = fieldName;
+        this.valueType = valueType;
+        this.indexed = indexed;
+    }
+
+    /**
+     * The name accepted by {@code updateEmployeeDetails} and written to the persistence log.
+     */
+    public String fieldName() {
+        return fieldName;
+    }
+
+    public Class<?> valueType() {
+        return valueType;
+    }
+
+    /**
+     * Whether {@link EmployeeDatabase} keeps a secondary index on this field, so changing it moves
+     * the employee within that index. {@link #ACTIVE} only counts towards the department totals,
+     * which are adjusted in place.
+     */
+    public boolean isIndexed() {
+        return indexed;
+    }
+
+    /**
+     * Looks a field up by name, ignoring case, without allocating.
+     */
+    public static EmployeeField fromName(String name) {
+        for (EmployeeField field : VALUES) {
+            if (field.fieldName.equalsIgnoreCase(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown field " + name);
+    }
+
+    public Object get(Employee<?> employee) {
+        return switch (this) {
+            case NAME -> employee.getName();
+            case DEPARTMENT -> employee.getDepartment();
+            case SALARY -> employee.getSalary();
+            case PERFORMANCE_RATING -> employee.getPerformanceRating();
+            case YEARS_OF_EXPERIENCE -> employee.getYearsOfExperience();
+            case ACTIVE -> employee.isActive();
+        };
+    }
+
+    /**
+     * Sets the field without validation; {@code value} must be of {@link #valueType()}.
+     */
+    public void set(Employee<?> employee, Object value) {
+        switch (this) {
+            case NAME -> employee.setName((String) value);
+            case DEPARTMENT -> employee.setDepartment((String) value);
+            case SALARY -> employee.setSalary((Double) value);
+            case PERFORMANCE_RATING -> employee.setPerformanceRating((Double) value);
+            case YEARS_OF_EXPERIENCE -> employee.setYearsOfExperience((Integer) value);
+            case ACTIVE -> employee.setActive((Boolean) value);
+        }
+    }
+
+    /**
+     * Checks that {@code value} has the right type for this field and satisfies the same rules as
+     * {@link EmployeeValidator}.
+     */
+    public void checkValue(Object value) throws InvalidDepartmentException, InvalidSalaryException {
+        if (this == DEPARTMENT && value == null) {
+            throw new InvalidDepartmentException("Department cannot be empty");
+        }
+        if (!valueType.isInstance(value)) {
+            throw new IllegalArgumentException(fieldName + " must be a " + valueType.getSimpleName());
+        }
+        switch (this) {
+            case DEPARTMENT -> EmployeeValidator.checkDepartment((String) value);
+            case SALARY -> EmployeeValidator.checkSalary((Double) value);
+            case PERFORMANCE_RATING -> EmployeeValidator.checkRating((Double) value);
+            default -> {
+            }
+        }
+    }
+}
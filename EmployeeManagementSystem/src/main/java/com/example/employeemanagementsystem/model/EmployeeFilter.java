@@ -0,0 +1,213 @@
+package com.example.employeemanagementsystem.model;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * A condition on employees that an {@link EmployeeQuery} selects by. Conditions on the indexed
+ * fields let {@link EmployeeDatabase} start from an index instead of scanning everyone; the rest
+ * are checked on the candidates the index returns.
+ * <pre>{@code
+ * EmployeeFilter filter = EmployeeFilter.department("Engineering")
+ *         .and(EmployeeFilter.salaryBetween(60_000, 90_000))
+ *         .and(EmployeeFilter.ratingAtLeast(4.0));
+ * }</pre>
+ * Ranges include both bounds. Text conditions ignore case, like the {@code searchBy} methods.
+ */
+public sealed interface EmployeeFilter {
+
+    boolean test(Employee<?> employee);
+
+    /**
+     * The employee fields this filter reads, for callers that cache its results.
+     */
+    default Set<EmployeeField> fields() {
+        if (this instanceof And and) {
+            return union(and.parts());
+        }
+        if (this instanceof Or or) {
+            return union(or.parts());
+        }
+        EmployeeField field;
+        if (this instanceof Department) {
+            field = EmployeeField.DEPARTMENT;
+        } else if (this instanceof NameContains) {
+            field = EmployeeField.NAME;
+        } else if (this instanceof SalaryRange) {
+            field = EmployeeField.SALARY;
+        } else if (this instanceof RatingRange) {
+            field = EmployeeField.PERFORMANCE_RATING;
+        } else if (this instanceof ExperienceRange) {
+            field = EmployeeField.YEARS_OF_EXPERIENCE;
+        } else {
+            field = EmployeeField.ACTIVE;
+        }
+        return EnumSet.of(field);
+    }
+
+    private static Set<EmployeeField> union(List<EmployeeFilter> parts) {
+        Set<EmployeeField> fields = EnumSet.noneOf(EmployeeField.class);
+        for (EmployeeFilter part : parts) {
+            fields.addAll(part.fields());
+        }
+        return fields;
+    }
+
+    default EmployeeFilter and(EmployeeFilter other) {
+        return allOf(this, other);
+    }
+
+    default EmployeeFilter or(EmployeeFilter other) {
+        return anyOf(this, other);
+    }
+
+    static EmployeeFilter department(String department) {
+        return new Department(department);
+    }
+
+    static EmployeeFilter nameContains(String text) {
+        return new NameContains(text);
+    }
+
+    static EmployeeFilter salaryBetween(double min, double max) {
+        return new SalaryRange(min, max);
+    }
+
+    static EmployeeFilter ratingBetween(double min, double max) {
+        return new RatingRange(min, max);
+    }
+
+    static EmployeeFilter ratingAtLeast(double min) {
+        return new RatingRange(min, Double.POSITIVE_INFINITY);
+    }
+
+    static EmployeeFilter experienceBetween(int minYears, int maxYears) {
+        return new ExperienceRange(minYears, maxYears);
+    }
+
+    static EmployeeFilter active(boolean active) {
+        return new Active(active);
+    }
+
+    /**
+     * Matches every employee.
+     */
+    static EmployeeFilter all() {
+        return new And(List.of());
+    }
+
+    /**
+     * Matches employees that satisfy every filter. Nested conjunctions are flattened.
+     */
+    static EmployeeFilter allOf(EmployeeFilter... filters) {
+        List<EmployeeFilter> parts = new ArrayList<>();
+        for (EmployeeFilter filter : filters) {
+            if (filter instanceof And and) {
+                parts.addAll(and.parts());
+            } else {
+                parts.add(filter);
+            }
+        }
+        return parts.size() == 1 ? parts.get(0) : new And(parts);
+    }
+
+    /**
+     * Matches employees that satisfy at least one filter. Nested disjunctions are flattened.
+     */
+    static EmployeeFilter anyOf(EmployeeFilter... filters) {
+        List<EmployeeFilter> parts = new ArrayList<>();
+        for (EmployeeFilter filter : filters) {
+            if (filter instanceof Or or) {
+                parts.addAll(or.parts());
+            } else {
+                parts.add(filter);
+            }
+        }
+        return parts.size() == 1 ? parts.get(0) : new Or(parts);
+    }
+
+    record Department(String department) implements EmployeeFilter {
+        @Override
+        public boolean test(Employee<?> employee) {
+            return department != null && department.equalsIgnoreCase(employee.getDepartment());
+        }
+    }
+
+    record NameContains(String text) implements EmployeeFilter {
+        public NameContains {
+            text = text.toLowerCase(Locale.ROOT);
+        }
+
+        @Override
+        public boolean test(Employee<?> employee) {
+            String name = employee.getName();
+            return name != null && name.toLowerCase(Locale.ROOT).contains(text);
+        }
+    }
+
+    record SalaryRange(double min, double max) implements EmployeeFilter {
+        @Override
+        public boolean test(Employee<?> employee) {
+            double salary = employee.getSalary();
+            return salary >= min && salary <= max;
+        }
+    }
+
+    record RatingRange(double min, double max) implements EmployeeFilter {
+        @Override
+        public boolean test(Employee<?> employee) {
+            double rating = employee.getPerformanceRating();
+            return rating >= min && rating <= max;
+        }
+    }
+
+    record ExperienceRange(int minYears, int maxYears) implements EmployeeFilter {
+        @Override
+        public boolean test(Employee<?> employee) {
+            int years = employee.getYearsOfExperience();
+            return years >= minYears && years <= maxYears;
+        }
+    }
+
+    record Active(boolean active) implements EmployeeFilter {
+        @Override
+        public boolean test(Employee<?> employee) {
+            return employee.isActive() == active;
+        }
+    }
+
+    record And(List<EmployeeFilter> parts) implements EmployeeFilter {
+        public And {
+            parts = List.copyOf(parts);
+        }
+
+        @Override
+        public boolean test(Employee<?> employee) {
+            for (EmployeeFilter part : parts) {
+                if (!part.test(employee)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    record Or(List<EmployeeFilter> parts) implements EmployeeFilter {
+        public Or {
+            parts = List.copyOf(parts);
+        }
+
+        @Override
+        public boolean test(Employee<?> employee) {
+            for (EmployeeFilter part : parts) {
+                if (part.test(employee)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.example.employeemanagementsystem.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Secondary indexes over the employees held by an {@link EmployeeDatabase}.
+ * <p>
+ * Departments are kept in a case-insensitive hash index; salary, performance rating and years of
+ * experience are kept in sorted maps so that range queries only visit matching entries; names are
+ * kept in a {@link NameIndex} for substring and prefix search. Per-department aggregates are kept
+ * in a {@link DepartmentAggregate} alongside the department index. When a field of an indexed
+ * employee changes, the matching {@code ...Changed} method must be called with the old value, so
+ * the employee is moved within that one index instead of being removed from and re-added to all.
+ */
+final class EmployeeIndex<T> {
+    private final Map<String, Map<T, Employee<T>>> byDepartment = new HashMap<>();
+    private final NavigableMap<Double, Map<T, Employee<T>>> bySalary = new TreeMap<>();
+    private final NavigableMap<Double, Map<T, Employee<T>>> byRating = new TreeMap<>();
+    private final NavigableMap<Integer, Map<T, Employee<T>>> byExperience = new TreeMap<>();
+    private final NameIndex<T> byName = new NameIndex<>();
+    private final Map<String, DepartmentAggregate> departmentTotals = new HashMap<>();
+    // One instance of each department spelling, shared by every employee that has it.
+    private final Map<String, String> departmentNames = new HashMap<>();
+
+    /**
+     * Returns the shared instance of the department spelling {@code department}, registering it if
+     * it is new, so a large workforce holds each department name once rather than per employee.
+     * Callers store the returned string in the employee before indexing it.
+     */
+    String sharedDepartment(String department) {
+        String shared = departmentNames.putIfAbsent(department, department);
+        return shared != null ? shared : department;
+    }
+
+    void add(Employee<T> employee) {
+        byName.add(employee);
+        addToDepartment(employee);
+        put(bySalary, normalize(employee.getSalary()), employee);
+        put(byRating, normalize(employee.getPerformanceRating()), employee);
+        put(byExperience, employee.getYearsOfExperience(), employee);
+    }
+
+    void remove(Employee<T> employee) {
+        byName.remove(employee);
+        removeFromDepartment(employee, employee.getDepartment());
+        delete(bySalary, normalize(employee.getSalary()), employee);
+        delete(byRating, normalize(employee.getPerformanceRating()), employee);
+        delete(byExperience, employee.getYearsOfExperience(), employee);
+    }
+
+    List<Employee<T>> department(String department) {
+        if (department == null) {
+            return List.of();
+        }
+        Map<T, Employee<T>> bucket = byDepartment.get(departmentKey(department));
+        return bucket == null ? List.of() : List.copyOf(bucket.values());
+    }
+
+    /**
+     * Moves an employee whose {@code field} changed from {@code oldValue}, for callers that only
+     * know the field at runtime.
+     */
+    void changed(Employee<T> employee, EmployeeField field, Object oldValue) {
+        switch (field) {
+            case NAME -> nameChanged(employee);
+            case DEPARTMENT -> departmentChanged(employee, (String) oldValue);
+            case SALARY -> salaryChanged(employee, (Double) oldValue);
+            case PERFORMANCE_RATING -> ratingChanged(employee, (Double) oldValue);
+            case YEARS_OF_EXPERIENCE -> experienceChanged(employee, (Integer) oldValue);
+            case ACTIVE -> {
+                if (employee.isActive() != (Boolean) oldValue) {
+                    activeChanged(employee);
+                }
+            }
+        }
+    }
+
+    void nameChanged(Employee<T> employee) {
+        // The name index finds the employee by identity and its stored key, not its current name.
+        byName.remove(employee);
+        byName.add(employee);
+    }
+
+    /**
+     * Moves an employee whose department changed from {@code oldDepartment}, touching only the
+     * department index and the totals of both departments. A change of spelling alone moves
+     * nothing.
+     */
+    void departmentChanged(Employee<T> employee, String oldDepartment) {
+        if (departmentKey(oldDepartment).equals(departmentKey(employee.getDepartment()))) {
+            return;
+        }
+        removeFromDepartment(employee, oldDepartment);
+        addToDepartment(employee);
+    }
+
+    /**
+     * Moves an employee whose salary changed from {@code oldSalary}, touching only the salary
+     * index and department totals.
+     */
+    void salaryChanged(Employee<T> employee, double oldSalary) {
+        delete(bySalary, normalize(oldSalary), employee);
+        put(bySalary, normalize(employee.getSalary()), employee);
+        DepartmentAggregate totals = departmentTotals.get(departmentKey(employee.getDepartment()));
+        if (totals != null) {
+            totals.salaryChanged(oldSalary, employee.getSalary());
+        }
+    }
+
+    void ratingChanged(Employee<T> employee, double oldRating) {
+        delete(byRating, normalize(oldRating), employee);
+        put(byRating, normalize(employee.getPerformanceRating()), employee);
+        DepartmentAggregate totals = departmentTotals.get(departmentKey(employee.getDepartment()));
+        if (totals != null) {
+            totals.ratingChanged(oldRating, employee.getPerformanceRating());
+        }
+    }
+
+    void experienceChanged(Employee<T> employee, int oldYears) {
+        delete(byExperience, oldYears, employee);
+        put(byExperience, employee.getYearsOfExperience(), employee);
+    }
+
+    /**
+     * Records that an employee's active flag changed, which only the department totals count.
+     */
+    void activeChanged(Employee<T> employee) {
+        DepartmentAggregate totals = departmentTotals.get(departmentKey(employee.getDepartment()));
+        if (totals != null) {
+            totals.activeChanged(employee.isActive());
+        }
+    }
+
+    DepartmentStats departmentStats(String department) {
+        DepartmentAggregate totals = department == null ? null : departmentTotals.get(departmentKey(department));
+        return totals == null ? DepartmentStats.empty(department) : totals.toStats();
+    }
+
+    Map<String, DepartmentStats> departmentStats() {
+        Map<String, DepartmentStats> result = new LinkedHashMap<>();
+        for (DepartmentAggregate totals : departmentTotals.values()) {
+            DepartmentStats stats = totals.toStats();
+            result.put(stats.department(), stats);
+        }
+        return result;
+    }
+
+    List<Employee<T>> nameContaining(String keyword) {
+        return byName.containing(keyword);
+    }
+
+    List<Employee<T>> nameStartingWith(String prefix) {
+        return byName.startingWith(prefix);
+    }
+
+    List<Employee<T>> salaryBetween(double minSalary, double maxSalary) {
+        if (!(minSalary <= maxSalary)) {
+            return List.of();
+        }
+        return flatten(bySalary.subMap(normalize(minSalary), true, normalize(maxSalary), true).values());
+    }
+
+    List<Employee<T>> ratingAtLeast(double minRating) {
+        if (Double.isNaN(minRating)) {
+            return List.of();
+        }
+        // The upper bound keeps NaN ratings out, matching a plain ">=" comparison.
+        return flatten(byRating.subMap(normalize(minRating), true, Double.POSITIVE_INFINITY, true).values());
+    }
+
+    List<Employee<T>> ratingBetween(double minRating, double maxRating) {
+        if (!(minRating <= maxRating)) {
+            return List.of();
+        }
+        return flatten(byRating.subMap(normalize(minRating), true, normalize(maxRating), true).values());
+    }
+
+    List<Employee<T>> highestSalaries(int limit) {
+        List<Employee<T>> result = new ArrayList<>(Math.max(0, Math.min(limit, 1024)));
+        for (Map<T, Employee<T>> bucket : bySalary.descendingMap().values()) {
+            for (Employee<T> employee : bucket.values()) {
+                if (result.size() >= limit) {
+                    return result;
+                }
+                result.add(employee);
+            }
+        }
+        return result;
+    }
+
+    List<Employee<T>> experienceBetween(int minYears, int maxYears) {
+        if (minYears > maxYears) {
+            return List.of();
+        }
+        return flatten(byExperience.subMap(minYears, true, maxYears, true).values());
+    }
+
+    // Selectivity estimates for the query planner. The range counts stop once they pass
+    // {@code limit}, so a range is never counted further than the best access path found so far.
+
+    int departmentSize(String department) {
+        if (department == null) {
+            return 0;
+        }
+        Map<T, Employee<T>> bucket = byDepartment.get(departmentKey(department));
+        return bucket == null ? 0 : bucket.size();
+    }
+
+    int nameCandidates(String keyword) {
+        return byName.estimate(keyword);
+    }
+
+    int countSalaryBetween(double minSalary, double maxSalary, int limit) {
+        if (!(minSalary <= maxSalary)) {
+            return 0;
+        }
+        return count(bySalary.subMap(normalize(minSalary), true, normalize(maxSalary), true).values(), limit);
+    }
+
+    int countRatingBetween(double minRating, double maxRating, int limit) {
+        if (!(minRating <= maxRating)) {
+            return 0;
+        }
+        return count(byRating.subMap(normalize(minRating), true, normalize(maxRating), true).values(), limit);
+    }
+
+    int countExperienceBetween(int minYears, int maxYears, int limit) {
+        if (minYears > maxYears) {
+            return 0;
+        }
+        return count(byExperience.subMap(minYears, true, maxYears, true).values(), limit);
+    }
+
+    void clear() {
+        byName.clear();
+        byDepartment.clear();
+        departmentTotals.clear();
+        departmentNames.clear();
+        bySalary.clear();
+        byRating.clear();
+        byExperience.clear();
+    }
+
+    private void addToDepartment(Employee<T> employee) {
+        String department = departmentKey(employee.getDepartment());
+        put(byDepartment, department, employee);
+        departmentTotals.computeIfAbsent(department, k -> new DepartmentAggregate(employee.getDepartment())).add(employee);
+    }
+
+    // Uses the employee's other fields, which must be those it was added with.
+    private void removeFromDepartment(Employee<T> employee, String department) {
+        String key = departmentKey(department);
+        delete(byDepartment, key, employee);
+        DepartmentAggregate totals = departmentTotals.get(key);
+        if (totals != null) {
+            totals.remove(employee);
+            if (totals.isEmpty()) {
+                departmentTotals.remove(key);
+                departmentNames.keySet().removeIf(spelling -> departmentKey(spelling).equals(key));
+            }
+        }
+    }
+
+    static String departmentKey(String department) {
+        return department.toLowerCase(Locale.ROOT);
+    }
+
+    // Adding 0.0 folds -0.0 into 0.0 so the TreeMap ordering agrees with numeric comparison.
+    private static double normalize(double value) {
+        return value + 0.0;
+    }
+
+    private <K> void put(Map<K, Map<T, Employee<T>>> index, K key, Employee<T> employee) {
+        index.computeIfAbsent(key, k -> new HashMap<>(4)).put(employee.getEmployeeId(), employee);
+    }
+
+    private <K> void delete(Map<K, Map<T, Employee<T>>> index, K key, Employee<T> employee) {
+        Map<T, Employee<T>> bucket = index.get(key);
+        if (bucket != null && bucket.remove(employee.getEmployeeId()) != null && bucket.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private int count(Collection<Map<T, Employee<T>>> buckets, int limit) {
+        int count = 0;
+        for (Map<T, Employee<T>> bucket : buckets) {
+            count += bucket.size();
+            if (count > limit) {
+                break;
+            }
+        }
+        return count;
+    }
+
+    private List<Employee<T>> flatten(Collection<Map<T, Employee<T>>> buckets) {
+        List<Employee<T>> result = new ArrayList<>();
+        for (Map<T, Employee<T>> bucket : buckets) {
+            result.addAll(bucket.values());
+        }
+        return result;
+    }
+}
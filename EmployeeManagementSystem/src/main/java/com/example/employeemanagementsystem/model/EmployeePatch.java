@@ -0,0 +1,249 @@
+package com.example.employeemanagementsystem.model;
+
+import com.example.employeemanagementsystem.exception.InvalidDepartmentException;
+import com.example.employeemanagementsystem.exception.InvalidSalaryException;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * An immutable set of field changes, validated once when it is built and then applied to any
+ * number of employees without further checks, boxing or field-name lookups.
+ * <pre>{@code
+ * EmployeePatch transfer = EmployeePatch.builder().department("Finance").salary(72000).build();
+ * database.applyPatch(employeeIds, transfer);
+ * }</pre>
+ */
+public final class EmployeePatch {
+    private static final EmployeeField[] FIELDS = EmployeeField.values();
+    private static final int INDEXED_FIELDS = indexedFields();
+
+    private final int fields;
+    private final String name;
+    private final String department;
+    private final double salary;
+    private final double performanceRating;
+    private final int yearsOfExperience;
+    private final boolean active;
+
+    private EmployeePatch(Builder builder) {
+        this.fields = builder.fields;
+        this.name = builder.name;
+        this.department = builder.department;
+        this.salary = builder.salary;
+        this.performanceRating = builder.performanceRating;
+        this.yearsOfExperience = builder.yearsOfExperience;
+        this.active = builder.active;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public boolean contains(EmployeeField field) {
+        return (fields & bit(field)) != 0;
+    }
+
+    public Set<EmployeeField> fields() {
+        EnumSet<EmployeeField> set = EnumSet.noneOf(EmployeeField.class);
+        for (EmployeeField field : FIELDS) {
+            if (contains(field)) {
+                set.add(field);
+            }
+        }
+        return set;
+    }
+
+    public boolean isEmpty() {
+        return fields == 0;
+    }
+
+    /**
+     * Whether applying this patch changes a field that {@link EmployeeDatabase} indexes.
+     */
+    public boolean touchesIndexedField() {
+        return (fields & INDEXED_FIELDS) != 0;
+    }
+
+    /**
+     * The value this patch sets for {@code field}, boxed; for listeners and logging.
+     */
+    public Object value(EmployeeField field) {
+        if (!contains(field)) {
+            throw new IllegalArgumentException("Patch does not change " + field.fieldName());
+        }
+        return switch (field) {
+            case NAME -> name;
+            case DEPARTMENT -> department;
+            case SALARY -> salary;
+            case PERFORMANCE_RATING -> performanceRating;
+            case YEARS_OF_EXPERIENCE -> yearsOfExperience;
+            case ACTIVE -> active;
+        };
+    }
+
+    /**
+     * Writes the patched fields into {@code employee}. Does not maintain any index.
+     */
+    public void applyTo(Employee<?> employee) {
+        if (contains(EmployeeField.NAME)) {
+            employee.setName(name);
+        }
+        if (contains(EmployeeField.DEPARTMENT)) {
+            employee.setDepartment(department);
+        }
+        if (contains(EmployeeField.SALARY)) {
+            employee.setSalary(salary);
+        }
+        if (contains(EmployeeField.PERFORMANCE_RATING)) {
+            employee.setPerformanceRating(performanceRating);
+        }
+        if (contains(EmployeeField.YEARS_OF_EXPERIENCE)) {
+            employee.setYearsOfExperience(yearsOfExperience);
+        }
+        if (contains(EmployeeField.ACTIVE)) {
+            employee.setActive(active);
+        }
+    }
+
+    /**
+     * Writes the patched fields into an indexed {@code employee} one at a time, moving it in
+     * {@code index} after each, so only the indexes of changed fields are touched and a setter that
+     * throws leaves the indexes consistent with the fields written so far.
+     */
+    <T> void applyTo(Employee<T> employee, EmployeeIndex<T> index) {
+        if (contains(EmployeeField.NAME)) {
+            employee.setName(name);
+            index.nameChanged(employee);
+        }
+        if (contains(EmployeeField.DEPARTMENT)) {
+            String oldDepartment = employee.getDepartment();
+            employee.setDepartment(index.sharedDepartment(department));
+            index.departmentChanged(employee, oldDepartment);
+        }
+        if (contains(EmployeeField.SALARY)) {
+            double oldSalary = employee.getSalary();
+            employee.setSalary(salary);
+            index.salaryChanged(employee, oldSalary);
+        }
+        if (contains(EmployeeField.PERFORMANCE_RATING)) {
+            double oldRating = employee.getPerformanceRating();
+            employee.setPerformanceRating(performanceRating);
+            index.ratingChanged(employee, oldRating);
+        }
+        if (contains(EmployeeField.YEARS_OF_EXPERIENCE)) {
+            int oldYears = employee.getYearsOfExperience();
+            employee.setYearsOfExperience(yearsOfExperience);
+            index.experienceChanged(employee, oldYears);
+        }
+        if (contains(EmployeeField.ACTIVE) && employee.isActive() != active) {
+            employee.setActive(active);
+            index.activeChanged(employee);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("EmployeePatch{");
+        for (EmployeeField field : fields()) {
+            if (text.length() > "EmployeePatch{".length()) {
+                text.append(", ");
+            }
+            text.append(field.fieldName()).append('=').append(value(field));
+        }
+        return text.append('}').toString();
+    }
+
+    private static int bit(EmployeeField field) {
+        return 1 << field.ordinal();
+    }
+
+    private static int indexedFields() {
+        int mask = 0;
+        for (EmployeeField field : FIELDS) {
+            if (field.isIndexed()) {
+                mask |= bit(field);
+            }
+        }
+        return mask;
+    }
+
+    public static final class Builder {
+        private int fields;
+        private String name;
+        private String department;
+        private double salary;
+        private double performanceRating;
+        private int yearsOfExperience;
+        private boolean active;
+
+        private Builder() {
+        }
+
+        public Builder name(String name) {
+            this.name = name;
+            fields |= bit(EmployeeField.NAME);
+            return this;
+        }
+
+        public Builder department(String department) {
+            this.department = department;
+            fields |= bit(EmployeeField.DEPARTMENT);
+            return this;
+        }
+
+        public Builder salary(double salary) {
+            this.salary = salary;
+            fields |= bit(EmployeeField.SALARY);
+            return this;
+        }
+
+        public Builder performanceRating(double performanceRating) {
+            this.performanceRating = performanceRating;
+            fields |= bit(EmployeeField.PERFORMANCE_RATING);
+            return this;
+        }
+
+        public Builder yearsOfExperience(int yearsOfExperience) {
+            this.yearsOfExperience = yearsOfExperience;
+            fields |= bit(EmployeeField.YEARS_OF_EXPERIENCE);
+            return this;
+        }
+
+        public Builder active(boolean active) {
+            this.active = active;
+            fields |= bit(EmployeeField.ACTIVE);
+            return this;
+        }
+
+        /**
+         * Sets a field from a boxed value, for callers that only know the field at runtime.
+         */
+        public Builder set(EmployeeField field, Object value) {
+            if (!field.valueType().isInstance(value)) {
+                throw new IllegalArgumentException(field.fieldName() + " must be a " + field.valueType().getSimpleName());
+            }
+            return switch (field) {
+                case NAME -> name((String) value);
+                case DEPARTMENT -> department((String) value);
+                case SALARY -> salary((Double) value);
+                case PERFORMANCE_RATING -> performanceRating((Double) value);
+                case YEARS_OF_EXPERIENCE -> yearsOfExperience((Integer) value);
+                case ACTIVE -> active((Boolean) value);
+            };
+        }
+
+        public EmployeePatch build() throws InvalidDepartmentException, InvalidSalaryException {
+            if ((fields & bit(EmployeeField.SALARY)) != 0) {
+                EmployeeValidator.checkSalary(salary);
+            }
+            if ((fields & bit(EmployeeField.DEPARTMENT)) != 0) {
+                EmployeeValidator.checkDepartment(department);
+            }
+            if ((fields & bit(EmployeeField.PERFORMANCE_RATING)) != 0) {
+                EmployeeValidator.checkRating(performanceRating);
+            }
+            return new EmployeePatch(this);
+        }
+    }
+}
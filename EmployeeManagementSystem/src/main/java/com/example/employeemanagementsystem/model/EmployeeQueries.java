@@ -0,0 +1,78 @@
+package com.example.employeemanagementsystem.model;
+
+import com.example.employeemanagementsystem.exception.EmployeeNotFoundException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Read-only query API shared by every employee storage backend.
+ */
+public interface EmployeeQueries<T> {
+    int size();
+
+    Employee<T> getEmployee(T employeeId) throws EmployeeNotFoundException;
+
+    List<Employee<T>> getAllEmployees();
+
+    List<Employee<T>> searchByDepartment(String department);
+
+    List<Employee<T>> searchByName(String keyword);
+
+    List<Employee<T>> filterByPerformance(double minRating);
+
+    List<Employee<T>> filterBySalaryRange(double minSalary, double maxSalary);
+
+    double getAverageSalaryByDepartment(String department);
+
+    List<Employee<T>> getTopPaidEmployees(int topN);
+
+    /**
+     * Returns the employees matching {@code query}, each at most once. This default evaluates the
+     * query over every employee; indexed backends narrow the candidates first.
+     */
+    default List<Employee<T>> query(EmployeeQuery<T> query) {
+        return query.apply(getAllEmployees());
+    }
+
+    /**
+     * Returns the first {@code topN} employees in the given order, best first, without sorting the
+     * whole dataset.
+     */
+    default List<Employee<T>> getTopEmployees(int topN, Comparator<? super Employee<T>> order) {
+        return TopK.select(getAllEmployees(), topN, order);
+    }
+
+    /**
+     * Returns headcount, salary and rating aggregates for every department, keyed by department
+     * name. This default scans every employee; backends that maintain the aggregates override it.
+     */
+    default Map<String, DepartmentStats> departmentStats() {
+        Map<String, DepartmentAggregate> totals = new HashMap<>();
+        for (Employee<T> employee : getAllEmployees()) {
+            totals.computeIfAbsent(employee.getDepartment().toLowerCase(Locale.ROOT),
+                    k -> new DepartmentAggregate(employee.getDepartment())).add(employee);
+        }
+        Map<String, DepartmentStats> result = new LinkedHashMap<>();
+        for (DepartmentAggregate aggregate : totals.values()) {
+            DepartmentStats stats = aggregate.toStats();
+            result.put(stats.department(), stats);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the aggregates for one department, matched ignoring case, or
+     * {@link DepartmentStats#empty} if it has no employees.
+     */
+    default DepartmentStats departmentStats(String department) {
+        DepartmentAggregate totals = new DepartmentAggregate(department);
+        for (Employee<T> employee : searchByDepartment(department)) {
+            totals.add(employee);
+        }
+        return totals.toStats();
+    }
+}
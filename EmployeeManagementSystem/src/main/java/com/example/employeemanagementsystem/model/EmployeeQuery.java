@@ -0,0 +1,177 @@
+package com.example.employeemanagementsystem.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable query: which employees to return, in what order and how many.
+ * <pre>{@code
+ * EmployeeQuery<Long> query = EmployeeQuery.<Long>builder()
+ *         .where(EmployeeFilter.department("Engineering").and(EmployeeFilter.active(true)))
+ *         .orderBy(new EmployeeSalaryComparator<>())
+ *         .limit(10)
+ *         .build();
+ * List<Employee<Long>> result = database.query(query);
+ * }</pre>
+ * Every employee appears at most once in the result. Without an order, results come in the order
+ * of whatever index or scan produced them.
+ */
+public final class EmployeeQuery<T> {
+    private final EmployeeFilter filter;
+    private final Comparator<? super Employee<T>> order;
+    private final int limit;
+
+    private EmployeeQuery(Builder<T> builder) {
+        this.filter = builder.filter;
+        this.order = builder.order;
+        this.limit = builder.limit;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public EmployeeFilter filter() {
+        return filter;
+    }
+
+    /**
+     * The requested order, or {@code null} if the order does not matter.
+     */
+    public Comparator<? super Employee<T>> order() {
+        return order;
+    }
+
+    /**
+     * The maximum number of results, {@link Integer#MAX_VALUE} if there is none.
+     */
+    public int limit() {
+        return limit;
+    }
+
+    /**
+     * Evaluates the query over {@code candidates} in one pass: tests the filter, then sorts, then
+     * cuts to the limit. With an order and a limit only the best {@code limit} matches are kept;
+     * without an order the pass stops at the limit. {@code candidates} must not repeat employees.
+     */
+    public List<Employee<T>> apply(Iterable<Employee<T>> candidates) {
+        if (order == null) {
+            List<Employee<T>> result = new ArrayList<>();
+            if (limit == 0) {
+                return result;
+            }
+            for (Employee<T> employee : candidates) {
+                if (filter.test(employee)) {
+                    result.add(employee);
+                    if (result.size() == limit) {
+                        break;
+                    }
+                }
+            }
+            return result;
+        }
+        if (limit != Integer.MAX_VALUE) {
+            Iterable<Employee<T>> matches = () -> new FilteringIterator<>(candidates.iterator(), filter);
+            return TopK.select(matches, limit, order);
+        }
+        List<Employee<T>> result = new ArrayList<>();
+        for (Employee<T> employee : candidates) {
+            if (filter.test(employee)) {
+                result.add(employee);
+            }
+        }
+        result.sort(order);
+        return result;
+    }
+
+    /**
+     * Queries are equal when their filters, limits and comparators are; comparators are usually
+     * only equal to themselves, so reuse the same instance for queries that should match.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof EmployeeQuery<?> query && filter.equals(query.filter)
+                && Objects.equals(order, query.order) && limit == query.limit;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(filter, order, limit);
+    }
+
+    @Override
+    public String toString() {
+        return "EmployeeQuery[filter=" + filter + ", ordered=" + (order != null)
+                + (limit == Integer.MAX_VALUE ? "" : ", limit=" + limit) + "]";
+    }
+
+    public static final class Builder<T> {
+        private EmployeeFilter filter = EmployeeFilter.all();
+        private Comparator<? super Employee<T>> order;
+        private int limit = Integer.MAX_VALUE;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a condition; conditions from repeated calls must all hold.
+         */
+        public Builder<T> where(EmployeeFilter condition) {
+            filter = EmployeeFilter.allOf(filter, Objects.requireNonNull(condition));
+            return this;
+        }
+
+        public Builder<T> orderBy(Comparator<? super Employee<T>> order) {
+            this.order = Objects.requireNonNull(order);
+            return this;
+        }
+
+        public Builder<T> limit(int limit) {
+            if (limit < 0) {
+                throw new IllegalArgumentException("Limit must not be negative: " + limit);
+            }
+            this.limit = limit;
+            return this;
+        }
+
+        public EmployeeQuery<T> build() {
+            return new EmployeeQuery<>(this);
+        }
+    }
+
+    private static final class FilteringIterator<E extends Employee<?>> implements Iterator<E> {
+        private final Iterator<E> source;
+        private final EmployeeFilter filter;
+        private E next;
+
+        FilteringIterator(Iterator<E> source, EmployeeFilter filter) {
+            this.source = source;
+            this.filter = filter;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && source.hasNext()) {
+                E candidate = source.next();
+                if (filter.test(candidate)) {
+                    next = candidate;
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            E result = next;
+            next = null;
+            return result;
+        }
+    }
+}
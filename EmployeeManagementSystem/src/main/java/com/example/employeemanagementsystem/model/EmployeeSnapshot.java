@@ -0,0 +1,122 @@
+package com.example.employeemanagementsystem.model;
+
+import com.example.employeemanagementsystem.exception.EmployeeNotFoundException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * An immutable, point-in-time view of an {@link EmployeeDatabase}, from
+ * {@link EmployeeDatabase#snapshot()}. Later changes to the database do not show up here, and the
+ * employees it returns are read-only copies, so a snapshot can be scanned, filtered and reported on
+ * from any thread without locks while writers carry on.
+ * <p>
+ * A snapshot has no secondary indexes: searches and filters scan every employee. Use it for
+ * reports and exports that need a consistent view, and the database for interactive lookups.
+ */
+public final class EmployeeSnapshot<T> implements EmployeeQueries<T>, Iterable<Employee<T>> {
+    private final PersistentEmployeeMap<T> employees;
+
+    EmployeeSnapshot(PersistentEmployeeMap<T> employees) {
+        this.employees = employees;
+    }
+
+    @Override
+    public int size() {
+        return employees.size();
+    }
+
+    public boolean containsEmployee(T employeeId) {
+        return employees.get(employeeId) != null;
+    }
+
+    @Override
+    public Employee<T> getEmployee(T employeeId) throws EmployeeNotFoundException {
+        Employee<T> employee = employees.get(employeeId);
+        if (employee == null) {
+            throw new EmployeeNotFoundException("Employee with ID " + employeeId + " is not found!");
+        }
+        return employee;
+    }
+
+    /**
+     * Iterates over every employee, in no particular order.
+     */
+    @Override
+    public Iterator<Employee<T>> iterator() {
+        return employees.iterator();
+    }
+
+    @Override
+    public List<Employee<T>> getAllEmployees() {
+        List<Employee<T>> result = new ArrayList<>(employees.size());
+        for (Employee<T> employee : employees) {
+            result.add(employee);
+        }
+        return result;
+    }
+
+    @Override
+    public List<Employee<T>> searchByDepartment(String department) {
+        return select(EmployeeFilter.department(department));
+    }
+
+    @Override
+    public List<Employee<T>> searchByName(String keyword) {
+        return select(EmployeeFilter.nameContains(keyword));
+    }
+
+    @Override
+    public List<Employee<T>> filterByPerformance(double minRating) {
+        return select(EmployeeFilter.ratingAtLeast(minRating));
+    }
+
+    @Override
+    public List<Employee<T>> filterBySalaryRange(double minSalary, double maxSalary) {
+        return select(EmployeeFilter.salaryBetween(minSalary, maxSalary));
+    }
+
+    @Override
+    public double getAverageSalaryByDepartment(String department) {
+        return departmentStats(department).averageSalary();
+    }
+
+    @Override
+    public DepartmentStats departmentStats(String department) {
+        DepartmentAggregate totals = new DepartmentAggregate(department);
+        EmployeeFilter inDepartment = EmployeeFilter.department(department);
+        for (Employee<T> employee : employees) {
+            if (inDepartment.test(employee)) {
+                totals.add(employee);
+            }
+        }
+        return totals.toStats();
+    }
+
+    @Override
+    public List<Employee<T>> getTopPaidEmployees(int topN) {
+        return getTopEmployees(topN, new EmployeeSalaryComparator<>());
+    }
+
+    @Override
+    public List<Employee<T>> getTopEmployees(int topN, Comparator<? super Employee<T>> order) {
+        return TopK.select(employees, topN, order);
+    }
+
+    @Override
+    public List<Employee<T>> query(EmployeeQuery<T> query) {
+        return query.apply(employees);
+    }
+
+    private List<Employee<T>> select(EmployeeFilter filter) {
+        List<Employee<T>> result = new ArrayList<>();
+        for (Employee<T> employee : employees) {
+            if (filter.test(employee)) {
+                result.add(employee);
+            }
+        }
+        return result;
+    }
+}
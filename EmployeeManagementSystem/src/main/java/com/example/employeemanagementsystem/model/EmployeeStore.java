@@ -0,0 +1,20 @@
+package com.example.employeemanagementsystem.model;
+
+import com.example.employeemanagementsystem.exception.EmployeeNotFoundException;
+import com.example.employeemanagementsystem.exception.InvalidDepartmentException;
+import com.example.employeemanagementsystem.exception.InvalidSalaryException;
+
+/**
+ * A mutable employee storage backend. {@link EmployeeDatabase} is the default implementation;
+ * other backends trade flexibility for concurrency or scan speed behind the same API.
+ */
+public interface EmployeeStore<T> extends EmployeeQueries<T> {
+    void addEmployee(Employee<T> employee) throws InvalidDepartmentException, InvalidSalaryException;
+
+    void removeEmployee(T employeeId) throws EmployeeNotFoundException;
+
+    void updateEmployeeDetails(T employeeId, String field, Object newValue)
+            throws EmployeeNotFoundException, InvalidDepartmentException, InvalidSalaryException;
+
+    void giveRaiseToHighPerformers(double minRating, double raisePercent);
+}
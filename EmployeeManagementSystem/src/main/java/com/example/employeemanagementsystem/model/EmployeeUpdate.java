@@ -0,0 +1,12 @@
+package com.example.employeemanagementsystem.model;
+
+/**
+ * One field change requested in a batch passed to {@link EmployeeDatabase#updateAll}. Value types
+ * are the same as for {@link EmployeeDatabase#updateEmployeeDetails}.
+ */
+public record EmployeeUpdate<T>(T employeeId, EmployeeField field, Object newValue) {
+
+    public EmployeeUpdate(T employeeId, String field, Object newValue) {
+        this(employeeId, EmployeeField.fromName(field), newValue);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.employeemanagementsystem.model;
+
+import com.example.employeemanagementsystem.exception.InvalidDepartmentException;
+import com.example.employeemanagementsystem.exception.InvalidSalaryException;
+
+/**
+ * The rules an employee must satisfy before it is stored, shared by the single-row and bulk paths.
+ */
+public final class EmployeeValidator {
+    private EmployeeValidator() {
+    }
+
+    public static void validate(Employee<?> employee) throws InvalidSalaryException, InvalidDepartmentException {
+        checkSalary(employee.getSalary());
+        checkDepartment(employee.getDepartment());
+        checkRating(employee.getPerformanceRating());
+    }
+
+    public static void checkSalary(double salary) throws InvalidSalaryException {
+        // NaN passes a "< 0" check and would poison every salary sum it is added to.
+        if (!Double.isFinite(salary)) {
+            throw new InvalidSalaryException("Salary must be a finite number!");
+        }
+        if (salary < 0) {
+            throw new InvalidSalaryException("Salary cannot be negative!");
+        }
+    }
+
+    /**
+     * Rejects a rating that would make its department's average rating NaN for good. Unchecked, like
+     * the other argument errors of the update methods, so existing signatures are unchanged.
+     */
+    public static void checkRating(double performanceRating) {
+        if (!Double.isFinite(performanceRating)) {
+            throw new IllegalArgumentException("Performance rating must be a finite number!");
+        }
+    }
+
+    /**
+     * Returns the salary after a raise of {@code raisePercent}, or throws if it would not be a valid
+     * salary, so callers can check a whole raise before applying any of it.
+     */
+    public static double raisedSalary(double salary, double raisePercent) throws InvalidSalaryException {
+        double raised = salary + salary * (raisePercent / 100);
+        checkSalary(raised);
+        return raised;
+    }
+
+    public static void checkDepartment(String department) throws InvalidDepartmentException {
+        if (department == null || department.isBlank()) {
+            throw new InvalidDepartmentException("Department cannot be empty");
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.employeemanagementsystem.model;
+
+/**
+ * A field change that has been applied, as reported to
+ * {@link EmployeeChangeListener#employeesUpdated}.
+ */
+public record FieldChange<T>(Employee<T> employee, EmployeeField field, Object oldValue, Object newValue) {
+}
@@ -0,0 +1,56 @@
+package com.example.employeemanagementsystem.model;
+
+/**
+ * A read-only copy of an employee, as handed out by {@link EmployeeDatabase} and held by
+ * {@link EmployeeSnapshot} and {@link ConcurrentEmployeeDatabase}. The setters throw, so none of
+ * them can be changed through the employees it hands out.
+ */
+final class FrozenEmployee<T> extends Employee<T> {
+
+    FrozenEmployee(Employee<T> employee) {
+        super(employee);
+    }
+
+    static <T> Employee<T> of(Employee<T> employee) {
+        return employee instanceof FrozenEmployee<T> ? employee : new FrozenEmployee<>(employee);
+    }
+
+    @Override
+    public void setEmployeeId(T employeeId) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setName(String name) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setDepartment(String department) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setSalary(double salary) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setPerformanceRating(double performanceRating) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setYearsOfExperience(int yearsOfExperience) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setActive(boolean active) {
+        throw readOnly();
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("This employee is a read-only copy");
+    }
+}
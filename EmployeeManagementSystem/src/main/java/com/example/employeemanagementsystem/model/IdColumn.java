@@ -0,0 +1,102 @@
+package com.example.employeemanagementsystem.model;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Employee IDs for {@link ColumnarEmployeeStore}, one per row. While every ID is a {@link Long} or
+ * every ID is an {@link Integer}, they are kept unboxed in a {@code long[]} and only boxed when read
+ * back; the first ID of another type moves the column to an {@code Object[]} for good.
+ */
+final class IdColumn {
+    private static final byte EMPTY = 0;
+    private static final byte LONG = 1;
+    private static final byte INTEGER = 2;
+    private static final byte OBJECT = 3;
+
+    private byte kind = EMPTY;
+    private long[] numbers;
+    private Object[] objects;
+
+    IdColumn(int capacity) {
+        numbers = new long[capacity];
+    }
+
+    Object get(int row) {
+        return switch (kind) {
+            case LONG -> numbers[row];
+            case INTEGER -> (int) numbers[row];
+            case OBJECT -> objects[row];
+            default -> null;
+        };
+    }
+
+    void set(int row, Object id) {
+        Objects.requireNonNull(id, "Employee ID");
+        byte idKind = id instanceof Long ? LONG : id instanceof Integer ? INTEGER : OBJECT;
+        if (kind == EMPTY) {
+            kind = idKind;
+            if (kind == OBJECT) {
+                objects = new Object[numbers.length];
+                numbers = null;
+            }
+        } else if (kind != idKind && kind != OBJECT) {
+            box();
+        }
+        if (kind == OBJECT) {
+            objects[row] = id;
+        } else {
+            numbers[row] = ((Number) id).longValue();
+        }
+    }
+
+    boolean matches(int row, Object id) {
+        return switch (kind) {
+            case LONG -> id instanceof Long value && numbers[row] == value;
+            case INTEGER -> id instanceof Integer value && numbers[row] == value;
+            case OBJECT -> objects[row].equals(id);
+            default -> false;
+        };
+    }
+
+    // Same value as get(row).hashCode(), without boxing.
+    int hashCode(int row) {
+        return switch (kind) {
+            case LONG -> Long.hashCode(numbers[row]);
+            case INTEGER -> (int) numbers[row];
+            case OBJECT -> objects[row].hashCode();
+            default -> 0;
+        };
+    }
+
+    void move(int from, int to) {
+        if (kind == OBJECT) {
+            objects[to] = objects[from];
+        } else {
+            numbers[to] = numbers[from];
+        }
+    }
+
+    void clear(int row) {
+        if (kind == OBJECT) {
+            objects[row] = null;
+        }
+    }
+
+    void resize(int capacity) {
+        if (kind == OBJECT) {
+            objects = Arrays.copyOf(objects, capacity);
+        } else {
+            numbers = Arrays.copyOf(numbers, capacity);
+        }
+    }
+
+    private void box() {
+        objects = new Object[numbers.length];
+        for (int row = 0; row < numbers.length; row++) {
+            objects[row] = get(row);
+        }
+        numbers = null;
+        kind = OBJECT;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.employeemanagementsystem.model;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.employeemanagementsystem.exception.EmployeeNotFoundException;
+import com.example.employeemanagementsystem.metrics.EmployeeMetrics;
+import com.example.employeemanagementsystem.metrics.Operation;
+
+/**
+ * {@link EmployeeDatabase} for {@code long} employee IDs. Employees are kept in an open-addressing
+ * map with primitive keys instead of a {@code HashMap}, which saves the entry object per employee
+ * and the dereference of a boxed key on every probe. The {@code long} overloads below look
+ * employees up without boxing the ID at all.
+ */
+public class LongEmployeeDatabase extends EmployeeDatabase<Long> {
+    private static final Logger logger = LoggerFactory.getLogger(LongEmployeeDatabase.class);
+
+    private final LongEmployeeMap employees;
+
+    public LongEmployeeDatabase() {
+        this(new LongEmployeeMap());
+    }
+
+    private LongEmployeeDatabase(LongEmployeeMap employees) {
+        super(employees);
+        this.employees = employees;
+    }
+
+    public Employee<Long> getEmployee(long employeeId) throws EmployeeNotFoundException {
+        EmployeeMetrics metrics = getMetrics();
+        long started = metrics.start(Operation.GET);
+        Employee<Long> employee = employees.get(employeeId);
+        if (employee == null) {
+            logger.error("Failed to retrieve employee: ID {} not found", employeeId);
+            metrics.failed(Operation.GET);
+            throw new EmployeeNotFoundException("Employee with ID " + employeeId + " is not found!");
+        }
+        metrics.record(Operation.GET, started, 1);
+        return new FrozenEmployee<>(employee);
+    }
+
+    public boolean containsEmployee(long employeeId) {
+        return employees.get(employeeId) != null;
+    }
+
+    public void removeEmployee(long employeeId) throws EmployeeNotFoundException {
+        EmployeeMetrics metrics = getMetrics();
+        long started = metrics.start(Operation.REMOVE);
+        Employee<Long> employee = employees.remove(employeeId);
+        if (employee == null) {
+            logger.error("Failed to remove employee: ID {} not found", employeeId);
+            metrics.failed(Operation.REMOVE);
+            throw new EmployeeNotFoundException("Employee ID not found!");
+        }
+        removed(employee, metrics, started);
+    }
+}
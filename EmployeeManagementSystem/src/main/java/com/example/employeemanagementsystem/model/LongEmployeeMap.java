@@ -0,0 +1,58 @@
+package com.example.employeemanagementsystem.model;
+
+import java.util.Map;
+
+/**
+ * Open-addressing map from primitive {@code long} IDs to employees.
+ * <p>
+ * Keys are stored one per slot in a {@code long} array, as laid out by
+ * {@link OpenAddressingEmployeeMap}, and the {@code long} methods never box. The {@link Map}
+ * methods unbox their keys and serve the generic code in {@link EmployeeDatabase}.
+ */
+final class LongEmployeeMap extends OpenAddressingEmployeeMap<Long> {
+
+    LongEmployeeMap() {
+        super(1);
+    }
+
+    Employee<Long> get(long key) {
+        return find(key, 0L);
+    }
+
+    boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    Employee<Long> put(long key, Employee<Long> employee) {
+        return store(key, 0L, employee);
+    }
+
+    Employee<Long> remove(long key) {
+        return delete(key, 0L);
+    }
+
+    @Override
+    public Employee<Long> get(Object key) {
+        return key instanceof Long id ? get(id.longValue()) : null;
+    }
+
+    @Override
+    public Employee<Long> put(Long key, Employee<Long> employee) {
+        return put(key.longValue(), employee);
+    }
+
+    @Override
+    public Employee<Long> remove(Object key) {
+        return key instanceof Long id ? remove(id.longValue()) : null;
+    }
+
+    @Override
+    long spread(long first, long second) {
+        return first;
+    }
+
+    @Override
+    Long key(long first, long second) {
+        return first;
+    }
+}
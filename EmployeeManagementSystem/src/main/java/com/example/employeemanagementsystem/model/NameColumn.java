@@ -0,0 +1,234 @@
+package com.example.employeemanagementsystem.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Employee names for {@link ColumnarEmployeeStore}, packed into one shared byte arena instead of a
+ * {@code String} and its backing array per row. Each name is a varint header, the length shifted
+ * left by one with the low bit set for UTF-16, followed by the characters: one byte each when every
+ * character is Latin-1, as is usual, and two bytes each otherwise. A row keeps only the offset of
+ * its record.
+ * <p>
+ * Replaced and removed names leave garbage behind; the arena is compacted instead of grown once
+ * the garbage is at least half of it.
+ */
+final class NameColumn {
+    private static final int NULL = -1;
+
+    private int[] offsets;
+    private byte[] arena = new byte[64];
+    private int used;
+    private int garbage;
+
+    NameColumn(int capacity) {
+        offsets = new int[capacity];
+        Arrays.fill(offsets, NULL);
+    }
+
+    /**
+     * Stores {@code name} for {@code row}; {@code rows} is the number of rows in use, all of which
+     * are kept if the arena is compacted.
+     */
+    void set(int row, String name, int rows) {
+        release(row, rows);
+        if (name == null) {
+            offsets[row] = NULL;
+            return;
+        }
+        int length = name.length();
+        boolean latin1 = isLatin1(name);
+        int header = length << 1 | (latin1 ? 0 : 1);
+        int recordLength = varintSize(header) + (latin1 ? length : 2 * length);
+        reserve(recordLength, rows);
+        offsets[row] = used;
+        int position = writeVarint(header, used);
+        if (latin1) {
+            for (int i = 0; i < length; i++) {
+                arena[position + i] = (byte) name.charAt(i);
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                char c = name.charAt(i);
+                arena[position + 2 * i] = (byte) (c >>> 8);
+                arena[position + 2 * i + 1] = (byte) c;
+            }
+        }
+        used += recordLength;
+    }
+
+    String get(int row) {
+        int offset = offsets[row];
+        if (offset == NULL) {
+            return null;
+        }
+        int header = readVarint(offset);
+        int position = offset + varintSize(header);
+        int length = header >>> 1;
+        if ((header & 1) == 0) {
+            return new String(arena, position, length, StandardCharsets.ISO_8859_1);
+        }
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = charAt(position, true, i);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Whether the name of {@code row} contains {@code keyword}, ignoring case as
+     * {@link String#regionMatches(boolean, int, String, int, int)} does, without decoding it.
+     */
+    boolean containsIgnoreCase(int row, String keyword) {
+        int offset = offsets[row];
+        if (offset == NULL) {
+            return false;
+        }
+        int header = readVarint(offset);
+        int position = offset + varintSize(header);
+        boolean wide = (header & 1) != 0;
+        int keywordLength = keyword.length();
+        for (int start = 0, last = (header >>> 1) - keywordLength; start <= last; start++) {
+            int i = 0;
+            while (i < keywordLength && equalsIgnoreCase(charAt(position, wide, start + i), keyword.charAt(i))) {
+                i++;
+            }
+            if (i == keywordLength) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Copies the name reference of {@code from} to {@code to}; the record itself stays put.
+     */
+    void move(int from, int to) {
+        offsets[to] = offsets[from];
+        offsets[from] = NULL;
+    }
+
+    /**
+     * Marks the name of {@code row} as garbage.
+     */
+    void release(int row, int rows) {
+        if (row < rows && offsets[row] != NULL) {
+            garbage += recordLength(offsets[row]);
+            offsets[row] = NULL;
+        }
+    }
+
+    void resize(int capacity) {
+        int previous = offsets.length;
+        offsets = Arrays.copyOf(offsets, capacity);
+        if (capacity > previous) {
+            Arrays.fill(offsets, previous, capacity, NULL);
+        }
+    }
+
+    /**
+     * Drops the garbage and unused space so the arena holds exactly the live names.
+     */
+    void trimToSize(int rows) {
+        compact(rows, 0);
+    }
+
+    private void reserve(int recordLength, int rows) {
+        if (used + recordLength <= arena.length) {
+            return;
+        }
+        if (garbage >= used / 2) {
+            compact(rows, recordLength);
+            if (used + recordLength <= arena.length) {
+                return;
+            }
+        }
+        long capacity = Math.max((long) used + recordLength, (long) arena.length * 2);
+        if (capacity > Integer.MAX_VALUE - 8) {
+            capacity = (long) used + recordLength;
+            if (capacity > Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException("Name column is full");
+            }
+        }
+        arena = Arrays.copyOf(arena, (int) capacity);
+    }
+
+    private void compact(int rows, int headroom) {
+        byte[] compacted = new byte[used - garbage + headroom];
+        int position = 0;
+        for (int row = 0; row < rows; row++) {
+            int offset = offsets[row];
+            if (offset != NULL) {
+                int length = recordLength(offset);
+                System.arraycopy(arena, offset, compacted, position, length);
+                offsets[row] = position;
+                position += length;
+            }
+        }
+        arena = compacted;
+        used = position;
+        garbage = 0;
+    }
+
+    private int recordLength(int offset) {
+        int header = readVarint(offset);
+        int length = header >>> 1;
+        return varintSize(header) + ((header & 1) == 0 ? length : 2 * length);
+    }
+
+    private char charAt(int position, boolean wide, int index) {
+        if (!wide) {
+            return (char) (arena[position + index] & 0xFF);
+        }
+        int at = position + 2 * index;
+        return (char) ((arena[at] & 0xFF) << 8 | (arena[at + 1] & 0xFF));
+    }
+
+    private int writeVarint(int value, int position) {
+        while ((value & ~0x7F) != 0) {
+            arena[position++] = (byte) (value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        arena[position++] = (byte) value;
+        return position;
+    }
+
+    private int readVarint(int position) {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = arena[position++];
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+
+    private static int varintSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    private static boolean isLatin1(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) > 0xFF) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // The per-character rule of String.regionMatches with ignoreCase.
+    private static boolean equalsIgnoreCase(char a, char b) {
+        if (a == b) {
+            return true;
+        }
+        char upperA = Character.toUpperCase(a);
+        char upperB = Character.toUpperCase(b);
+        return upperA == upperB || Character.toLowerCase(upperA) == Character.toLowerCase(upperB);
+    }
+}
@@ -0,0 +1,262 @@
+package com.example.employeemanagementsystem.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Case-insensitive substring and prefix index over employee names.
+ * <p>
+ * Every indexed employee gets a slot holding its lower-cased name. Substring queries of three or
+ * more characters look up the posting list (the sorted slots whose name contains a trigram) of each
+ * trigram in the query, intersect the lists starting from the shortest, and check the survivors
+ * against the stored name to drop false positives. Prefix queries use the same candidates and check
+ * them with {@code startsWith}. Queries shorter than a trigram scan the stored names, which still
+ * avoids lower-casing every name per query.
+ * <p>
+ * Like {@link EmployeeIndex}, an employee must be removed before its name changes and added back
+ * afterwards. Employees without a name are not indexed.
+ */
+final class NameIndex<T> {
+    private final Map<Employee<T>, Integer> slots = new IdentityHashMap<>();
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private Employee<T>[] employees = newArray(16);
+    private String[] keys = new String[16];
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private int slotCount;
+
+    void add(Employee<T> employee) {
+        String name = employee.getName();
+        if (name == null) {
+            return;
+        }
+        String key = key(name);
+        int slot = allocateSlot();
+        employees[slot] = employee;
+        keys[slot] = key;
+        slots.put(employee, slot);
+        for (int i = 0; i + 3 <= key.length(); i++) {
+            long trigram = trigram(key, i);
+            postings.computeIfAbsent(trigram, t -> new Postings()).add(slot);
+        }
+    }
+
+    void remove(Employee<T> employee) {
+        Integer slot = slots.remove(employee);
+        if (slot == null) {
+            return;
+        }
+        String key = keys[slot];
+        for (int i = 0; i + 3 <= key.length(); i++) {
+            long trigram = trigram(key, i);
+            Postings list = postings.get(trigram);
+            if (list != null && list.remove(slot) && list.size == 0) {
+                postings.remove(trigram);
+            }
+        }
+        employees[slot] = null;
+        keys[slot] = null;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    List<Employee<T>> containing(String query) {
+        String needle = key(query);
+        if (needle.length() < 3) {
+            return scan(needle, false);
+        }
+        int[] candidates = candidates(needle);
+        List<Employee<T>> result = new ArrayList<>(candidates.length);
+        for (int slot : candidates) {
+            if (keys[slot].contains(needle)) {
+                result.add(employees[slot]);
+            }
+        }
+        return result;
+    }
+
+    List<Employee<T>> startingWith(String prefix) {
+        String needle = key(prefix);
+        if (needle.length() < 3) {
+            return scan(needle, true);
+        }
+        int[] candidates = candidates(needle);
+        List<Employee<T>> result = new ArrayList<>(candidates.length);
+        for (int slot : candidates) {
+            if (keys[slot].startsWith(needle)) {
+                result.add(employees[slot]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Upper bound on the number of employees {@link #containing} would check for {@code query}:
+     * the shortest posting list among its trigrams, or every indexed name for short queries.
+     */
+    int estimate(String query) {
+        String needle = key(query);
+        if (needle.length() < 3) {
+            return slots.size();
+        }
+        int shortest = Integer.MAX_VALUE;
+        for (int i = 0; i + 3 <= needle.length(); i++) {
+            Postings list = postings.get(trigram(needle, i));
+            if (list == null) {
+                return 0;
+            }
+            shortest = Math.min(shortest, list.size);
+        }
+        return shortest;
+    }
+
+    void clear() {
+        slots.clear();
+        postings.clear();
+        Arrays.fill(employees, 0, slotCount, null);
+        Arrays.fill(keys, 0, slotCount, null);
+        freeCount = 0;
+        slotCount = 0;
+    }
+
+    private List<Employee<T>> scan(String needle, boolean prefix) {
+        List<Employee<T>> result = new ArrayList<>();
+        for (int slot = 0; slot < slotCount; slot++) {
+            String key = keys[slot];
+            if (key != null && (prefix ? key.startsWith(needle) : key.contains(needle))) {
+                result.add(employees[slot]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the slots whose names contain every trigram of {@code needle}. Lists are intersected
+     * from the shortest up; each step either merges or binary-searches, whichever touches fewer
+     * entries.
+     */
+    private int[] candidates(String needle) {
+        int gramCount = needle.length() - 2;
+        Postings[] lists = new Postings[gramCount];
+        for (int i = 0; i < gramCount; i++) {
+            Postings list = postings.get(trigram(needle, i));
+            if (list == null) {
+                return new int[0];
+            }
+            lists[i] = list;
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+
+        int[] survivors = Arrays.copyOf(lists[0].slots, lists[0].size);
+        int survivorCount = survivors.length;
+        for (int i = 1; i < lists.length && survivorCount > 0; i++) {
+            survivorCount = retainAll(survivors, survivorCount, lists[i].slots, lists[i].size);
+        }
+        return survivorCount == survivors.length ? survivors : Arrays.copyOf(survivors, survivorCount);
+    }
+
+    /**
+     * Keeps the first {@code count} entries of {@code survivors} that also occur in the sorted
+     * {@code slots}, compacting them in place, and returns how many were kept.
+     */
+    private static int retainAll(int[] survivors, int count, int[] slots, int size) {
+        int kept = 0;
+        if ((long) count * (32 - Integer.numberOfLeadingZeros(size)) < count + size) {
+            int from = 0;
+            for (int s = 0; s < count && from < size; s++) {
+                int found = Arrays.binarySearch(slots, from, size, survivors[s]);
+                if (found >= 0) {
+                    survivors[kept++] = survivors[s];
+                    from = found + 1;
+                } else {
+                    from = -found - 1;
+                }
+            }
+        } else {
+            int p = 0;
+            for (int s = 0; s < count && p < size; s++) {
+                int slot = survivors[s];
+                while (p < size && slots[p] < slot) {
+                    p++;
+                }
+                if (p < size && slots[p] == slot) {
+                    survivors[kept++] = slot;
+                    p++;
+                }
+            }
+        }
+        return kept;
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (slotCount == keys.length) {
+            employees = Arrays.copyOf(employees, slotCount * 2);
+            keys = Arrays.copyOf(keys, slotCount * 2);
+        }
+        return slotCount++;
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static long trigram(String key, int offset) {
+        return ((long) key.charAt(offset) << 32) | ((long) key.charAt(offset + 1) << 16) | key.charAt(offset + 2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Employee<T>[] newArray(int length) {
+        return (Employee<T>[]) new Employee<?>[length];
+    }
+
+    /**
+     * Sorted, duplicate-free list of slots. Fresh slots are larger than every existing one, so the
+     * common case appends; reused slots are inserted in place.
+     */
+    private static final class Postings {
+        int[] slots = new int[4];
+        int size;
+
+        void add(int slot) {
+            if (size > 0 && slots[size - 1] >= slot) {
+                int position = Arrays.binarySearch(slots, 0, size, slot);
+                if (position >= 0) {
+                    // The same trigram occurs more than once in the name.
+                    return;
+                }
+                insertAt(-position - 1, slot);
+                return;
+            }
+            insertAt(size, slot);
+        }
+
+        boolean remove(int slot) {
+            int position = Arrays.binarySearch(slots, 0, size, slot);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(slots, position + 1, slots, position, size - position - 1);
+            size--;
+            return true;
+        }
+
+        private void insertAt(int position, int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            System.arraycopy(slots, position, slots, position + 1, size - position);
+            slots[position] = slot;
+            size++;
+        }
+    }
+}
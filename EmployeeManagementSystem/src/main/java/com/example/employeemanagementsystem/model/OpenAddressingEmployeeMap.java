@@ -0,0 +1,270 @@
+package com.example.employeemanagementsystem.model;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Open-addressing map from IDs made of one or two {@code long}s to employees, shared by
+ * {@link LongEmployeeMap} and {@link UuidEmployeeMap}.
+ * <p>
+ * Each slot's key is stored as {@code stride} adjacent {@code long}s in one array, parallel to the
+ * employee array, and slots are probed linearly from a Fibonacci hash of the key. A lookup reads
+ * at most a few adjacent slots, compares primitives and allocates nothing. An empty slot is one
+ * without an employee, which leaves every key value usable. Removal shifts later entries of the
+ * probe run back instead of leaving tombstones, so lookups never slow down after many removals.
+ * <p>
+ * Subclasses split their keys into {@code first} and {@code second} halves, ignoring
+ * {@code second} when the stride is one. Null keys are not supported. Iteration order is slot order.
+ */
+abstract class OpenAddressingEmployeeMap<K> extends AbstractMap<K, Employee<K>> {
+    private static final int MIN_CAPACITY = 16;
+    private static final long FIBONACCI = 0x9E3779B97F4A7C15L;
+
+    private final int stride;
+    private long[] keys;
+    private Employee<K>[] employees;
+    private int shift;
+    private int size;
+    private Values values;
+    private EntrySet entries;
+
+    OpenAddressingEmployeeMap(int stride) {
+        this.stride = stride;
+        allocate(MIN_CAPACITY);
+    }
+
+    /**
+     * Folds a key into one {@code long} before it is hashed.
+     */
+    abstract long spread(long first, long second);
+
+    /**
+     * Builds the key object from its halves, for iteration.
+     */
+    abstract K key(long first, long second);
+
+    final Employee<K> find(long first, long second) {
+        return employees[slotOf(first, second)];
+    }
+
+    final Employee<K> store(long first, long second, Employee<K> employee) {
+        Objects.requireNonNull(employee);
+        int slot = slotOf(first, second);
+        Employee<K> previous = employees[slot];
+        employees[slot] = employee;
+        if (previous != null) {
+            return previous;
+        }
+        keys[slot * stride] = first;
+        if (stride == 2) {
+            keys[slot * 2 + 1] = second;
+        }
+        // Keep the load factor at or below 3/4 so probe runs stay short.
+        if (++size > employees.length - (employees.length >>> 2)) {
+            resize(employees.length * 2);
+        }
+        return null;
+    }
+
+    final Employee<K> delete(long first, long second) {
+        int slot = slotOf(first, second);
+        Employee<K> removed = employees[slot];
+        if (removed != null) {
+            deleteSlot(slot);
+            size--;
+        }
+        return removed;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        allocate(MIN_CAPACITY);
+        size = 0;
+    }
+
+    @Override
+    public Collection<Employee<K>> values() {
+        if (values == null) {
+            values = new Values();
+        }
+        return values;
+    }
+
+    @Override
+    public Set<Entry<K, Employee<K>>> entrySet() {
+        if (entries == null) {
+            entries = new EntrySet();
+        }
+        return entries;
+    }
+
+    /**
+     * The slot holding the key, or the empty slot that ends its probe run.
+     */
+    private int slotOf(long first, long second) {
+        int mask = employees.length - 1;
+        for (int slot = home(first, second); ; slot = (slot + 1) & mask) {
+            if (employees[slot] == null || (keys[slot * stride] == first
+                    && (stride == 1 || keys[slot * 2 + 1] == second))) {
+                return slot;
+            }
+        }
+    }
+
+    private int home(long first, long second) {
+        return (int) ((spread(first, second) * FIBONACCI) >>> shift);
+    }
+
+    private int homeOfSlot(int slot) {
+        int at = slot * stride;
+        return home(keys[at], stride == 1 ? 0L : keys[at + 1]);
+    }
+
+    /**
+     * Empties {@code slot}, then walks the rest of its probe run and moves back every entry whose
+     * home slot is not between the hole and its current slot, so no entry becomes unreachable.
+     */
+    private void deleteSlot(int slot) {
+        int mask = employees.length - 1;
+        int hole = slot;
+        for (int next = (slot + 1) & mask; employees[next] != null; next = (next + 1) & mask) {
+            int home = homeOfSlot(next);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                System.arraycopy(keys, next * stride, keys, hole * stride, stride);
+                employees[hole] = employees[next];
+                hole = next;
+            }
+        }
+        employees[hole] = null;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        Employee<K>[] oldEmployees = employees;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldEmployees.length; i++) {
+            if (oldEmployees[i] != null) {
+                int at = i * stride;
+                int slot = home(oldKeys[at], stride == 1 ? 0L : oldKeys[at + 1]);
+                while (employees[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                System.arraycopy(oldKeys, at, keys, slot * stride, stride);
+                employees[slot] = oldEmployees[i];
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void allocate(int capacity) {
+        keys = new long[capacity * stride];
+        employees = (Employee<K>[]) new Employee<?>[capacity];
+        shift = Long.numberOfLeadingZeros(capacity - 1);
+    }
+
+    /**
+     * Walks the occupied slots. Like the map itself, it must not be used across modifications.
+     */
+    private abstract class SlotIterator<E> implements Iterator<E> {
+        final long[] keyTable = keys;
+        final Employee<K>[] table = employees;
+        private int next = advance(0);
+
+        private int advance(int from) {
+            while (from < table.length && table[from] == null) {
+                from++;
+            }
+            return from;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < table.length;
+        }
+
+        int nextSlot() {
+            if (next >= table.length) {
+                throw new NoSuchElementException();
+            }
+            int slot = next;
+            next = advance(next + 1);
+            return slot;
+        }
+    }
+
+    private final class Values extends AbstractCollection<Employee<K>> {
+        @Override
+        public Iterator<Employee<K>> iterator() {
+            return new SlotIterator<>() {
+                @Override
+                public Employee<K> next() {
+                    return table[nextSlot()];
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Object[] toArray() {
+            return toArray(new Object[size]);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <A> A[] toArray(A[] array) {
+            A[] result = array.length >= size ? array : Arrays.copyOf(array, size);
+            int count = 0;
+            for (Employee<K> employee : employees) {
+                if (employee != null) {
+                    result[count++] = (A) employee;
+                }
+            }
+            if (result.length > count) {
+                result[count] = null;
+            }
+            return result;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, Employee<K>>> {
+        @Override
+        public Iterator<Entry<K, Employee<K>>> iterator() {
+            return new SlotIterator<>() {
+                @Override
+                public Entry<K, Employee<K>> next() {
+                    int slot = nextSlot();
+                    int at = slot * stride;
+                    return new SimpleImmutableEntry<>(
+                            key(keyTable[at], stride == 1 ? 0L : keyTable[at + 1]), table[slot]);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.employeemanagementsystem.model;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Opt-in parallel execution for bulk work in {@link EmployeeDatabase}: sorting every employee and
+ * applying raises. Work over fewer than {@code threshold} employees stays on the calling thread,
+ * where splitting would cost more than it saves. Parallel work runs in {@code pool} rather than
+ * the common pool, so it can be sized and isolated per deployment. Parallel and sequential
+ * execution produce identical results.
+ */
+public final class ParallelExecution {
+    public static final int DEFAULT_THRESHOLD = 50_000;
+
+    private static final ParallelExecution SEQUENTIAL = new ParallelExecution(null, Integer.MAX_VALUE);
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    private ParallelExecution(ForkJoinPool pool, int threshold) {
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    public static ParallelExecution sequential() {
+        return SEQUENTIAL;
+    }
+
+    public static ParallelExecution on(ForkJoinPool pool) {
+        return on(pool, DEFAULT_THRESHOLD);
+    }
+
+    public static ParallelExecution on(ForkJoinPool pool, int threshold) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Threshold cannot be negative");
+        }
+        return new ParallelExecution(pool, threshold);
+    }
+
+    public ForkJoinPool pool() {
+        return pool;
+    }
+
+    public int threshold() {
+        return threshold;
+    }
+
+    /**
+     * Whether work over {@code size} employees should be split across the pool.
+     */
+    boolean isParallel(int size) {
+        return pool != null && size >= threshold && pool.getParallelism() > 1;
+    }
+
+    /**
+     * Runs {@code task} inside the pool, so parallel streams it starts use the pool's workers.
+     */
+    void run(Runnable task) {
+        pool.submit(task).join();
+    }
+}
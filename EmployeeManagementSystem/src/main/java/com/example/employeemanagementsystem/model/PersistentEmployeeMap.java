@@ -0,0 +1,379 @@
+package com.example.employeemanagementsystem.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Immutable map from employee ID to employee, as a hash array mapped trie. Each level consumes five
+ * bits of the ID's hash, and a node stores only its occupied slots behind a 32-bit bitmap. Updates
+ * copy the nodes on the path to the changed entry and share everything else with the previous
+ * version, so every version stays valid and costs O(log32 n) to derive.
+ * <p>
+ * The batch methods mutate the nodes they created earlier in the same batch instead of copying
+ * them again; nodes are never changed once the batch returns.
+ */
+final class PersistentEmployeeMap<T> implements Iterable<Employee<T>> {
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final PersistentEmployeeMap<?> EMPTY =
+            new PersistentEmployeeMap<>(new BitmapNode(null, 0, new Object[0]), 0);
+
+    private final BitmapNode root;
+    private final int size;
+
+    private PersistentEmployeeMap(BitmapNode root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> PersistentEmployeeMap<T> empty() {
+        return (PersistentEmployeeMap<T>) EMPTY;
+    }
+
+    int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    Employee<T> get(Object employeeId) {
+        int hash = hash(employeeId);
+        Object node = root;
+        for (int shift = 0; ; shift += BITS) {
+            if (node instanceof BitmapNode bitmapNode) {
+                int bit = bit(hash, shift);
+                if ((bitmapNode.bitmap & bit) == 0) {
+                    return null;
+                }
+                Object slot = bitmapNode.slots[bitmapNode.index(bit)];
+                if (slot instanceof Employee<?> employee) {
+                    return Objects.equals(employee.getEmployeeId(), employeeId) ? (Employee<T>) employee : null;
+                }
+                node = slot;
+            } else {
+                CollisionNode collisionNode = (CollisionNode) node;
+                int i = collisionNode.indexOf(employeeId);
+                return i < 0 ? null : (Employee<T>) collisionNode.entries[i];
+            }
+        }
+    }
+
+    /**
+     * Returns a version in which {@code employee} is stored under its ID, replacing any employee
+     * with the same ID.
+     */
+    PersistentEmployeeMap<T> with(Employee<T> employee) {
+        Delta delta = new Delta();
+        BitmapNode newRoot = (BitmapNode) put(root, 0, hash(employee.getEmployeeId()), employee, null, delta);
+        return newRoot == root ? this : new PersistentEmployeeMap<>(newRoot, size + delta.sizeChange);
+    }
+
+    PersistentEmployeeMap<T> withAll(Collection<Employee<T>> employees) {
+        Object edit = new Object();
+        Delta delta = new Delta();
+        Object newRoot = root;
+        for (Employee<T> employee : employees) {
+            newRoot = put(newRoot, 0, hash(employee.getEmployeeId()), employee, edit, delta);
+        }
+        return newRoot == root ? this : new PersistentEmployeeMap<>((BitmapNode) newRoot, size + delta.sizeChange);
+    }
+
+    PersistentEmployeeMap<T> without(Object employeeId) {
+        Delta delta = new Delta();
+        Object newRoot = remove(root, 0, hash(employeeId), employeeId, null, delta);
+        return newRoot == root ? this : withRoot(newRoot, size + delta.sizeChange);
+    }
+
+    PersistentEmployeeMap<T> withoutAll(Collection<?> employeeIds) {
+        Object edit = new Object();
+        Delta delta = new Delta();
+        Object newRoot = root;
+        for (Object employeeId : employeeIds) {
+            newRoot = remove(newRoot, 0, hash(employeeId), employeeId, edit, delta);
+            if (newRoot == null) {
+                return empty();
+            }
+        }
+        return newRoot == root ? this : withRoot(newRoot, size + delta.sizeChange);
+    }
+
+    private PersistentEmployeeMap<T> withRoot(Object newRoot, int newSize) {
+        // Removal only collapses nodes below the root, so the root is a bitmap node or gone.
+        return newRoot == null ? empty() : new PersistentEmployeeMap<>((BitmapNode) newRoot, newSize);
+    }
+
+    @Override
+    public Iterator<Employee<T>> iterator() {
+        return new EntryIterator<>(root);
+    }
+
+    private static int hash(Object employeeId) {
+        int h = Objects.hashCode(employeeId);
+        // Spread the high bits down; the top levels of the trie only look at the low ones.
+        return h ^ (h >>> 16);
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private static Object put(Object node, int shift, int hash, Employee<?> employee, Object edit, Delta delta) {
+        if (node instanceof CollisionNode collisionNode) {
+            if (collisionNode.hash == hash) {
+                return collisionNode.put(employee, edit, delta);
+            }
+            // A different hash reached the collision: split it off one level up.
+            BitmapNode parent = new BitmapNode(edit, bit(collisionNode.hash, shift), new Object[]{collisionNode});
+            return put(parent, shift, hash, employee, edit, delta);
+        }
+        BitmapNode bitmapNode = (BitmapNode) node;
+        int bit = bit(hash, shift);
+        int index = bitmapNode.index(bit);
+        if ((bitmapNode.bitmap & bit) == 0) {
+            delta.sizeChange++;
+            return bitmapNode.insert(edit, bit, index, employee);
+        }
+        Object slot = bitmapNode.slots[index];
+        if (slot instanceof Employee<?> existing) {
+            if (Objects.equals(existing.getEmployeeId(), employee.getEmployeeId())) {
+                return bitmapNode.set(edit, index, employee);
+            }
+            delta.sizeChange++;
+            Object pair = pair(shift + BITS, existing, hash(existing.getEmployeeId()), employee, hash, edit);
+            return bitmapNode.set(edit, index, pair);
+        }
+        Object child = put(slot, shift + BITS, hash, employee, edit, delta);
+        return child == slot ? bitmapNode : bitmapNode.set(edit, index, child);
+    }
+
+    private static Object pair(int shift, Employee<?> first, int firstHash, Employee<?> second, int secondHash,
+                               Object edit) {
+        if (firstHash == secondHash) {
+            return new CollisionNode(edit, firstHash, new Employee<?>[]{first, second});
+        }
+        int firstBit = bit(firstHash, shift);
+        int secondBit = bit(secondHash, shift);
+        if (firstBit == secondBit) {
+            return new BitmapNode(edit, firstBit,
+                    new Object[]{pair(shift + BITS, first, firstHash, second, secondHash, edit)});
+        }
+        Object[] slots = Integer.compareUnsigned(firstBit, secondBit) < 0
+                ? new Object[]{first, second} : new Object[]{second, first};
+        return new BitmapNode(edit, firstBit | secondBit, slots);
+    }
+
+    /**
+     * Returns the node without {@code employeeId}: the same node if it was absent, {@code null} if
+     * nothing is left, or the single remaining employee so the parent can store it inline.
+     */
+    private static Object remove(Object node, int shift, int hash, Object employeeId, Object edit, Delta delta) {
+        if (node instanceof CollisionNode collisionNode) {
+            int i = collisionNode.hash == hash ? collisionNode.indexOf(employeeId) : -1;
+            if (i < 0) {
+                return node;
+            }
+            delta.sizeChange--;
+            return collisionNode.remove(edit, i);
+        }
+        BitmapNode bitmapNode = (BitmapNode) node;
+        int bit = bit(hash, shift);
+        if ((bitmapNode.bitmap & bit) == 0) {
+            return node;
+        }
+        int index = bitmapNode.index(bit);
+        Object slot = bitmapNode.slots[index];
+        Object replacement;
+        if (slot instanceof Employee<?> existing) {
+            if (!Objects.equals(existing.getEmployeeId(), employeeId)) {
+                return node;
+            }
+            delta.sizeChange--;
+            replacement = null;
+        } else {
+            replacement = remove(slot, shift + BITS, hash, employeeId, edit, delta);
+            if (replacement == slot) {
+                return node;
+            }
+        }
+        if (replacement != null) {
+            if (shift > 0 && bitmapNode.slots.length == 1 && replacement instanceof Employee<?>) {
+                return replacement;
+            }
+            return bitmapNode.set(edit, index, replacement);
+        }
+        if (bitmapNode.bitmap == bit) {
+            return null;
+        }
+        if (shift > 0 && bitmapNode.slots.length == 2 && bitmapNode.slots[index ^ 1] instanceof Employee<?> other) {
+            return other;
+        }
+        return bitmapNode.delete(edit, bit, index);
+    }
+
+    private static final class Delta {
+        int sizeChange;
+    }
+
+    private static final class BitmapNode {
+        // Non-null while a batch may still change this node in place.
+        final Object edit;
+        int bitmap;
+        // Each slot is an Employee or a child node, in bit order.
+        Object[] slots;
+
+        BitmapNode(Object edit, int bitmap, Object[] slots) {
+            this.edit = edit;
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        private boolean editable(Object edit) {
+            return edit != null && this.edit == edit;
+        }
+
+        BitmapNode set(Object edit, int index, Object value) {
+            if (editable(edit)) {
+                slots[index] = value;
+                return this;
+            }
+            Object[] copy = slots.clone();
+            copy[index] = value;
+            return new BitmapNode(edit, bitmap, copy);
+        }
+
+        BitmapNode insert(Object edit, int bit, int index, Object value) {
+            Object[] copy = new Object[slots.length + 1];
+            System.arraycopy(slots, 0, copy, 0, index);
+            copy[index] = value;
+            System.arraycopy(slots, index, copy, index + 1, slots.length - index);
+            if (editable(edit)) {
+                bitmap |= bit;
+                slots = copy;
+                return this;
+            }
+            return new BitmapNode(edit, bitmap | bit, copy);
+        }
+
+        BitmapNode delete(Object edit, int bit, int index) {
+            Object[] copy = new Object[slots.length - 1];
+            System.arraycopy(slots, 0, copy, 0, index);
+            System.arraycopy(slots, index + 1, copy, index, copy.length - index);
+            if (editable(edit)) {
+                bitmap &= ~bit;
+                slots = copy;
+                return this;
+            }
+            return new BitmapNode(edit, bitmap & ~bit, copy);
+        }
+    }
+
+    // Employees whose IDs have the same full hash.
+    private static final class CollisionNode {
+        final Object edit;
+        final int hash;
+        Employee<?>[] entries;
+
+        CollisionNode(Object edit, int hash, Employee<?>[] entries) {
+            this.edit = edit;
+            this.hash = hash;
+            this.entries = entries;
+        }
+
+        int indexOf(Object employeeId) {
+            for (int i = 0; i < entries.length; i++) {
+                if (Objects.equals(entries[i].getEmployeeId(), employeeId)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        Object put(Employee<?> employee, Object edit, Delta delta) {
+            int i = indexOf(employee.getEmployeeId());
+            Employee<?>[] copy;
+            if (i >= 0) {
+                copy = entries.clone();
+                copy[i] = employee;
+            } else {
+                delta.sizeChange++;
+                copy = Arrays.copyOf(entries, entries.length + 1);
+                copy[entries.length] = employee;
+            }
+            if (edit != null && this.edit == edit) {
+                entries = copy;
+                return this;
+            }
+            return new CollisionNode(edit, hash, copy);
+        }
+
+        Object remove(Object edit, int index) {
+            if (entries.length == 2) {
+                return entries[index ^ 1];
+            }
+            Employee<?>[] copy = new Employee<?>[entries.length - 1];
+            System.arraycopy(entries, 0, copy, 0, index);
+            System.arraycopy(entries, index + 1, copy, index, copy.length - index);
+            if (edit != null && this.edit == edit) {
+                entries = copy;
+                return this;
+            }
+            return new CollisionNode(edit, hash, copy);
+        }
+    }
+
+    // Depth-first walk; a 32-bit hash gives at most seven bitmap levels above a collision node.
+    private static final class EntryIterator<T> implements Iterator<Employee<T>> {
+        private final Object[][] arrays = new Object[9][];
+        private final int[] positions = new int[9];
+        private int depth;
+        private Employee<T> next;
+
+        EntryIterator(BitmapNode root) {
+            arrays[0] = root.slots;
+            advance();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance() {
+            next = null;
+            while (depth >= 0) {
+                Object[] array = arrays[depth];
+                if (positions[depth] == array.length) {
+                    depth--;
+                    continue;
+                }
+                Object slot = array[positions[depth]++];
+                if (slot instanceof Employee<?> employee) {
+                    next = (Employee<T>) employee;
+                    return;
+                }
+                depth++;
+                arrays[depth] = slot instanceof BitmapNode bitmapNode
+                        ? bitmapNode.slots : ((CollisionNode) slot).entries;
+                positions[depth] = 0;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Employee<T> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Employee<T> result = next;
+            advance();
+            return result;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.employeemanagementsystem.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Chooses where {@link EmployeeDatabase#query} gets its candidates from.
+ * <p>
+ * Every condition on an indexed field is an access path with an estimated row count: department
+ * buckets and name posting lists know their size, and range counts walk the sorted index only until
+ * they pass the best estimate so far. A conjunction uses its cheapest part; a disjunction uses the
+ * de-duplicated union of its parts' paths, provided every part has one. When nothing beats reading
+ * every employee, the plan is a full scan. The query then checks its whole filter against each
+ * candidate, so the access path only has to return a superset of the matches.
+ */
+final class QueryPlanner<T> {
+    private final EmployeeIndex<T> index;
+    private final Map<T, Employee<T>> employees;
+
+    QueryPlanner(EmployeeIndex<T> index, Map<T, Employee<T>> employees) {
+        this.index = index;
+        this.employees = employees;
+    }
+
+    Plan<T> plan(EmployeeFilter filter) {
+        int scanRows = employees.size();
+        Plan<T> indexed = indexed(filter, scanRows);
+        if (indexed != null && indexed.estimatedRows() < scanRows) {
+            return indexed;
+        }
+        return new Plan<>("scan", scanRows, employees::values);
+    }
+
+    /**
+     * Returns the cheapest index-based path for {@code filter}, or {@code null} if it has none.
+     * Estimates above {@code budget} are only known to be above it.
+     */
+    private Plan<T> indexed(EmployeeFilter filter, int budget) {
+        if (filter instanceof EmployeeFilter.Department department) {
+            String name = department.department();
+            return new Plan<>("department=" + name, index.departmentSize(name), () -> index.department(name));
+        }
+        if (filter instanceof EmployeeFilter.NameContains name) {
+            String text = name.text();
+            return new Plan<>("name~" + text, index.nameCandidates(text), () -> index.nameContaining(text));
+        }
+        if (filter instanceof EmployeeFilter.SalaryRange salary) {
+            return new Plan<>("salary[" + salary.min() + "," + salary.max() + "]",
+                    index.countSalaryBetween(salary.min(), salary.max(), budget),
+                    () -> index.salaryBetween(salary.min(), salary.max()));
+        }
+        if (filter instanceof EmployeeFilter.RatingRange rating) {
+            return new Plan<>("rating[" + rating.min() + "," + rating.max() + "]",
+                    index.countRatingBetween(rating.min(), rating.max(), budget),
+                    () -> index.ratingBetween(rating.min(), rating.max()));
+        }
+        if (filter instanceof EmployeeFilter.ExperienceRange experience) {
+            return new Plan<>("experience[" + experience.minYears() + "," + experience.maxYears() + "]",
+                    index.countExperienceBetween(experience.minYears(), experience.maxYears(), budget),
+                    () -> index.experienceBetween(experience.minYears(), experience.maxYears()));
+        }
+        if (filter instanceof EmployeeFilter.And and) {
+            return cheapest(and.parts(), budget);
+        }
+        if (filter instanceof EmployeeFilter.Or or) {
+            return union(or.parts(), budget);
+        }
+        return null;
+    }
+
+    private Plan<T> cheapest(List<EmployeeFilter> parts, int budget) {
+        // Exact, constant-time estimates first, so the range counts start with a tight budget.
+        List<EmployeeFilter> ordered = new ArrayList<>(parts);
+        ordered.sort(Comparator.comparingInt(QueryPlanner::estimateCost));
+        Plan<T> best = null;
+        for (EmployeeFilter part : ordered) {
+            Plan<T> plan = indexed(part, best == null ? budget : best.estimatedRows());
+            if (plan != null && (best == null || plan.estimatedRows() < best.estimatedRows())) {
+                best = plan;
+            }
+        }
+        return best;
+    }
+
+    private Plan<T> union(List<EmployeeFilter> parts, int budget) {
+        List<Plan<T>> plans = new ArrayList<>(parts.size());
+        int total = 0;
+        for (EmployeeFilter part : parts) {
+            Plan<T> plan = indexed(part, budget - total);
+            if (plan == null) {
+                return null;
+            }
+            total += plan.estimatedRows();
+            if (total > budget) {
+                return null;
+            }
+            plans.add(plan);
+        }
+        StringBuilder description = new StringBuilder("union(");
+        for (int i = 0; i < plans.size(); i++) {
+            description.append(i == 0 ? "" : ", ").append(plans.get(i).description());
+        }
+        return new Plan<>(description.append(')').toString(), total, () -> {
+            Set<Employee<T>> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+            List<Employee<T>> rows = new ArrayList<>();
+            for (Plan<T> plan : plans) {
+                for (Employee<T> employee : plan.candidates().get()) {
+                    if (seen.add(employee)) {
+                        rows.add(employee);
+                    }
+                }
+            }
+            return rows;
+        });
+    }
+
+    private static int estimateCost(EmployeeFilter filter) {
+        if (filter instanceof EmployeeFilter.Department || filter instanceof EmployeeFilter.NameContains) {
+            return 0;
+        }
+        return filter instanceof EmployeeFilter.And || filter instanceof EmployeeFilter.Or ? 2 : 1;
+    }
+
+    /**
+     * How to produce the candidates of a query, with the number of rows that is expected to read.
+     */
+    record Plan<T>(String description, int estimatedRows, Supplier<Collection<Employee<T>>> candidates) {
+        @Override
+        public String toString() {
+            return description + " (~" + estimatedRows + " rows)";
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.employeemanagementsystem.model;
+
+/**
+ * Finds the row of an employee ID in {@link ColumnarEmployeeStore}. An open-addressing table of
+ * row numbers, probed linearly from a Fibonacci hash and compared against the {@link IdColumn},
+ * so it holds one {@code int} per slot instead of a boxed key, a boxed row and an entry object per
+ * employee. Removal shifts later entries back, as in {@link OpenAddressingEmployeeMap}.
+ */
+final class RowIndex {
+    private static final int MIN_CAPACITY = 16;
+    private static final int FIBONACCI = 0x9E3779B9;
+
+    private final IdColumn ids;
+    // Row number plus one; zero marks an empty slot.
+    private int[] slots;
+    private int shift;
+    private int size;
+
+    RowIndex(IdColumn ids) {
+        this.ids = ids;
+        allocate(MIN_CAPACITY);
+    }
+
+    /**
+     * Returns the row holding {@code id}, or -1.
+     */
+    int find(Object id) {
+        int mask = slots.length - 1;
+        for (int slot = slotOf(id.hashCode()); slots[slot] != 0; slot = (slot + 1) & mask) {
+            int row = slots[slot] - 1;
+            if (ids.matches(row, id)) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Records that {@code row}, whose ID is already in the column, is new.
+     */
+    void add(int row) {
+        int mask = slots.length - 1;
+        int slot = slotOf(ids.hashCode(row));
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = row + 1;
+        if (++size > slots.length - (slots.length >>> 2)) {
+            resize(slots.length * 2);
+        }
+    }
+
+    /**
+     * Forgets {@code row}; its ID must still be in the column.
+     */
+    void remove(int row) {
+        int slot = slotOfRow(row);
+        int mask = slots.length - 1;
+        int hole = slot;
+        for (int next = (slot + 1) & mask; slots[next] != 0; next = (next + 1) & mask) {
+            int home = slotOf(ids.hashCode(slots[next] - 1));
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                slots[hole] = slots[next];
+                hole = next;
+            }
+        }
+        slots[hole] = 0;
+        size--;
+    }
+
+    /**
+     * Points the entry of {@code from} at {@code to}, after the ID moved there.
+     */
+    void moved(int from, int to) {
+        slots[slotOfRow(from)] = to + 1;
+    }
+
+    void trimToSize() {
+        int capacity = MIN_CAPACITY;
+        while (size > capacity - (capacity >>> 2)) {
+            capacity *= 2;
+        }
+        if (capacity < slots.length) {
+            resize(capacity);
+        }
+    }
+
+    // The row's ID must still be in the column at that row.
+    private int slotOfRow(int row) {
+        int mask = slots.length - 1;
+        int slot = slotOf(ids.hashCode(row));
+        while (slots[slot] != row + 1) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private int slotOf(int hash) {
+        return (hash * FIBONACCI) >>> shift;
+    }
+
+    private void resize(int capacity) {
+        int[] old = slots;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int entry : old) {
+            if (entry != 0) {
+                int slot = slotOf(ids.hashCode(entry - 1));
+                while (slots[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                slots[slot] = entry;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        slots = new int[capacity];
+        shift = Integer.numberOfLeadingZeros(capacity - 1);
+    }
+}
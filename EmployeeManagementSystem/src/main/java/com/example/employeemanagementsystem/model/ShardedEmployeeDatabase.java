@@ -0,0 +1,507 @@
+package com.example.employeemanagementsystem.model;
+
+import com.example.employeemanagementsystem.exception.EmployeeNotFoundException;
+import com.example.employeemanagementsystem.exception.InvalidDepartmentException;
+import com.example.employeemanagementsystem.exception.InvalidSalaryException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Partitions employees by ID across several independent shards, each an {@link EmployeeStore} with
+ * its own map, indexes and aggregates. By default every shard is an {@link EmployeeDatabase}.
+ * <p>
+ * IDs are placed on a consistent-hash ring on which every shard owns {@value #VIRTUAL_NODES}
+ * points, so shards receive even shares and adding a shard with {@link #addShard()} moves only the
+ * employees the new shard takes over, about {@code 1/(n + 1)} of them, instead of reshuffling all.
+ * <p>
+ * Single-employee operations go to the owning shard only. Queries scatter to every shard and
+ * gather the partial results: lists are concatenated, re-sorted where the single-database result
+ * is sorted, top-N lists are cut again from each shard's top N, and department aggregates are
+ * combined. With a {@link ParallelExecution} pool the shards are queried in parallel.
+ * <p>
+ * Thread-safe: each shard has its own read-write lock, so writes to different shards proceed in
+ * parallel and reads never wait for writes elsewhere. Adding a shard pauses every other operation
+ * until the moved employees are in place. Employees handed out are read-only copies, whose
+ * setters throw {@link UnsupportedOperationException}, so they are safe to share with other
+ * threads; change employees through this class.
+ */
+public class ShardedEmployeeDatabase<T> implements EmployeeStore<T> {
+    public static final int DEFAULT_SHARD_COUNT = 4;
+    static final int VIRTUAL_NODES = 128;
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardedEmployeeDatabase.class);
+
+    private final Supplier<? extends EmployeeStore<T>> shardFactory;
+    // Held shared by every operation and exclusively while shards are added.
+    private final ReentrantReadWriteLock topologyLock = new ReentrantReadWriteLock();
+    private final List<Shard<T>> shards = new ArrayList<>();
+    // Ring points in ascending order, and the index of the shard owning each.
+    private long[] ringPoints = new long[0];
+    private int[] ringOwners = new int[0];
+    private volatile ParallelExecution parallelExecution = ParallelExecution.sequential();
+
+    public ShardedEmployeeDatabase() {
+        this(DEFAULT_SHARD_COUNT);
+    }
+
+    public ShardedEmployeeDatabase(int shardCount) {
+        this(shardCount, EmployeeDatabase::new);
+    }
+
+    /**
+     * @param shardFactory creates the store behind each shard, now and when shards are added
+     */
+    public ShardedEmployeeDatabase(int shardCount, Supplier<? extends EmployeeStore<T>> shardFactory) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be positive");
+        }
+        this.shardFactory = shardFactory;
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new Shard<>(shardFactory.get()));
+        }
+        buildRing();
+    }
+
+    /**
+     * Chooses whether queries visit the shards in parallel. Sequential by default; with a pool,
+     * queries over at least the pool's threshold of employees run one task per shard in it.
+     */
+    public void setParallelExecution(ParallelExecution parallelExecution) {
+        if (parallelExecution == null) {
+            throw new IllegalArgumentException("Parallel execution cannot be null");
+        }
+        this.parallelExecution = parallelExecution;
+    }
+
+    public ParallelExecution getParallelExecution() {
+        return parallelExecution;
+    }
+
+    public int getShardCount() {
+        Lock lock = topologyLock.readLock();
+        lock.lock();
+        try {
+            return shards.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of employees in each shard, in the order the shards were created.
+     */
+    public int[] shardSizes() {
+        return gather(EmployeeQueries::size).stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Adds an empty shard and moves to it the employees whose IDs it now owns on the ring.
+     *
+     * @return the number of employees moved
+     */
+    public int addShard() {
+        Lock lock = topologyLock.writeLock();
+        lock.lock();
+        try {
+            long started = System.nanoTime();
+            Shard<T> added = new Shard<>(shardFactory.get());
+            int addedIndex = shards.size();
+            shards.add(added);
+            buildRing();
+            int moved = 0;
+            for (int i = 0; i < addedIndex; i++) {
+                moved += moveOwnedEmployees(shards.get(i).store, added.store, addedIndex);
+            }
+            logger.info("Added shard {}; moved {} employees in {} ms", addedIndex, moved,
+                    (System.nanoTime() - started) / 1_000_000);
+            return moved;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int moveOwnedEmployees(EmployeeStore<T> from, EmployeeStore<T> to, int toIndex) {
+        List<Employee<T>> moving = new ArrayList<>();
+        for (Employee<T> employee : from.getAllEmployees()) {
+            if (ownerOf(employee.getEmployeeId()) == toIndex) {
+                moving.add(employee);
+            }
+        }
+        if (moving.isEmpty()) {
+            return 0;
+        }
+        try {
+            if (from instanceof EmployeeDatabase<T> source && to instanceof EmployeeDatabase<T> target) {
+                List<T> employeeIds = new ArrayList<>(moving.size());
+                for (Employee<T> employee : moving) {
+                    employeeIds.add(employee.getEmployeeId());
+                }
+                source.removeAll(employeeIds);
+                target.loadEmployees(moving);
+            } else {
+                for (Employee<T> employee : moving) {
+                    from.removeEmployee(employee.getEmployeeId());
+                    to.addEmployee(employee);
+                }
+            }
+        } catch (EmployeeNotFoundException | InvalidDepartmentException | InvalidSalaryException e) {
+            // The employees were just read from the source and were valid when added.
+            throw new IllegalStateException("Failed to move employees to shard " + toIndex, e);
+        }
+        return moving.size();
+    }
+
+    public void addEmployee(Employee<T> employee) throws InvalidDepartmentException, InvalidSalaryException {
+        Lock topology = topologyLock.readLock();
+        topology.lock();
+        try {
+            Shard<T> shard = shardFor(employee.getEmployeeId());
+            shard.lock.writeLock().lock();
+            try {
+                shard.store.addEmployee(employee);
+            } finally {
+                shard.lock.writeLock().unlock();
+            }
+        } finally {
+            topology.unlock();
+        }
+    }
+
+    public void removeEmployee(T employeeId) throws EmployeeNotFoundException {
+        Lock topology = topologyLock.readLock();
+        topology.lock();
+        try {
+            Shard<T> shard = shardFor(employeeId);
+            shard.lock.writeLock().lock();
+            try {
+                shard.store.removeEmployee(employeeId);
+            } finally {
+                shard.lock.writeLock().unlock();
+            }
+        } finally {
+            topology.unlock();
+        }
+    }
+
+    public void updateEmployeeDetails(T employeeId, String field, Object newValue)
+            throws EmployeeNotFoundException, InvalidDepartmentException, InvalidSalaryException {
+        Lock topology = topologyLock.readLock();
+        topology.lock();
+        try {
+            Shard<T> shard = shardFor(employeeId);
+            shard.lock.writeLock().lock();
+            try {
+                shard.store.updateEmployeeDetails(employeeId, field, newValue);
+            } finally {
+                shard.lock.writeLock().unlock();
+            }
+        } finally {
+            topology.unlock();
+        }
+    }
+
+    public void giveRaiseToHighPerformers(double minRating, double raisePercent) {
+        scatter(store -> {
+            store.giveRaiseToHighPerformers(minRating, raisePercent);
+            return null;
+        }, true);
+    }
+
+    public Employee<T> getEmployee(T employeeId) throws EmployeeNotFoundException {
+        Lock topology = topologyLock.readLock();
+        topology.lock();
+        try {
+            Shard<T> shard = shardFor(employeeId);
+            shard.lock.readLock().lock();
+            try {
+                return FrozenEmployee.of(shard.store.getEmployee(employeeId));
+            } finally {
+                shard.lock.readLock().unlock();
+            }
+        } finally {
+            topology.unlock();
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (int shardSize : shardSizes()) {
+            size += shardSize;
+        }
+        return size;
+    }
+
+    public List<Employee<T>> getAllEmployees() {
+        return concat(gatherEmployees(EmployeeQueries::getAllEmployees));
+    }
+
+    public List<Employee<T>> searchByDepartment(String department) {
+        return concat(gatherEmployees(store -> store.searchByDepartment(department)));
+    }
+
+    public List<Employee<T>> searchByName(String keyword) {
+        return concat(gatherEmployees(store -> store.searchByName(keyword)));
+    }
+
+    /**
+     * Returns the matches in ascending order of rating, as {@link EmployeeDatabase} does.
+     */
+    public List<Employee<T>> filterByPerformance(double minRating) {
+        return merge(gatherEmployees(store -> store.filterByPerformance(minRating)),
+                Comparator.comparingDouble(Employee::getPerformanceRating));
+    }
+
+    /**
+     * Returns the matches in ascending order of salary, as {@link EmployeeDatabase} does.
+     */
+    public List<Employee<T>> filterBySalaryRange(double minSalary, double maxSalary) {
+        return merge(gatherEmployees(store -> store.filterBySalaryRange(minSalary, maxSalary)),
+                Comparator.comparingDouble(Employee::getSalary));
+    }
+
+    public double getAverageSalaryByDepartment(String department) {
+        return departmentStats(department).averageSalary();
+    }
+
+    public List<Employee<T>> getTopPaidEmployees(int topN) {
+        return getTopEmployees(topN, new EmployeeSalaryComparator<>());
+    }
+
+    /**
+     * Takes the top {@code topN} of each shard and the top {@code topN} of those.
+     */
+    @Override
+    public List<Employee<T>> getTopEmployees(int topN, Comparator<? super Employee<T>> order) {
+        return TopK.select(concat(gatherEmployees(store -> store.getTopEmployees(topN, order))), topN, order);
+    }
+
+    /**
+     * Runs the whole query on every shard, each with its own planner, then applies the order and
+     * limit once more to the combined matches.
+     */
+    @Override
+    public List<Employee<T>> query(EmployeeQuery<T> query) {
+        List<Employee<T>> matches = concat(gatherEmployees(store -> store.query(query)));
+        Comparator<? super Employee<T>> order = query.order();
+        int limit = query.limit();
+        if (order == null) {
+            return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+        }
+        if (limit != Integer.MAX_VALUE) {
+            return TopK.select(matches, limit, order);
+        }
+        matches.sort(order);
+        return matches;
+    }
+
+    @Override
+    public Map<String, DepartmentStats> departmentStats() {
+        Map<String, DepartmentStats> combined = new LinkedHashMap<>();
+        for (Map<String, DepartmentStats> partial : gather(EmployeeQueries::departmentStats)) {
+            for (DepartmentStats stats : partial.values()) {
+                combined.merge(stats.department().toLowerCase(Locale.ROOT), stats, ShardedEmployeeDatabase::combine);
+            }
+        }
+        Map<String, DepartmentStats> result = new LinkedHashMap<>();
+        for (DepartmentStats stats : combined.values()) {
+            result.put(stats.department(), stats);
+        }
+        return result;
+    }
+
+    @Override
+    public DepartmentStats departmentStats(String department) {
+        DepartmentStats result = DepartmentStats.empty(department);
+        for (DepartmentStats stats : gather(store -> store.departmentStats(department))) {
+            result = combine(result, stats);
+        }
+        return result;
+    }
+
+    // Keeps the name of the first side that has employees.
+    private static DepartmentStats combine(DepartmentStats a, DepartmentStats b) {
+        if (b.headcount() == 0) {
+            return a;
+        }
+        if (a.headcount() == 0) {
+            return b;
+        }
+        return new DepartmentStats(a.department(), a.headcount() + b.headcount(),
+                a.activeHeadcount() + b.activeHeadcount(), sum(a.totalSalary(), b.totalSalary()),
+                Math.min(a.minSalary(), b.minSalary()), Math.max(a.maxSalary(), b.maxSalary()),
+                sum(a.totalRating(), b.totalRating()));
+    }
+
+    // Each shard's total is already compensated; adding them the same way keeps the error they saved.
+    private static double sum(double a, double b) {
+        CompensatedSum sum = new CompensatedSum();
+        sum.add(a);
+        sum.add(b);
+        return sum.value();
+    }
+
+    private <R> List<R> gather(Function<EmployeeStore<T>, R> task) {
+        return scatter(task, false);
+    }
+
+    /**
+     * Like {@link #gather}, but for tasks that return employees: each one is made read-only, under
+     * its shard's read lock, unless the shard already handed out a read-only copy.
+     */
+    private List<List<Employee<T>>> gatherEmployees(Function<EmployeeStore<T>, List<Employee<T>>> task) {
+        return gather(store -> {
+            List<Employee<T>> employees = task.apply(store);
+            List<Employee<T>> frozen = new ArrayList<>(employees.size());
+            for (Employee<T> employee : employees) {
+                frozen.add(FrozenEmployee.of(employee));
+            }
+            return frozen;
+        });
+    }
+
+    /**
+     * Runs {@code task} against every shard, under its write lock if {@code write} and its read
+     * lock otherwise, and returns the results in shard order. Shards are visited in parallel when
+     * the configured {@link ParallelExecution} allows it for the current size.
+     */
+    private <R> List<R> scatter(Function<EmployeeStore<T>, R> task, boolean write) {
+        Lock topology = topologyLock.readLock();
+        topology.lock();
+        try {
+            List<Shard<T>> targets = List.copyOf(shards);
+            ParallelExecution parallelExecution = this.parallelExecution;
+            if (targets.size() > 1 && parallelExecution.pool() != null
+                    && parallelExecution.isParallel(totalSize(targets))) {
+                List<CompletableFuture<R>> futures = new ArrayList<>(targets.size());
+                for (Shard<T> shard : targets) {
+                    futures.add(CompletableFuture.supplyAsync(() -> shard.run(task, write), parallelExecution.pool()));
+                }
+                List<R> results = new ArrayList<>(targets.size());
+                for (CompletableFuture<R> future : futures) {
+                    try {
+                        results.add(future.join());
+                    } catch (CompletionException e) {
+                        if (e.getCause() instanceof RuntimeException cause) {
+                            throw cause;
+                        }
+                        throw e;
+                    }
+                }
+                return results;
+            }
+            List<R> results = new ArrayList<>(targets.size());
+            for (Shard<T> shard : targets) {
+                results.add(shard.run(task, write));
+            }
+            return results;
+        } finally {
+            topology.unlock();
+        }
+    }
+
+    private static <T> int totalSize(List<Shard<T>> targets) {
+        int size = 0;
+        for (Shard<T> shard : targets) {
+            size += shard.run(EmployeeQueries::size, false);
+        }
+        return size;
+    }
+
+    private static <E> List<E> concat(List<List<E>> parts) {
+        int size = 0;
+        for (List<E> part : parts) {
+            size += part.size();
+        }
+        List<E> result = new ArrayList<>(size);
+        for (List<E> part : parts) {
+            result.addAll(part);
+        }
+        return result;
+    }
+
+    // Each part is already sorted; the sort finds those runs and merges them.
+    private static <E> List<E> merge(List<List<E>> sortedParts, Comparator<? super E> order) {
+        List<E> result = concat(sortedParts);
+        result.sort(order);
+        return result;
+    }
+
+    private Shard<T> shardFor(T employeeId) {
+        return shards.get(ownerOf(employeeId));
+    }
+
+    /**
+     * Index of the shard owning {@code employeeId}: the first ring point at or after the ID's
+     * hash, wrapping around to the first point.
+     */
+    int ownerOf(T employeeId) {
+        int position = Arrays.binarySearch(ringPoints, mix(employeeId.hashCode()));
+        if (position < 0) {
+            position = -position - 1;
+            if (position == ringPoints.length) {
+                position = 0;
+            }
+        }
+        return ringOwners[position];
+    }
+
+    // A shard's points depend only on its index, so existing points stay put when shards are added.
+    private void buildRing() {
+        int count = shards.size() * VIRTUAL_NODES;
+        long[][] entries = new long[count][];
+        for (int shard = 0; shard < shards.size(); shard++) {
+            for (int replica = 0; replica < VIRTUAL_NODES; replica++) {
+                entries[shard * VIRTUAL_NODES + replica] = new long[]{mix(((long) shard << 32) | replica), shard};
+            }
+        }
+        Arrays.sort(entries, Comparator.comparingLong(entry -> entry[0]));
+        long[] points = new long[count];
+        int[] owners = new int[count];
+        for (int i = 0; i < count; i++) {
+            points[i] = entries[i][0];
+            owners[i] = (int) entries[i][1];
+        }
+        ringPoints = points;
+        ringOwners = owners;
+    }
+
+    // The SplitMix64 finalizer: spreads nearby inputs such as sequential IDs over the whole ring.
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    private static final class Shard<T> {
+        final EmployeeStore<T> store;
+        final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        Shard(EmployeeStore<T> store) {
+            this.store = store;
+        }
+
+        <R> R run(Function<EmployeeStore<T>, R> task, boolean write) {
+            Lock held = write ? lock.writeLock() : lock.readLock();
+            held.lock();
+            try {
+                return task.apply(store);
+            } finally {
+                held.unlock();
+            }
+        }
+    }
+}
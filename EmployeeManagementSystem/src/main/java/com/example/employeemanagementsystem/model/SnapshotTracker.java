@@ -0,0 +1,84 @@
+package com.example.employeemanagementsystem.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps a persistent copy of a database's employees in step with its changes, so that
+ * {@link EmployeeDatabase#snapshot()} only has to read the latest version. Each change is applied
+ * by the writing thread and published with a single volatile write; a bulk change becomes visible
+ * all at once.
+ */
+final class SnapshotTracker<T> implements EmployeeChangeListener<T> {
+    private volatile PersistentEmployeeMap<T> current;
+
+    SnapshotTracker(Iterable<Employee<T>> employees) {
+        List<Employee<T>> frozen = new ArrayList<>();
+        for (Employee<T> employee : employees) {
+            frozen.add(FrozenEmployee.of(employee));
+        }
+        current = PersistentEmployeeMap.<T>empty().withAll(frozen);
+    }
+
+    EmployeeSnapshot<T> snapshot() {
+        return new EmployeeSnapshot<>(current);
+    }
+
+    @Override
+    public void employeeAdded(Employee<T> employee) {
+        current = current.with(FrozenEmployee.of(employee));
+    }
+
+    @Override
+    public void employeesAdded(List<Employee<T>> employees) {
+        current = current.withAll(freeze(employees));
+    }
+
+    @Override
+    public void employeeRemoved(Employee<T> employee) {
+        current = current.without(employee.getEmployeeId());
+    }
+
+    @Override
+    public void employeesRemoved(List<Employee<T>> employees) {
+        List<T> employeeIds = new ArrayList<>(employees.size());
+        for (Employee<T> employee : employees) {
+            employeeIds.add(employee.getEmployeeId());
+        }
+        current = current.withoutAll(employeeIds);
+    }
+
+    @Override
+    public void employeeUpdated(Employee<T> employee, EmployeeField field, Object oldValue, Object newValue) {
+        current = current.with(FrozenEmployee.of(employee));
+    }
+
+    @Override
+    public void employeesUpdated(List<FieldChange<T>> changes) {
+        List<Employee<T>> changed = new ArrayList<>(changes.size());
+        Employee<T> previous = null;
+        for (FieldChange<T> change : changes) {
+            // Patches report each employee's fields one after another; copy it once.
+            if (change.employee() != previous) {
+                previous = change.employee();
+                changed.add(previous);
+            }
+        }
+        current = current.withAll(freeze(changed));
+    }
+
+    @Override
+    public void raiseGiven(double minRating, double raisePercent, List<Employee<T>> raised) {
+        if (!raised.isEmpty()) {
+            current = current.withAll(freeze(raised));
+        }
+    }
+
+    private static <T> List<Employee<T>> freeze(List<Employee<T>> employees) {
+        List<Employee<T>> frozen = new ArrayList<>(employees.size());
+        for (Employee<T> employee : employees) {
+            frozen.add(FrozenEmployee.of(employee));
+        }
+        return frozen;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.employeemanagementsystem.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Collector;
+
+/**
+ * Bounded top-K selection. Instead of sorting a whole collection and keeping the first K elements,
+ * a heap of at most K candidates is maintained, which costs O(n log K) time and O(K) memory.
+ * "Top" means first in the given order, so {@code select(employees, 5, new EmployeeSalaryComparator<>())}
+ * returns the five highest paid employees, best first.
+ */
+public final class TopK {
+    private TopK() {
+    }
+
+    public static <E> List<E> select(Iterable<? extends E> source, int k, Comparator<? super E> order) {
+        Heap<E> heap = new Heap<>(k, order);
+        for (E element : source) {
+            heap.offer(element);
+        }
+        return heap.toSortedList();
+    }
+
+    /**
+     * Same result as {@link #select}, but splits the collection into chunks that each keep their
+     * own heap on the fork-join pool and merges the partial heaps at the end.
+     */
+    public static <E> List<E> parallelSelect(Collection<? extends E> source, int k, Comparator<? super E> order) {
+        return source.parallelStream().collect(collector(k, order));
+    }
+
+    public static <E> Collector<E, ?, List<E>> collector(int k, Comparator<? super E> order) {
+        return Collector.of(() -> new Heap<E>(k, order), Heap::offer, Heap::merge, Heap::toSortedList);
+    }
+
+    private static final class Heap<E> {
+        private final int capacity;
+        private final Comparator<? super E> order;
+        // Reversed so that the root is the weakest candidate kept so far.
+        private final PriorityQueue<E> queue;
+
+        Heap(int capacity, Comparator<? super E> order) {
+            this.capacity = Math.max(capacity, 0);
+            this.order = order;
+            this.queue = new PriorityQueue<>(Math.max(1, Math.min(this.capacity, 1024)), order.reversed());
+        }
+
+        void offer(E element) {
+            if (queue.size() < capacity) {
+                queue.add(element);
+            } else if (capacity > 0 && order.compare(element, queue.peek()) < 0) {
+                queue.poll();
+                queue.add(element);
+            }
+        }
+
+        Heap<E> merge(Heap<E> other) {
+            for (E element : other.queue) {
+                offer(element);
+            }
+            return this;
+        }
+
+        List<E> toSortedList() {
+            List<E> result = new ArrayList<>(queue);
+            result.sort(order);
+            return result;
+        }
+    }
+}
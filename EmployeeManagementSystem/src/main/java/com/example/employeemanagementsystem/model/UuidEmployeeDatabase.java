@@ -0,0 +1,16 @@
+package com.example.employeemanagementsystem.model;
+
+import java.util.UUID;
+
+/**
+ * {@link EmployeeDatabase} for {@link UUID} employee IDs. Employees are kept in an open-addressing
+ * map that stores each ID as two {@code long} halves, so lookups compare primitives in place
+ * instead of following each probed key to its {@code UUID} object, and there is no entry object
+ * per employee.
+ */
+public class UuidEmployeeDatabase extends EmployeeDatabase<UUID> {
+
+    public UuidEmployeeDatabase() {
+        super(new UuidEmployeeMap());
+    }
+}
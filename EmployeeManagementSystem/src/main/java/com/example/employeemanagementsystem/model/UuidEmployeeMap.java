@@ -0,0 +1,58 @@
+package com.example.employeemanagementsystem.model;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Open-addressing map from {@link UUID} IDs to employees, laid out like {@link LongEmployeeMap}.
+ * <p>
+ * Each key is stored as its two halves in adjacent {@code long} slots, so probing compares
+ * primitives instead of following a reference to a {@code UUID} object and calling {@code equals}
+ * on it, and there are no entry objects.
+ * <p>
+ * The {@link Map} methods serve the generic code in {@link EmployeeDatabase}.
+ */
+final class UuidEmployeeMap extends OpenAddressingEmployeeMap<UUID> {
+
+    UuidEmployeeMap() {
+        super(2);
+    }
+
+    Employee<UUID> get(long most, long least) {
+        return find(most, least);
+    }
+
+    Employee<UUID> put(long most, long least, Employee<UUID> employee) {
+        return store(most, least, employee);
+    }
+
+    Employee<UUID> remove(long most, long least) {
+        return delete(most, least);
+    }
+
+    @Override
+    public Employee<UUID> get(Object key) {
+        return key instanceof UUID id ? get(id.getMostSignificantBits(), id.getLeastSignificantBits()) : null;
+    }
+
+    @Override
+    public Employee<UUID> put(UUID key, Employee<UUID> employee) {
+        return put(key.getMostSignificantBits(), key.getLeastSignificantBits(), employee);
+    }
+
+    @Override
+    public Employee<UUID> remove(Object key) {
+        return key instanceof UUID id ? remove(id.getMostSignificantBits(), id.getLeastSignificantBits()) : null;
+    }
+
+    @Override
+    long spread(long most, long least) {
+        // Random UUIDs are already well mixed, but time-based and name-based ones vary in few bits.
+        return most ^ Long.rotateLeft(least, 32);
+    }
+
+    @Override
+    UUID key(long most, long least) {
+        return new UUID(most, least);
+    }
+}
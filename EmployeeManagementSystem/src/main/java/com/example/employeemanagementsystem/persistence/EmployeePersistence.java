@@ -0,0 +1,463 @@
+package com.example.employeemanagementsystem.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeChangeListener;
+import com.example.employeemanagementsystem.model.EmployeeDatabase;
+import com.example.employeemanagementsystem.model.EmployeeField;
+import com.example.employeemanagementsystem.model.FieldChange;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Makes an {@link EmployeeDatabase} durable with a write-ahead log and periodic snapshots.
+ * <p>
+ * Every successful mutation is appended to {@code wal-<generation>.log} as a compact binary record;
+ * batch operations are written as a single record, so they cost one append and one fsync.
+ * A checkpoint writes the whole dataset to {@code snapshot-<generation + 1>.bin} and starts a new
+ * log, so recovery only has to load the latest snapshot and replay the log written after it. Files
+ * of older generations are deleted once the new snapshot is in place. A log that ends with a torn
+ * or corrupt record (for example after a crash mid-write) is truncated to its last intact record.
+ * <p>
+ * Records are written after the database has applied a mutation. If a record cannot be written,
+ * the change stays applied in memory and the remaining change listeners still run, but this
+ * persistence is marked failed: it logs the error, stops appending to a log that now has a gap,
+ * and reports the failure through {@link #getFailure()}. The next successful {@link #checkpoint()}
+ * writes the whole dataset and resumes logging.
+ * <p>
+ * Like {@link EmployeeDatabase} itself, this class expects mutations and checkpoints to come from
+ * one thread at a time.
+ */
+public final class EmployeePersistence<T> implements EmployeeChangeListener<T>, Closeable {
+    public static final long DEFAULT_CHECKPOINT_INTERVAL = 1_000_000;
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeePersistence.class);
+    private static final int BATCH_SPLIT_BYTES = 16 * 1024 * 1024;
+    private static final int SNAPSHOT_MAGIC = 0x454D5053;
+    private static final int SNAPSHOT_VERSION = 2;
+    private static final Pattern SNAPSHOT_NAME = Pattern.compile("snapshot-(\\d+)\\.bin");
+    private static final Pattern LOG_NAME = Pattern.compile("wal-(\\d+)\\.log");
+
+    private final Path directory;
+    private final EmployeeDatabase<T> database;
+    private final IdCodec<T> idCodec;
+    private final SyncMode syncMode;
+    private final long checkpointInterval;
+    private final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream(256);
+    private final DataOutputStream record = new DataOutputStream(recordBytes);
+    private final ByteArrayOutputStream batchBytes = new ByteArrayOutputStream(256);
+    private final DataOutputStream batch = new DataOutputStream(batchBytes);
+    private WriteAheadLog log;
+    private long generation;
+    private long recordsSinceCheckpoint;
+    private volatile IOException failure;
+
+    private EmployeePersistence(Path directory, EmployeeDatabase<T> database, IdCodec<T> idCodec,
+                                SyncMode syncMode, long checkpointInterval, long generation,
+                                long recordsSinceCheckpoint) throws IOException {
+        this.directory = directory;
+        this.database = database;
+        this.idCodec = idCodec;
+        this.syncMode = syncMode;
+        this.checkpointInterval = checkpointInterval;
+        this.generation = generation;
+        this.recordsSinceCheckpoint = recordsSinceCheckpoint;
+        this.log = new WriteAheadLog(logPath(generation), syncMode);
+    }
+
+    public static <T> EmployeePersistence<T> open(Path directory, EmployeeDatabase<T> database,
+                                                  IdCodec<T> idCodec) throws IOException {
+        return open(directory, database, idCodec, SyncMode.SYNC, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Recovers the persisted state in {@code directory} into {@code database}, which must be empty,
+     * and starts logging its mutations.
+     *
+     * @param checkpointInterval number of log records after which a checkpoint is taken
+     *                           automatically, or {@code 0} to only checkpoint on request
+     */
+    public static <T> EmployeePersistence<T> open(Path directory, EmployeeDatabase<T> database,
+                                                  IdCodec<T> idCodec, SyncMode syncMode,
+                                                  long checkpointInterval) throws IOException {
+        if (database.size() != 0) {
+            throw new IllegalArgumentException("Database must be empty before recovery");
+        }
+        Files.createDirectories(directory);
+        long started = System.nanoTime();
+
+        long generation = latestSnapshotGeneration(directory);
+        Map<T, Employee<T>> state = new LinkedHashMap<>();
+        if (generation > 0) {
+            readSnapshot(snapshotPath(directory, generation), idCodec, state);
+        }
+        int snapshotSize = state.size();
+        long replayed = replayLog(logPath(directory, generation), idCodec, state);
+        database.loadEmployees(state.values());
+        deleteOtherGenerations(directory, generation);
+
+        logger.info("Recovered {} employees ({} from snapshot, {} log records) in {} ms",
+                state.size(), snapshotSize, replayed, (System.nanoTime() - started) / 1_000_000);
+
+        EmployeePersistence<T> persistence = new EmployeePersistence<>(directory, database, idCodec,
+                syncMode, checkpointInterval, generation, replayed);
+        database.addChangeListener(persistence);
+        return persistence;
+    }
+
+    /**
+     * Writes a snapshot of the current dataset and starts a fresh log, bounding the work of the
+     * next recovery.
+     */
+    public void checkpoint() throws IOException {
+        long started = System.nanoTime();
+        try {
+            log.close();
+        } catch (IOException e) {
+            // The log had already failed; the snapshot below supersedes it.
+            fail(e);
+        }
+        long next = generation + 1;
+        List<Employee<T>> employees = database.getAllEmployees();
+        try {
+            writeSnapshot(snapshotPath(directory, next), next, employees);
+        } catch (IOException e) {
+            if (failure == null) {
+                // Keep logging into the current generation so no mutation goes unrecorded.
+                try {
+                    log = new WriteAheadLog(logPath(generation), syncMode);
+                } catch (IOException reopen) {
+                    e.addSuppressed(reopen);
+                    fail(reopen);
+                }
+            }
+            throw e;
+        }
+        generation = next;
+        recordsSinceCheckpoint = 0;
+        try {
+            log = new WriteAheadLog(logPath(next), syncMode);
+        } catch (IOException e) {
+            fail(e);
+            throw e;
+        }
+        if (failure != null) {
+            logger.info("Checkpoint {} restored logging after an earlier failure", next);
+            failure = null;
+        }
+        deleteOtherGenerations(directory, next);
+        logger.info("Checkpoint {} wrote {} employees in {} ms",
+                next, employees.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Returns the error that stopped logging, or {@code null} while every mutation since the last
+     * checkpoint has been logged.
+     */
+    public IOException getFailure() {
+        return failure;
+    }
+
+    /**
+     * Blocks until every mutation logged so far is on disk. Only needed with {@link SyncMode#ASYNC}.
+     */
+    public void sync() {
+        IOException failed = failure;
+        if (failed != null) {
+            throw new UncheckedIOException("Mutations since the log failed are not persisted", failed);
+        }
+        log.sync();
+    }
+
+    @Override
+    public void close() throws IOException {
+        database.removeChangeListener(this);
+        log.close();
+    }
+
+    @Override
+    public void employeeAdded(Employee<T> employee) {
+        if (failure != null) {
+            return;
+        }
+        try {
+            record.writeByte(EmployeeRecords.ADD);
+            EmployeeRecords.writeEmployee(record, idCodec, employee);
+            commit();
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    @Override
+    public void employeesAdded(List<Employee<T>> employees) {
+        commitBatch(employees, (out, employee) -> {
+            out.writeByte(EmployeeRecords.ADD);
+            EmployeeRecords.writeEmployee(out, idCodec, employee);
+        });
+    }
+
+    @Override
+    public void employeeRemoved(Employee<T> employee) {
+        if (failure != null) {
+            return;
+        }
+        try {
+            record.writeByte(EmployeeRecords.REMOVE);
+            idCodec.write(record, employee.getEmployeeId());
+            commit();
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    @Override
+    public void employeesRemoved(List<Employee<T>> employees) {
+        commitBatch(employees, (out, employee) -> {
+            out.writeByte(EmployeeRecords.REMOVE);
+            idCodec.write(out, employee.getEmployeeId());
+        });
+    }
+
+    @Override
+    public void employeeUpdated(Employee<T> employee, EmployeeField field, Object oldValue, Object newValue) {
+        if (failure != null) {
+            return;
+        }
+        try {
+            record.writeByte(EmployeeRecords.UPDATE);
+            idCodec.write(record, employee.getEmployeeId());
+            EmployeeRecords.writeString(record, field.fieldName());
+            EmployeeRecords.writeValue(record, newValue);
+            commit();
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    @Override
+    public void employeesUpdated(List<FieldChange<T>> changes) {
+        commitBatch(changes, (out, change) -> {
+            out.writeByte(EmployeeRecords.UPDATE);
+            idCodec.write(out, change.employee().getEmployeeId());
+            EmployeeRecords.writeString(out, change.field().fieldName());
+            EmployeeRecords.writeValue(out, change.newValue());
+        });
+    }
+
+    @Override
+    public void raiseGiven(double minRating, double raisePercent, List<Employee<T>> raised) {
+        if (failure != null) {
+            return;
+        }
+        try {
+            record.writeByte(EmployeeRecords.RAISE);
+            record.writeDouble(minRating);
+            record.writeDouble(raisePercent);
+            commit();
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Logs a batch as BATCH records so it costs one append (and, in SYNC mode, one fsync) instead of
+     * one per item. Very large batches are split to stay well below the record size limit.
+     */
+    private <E> void commitBatch(List<E> items, RecordWriter<E> writer) {
+        if (failure != null) {
+            return;
+        }
+        int count = 0;
+        int remaining = items.size();
+        try {
+            for (E item : items) {
+                writer.write(batch, item);
+                count++;
+                remaining--;
+                if (remaining == 0 || batchBytes.size() >= BATCH_SPLIT_BYTES) {
+                    record.writeByte(EmployeeRecords.BATCH);
+                    record.writeInt(count);
+                    batchBytes.writeTo(record);
+                    batchBytes.reset();
+                    commit(count);
+                    count = 0;
+                }
+            }
+        } catch (IOException e) {
+            fail(e);
+        } finally {
+            batchBytes.reset();
+        }
+    }
+
+    private void commit() throws IOException {
+        commit(1);
+    }
+
+    private void commit(int logicalRecords) throws IOException {
+        try {
+            log.append(recordBytes.toByteArray(), 0, recordBytes.size());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            throw new IOException(e.getMessage(), e);
+        } finally {
+            recordBytes.reset();
+        }
+        recordsSinceCheckpoint += logicalRecords;
+        if (checkpointInterval > 0 && recordsSinceCheckpoint >= checkpointInterval) {
+            try {
+                checkpoint();
+            } catch (IOException e) {
+                // The record is logged; try again after another interval.
+                logger.warn("Automatic checkpoint failed", e);
+                recordsSinceCheckpoint = 0;
+            }
+        }
+    }
+
+    private void fail(IOException e) {
+        recordBytes.reset();
+        if (failure == null) {
+            failure = e;
+            logger.error("Write-ahead log failed in {}; mutations are no longer persisted until the next "
+                    + "checkpoint", directory, e);
+        }
+    }
+
+    private void writeSnapshot(Path target, long snapshotGeneration, Collection<Employee<T>> employees)
+            throws IOException {
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeLong(snapshotGeneration);
+            out.writeInt(employees.size());
+            for (Employee<T> employee : employees) {
+                EmployeeRecords.writeEmployee(out, idCodec, employee);
+            }
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static <T> void readSnapshot(Path path, IdCodec<T> idCodec, Map<T, Employee<T>> state)
+            throws IOException {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(path), 1 << 16))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                throw new IOException("Not an employee snapshot: " + path);
+            }
+            in.readLong();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                Employee<T> employee = EmployeeRecords.readEmployee(in, idCodec);
+                state.put(employee.getEmployeeId(), employee);
+            }
+        }
+    }
+
+    private static <T> long replayLog(Path path, IdCodec<T> idCodec, Map<T, Employee<T>> state)
+            throws IOException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        long fileSize = Files.size(path);
+        long validBytes = 0;
+        long records = 0;
+        CRC32 crc = new CRC32();
+        byte[] payload = new byte[4096];
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(path), 1 << 16))) {
+            while (validBytes + 8 <= fileSize) {
+                int length = in.readInt();
+                int checksum = in.readInt();
+                if (length < 0 || length > WriteAheadLog.MAX_RECORD_BYTES || validBytes + 8 + length > fileSize) {
+                    break;
+                }
+                if (payload.length < length) {
+                    payload = new byte[Math.max(length, payload.length * 2)];
+                }
+                in.readFully(payload, 0, length);
+                crc.reset();
+                crc.update(payload, 0, length);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                EmployeeRecords.apply(new DataInputStream(new ByteArrayInputStream(payload, 0, length)),
+                        idCodec, state);
+                validBytes += 8 + length;
+                records++;
+            }
+        }
+        if (validBytes < fileSize) {
+            logger.warn("Truncating {} bytes of incomplete records from {}", fileSize - validBytes, path);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(validBytes);
+                channel.force(true);
+            }
+        }
+        return records;
+    }
+
+    @FunctionalInterface
+    private interface RecordWriter<E> {
+        void write(DataOutputStream out, E item) throws IOException;
+    }
+
+    private static long latestSnapshotGeneration(Path directory) throws IOException {
+        long latest = 0;
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Matcher matcher = SNAPSHOT_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    latest = Math.max(latest, Long.parseLong(matcher.group(1)));
+                }
+            }
+        }
+        return latest;
+    }
+
+    private static void deleteOtherGenerations(Path directory, long generation) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                Matcher snapshot = SNAPSHOT_NAME.matcher(name);
+                Matcher log = LOG_NAME.matcher(name);
+                boolean stale = name.endsWith(".tmp")
+                        || (snapshot.matches() && Long.parseLong(snapshot.group(1)) != generation)
+                        || (log.matches() && Long.parseLong(log.group(1)) != generation);
+                if (stale) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private Path logPath(long logGeneration) {
+        return logPath(directory, logGeneration);
+    }
+
+    private static Path snapshotPath(Path directory, long generation) {
+        return directory.resolve(String.format("snapshot-%020d.bin", generation));
+    }
+
+    private static Path logPath(Path directory, long generation) {
+        return directory.resolve(String.format("wal-%020d.log", generation));
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.employeemanagementsystem.persistence;
+
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeField;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Binary layout of employees and log records shared by the write-ahead log and snapshots.
+ */
+final class EmployeeRecords {
+    static final byte ADD = 1;
+    static final byte REMOVE = 2;
+    static final byte UPDATE = 3;
+    static final byte RAISE = 4;
+    /** A count followed by that many records, replayed together. */
+    static final byte BATCH = 5;
+
+    private static final byte STRING_VALUE = 'S';
+    private static final byte DOUBLE_VALUE = 'D';
+    private static final byte INT_VALUE = 'I';
+    private static final byte BOOLEAN_VALUE = 'Z';
+    private static final byte NULL_VALUE = 'N';
+
+    private EmployeeRecords() {
+    }
+
+    static <T> void writeEmployee(DataOutput out, IdCodec<T> idCodec, Employee<T> employee) throws IOException {
+        idCodec.write(out, employee.getEmployeeId());
+        writeValue(out, employee.getName());
+        writeString(out, employee.getDepartment());
+        out.writeDouble(employee.getSalary());
+        out.writeDouble(employee.getPerformanceRating());
+        out.writeInt(employee.getYearsOfExperience());
+        out.writeBoolean(employee.isActive());
+    }
+
+    static <T> Employee<T> readEmployee(DataInput in, IdCodec<T> idCodec) throws IOException {
+        T employeeId = idCodec.read(in);
+        String name = (String) readValue(in);
+        String department = readString(in);
+        double salary = in.readDouble();
+        double rating = in.readDouble();
+        int experience = in.readInt();
+        boolean active = in.readBoolean();
+        return new Employee<>(employeeId, name, department, salary, rating, experience, active);
+    }
+
+    /**
+     * Writes {@code value} as its UTF-8 byte count followed by the bytes. Unlike
+     * {@link DataOutput#writeUTF}, this has no 64 KB limit.
+     */
+    static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > WriteAheadLog.MAX_RECORD_BYTES) {
+            throw new IOException("Invalid string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static void writeValue(DataOutput out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL_VALUE);
+        } else if (value instanceof String s) {
+            out.writeByte(STRING_VALUE);
+            writeString(out, s);
+        } else if (value instanceof Double d) {
+            out.writeByte(DOUBLE_VALUE);
+            out.writeDouble(d);
+        } else if (value instanceof Integer i) {
+            out.writeByte(INT_VALUE);
+            out.writeInt(i);
+        } else if (value instanceof Boolean b) {
+            out.writeByte(BOOLEAN_VALUE);
+            out.writeBoolean(b);
+        } else {
+            throw new IllegalArgumentException("Unsupported field value type " + value.getClass().getName());
+        }
+    }
+
+    static Object readValue(DataInput in) throws IOException {
+        byte tag = in.readByte();
+        return switch (tag) {
+            case NULL_VALUE -> null;
+            case STRING_VALUE -> readString(in);
+            case DOUBLE_VALUE -> in.readDouble();
+            case INT_VALUE -> in.readInt();
+            case BOOLEAN_VALUE -> in.readBoolean();
+            default -> throw new IOException("Unknown value tag " + tag);
+        };
+    }
+
+    /**
+     * Applies one decoded log record to recovered state. Records were validated when they were
+     * logged, so this only repeats the state change.
+     */
+    static <T> void apply(DataInput in, IdCodec<T> idCodec, Map<T, Employee<T>> state) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case ADD -> {
+                Employee<T> employee = readEmployee(in, idCodec);
+                state.put(employee.getEmployeeId(), employee);
+            }
+            case REMOVE -> state.remove(idCodec.read(in));
+            case UPDATE -> {
+                Employee<T> employee = state.get(idCodec.read(in));
+                String field = readString(in);
+                Object value = readValue(in);
+                if (employee != null) {
+                    applyField(employee, field, value);
+                }
+            }
+            case RAISE -> {
+                double minRating = in.readDouble();
+                double raisePercent = in.readDouble();
+                // Same arithmetic as EmployeeDatabase.giveRaiseToHighPerformers.
+                for (Employee<T> employee : state.values()) {
+                    if (employee.getPerformanceRating() >= minRating) {
+                        double currentSalary = employee.getSalary();
+                        employee.setSalary(currentSalary + currentSalary * (raisePercent / 100));
+                    }
+                }
+            }
+            case BATCH -> {
+                int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    apply(in, idCodec, state);
+                }
+            }
+            default -> throw new IOException("Unknown log record type " + type);
+        }
+    }
+
+    private static void applyField(Employee<?> employee, String field, Object value) throws IOException {
+        try {
+            EmployeeField.fromName(field).set(employee, value);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Unknown field " + field + " in log record", e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.employeemanagementsystem.persistence;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Binary encoding of employee IDs for the write-ahead log and snapshots.
+ */
+public interface IdCodec<T> {
+    void write(DataOutput out, T employeeId) throws IOException;
+
+    T read(DataInput in) throws IOException;
+
+    static IdCodec<String> strings() {
+        return new IdCodec<>() {
+            @Override
+            public void write(DataOutput out, String employeeId) throws IOException {
+                EmployeeRecords.writeString(out, employeeId);
+            }
+
+            @Override
+            public String read(DataInput in) throws IOException {
+                return EmployeeRecords.readString(in);
+            }
+        };
+    }
+
+    static IdCodec<UUID> uuids() {
+        return new IdCodec<>() {
+            @Override
+            public void write(DataOutput out, UUID employeeId) throws IOException {
+                out.writeLong(employeeId.getMostSignificantBits());
+                out.writeLong(employeeId.getLeastSignificantBits());
+            }
+
+            @Override
+            public UUID read(DataInput in) throws IOException {
+                return new UUID(in.readLong(), in.readLong());
+            }
+        };
+    }
+
+    static IdCodec<Long> longs() {
+        return new IdCodec<>() {
+            @Override
+            public void write(DataOutput out, Long employeeId) throws IOException {
+                out.writeLong(employeeId);
+            }
+
+            @Override
+            public Long read(DataInput in) throws IOException {
+                return in.readLong();
+            }
+        };
+    }
+
+    static IdCodec<Integer> integers() {
+        return new IdCodec<>() {
+            @Override
+            public void write(DataOutput out, Integer employeeId) throws IOException {
+                out.writeInt(employeeId);
+            }
+
+            @Override
+            public Integer read(DataInput in) throws IOException {
+                return in.readInt();
+            }
+        };
+    }
+}
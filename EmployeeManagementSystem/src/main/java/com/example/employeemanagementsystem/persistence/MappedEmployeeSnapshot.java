@@ -0,0 +1,464 @@
+package com.example.employeemanagementsystem.persistence;
+
+import com.example.employeemanagementsystem.exception.EmployeeNotFoundException;
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeDatabase;
+import com.example.employeemanagementsystem.model.EmployeeQueries;
+import com.example.employeemanagementsystem.model.TopK;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Read-only employee snapshot in a fixed binary layout that is memory-mapped rather than parsed.
+ * <p>
+ * The file holds a header, one fixed-size record per employee, two string tables (departments and
+ * names, each deduplicated), a section of encoded IDs and a hash table from IDs to rows:
+ * <pre>
+ * header   magic, version, count, offsets of the department table, name table, ID section and ID table
+ * records  salary f64 | rating f64 | experience i32 | flags u8 | pad | department ref i32 | name ref i32 | ID offset i32
+ * strings  count i32 | count + 1 end offsets i32 | UTF-8 bytes
+ * IDs      length i32 | IdCodec bytes, per employee
+ * ID table capacity i32 | capacity slots of row + 1 i32, 0 when empty
+ * </pre>
+ * Opening a snapshot maps the file and checks that the header's counts and offsets fit in it.
+ * Numeric filters and aggregates read salaries, ratings and department codes straight from the
+ * mapped buffer; {@link Employee} objects are built only for rows that are returned. The ID table
+ * is probed linearly from a hash of the encoded ID bytes, which unlike {@link Object#hashCode} is
+ * the same in every JVM, so lookups by ID need no index on the heap. A single mapping is limited
+ * to 2 GB.
+ */
+public final class MappedEmployeeSnapshot<T> implements EmployeeQueries<T> {
+    private static final int MAGIC = 0x454D504D;
+    private static final int VERSION = 3;
+    private static final int HEADER_BYTES = 32;
+    private static final int RECORD_BYTES = 40;
+    private static final int SALARY = 0;
+    private static final int RATING = 8;
+    private static final int EXPERIENCE = 16;
+    private static final int FLAGS = 20;
+    private static final int DEPARTMENT_REF = 24;
+    private static final int NAME_REF = 28;
+    private static final int ID_OFFSET = 32;
+    private static final byte ACTIVE_FLAG = 1;
+    private static final int FIBONACCI = 0x9E3779B9;
+
+    private final ByteBuffer buffer;
+    private final IdCodec<T> idCodec;
+    private final int count;
+    private final StringTable departments;
+    private final StringTable names;
+    private final int idSection;
+    private final int idTable;
+    private final int idTableCapacity;
+
+    private MappedEmployeeSnapshot(ByteBuffer buffer, IdCodec<T> idCodec, Path path) throws IOException {
+        int size = buffer.capacity();
+        if (size < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a mapped employee snapshot: " + path);
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported mapped snapshot version " + buffer.getInt(4) + ": " + path);
+        }
+        this.buffer = buffer;
+        this.idCodec = idCodec;
+        this.count = buffer.getInt(8);
+        int departmentTable = buffer.getInt(12);
+        int nameTable = buffer.getInt(16);
+        this.idSection = buffer.getInt(20);
+        this.idTable = buffer.getInt(24);
+        check(count >= 0 && HEADER_BYTES + (long) count * RECORD_BYTES <= departmentTable,
+                path, "employee count " + count + " does not fit before the string tables");
+        check(departmentTable <= nameTable && nameTable <= idSection && idSection <= idTable
+                && (long) idTable + 4 <= size, path, "section offsets out of order or past the end of the file");
+        this.departments = new StringTable(buffer, departmentTable, nameTable, path);
+        this.names = new StringTable(buffer, nameTable, idSection, path);
+        this.idTableCapacity = buffer.getInt(idTable);
+        check(idTableCapacity > count && Integer.bitCount(idTableCapacity) == 1
+                && idTable + 4 + 4L * idTableCapacity == size, path, "ID table does not match the employee count");
+    }
+
+    public static <T> MappedEmployeeSnapshot<T> open(Path path, IdCodec<T> idCodec) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot larger than 2 GB cannot be mapped: " + path);
+            }
+            return new MappedEmployeeSnapshot<>(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()),
+                    idCodec, path);
+        }
+    }
+
+    public static <T> void write(Path path, Collection<Employee<T>> employees, IdCodec<T> idCodec) throws IOException {
+        StringTableBuilder departmentTable = new StringTableBuilder();
+        StringTableBuilder nameTable = new StringTableBuilder();
+        ByteArrayOutputStream idBytes = new ByteArrayOutputStream();
+        DataOutputStream ids = new DataOutputStream(idBytes);
+        ByteArrayOutputStream encodedId = new ByteArrayOutputStream(32);
+        DataOutputStream idOut = new DataOutputStream(encodedId);
+
+        int count = employees.size();
+        ByteBuffer records = ByteBuffer.allocate(Math.multiplyExact(count, RECORD_BYTES));
+        int capacity = idTableCapacity(count);
+        int shift = Integer.numberOfLeadingZeros(capacity - 1);
+        int[] idSlots = new int[capacity];
+        int row = 0;
+        for (Employee<T> employee : employees) {
+            encodedId.reset();
+            idCodec.write(idOut, employee.getEmployeeId());
+            int slot = hash(encodedId.toByteArray()) >>> shift;
+            while (idSlots[slot] != 0) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            idSlots[slot] = ++row;
+            int idOffset = idBytes.size();
+            ids.writeInt(encodedId.size());
+            encodedId.writeTo(ids);
+
+            records.putDouble(employee.getSalary())
+                    .putDouble(employee.getPerformanceRating())
+                    .putInt(employee.getYearsOfExperience())
+                    .put(employee.isActive() ? ACTIVE_FLAG : 0)
+                    .put(new byte[3])
+                    .putInt(departmentTable.ref(employee.getDepartment()))
+                    .putInt(nameTable.ref(employee.getName()))
+                    .putInt(idOffset)
+                    .putInt(0);
+        }
+
+        long departmentOffset = HEADER_BYTES + (long) records.capacity();
+        long nameOffset = departmentOffset + departmentTable.byteSize();
+        long idOffset = nameOffset + nameTable.byteSize();
+        long idTableOffset = idOffset + idBytes.size();
+        if (idTableOffset + 4 + 4L * capacity > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot would exceed 2 GB");
+        }
+
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(count);
+                out.writeInt((int) departmentOffset);
+                out.writeInt((int) nameOffset);
+                out.writeInt((int) idOffset);
+                out.writeInt((int) idTableOffset);
+                out.writeInt(0);
+                out.write(records.array());
+                departmentTable.writeTo(out);
+                nameTable.writeTo(out);
+                idBytes.writeTo(out);
+                out.writeInt(capacity);
+                for (int slot : idSlots) {
+                    out.writeInt(slot);
+                }
+                out.flush();
+                channel.force(true);
+            }
+            Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            // Only still there if writing or moving it failed.
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Materializes every employee into {@code database} in one bulk load.
+     */
+    public void loadInto(EmployeeDatabase<T> database) {
+        database.loadEmployees(getAllEmployees());
+    }
+
+    public double salary(int row) {
+        return buffer.getDouble(recordOffset(row) + SALARY);
+    }
+
+    public double performanceRating(int row) {
+        return buffer.getDouble(recordOffset(row) + RATING);
+    }
+
+    public int yearsOfExperience(int row) {
+        return buffer.getInt(recordOffset(row) + EXPERIENCE);
+    }
+
+    public boolean isActive(int row) {
+        return (buffer.get(recordOffset(row) + FLAGS) & ACTIVE_FLAG) != 0;
+    }
+
+    public Employee<T> employee(int row) {
+        Objects.checkIndex(row, count);
+        int offset = recordOffset(row);
+        return new Employee<>(employeeId(offset), names.get(buffer.getInt(offset + NAME_REF)),
+                departments.get(buffer.getInt(offset + DEPARTMENT_REF)),
+                buffer.getDouble(offset + SALARY), buffer.getDouble(offset + RATING),
+                buffer.getInt(offset + EXPERIENCE), (buffer.get(offset + FLAGS) & ACTIVE_FLAG) != 0);
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public Employee<T> getEmployee(T employeeId) throws EmployeeNotFoundException {
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream(32);
+        try {
+            idCodec.write(new DataOutputStream(encoded), employeeId);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot encode employee ID " + employeeId, e);
+        }
+        byte[] key = encoded.toByteArray();
+        int mask = idTableCapacity - 1;
+        int shift = Integer.numberOfLeadingZeros(mask);
+        for (int slot = hash(key) >>> shift; ; slot = (slot + 1) & mask) {
+            int entry = buffer.getInt(idTable + 4 + 4 * slot);
+            if (entry == 0) {
+                throw new EmployeeNotFoundException("Employee with ID " + employeeId + " is not found!");
+            }
+            if (entry < 0 || entry > count) {
+                throw new UncheckedIOException(new IOException("Corrupt ID table in snapshot"));
+            }
+            if (idMatches(recordOffset(entry - 1), key)) {
+                return employee(entry - 1);
+            }
+        }
+    }
+
+    @Override
+    public List<Employee<T>> getAllEmployees() {
+        List<Employee<T>> result = new ArrayList<>(count);
+        for (int row = 0; row < count; row++) {
+            result.add(employee(row));
+        }
+        return result;
+    }
+
+    @Override
+    public List<Employee<T>> searchByDepartment(String department) {
+        boolean[] mask = departments.matchingIgnoreCase(department);
+        List<Employee<T>> result = new ArrayList<>();
+        for (int row = 0; row < count; row++) {
+            if (mask[buffer.getInt(recordOffset(row) + DEPARTMENT_REF)]) {
+                result.add(employee(row));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Employee<T>> searchByName(String keyword) {
+        String needle = keyword.toLowerCase(Locale.ROOT);
+        List<Employee<T>> result = new ArrayList<>();
+        for (int row = 0; row < count; row++) {
+            String name = names.get(buffer.getInt(recordOffset(row) + NAME_REF));
+            if (name != null && name.toLowerCase(Locale.ROOT).contains(needle)) {
+                result.add(employee(row));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Employee<T>> filterByPerformance(double minRating) {
+        List<Employee<T>> result = new ArrayList<>();
+        for (int row = 0; row < count; row++) {
+            if (buffer.getDouble(recordOffset(row) + RATING) >= minRating) {
+                result.add(employee(row));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Employee<T>> filterBySalaryRange(double minSalary, double maxSalary) {
+        List<Employee<T>> result = new ArrayList<>();
+        for (int row = 0; row < count; row++) {
+            double salary = buffer.getDouble(recordOffset(row) + SALARY);
+            if (salary >= minSalary && salary <= maxSalary) {
+                result.add(employee(row));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public double getAverageSalaryByDepartment(String department) {
+        boolean[] mask = departments.matchingIgnoreCase(department);
+        double sum = 0;
+        int matches = 0;
+        for (int row = 0; row < count; row++) {
+            int offset = recordOffset(row);
+            if (mask[buffer.getInt(offset + DEPARTMENT_REF)]) {
+                sum += buffer.getDouble(offset + SALARY);
+                matches++;
+            }
+        }
+        return matches == 0 ? 0.0 : sum / matches;
+    }
+
+    @Override
+    public List<Employee<T>> getTopPaidEmployees(int topN) {
+        List<Integer> rows = TopK.select(IntStream.range(0, count).boxed()::iterator, topN,
+                (a, b) -> Double.compare(salary(b), salary(a)));
+        List<Employee<T>> result = new ArrayList<>(rows.size());
+        for (int row : rows) {
+            result.add(employee(row));
+        }
+        return result;
+    }
+
+    private int recordOffset(int row) {
+        return HEADER_BYTES + row * RECORD_BYTES;
+    }
+
+    private T employeeId(int recordOffset) {
+        int offset = idOffset(recordOffset);
+        byte[] encoded = new byte[buffer.getInt(offset)];
+        buffer.get(offset + 4, encoded);
+        try {
+            return idCodec.read(new DataInputStream(new ByteArrayInputStream(encoded)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt employee ID in snapshot", e);
+        }
+    }
+
+    private boolean idMatches(int recordOffset, byte[] key) {
+        int offset = idOffset(recordOffset);
+        if (buffer.getInt(offset) != key.length) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (buffer.get(offset + 4 + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // The start of the row's encoded ID, after checking that it lies within the ID section.
+    private int idOffset(int recordOffset) {
+        long offset = (long) idSection + buffer.getInt(recordOffset + ID_OFFSET);
+        if (offset < idSection || offset + 4 > idTable || offset + 4 + buffer.getInt((int) offset) > idTable
+                || buffer.getInt((int) offset) < 0) {
+            throw new UncheckedIOException(new IOException("Corrupt employee ID offset in snapshot"));
+        }
+        return (int) offset;
+    }
+
+    private static int idTableCapacity(int count) {
+        // A power of two at most three quarters full, with at least one empty slot to end probes.
+        return Integer.highestOneBit(Math.max(2, count + count / 3 + 1) - 1) << 1;
+    }
+
+    private static int hash(byte[] encodedId) {
+        return Arrays.hashCode(encodedId) * FIBONACCI;
+    }
+
+    private static void check(boolean valid, Path path, String problem) throws IOException {
+        if (!valid) {
+            throw new IOException("Corrupt mapped employee snapshot " + path + ": " + problem);
+        }
+    }
+
+    /**
+     * Lazily decoding view of a string table; decoded strings are cached per reference.
+     */
+    private static final class StringTable {
+        private final ByteBuffer buffer;
+        private final int offsets;
+        private final int data;
+        private final int end;
+        private final String[] decoded;
+
+        StringTable(ByteBuffer buffer, int start, int end, Path path) throws IOException {
+            check(start + 4L <= end, path, "string table at " + start + " is truncated");
+            this.buffer = buffer;
+            int size = buffer.getInt(start);
+            this.offsets = start + 4;
+            check(size >= 0 && offsets + 4L * (size + 1) <= end, path, "string table at " + start
+                    + " holds " + size + " strings, more than fit");
+            this.data = offsets + 4 * (size + 1);
+            this.end = end;
+            check(buffer.getInt(offsets + 4 * size) <= end - data, path, "string table at " + start
+                    + " is longer than its section");
+            this.decoded = new String[size];
+        }
+
+        String get(int ref) {
+            if (ref < 0) {
+                return null;
+            }
+            if (ref >= decoded.length) {
+                throw new UncheckedIOException(new IOException("Corrupt string reference " + ref + " in snapshot"));
+            }
+            String value = decoded[ref];
+            if (value == null) {
+                int from = buffer.getInt(offsets + 4 * ref);
+                int to = buffer.getInt(offsets + 4 * (ref + 1));
+                if (from < 0 || to < from || to > end - data) {
+                    throw new UncheckedIOException(new IOException("Corrupt string offsets in snapshot"));
+                }
+                byte[] bytes = new byte[to - from];
+                buffer.get(data + from, bytes);
+                value = new String(bytes, StandardCharsets.UTF_8);
+                decoded[ref] = value;
+            }
+            return value;
+        }
+
+        boolean[] matchingIgnoreCase(String value) {
+            boolean[] mask = new boolean[decoded.length];
+            for (int ref = 0; ref < mask.length && value != null; ref++) {
+                mask[ref] = value.equalsIgnoreCase(get(ref));
+            }
+            return mask;
+        }
+    }
+
+    private static final class StringTableBuilder {
+        private final Map<String, Integer> refs = new HashMap<>();
+        private final List<byte[]> values = new ArrayList<>();
+        private long bytes;
+
+        int ref(String value) {
+            if (value == null) {
+                return -1;
+            }
+            return refs.computeIfAbsent(value, v -> {
+                byte[] encoded = v.getBytes(StandardCharsets.UTF_8);
+                values.add(encoded);
+                bytes += encoded.length;
+                return values.size() - 1;
+            });
+        }
+
+        long byteSize() {
+            return 4 + 4L * (values.size() + 1) + bytes;
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(values.size());
+            int end = 0;
+            out.writeInt(end);
+            for (byte[] value : values) {
+                end += value.length;
+                out.writeInt(end);
+            }
+            for (byte[] value : values) {
+                out.write(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.employeemanagementsystem.persistence;
+
+/**
+ * When a mutation counts as durable.
+ */
+public enum SyncMode {
+    /**
+     * The mutating call returns only after its log record has been fsynced. Records appended while
+     * an fsync is in progress are committed together by the next one.
+     */
+    SYNC,
+    /**
+     * The mutating call returns as soon as its record is buffered; a background thread writes and
+     * fsyncs batches every few milliseconds. A crash can lose the last unflushed batch.
+     */
+    ASYNC
+}
@@ -0,0 +1,207 @@
+package com.example.employeemanagementsystem.persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log file with group commit. Records are framed as {@code [length][crc32][payload]}
+ * and collected in an in-memory batch; a single flusher thread writes each batch and fsyncs it, so
+ * every record appended while an fsync is running shares the next one.
+ */
+final class WriteAheadLog implements Closeable {
+    static final int MAX_RECORD_BYTES = 64 * 1024 * 1024;
+    private static final int FRAME_HEADER_BYTES = 8;
+    private static final int FLUSH_THRESHOLD_BYTES = 256 * 1024;
+    private static final int MAX_BUFFERED_BYTES = 8 * 1024 * 1024;
+    private static final long FLUSH_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final FileChannel channel;
+    private final SyncMode syncMode;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition dataAvailable = lock.newCondition();
+    private final Condition flushed = lock.newCondition();
+    private final CRC32 crc = new CRC32();
+    private final Thread flusher;
+
+    private byte[] buffer = new byte[64 * 1024];
+    private byte[] spare = new byte[64 * 1024];
+    private int length;
+    private long appendedRecords;
+    private long flushedRecords;
+    private IOException failure;
+    private boolean closed;
+
+    WriteAheadLog(Path path, SyncMode syncMode) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        this.channel.position(channel.size());
+        this.syncMode = syncMode;
+        this.flusher = new Thread(this::runFlusher, "employee-wal-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * Appends one record. In {@link SyncMode#SYNC} this returns once the record is on disk.
+     */
+    void append(byte[] record, int offset, int recordLength) {
+        if (recordLength > MAX_RECORD_BYTES) {
+            throw new IllegalArgumentException("Log record of " + recordLength + " bytes is too large");
+        }
+        lock.lock();
+        try {
+            while (length >= MAX_BUFFERED_BYTES && failure == null && !closed) {
+                flushed.awaitUninterruptibly();
+            }
+            checkUsable();
+            boolean wasEmpty = length == 0;
+            ensureCapacity(length + FRAME_HEADER_BYTES + recordLength);
+            crc.reset();
+            crc.update(record, offset, recordLength);
+            putInt(recordLength);
+            putInt((int) crc.getValue());
+            System.arraycopy(record, offset, buffer, length, recordLength);
+            length += recordLength;
+            long sequence = ++appendedRecords;
+
+            if (syncMode == SyncMode.SYNC || wasEmpty || length >= FLUSH_THRESHOLD_BYTES) {
+                dataAvailable.signal();
+            }
+            if (syncMode == SyncMode.SYNC) {
+                awaitFlushed(sequence);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until every record appended so far has been fsynced.
+     */
+    void sync() {
+        lock.lock();
+        try {
+            dataAvailable.signal();
+            awaitFlushed(appendedRecords);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            closed = true;
+            dataAvailable.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void runFlusher() {
+        while (true) {
+            byte[] batch;
+            int batchLength;
+            long batchEnd;
+            lock.lock();
+            try {
+                while (length == 0 && !closed) {
+                    dataAvailable.awaitUninterruptibly();
+                }
+                if (length == 0) {
+                    return;
+                }
+                if (syncMode == SyncMode.ASYNC && !closed && length < FLUSH_THRESHOLD_BYTES) {
+                    // Give more records a chance to join this batch.
+                    try {
+                        dataAvailable.awaitNanos(FLUSH_INTERVAL_NANOS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                batch = buffer;
+                batchLength = length;
+                batchEnd = appendedRecords;
+                buffer = spare;
+                length = 0;
+            } finally {
+                lock.unlock();
+            }
+
+            IOException error = null;
+            try {
+                ByteBuffer data = ByteBuffer.wrap(batch, 0, batchLength);
+                while (data.hasRemaining()) {
+                    channel.write(data);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                error = e;
+            }
+
+            lock.lock();
+            try {
+                spare = batch;
+                if (error != null) {
+                    failure = error;
+                } else {
+                    flushedRecords = batchEnd;
+                }
+                flushed.signalAll();
+                if (error != null) {
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void awaitFlushed(long sequence) {
+        while (flushedRecords < sequence && failure == null) {
+            flushed.awaitUninterruptibly();
+        }
+        checkUsable();
+    }
+
+    private void checkUsable() {
+        if (failure != null) {
+            throw new UncheckedIOException("Write-ahead log is no longer writable", failure);
+        }
+        if (closed) {
+            throw new IllegalStateException("Write-ahead log is closed");
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+        }
+    }
+
+    private void putInt(int value) {
+        buffer[length++] = (byte) (value >>> 24);
+        buffer[length++] = (byte) (value >>> 16);
+        buffer[length++] = (byte) (value >>> 8);
+        buffer[length++] = (byte) value;
+    }
+}
@@ -0,0 +1,670 @@
+package com.example.employeemanagementsystem.server;
+
+import com.example.employeemanagementsystem.controller.EmployeeController;
+import com.example.employeemanagementsystem.exception.EmployeeNotFoundException;
+import com.example.employeemanagementsystem.exception.InvalidDepartmentException;
+import com.example.employeemanagementsystem.exception.InvalidSalaryException;
+import com.example.employeemanagementsystem.io.Json;
+import com.example.employeemanagementsystem.model.DepartmentStats;
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeDatabase;
+import com.example.employeemanagementsystem.model.EmployeeExperienceComparator;
+import com.example.employeemanagementsystem.model.EmployeeField;
+import com.example.employeemanagementsystem.model.EmployeeFilter;
+import com.example.employeemanagementsystem.model.EmployeePatch;
+import com.example.employeemanagementsystem.model.EmployeePerformanceComparator;
+import com.example.employeemanagementsystem.model.EmployeeQuery;
+import com.example.employeemanagementsystem.model.EmployeeSalaryComparator;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Serves an {@link EmployeeController} over HTTP with JSON bodies, using the JDK's built-in
+ * {@link HttpServer}.
+ * <pre>
+ * GET    /employees[?sort=salary|performance|experience]    every employee
+ * GET    /employees/search?department=..|name=..              controller searches
+ * GET    /employees/filter?minRating=&amp;minSalary=&amp;maxSalary=&amp;minYears=&amp;maxYears=&amp;active=
+ * GET    /employees/top?n=5[&amp;by=salary|performance]          top-N
+ * GET    /employees/{id}
+ * POST   /employees                 create; 409 if the ID exists
+ * PATCH  /employees/{id}            {"salary": 70000, "department": "Sales", ...}, applied as a whole
+ * DELETE /employees/{id}
+ * POST   /raises                    {"minRating": 4.5, "percent": 5}
+ * GET    /departments               aggregates of every department
+ * GET    /departments/{name}        aggregates and average salary of one department
+ * GET    /health
+ * </pre>
+ * {@code POST} with an {@code X-HTTP-Method-Override} header is handled as the method it names.
+ * List endpoints take {@code offset} and {@code limit}. Their bodies are streamed in chunks as the
+ * rows are written, so a large result is never held as one string.
+ * <p>
+ * Requests run on a fixed pool of worker threads. Reads share a read lock and run in parallel,
+ * writes take the write lock; the rows of a response are copied under the lock and written to the
+ * network after releasing it, so a slow client never holds up writers. At most
+ * {@code maxQueued} requests wait for a worker. Beyond that, requests are answered at once with
+ * {@code 503 Service Unavailable} and a {@code Retry-After} header instead of queueing without
+ * bound. The refusals are written by a separate thread, so the thread that accepts connections never
+ * blocks on a client; only if its queue is full as well does the accepting thread answer itself.
+ * <p>
+ * The JDK server leaves Nagle's algorithm on unless the {@code sun.net.httpserver.nodelay} system
+ * property is {@code true}, which holds small responses back until the client's delayed ACK, about
+ * 40 ms each. It is read once, when the first server starts, so applications set it on startup, as
+ * {@code ServerMain} does.
+ */
+public class EmployeeServer<T> implements AutoCloseable {
+    public static final int DEFAULT_MAX_QUEUED = 1_024;
+    public static final int MAX_BODY_BYTES = 1024 * 1024;
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeServer.class);
+    // Set while a request that arrived with the queue full runs just long enough to be refused.
+    private static final ThreadLocal<Boolean> OVERLOADED = ThreadLocal.withInitial(() -> false);
+    private static final int FLUSH_CHARS = 32 * 1024;
+    // Shared so that equal queries from different requests hit the controller's cache.
+    private static final Comparator<Employee<Object>> BY_SALARY = new EmployeeSalaryComparator<>();
+    private static final Comparator<Employee<Object>> BY_PERFORMANCE = new EmployeePerformanceComparator<>();
+    private static final Comparator<Employee<Object>> BY_EXPERIENCE = new EmployeeExperienceComparator<>();
+
+    private final EmployeeController<T> controller;
+    private final EmployeeDatabase<T> database;
+    private final Function<String, T> idParser;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ThreadPoolExecutor workers;
+    private final ThreadPoolExecutor refusals;
+    private final HttpServer server;
+    private final AtomicInteger rejected = new AtomicInteger();
+
+    public EmployeeServer(EmployeeController<T> controller, Function<String, T> idParser, InetSocketAddress address)
+            throws IOException {
+        this(controller, idParser, address, Math.max(4, 2 * Runtime.getRuntime().availableProcessors()),
+                DEFAULT_MAX_QUEUED);
+    }
+
+    /**
+     * Binds {@code address} and starts serving.
+     *
+     * @param idParser  turns the ID in a URL into an employee ID; throws
+     *                  {@link IllegalArgumentException} for malformed ones
+     * @param workers   number of threads that handle requests
+     * @param maxQueued requests that may wait for a worker before new ones are refused
+     */
+    public EmployeeServer(EmployeeController<T> controller, Function<String, T> idParser, InetSocketAddress address,
+                          int workers, int maxQueued) throws IOException {
+        this.controller = controller;
+        this.database = controller.getDatabase();
+        this.idParser = idParser;
+        AtomicInteger threads = new AtomicInteger();
+        this.refusals = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new ArrayBlockingQueue<>(maxQueued),
+                task -> {
+                    Thread thread = new Thread(task, "employee-http-refusals");
+                    thread.setDaemon(true);
+                    return thread;
+                }, (task, pool) -> task.run());
+        this.workers = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(maxQueued), task -> {
+                    Thread thread = new Thread(task, "employee-http-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, (task, pool) -> refusals.execute(() -> {
+                    OVERLOADED.set(true);
+                    try {
+                        task.run();
+                    } finally {
+                        OVERLOADED.set(false);
+                    }
+                }));
+        this.server = HttpServer.create(address, 0);
+        server.setExecutor(this.workers);
+        server.createContext("/employees", exchange -> handle(exchange, this::employees));
+        server.createContext("/departments", exchange -> handle(exchange, this::departments));
+        server.createContext("/raises", exchange -> handle(exchange, this::raises));
+        server.createContext("/health", exchange -> handle(exchange, this::health));
+        server.start();
+        logger.info("Serving employees on {} with {} workers", server.getAddress(), workers);
+    }
+
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    /**
+     * Number of requests refused with 503 because the queue was full.
+     */
+    public int getRejectedRequests() {
+        return rejected.get();
+    }
+
+    /**
+     * Stops accepting connections, gives running exchanges up to a second to finish and stops the
+     * workers.
+     */
+    @Override
+    public void close() {
+        server.stop(1);
+        workers.shutdown();
+        refusals.shutdown();
+        logger.info("Employee server stopped");
+    }
+
+    private interface Route {
+        void serve(HttpExchange exchange, String[] path, Map<String, String> query) throws Exception;
+    }
+
+    private void handle(HttpExchange exchange, Route route) throws IOException {
+        try (exchange) {
+            if (OVERLOADED.get()) {
+                rejected.incrementAndGet();
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                sendError(exchange, 503, "Server is busy");
+                return;
+            }
+            try {
+                URI uri = exchange.getRequestURI();
+                route.serve(exchange, segments(uri.getRawPath()), query(uri.getRawQuery()));
+            } catch (HttpError e) {
+                sendError(exchange, e.status, e.getMessage());
+            } catch (InvalidSalaryException | InvalidDepartmentException | IllegalArgumentException e) {
+                sendError(exchange, 400, e.getMessage());
+            } catch (IOException e) {
+                // The client went away mid-response; nothing left to tell it.
+                logger.debug("Failed to answer {} {}", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+            } catch (Exception e) {
+                logger.error("Failed to answer {} {}", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+                sendError(exchange, 500, "Internal error");
+            }
+        }
+    }
+
+    private void employees(HttpExchange exchange, String[] path, Map<String, String> query) throws Exception {
+        String method = method(exchange);
+        if (path.length == 1) {
+            switch (method) {
+                case "GET" -> streamAll(exchange, query);
+                case "POST" -> create(exchange);
+                default -> throw HttpError.methodNotAllowed(method);
+            }
+        } else if (path.length == 2 && method.equals("GET") && path[1].equals("search")) {
+            search(exchange, query);
+        } else if (path.length == 2 && method.equals("GET") && path[1].equals("filter")) {
+            filter(exchange, query);
+        } else if (path.length == 2 && method.equals("GET") && path[1].equals("top")) {
+            top(exchange, query);
+        } else if (path.length == 2) {
+            T employeeId = parseId(path[1]);
+            switch (method) {
+                case "GET" -> get(exchange, employeeId);
+                case "PATCH" -> update(exchange, employeeId);
+                case "DELETE" -> delete(exchange, employeeId);
+                default -> throw HttpError.methodNotAllowed(method);
+            }
+        } else {
+            throw HttpError.notFound(exchange.getRequestURI().getPath());
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void streamAll(HttpExchange exchange, Map<String, String> query) throws IOException {
+        String sort = query.get("sort");
+        EmployeeQuery.Builder<T> employeeQuery = EmployeeQuery.builder();
+        if (sort != null) {
+            Comparator order = switch (sort) {
+                case "salary" -> BY_SALARY;
+                case "performance" -> BY_PERFORMANCE;
+                case "experience" -> BY_EXPERIENCE;
+                default -> throw new IllegalArgumentException("Unknown sort " + sort);
+            };
+            employeeQuery.orderBy(order);
+        }
+        streamQuery(exchange, query, employeeQuery);
+    }
+
+    private void search(HttpExchange exchange, Map<String, String> query) throws IOException {
+        String department = query.get("department");
+        String name = query.get("name");
+        if ((department == null) == (name == null)) {
+            throw new IllegalArgumentException("Search by exactly one of department or name");
+        }
+        streamQuery(exchange, query, EmployeeQuery.<T>builder().where(department != null
+                ? EmployeeFilter.department(department) : EmployeeFilter.nameContains(name)));
+    }
+
+    private void filter(HttpExchange exchange, Map<String, String> query) throws IOException {
+        List<EmployeeFilter> conditions = new ArrayList<>();
+        if (query.containsKey("minRating")) {
+            conditions.add(EmployeeFilter.ratingAtLeast(parseDouble(query, "minRating")));
+        }
+        if (query.containsKey("minSalary") || query.containsKey("maxSalary")) {
+            conditions.add(EmployeeFilter.salaryBetween(
+                    query.containsKey("minSalary") ? parseDouble(query, "minSalary") : Double.NEGATIVE_INFINITY,
+                    query.containsKey("maxSalary") ? parseDouble(query, "maxSalary") : Double.POSITIVE_INFINITY));
+        }
+        if (query.containsKey("minYears") || query.containsKey("maxYears")) {
+            conditions.add(EmployeeFilter.experienceBetween(
+                    query.containsKey("minYears") ? parseInt(query, "minYears") : Integer.MIN_VALUE,
+                    query.containsKey("maxYears") ? parseInt(query, "maxYears") : Integer.MAX_VALUE));
+        }
+        if (query.containsKey("active")) {
+            conditions.add(EmployeeFilter.active(Boolean.parseBoolean(query.get("active"))));
+        }
+        if (conditions.isEmpty()) {
+            throw new IllegalArgumentException("Give at least one of minRating, minSalary, maxSalary, minYears, "
+                    + "maxYears or active");
+        }
+        streamQuery(exchange, query, EmployeeQuery.<T>builder()
+                .where(EmployeeFilter.allOf(conditions.toArray(new EmployeeFilter[0]))));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void top(HttpExchange exchange, Map<String, String> query) throws IOException {
+        int n = query.containsKey("n") ? parseInt(query, "n") : 5;
+        String by = query.getOrDefault("by", "salary");
+        Comparator order = switch (by) {
+            case "salary" -> BY_SALARY;
+            case "performance" -> BY_PERFORMANCE;
+            default -> throw new IllegalArgumentException("Unknown ranking " + by);
+        };
+        if (n < 0) {
+            throw new IllegalArgumentException("n must not be negative: " + n);
+        }
+        EmployeeQuery<T> employeeQuery = EmployeeQuery.<T>builder().orderBy(order).limit(n).build();
+        // At most n rows, so the page is cut from the whole ranking.
+        streamRows(exchange, query, needed -> {
+            List<Employee<T>> rows = n == 5 && by.equals("salary")
+                    ? controller.getTop5HighestPaid() : controller.query(employeeQuery);
+            return new Rows<>(rows.size(), rows);
+        });
+    }
+
+    private void get(HttpExchange exchange, T employeeId) throws IOException, HttpError {
+        StringBuilder body = new StringBuilder(256);
+        lock.readLock().lock();
+        try {
+            Json.appendEmployee(body, find(employeeId));
+        } finally {
+            lock.readLock().unlock();
+        }
+        send(exchange, 200, body);
+    }
+
+    private void create(HttpExchange exchange) throws Exception {
+        Map<String, Object> fields = Json.parseObject(readBody(exchange));
+        Object rawId = fields.get("employeeId");
+        if (rawId == null) {
+            throw new IllegalArgumentException("employeeId is required");
+        }
+        T employeeId = parseId(rawId.toString());
+        Employee<T> employee = new Employee<>(employeeId, (String) coerce(EmployeeField.NAME, fields.get("name")),
+                (String) coerce(EmployeeField.DEPARTMENT, fields.get("department")),
+                number(fields, "salary", 0.0), number(fields, "performanceRating", 0.0),
+                fields.get("yearsOfExperience") == null ? 0
+                        : (Integer) coerce(EmployeeField.YEARS_OF_EXPERIENCE, fields.get("yearsOfExperience")),
+                !Boolean.FALSE.equals(fields.getOrDefault("active", Boolean.TRUE)));
+        lock.writeLock().lock();
+        try {
+            if (database.containsEmployee(employeeId)) {
+                throw new HttpError(409, "Employee " + employeeId + " already exists");
+            }
+            controller.addEmployee(employee);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        exchange.getResponseHeaders().set("Location", "/employees/" + employeeId);
+        StringBuilder body = new StringBuilder(256);
+        Json.appendEmployee(body, employee);
+        send(exchange, 201, body);
+    }
+
+    private void update(HttpExchange exchange, T employeeId) throws Exception {
+        Map<String, Object> fields = Json.parseObject(readBody(exchange));
+        EmployeePatch.Builder patch = EmployeePatch.builder();
+        for (Map.Entry<String, Object> entry : fields.entrySet()) {
+            EmployeeField field = EmployeeField.fromName(entry.getKey().equals("active") ? "isActive" : entry.getKey());
+            patch.set(field, coerce(field, entry.getValue()));
+        }
+        // Validated as a whole first, so a bad field leaves the employee untouched.
+        EmployeePatch changes = patch.build();
+        StringBuilder body = new StringBuilder(256);
+        lock.writeLock().lock();
+        try {
+            find(employeeId);
+            controller.applyPatch(employeeId, changes);
+            Json.appendEmployee(body, find(employeeId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        send(exchange, 200, body);
+    }
+
+    private void delete(HttpExchange exchange, T employeeId) throws IOException, HttpError {
+        lock.writeLock().lock();
+        try {
+            find(employeeId);
+            controller.removeEmployee(employeeId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        exchange.sendResponseHeaders(204, -1);
+    }
+
+    private void raises(HttpExchange exchange, String[] path, Map<String, String> query) throws Exception {
+        if (path.length != 1 || !exchange.getRequestMethod().equals("POST")) {
+            throw HttpError.methodNotAllowed(exchange.getRequestMethod());
+        }
+        Map<String, Object> fields = Json.parseObject(readBody(exchange));
+        double minRating = number(fields, "minRating", Double.NaN);
+        double percent = number(fields, "percent", Double.NaN);
+        if (Double.isNaN(minRating) || Double.isNaN(percent)) {
+            throw new IllegalArgumentException("minRating and percent are required");
+        }
+        lock.writeLock().lock();
+        try {
+            controller.giveRaiseToHighPerformers(minRating, percent);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        exchange.sendResponseHeaders(204, -1);
+    }
+
+    private void departments(HttpExchange exchange, String[] path, Map<String, String> query) throws Exception {
+        if (!exchange.getRequestMethod().equals("GET")) {
+            throw HttpError.methodNotAllowed(exchange.getRequestMethod());
+        }
+        StringBuilder body = new StringBuilder(1024);
+        lock.readLock().lock();
+        try {
+            if (path.length == 1) {
+                body.append('[');
+                boolean first = true;
+                for (DepartmentStats stats : controller.departmentStats().values()) {
+                    body.append(first ? "" : ",");
+                    appendStats(body, stats);
+                    first = false;
+                }
+                body.append(']');
+            } else if (path.length == 2) {
+                DepartmentStats stats = database.departmentStats(path[1]);
+                if (stats.headcount() == 0) {
+                    throw HttpError.notFound("Department " + path[1]);
+                }
+                appendStats(body, stats);
+            } else {
+                throw HttpError.notFound(exchange.getRequestURI().getPath());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        send(exchange, 200, body);
+    }
+
+    private void health(HttpExchange exchange, String[] path, Map<String, String> query) throws IOException {
+        StringBuilder body = new StringBuilder("{\"status\":\"ok\",\"employees\":");
+        lock.readLock().lock();
+        try {
+            body.append(database.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+        body.append(",\"queued\":").append(workers.getQueue().size())
+                .append(",\"rejected\":").append(rejected.get()).append('}');
+        send(exchange, 200, body);
+    }
+
+    private record Rows<T>(int total, List<Employee<T>> employees) {
+    }
+
+    private interface RowSource<T> {
+        /**
+         * Returns the total number of rows and at least the first {@code needed} of them, or all
+         * of them if there are fewer.
+         */
+        Rows<T> rows(int needed);
+    }
+
+    /**
+     * Streams a page of the results of {@code employeeQuery}. The query is limited to the first
+     * {@code offset + limit} matches, so the database keeps only those, with a bounded top-k when
+     * there is an order and stopping early when there is not; the total is counted without
+     * copying any employee.
+     */
+    private void streamQuery(HttpExchange exchange, Map<String, String> query, EmployeeQuery.Builder<T> employeeQuery)
+            throws IOException {
+        streamRows(exchange, query, needed -> {
+            EmployeeQuery<T> limited = employeeQuery.limit(needed).build();
+            return new Rows<>(database.count(limited.filter()), controller.query(limited));
+        });
+    }
+
+    /**
+     * Runs {@code source} under the read lock, takes the requested page of rows and streams them
+     * as {@code {"total":..,"offset":..,"employees":[..]}} after releasing the lock.
+     */
+    private void streamRows(HttpExchange exchange, Map<String, String> query, RowSource<T> source) throws IOException {
+        int offset = query.containsKey("offset") ? parseInt(query, "offset") : 0;
+        int limit = query.containsKey("limit") ? parseInt(query, "limit") : Integer.MAX_VALUE;
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("offset and limit must not be negative");
+        }
+        int needed = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+        List<Employee<T>> page;
+        int total;
+        lock.readLock().lock();
+        try {
+            Rows<T> rows = source.rows(needed);
+            total = rows.total();
+            List<Employee<T>> employees = rows.employees();
+            int from = Math.min(offset, employees.size());
+            int to = (int) Math.min((long) from + limit, employees.size());
+            // The database hands out read-only copies, so the rows cannot change while they are written out.
+            page = new ArrayList<>(employees.subList(from, to));
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, 0);
+        Writer out = new BufferedWriter(new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8),
+                FLUSH_CHARS);
+        StringBuilder chunk = new StringBuilder(FLUSH_CHARS + 512);
+        chunk.append("{\"total\":").append(total).append(",\"offset\":").append(offset).append(",\"employees\":[");
+        for (int i = 0; i < page.size(); i++) {
+            if (i > 0) {
+                chunk.append(',');
+            }
+            Json.appendEmployee(chunk, page.get(i));
+            if (chunk.length() >= FLUSH_CHARS) {
+                out.append(chunk);
+                chunk.setLength(0);
+            }
+        }
+        chunk.append("]}");
+        out.append(chunk);
+        out.flush();
+    }
+
+    // Checks first, as the database logs lookups of unknown IDs as errors.
+    private Employee<T> find(T employeeId) throws HttpError {
+        try {
+            if (database.containsEmployee(employeeId)) {
+                return database.getEmployee(employeeId);
+            }
+        } catch (EmployeeNotFoundException e) {
+            // Checked just above.
+        }
+        throw HttpError.notFound("Employee " + employeeId);
+    }
+
+    // Clients that cannot send PATCH, such as HttpURLConnection, may POST with an override header.
+    private static String method(HttpExchange exchange) {
+        String override = exchange.getRequestHeaders().getFirst("X-HTTP-Method-Override");
+        return override != null && exchange.getRequestMethod().equals("POST") ? override : exchange.getRequestMethod();
+    }
+
+    private T parseId(String text) {
+        try {
+            return idParser.apply(text);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed employee ID " + text);
+        }
+    }
+
+    private static Object coerce(EmployeeField field, Object value) {
+        Class<?> type = field.valueType();
+        if (type == String.class && (value == null || value instanceof String)) {
+            return value;
+        }
+        if (type == Double.class && value instanceof Number number) {
+            return number.doubleValue();
+        }
+        if (type == Integer.class && value instanceof Number number && number.doubleValue() == number.intValue()) {
+            return number.intValue();
+        }
+        if (type == Boolean.class && value instanceof Boolean) {
+            return value;
+        }
+        throw new IllegalArgumentException("Invalid value for " + field.fieldName() + ": " + value);
+    }
+
+    private static double number(Map<String, Object> fields, String name, double fallback) {
+        Object value = fields.get(name);
+        if (value == null) {
+            return fallback;
+        }
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        throw new IllegalArgumentException(name + " must be a number");
+    }
+
+    private static void appendStats(StringBuilder out, DepartmentStats stats) {
+        out.append("{\"department\":");
+        Json.appendString(out, stats.department());
+        out.append(",\"headcount\":").append(stats.headcount())
+                .append(",\"activeHeadcount\":").append(stats.activeHeadcount())
+                .append(",\"totalSalary\":");
+        Json.appendNumber(out, stats.totalSalary());
+        out.append(",\"averageSalary\":");
+        Json.appendNumber(out, stats.averageSalary());
+        out.append(",\"minSalary\":");
+        Json.appendNumber(out, stats.minSalary());
+        out.append(",\"maxSalary\":");
+        Json.appendNumber(out, stats.maxSalary());
+        out.append(",\"averageRating\":");
+        Json.appendNumber(out, stats.averageRating());
+        out.append('}');
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException, HttpError {
+        InputStream in = exchange.getRequestBody();
+        byte[] bytes = in.readNBytes(MAX_BODY_BYTES + 1);
+        if (bytes.length > MAX_BODY_BYTES) {
+            throw new HttpError(413, "Request body exceeds " + MAX_BODY_BYTES + " bytes");
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void send(HttpExchange exchange, int status, CharSequence body) throws IOException {
+        byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+        Headers headers = exchange.getResponseHeaders();
+        headers.set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) {
+        StringBuilder body = new StringBuilder("{\"error\":");
+        Json.appendString(body, message);
+        body.append('}');
+        try {
+            send(exchange, status, body);
+        } catch (IOException e) {
+            logger.debug("Failed to send error response", e);
+        }
+    }
+
+    private static String[] segments(String rawPath) {
+        String[] parts = rawPath.replaceAll("^/+|/+$", "").split("/+");
+        for (int i = 0; i < parts.length; i++) {
+            parts[i] = URLDecoder.decode(parts[i], StandardCharsets.UTF_8);
+        }
+        return parts;
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            String key = URLDecoder.decode(equals < 0 ? pair : pair.substring(0, equals), StandardCharsets.UTF_8);
+            String value = equals < 0 ? "" : URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8);
+            parameters.put(key, value);
+        }
+        return parameters;
+    }
+
+    private static double parseDouble(Map<String, String> query, String name) {
+        try {
+            return Double.parseDouble(query.get(name));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be a number");
+        }
+    }
+
+    private static int parseInt(Map<String, String> query, String name) {
+        try {
+            return Integer.parseInt(query.get(name));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be an integer");
+        }
+    }
+
+    /**
+     * Ends a request with an HTTP status other than 400 and 500.
+     */
+    static final class HttpError extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        final int status;
+
+        HttpError(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+
+        static HttpError notFound(String what) {
+            return new HttpError(404, what + " not found");
+        }
+
+        static HttpError methodNotAllowed(String method) {
+            return new HttpError(405, "Method " + method + " not allowed here");
+        }
+    }
+}
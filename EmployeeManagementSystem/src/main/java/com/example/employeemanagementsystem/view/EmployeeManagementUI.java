@@ -1,24 +1,38 @@
 package com.example.employeemanagementsystem.view;
+import com.example.employeemanagementsystem.controller.AsyncEmployeeController;
 import com.example.employeemanagementsystem.controller.EmployeeController;
 import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeField;
 
+import com.example.employeemanagementsystem.model.EmployeeExperienceComparator;
+import com.example.employeemanagementsystem.model.EmployeePerformanceComparator;
+import com.example.employeemanagementsystem.model.EmployeeSalaryComparator;
+import com.example.employeemanagementsystem.model.UuidEmployeeDatabase;
+
+import javafx.application.Platform;
 import javafx.beans.property.SimpleStringProperty;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import javafx.geometry.Insets;
 import javafx.scene.control.*;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
 
 public class EmployeeManagementUI extends VBox {
 
-    private final EmployeeController<UUID> controller = new EmployeeController<>();
+    // Controller calls run on worker threads; results come back on the FX thread
+    private final AsyncEmployeeController<UUID> controller =
+            new AsyncEmployeeController<>(new EmployeeController<>(new UuidEmployeeDatabase()), Platform::runLater);
     private final TableView<Employee<UUID>> tableView = new TableView<>();
-    private final ObservableList<Employee<UUID>> data = FXCollections.observableArrayList();
+    // Follows the database on its own, so actions never need to reload the table
+    private final EmployeeTableModel<UUID> data =
+            new EmployeeTableModel<>(controller.getController().getDatabase(), Platform::runLater);
 
     public EmployeeManagementUI() {
         setPadding(new Insets(15));
@@ -57,7 +71,9 @@ public class EmployeeManagementUI extends VBox {
         activeCol.setCellValueFactory(cell ->
                 new SimpleStringProperty(cell.getValue().isActive() ? "Yes" : "No"));
 
-        tableView.getColumns().addAll(idCol, nameCol, deptCol, salaryCol, ratingCol, expCol, activeCol);
+        tableView.getColumns().addAll(List.of(idCol, nameCol, deptCol, salaryCol, ratingCol, expCol, activeCol));
+        // Rows are ordered by the model; the sort buttons change its comparator.
+        tableView.getColumns().forEach(column -> column.setSortable(false));
         tableView.setItems(data);
         tableView.setColumnResizePolicy(TableView.UNCONSTRAINED_RESIZE_POLICY);
     }
@@ -94,15 +110,18 @@ public class EmployeeManagementUI extends VBox {
                 boolean active = activeBox.isSelected();
 
                 Employee<UUID> emp = new Employee<>(id, name, dept, salary, rating, experience, active);
-                controller.addEmployee(emp);
-                data.setAll(controller.getAllEmployees());
-
-                nameField.clear();
-                deptField.clear();
-                salaryField.clear();
-                ratingField.clear();
-                expField.clear();
-                activeBox.setSelected(false);
+                controller.addEmployee(emp).whenComplete((ignored, failure) -> {
+                    if (failure != null) {
+                        showAlert("Invalid Input", failure.getMessage());
+                        return;
+                    }
+                    nameField.clear();
+                    deptField.clear();
+                    salaryField.clear();
+                    ratingField.clear();
+                    expField.clear();
+                    activeBox.setSelected(false);
+                });
 
             } catch (Exception ex) {
                 showAlert("Invalid Input", "Please enter valid values for all fields.");
@@ -122,7 +141,6 @@ public class EmployeeManagementUI extends VBox {
             Employee<UUID> selected = tableView.getSelectionModel().getSelectedItem();
             if (selected != null) {
                 controller.removeEmployee(selected.getEmployeeId());
-                data.setAll(controller.getAllEmployees());
             }
         });
 
@@ -131,15 +149,20 @@ public class EmployeeManagementUI extends VBox {
             Employee<UUID> selected = tableView.getSelectionModel().getSelectedItem();
             if (selected != null) {
                 double newSalary = selected.getSalary() * 1.10;
-                controller.updateEmployeeDetails(selected.getEmployeeId(), "salary", newSalary);
-                data.setAll(controller.getAllEmployees());
+                controller.updateEmployeeDetails(selected.getEmployeeId(), EmployeeField.SALARY, newSalary)
+                        .whenComplete((ignored, failure) -> {
+                            if (failure != null) {
+                                showAlert("Update Failed", failure.getMessage());
+                            }
+                        });
             }
         });
 
         Button raiseBtn = new Button("Give Raise to High Performers (≥4.5)");
         raiseBtn.setOnAction(e -> {
-            controller.giveRaiseToHighPerformers(4.5, 10);
-            data.setAll(controller.getAllEmployees());
+            raiseBtn.setDisable(true);
+            controller.giveRaiseToHighPerformers(4.5, 10)
+                    .whenComplete((ignored, failure) -> raiseBtn.setDisable(false));
         });
 
         bar.getChildren().addAll(removeBtn, updateBtn, raiseBtn);
@@ -154,25 +177,18 @@ public class EmployeeManagementUI extends VBox {
         searchField.setPromptText("Search by Name or Department");
 
         Button searchBtn = new Button("Search");
-        searchBtn.setOnAction(e -> {
-            String term = searchField.getText().trim();
-            if (!term.isEmpty()) {
-                List<Employee<UUID>> results = controller.searchByName(term);
-                results.addAll(controller.searchByDepartment(term));
-                data.setAll(results);
-            } else {
-                data.setAll(controller.getAllEmployees());
-            }
-        });
+        searchBtn.setOnAction(e -> search(searchField.getText().trim()));
+        // Each keystroke supersedes the search started by the previous one
+        searchField.textProperty().addListener((observable, oldText, newText) -> search(newText.trim()));
 
         HBox sortBar = new HBox(10);
         Button sortSalaryBtn = new Button("Sort by Salary");
         Button sortRatingBtn = new Button("Sort by Rating");
         Button sortExpBtn = new Button("Sort by Experience");
 
-        sortSalaryBtn.setOnAction(e -> data.setAll(controller.sortBySalary()));
-        sortRatingBtn.setOnAction(e -> data.setAll(controller.sortByPerformance()));
-        sortExpBtn.setOnAction(e -> data.setAll(controller.sortByExperience()));
+        sortSalaryBtn.setOnAction(e -> sort(new EmployeeSalaryComparator<>()));
+        sortRatingBtn.setOnAction(e -> sort(new EmployeePerformanceComparator<>()));
+        sortExpBtn.setOnAction(e -> sort(new EmployeeExperienceComparator<>()));
 
         sortBar.getChildren().addAll(sortSalaryBtn, sortRatingBtn, sortExpBtn);
         vbox.getChildren().addAll(searchField, searchBtn, sortBar);
@@ -180,6 +196,37 @@ public class EmployeeManagementUI extends VBox {
         return vbox;
     }
 
+    private void search(String term) {
+        if (term.isEmpty()) {
+            controller.cancelSearch();
+            data.clearFilter();
+            return;
+        }
+        String lowerTerm = term.toLowerCase(Locale.ROOT);
+        controller.search(term).whenComplete((results, failure) -> {
+            if (failure == null) {
+                data.filterInBackground(results, employee ->
+                        (employee.getName() != null && employee.getName().toLowerCase(Locale.ROOT).contains(lowerTerm))
+                                || term.equalsIgnoreCase(employee.getDepartment()), controller.getExecutor());
+            } else if (!isCancellation(failure)) {
+                showAlert("Search Failed", failure.getMessage());
+            }
+        });
+    }
+
+    private void sort(Comparator<Employee<UUID>> comparator) {
+        data.sortInBackground(comparator, controller.getExecutor()).whenComplete((ignored, failure) -> {
+            if (failure != null && !isCancellation(failure)) {
+                showAlert("Sort Failed", failure.getMessage());
+            }
+        });
+    }
+
+    private static boolean isCancellation(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        return cause instanceof CancellationException;
+    }
+
     private void showAlert(String title, String msg) {
         Alert alert = new Alert(Alert.AlertType.ERROR);
         alert.setTitle(title);
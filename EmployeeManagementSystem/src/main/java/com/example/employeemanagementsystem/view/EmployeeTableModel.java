@@ -0,0 +1,531 @@
+package com.example.employeemanagementsystem.view;
+
+import com.example.employeemanagementsystem.exception.EmployeeNotFoundException;
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeChangeListener;
+import com.example.employeemanagementsystem.model.EmployeeDatabase;
+import com.example.employeemanagementsystem.model.EmployeeField;
+import com.example.employeemanagementsystem.model.EmployeeSnapshot;
+import com.example.employeemanagementsystem.model.FieldChange;
+
+import javafx.collections.ObservableListBase;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+
+/**
+ * Sorted, optionally filtered view of an {@link EmployeeDatabase} for a {@code TableView}.
+ * <p>
+ * The table only asks for the rows it is drawing, so {@link #get} and {@link #size} are all it
+ * needs to be cheap. Rows are kept in an array sorted by the current comparator: the whole dataset
+ * is sorted once, and afterwards each add, remove or update moves a single row to its place with a
+ * binary search and fires a fine-grained change instead of resetting the list. Batches larger than
+ * {@value #REBUILD_THRESHOLD} rows are sorted on the thread that reported them and merged into the
+ * rows in one linear pass, then reset the list, so the UI thread never sorts a batch.
+ * <p>
+ * Rows are the read-only employees of the database's {@link EmployeeDatabase#snapshot() snapshots},
+ * looked up when a change is reported, so the table never sees an employee while another thread is
+ * modifying it. Changes are applied through {@code uiExecutor}, normally
+ * {@code Platform::runLater}, so the database may be mutated from any thread. Every other method
+ * must be called on that thread. For large tables, {@link #sortInBackground} and
+ * {@link #filterInBackground} sort a copy of the rows on another executor and merge in whatever
+ * changed meanwhile, so the table keeps responding while they run.
+ * <p>
+ * This holds a reference to every row rather than loading pages from the database on demand. The
+ * table can be sorted by any comparator and the database has no index for most of them, so fetching
+ * row {@code i} would mean sorting the whole dataset again. The rows themselves are not copies of
+ * the model's own: they are shared with the database's snapshot, which the model turns on if it is
+ * off and which already keeps one read-only copy of each employee, so the model adds only its
+ * sorted array and ID map, a few dozen bytes per row.
+ */
+public final class EmployeeTableModel<T> extends ObservableListBase<Employee<T>>
+        implements EmployeeChangeListener<T> {
+    static final int REBUILD_THRESHOLD = 1_000;
+
+    /**
+     * Default row order: by name, ignoring case, with unnamed employees first.
+     */
+    public static final Comparator<Employee<?>> BY_NAME =
+            Comparator.comparing(Employee::getName, Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER));
+
+    private final EmployeeDatabase<T> database;
+    private final Executor uiExecutor;
+    // Whether this model turned snapshots on, and so turns them off again when disposed.
+    private final boolean enabledSnapshots;
+    private final Map<T, Employee<T>> rowsById = new HashMap<>();
+    private final SortedRows all = new SortedRows();
+    private SortedRows filtered;
+    private Predicate<? super Employee<T>> filter;
+    // Read by the threads reporting changes, to sort large batches before they reach the UI thread.
+    private volatile Comparator<? super Employee<T>> comparator;
+    // IDs changed while a background sort runs; null when none is pending
+    private Set<T> touched;
+    private int generation;
+
+    public EmployeeTableModel(EmployeeDatabase<T> database, Executor uiExecutor) {
+        this(database, BY_NAME, uiExecutor);
+    }
+
+    public EmployeeTableModel(EmployeeDatabase<T> database, Comparator<? super Employee<T>> comparator,
+                              Executor uiExecutor) {
+        this.database = database;
+        this.uiExecutor = uiExecutor;
+        this.comparator = comparator;
+        this.enabledSnapshots = !database.isSnapshotsEnabled();
+        List<Employee<T>> rows = database.snapshot().getAllEmployees();
+        for (Employee<T> row : rows) {
+            rowsById.put(row.getEmployeeId(), row);
+        }
+        all.reset(rows);
+        database.addChangeListener(this);
+    }
+
+    /**
+     * Stops following the database, and turns its snapshots off again if this model turned them on.
+     */
+    public void dispose() {
+        database.removeChangeListener(this);
+        if (enabledSnapshots) {
+            database.setSnapshotsEnabled(false);
+        }
+    }
+
+    @Override
+    public Employee<T> get(int index) {
+        return visible().rows.get(index);
+    }
+
+    @Override
+    public int size() {
+        return visible().rows.size();
+    }
+
+    /**
+     * Re-sorts the rows on the UI thread; {@link #sortInBackground} does the sorting elsewhere.
+     */
+    public void setComparator(Comparator<? super Employee<T>> comparator) {
+        supersedeBackgroundWork();
+        this.comparator = comparator;
+        List<Employee<T>> before = visible().rows;
+        all.reset(all.rows);
+        if (filtered != null) {
+            filtered.reset(filtered.rows);
+        }
+        fireReplaced(before);
+    }
+
+    /**
+     * Shows only {@code matches}, typically the result of an indexed search, and from then on
+     * keeps showing the rows that satisfy {@code filter} as employees change.
+     */
+    public void setFilter(Collection<Employee<T>> matches, Predicate<? super Employee<T>> filter) {
+        supersedeBackgroundWork();
+        List<Employee<T>> before = visible().rows;
+        this.filter = filter;
+        this.filtered = new SortedRows();
+        filtered.reset(rowsFor(matches));
+        fireReplaced(before);
+    }
+
+    public void clearFilter() {
+        supersedeBackgroundWork();
+        if (filtered == null) {
+            return;
+        }
+        List<Employee<T>> before = filtered.rows;
+        filtered = null;
+        filter = null;
+        fireReplaced(before);
+    }
+
+    /**
+     * Like {@link #setComparator}, but sorts on {@code background}. The returned future completes
+     * on the UI executor once the new order is shown, and is cancelled if another sort or filter
+     * starts first.
+     */
+    public CompletableFuture<Void> sortInBackground(Comparator<? super Employee<T>> comparator,
+                                                    Executor background) {
+        int started = startBackgroundWork();
+        List<Employee<T>> rows = new ArrayList<>(all.rows);
+        CompletableFuture<Void> shown = new CompletableFuture<>();
+        CompletableFuture.supplyAsync(() -> sorted(rows, comparator), background)
+                .whenCompleteAsync((sorted, failure) -> {
+                    if (started != generation) {
+                        shown.cancel(false);
+                    } else if (failure != null) {
+                        touched = null;
+                        shown.completeExceptionally(failure);
+                    } else {
+                        List<Employee<T>> before = visible().rows;
+                        this.comparator = comparator;
+                        all.rows = merge(sorted, row -> true);
+                        if (filtered != null) {
+                            Set<Employee<T>> members = Collections.newSetFromMap(new IdentityHashMap<>());
+                            members.addAll(filtered.rows);
+                            filtered.rows = new ArrayList<>(all.rows.size());
+                            for (Employee<T> row : all.rows) {
+                                if (members.contains(row) || touched.contains(row.getEmployeeId()) && filter.test(row)) {
+                                    filtered.rows.add(row);
+                                }
+                            }
+                        }
+                        touched = null;
+                        fireReplaced(before);
+                        shown.complete(null);
+                    }
+                }, uiExecutor);
+        return shown;
+    }
+
+    /**
+     * Like {@link #setFilter}, but sorts the matches on {@code background}. The returned future
+     * completes on the UI executor once the matches are shown, and is cancelled if another sort or
+     * filter starts first.
+     */
+    public CompletableFuture<Void> filterInBackground(Collection<Employee<T>> matches,
+                                                      Predicate<? super Employee<T>> filter,
+                                                      Executor background) {
+        int started = startBackgroundWork();
+        List<Employee<T>> rows = rowsFor(matches);
+        Comparator<? super Employee<T>> order = comparator;
+        CompletableFuture<Void> shown = new CompletableFuture<>();
+        CompletableFuture.supplyAsync(() -> sorted(rows, order), background)
+                .whenCompleteAsync((sorted, failure) -> {
+                    if (started != generation) {
+                        shown.cancel(false);
+                    } else if (failure != null) {
+                        touched = null;
+                        shown.completeExceptionally(failure);
+                    } else {
+                        List<Employee<T>> before = visible().rows;
+                        this.filter = filter;
+                        this.filtered = new SortedRows();
+                        filtered.rows = merge(sorted, filter);
+                        touched = null;
+                        fireReplaced(before);
+                        shown.complete(null);
+                    }
+                }, uiExecutor);
+        return shown;
+    }
+
+    @Override
+    public void employeeAdded(Employee<T> employee) {
+        List<Employee<T>> rows = latestRows(List.of(employee));
+        uiExecutor.execute(() -> upsert(rows));
+    }
+
+    @Override
+    public void employeesAdded(List<Employee<T>> employees) {
+        List<Employee<T>> rows = latestRows(employees);
+        if (rows.size() > REBUILD_THRESHOLD) {
+            Comparator<? super Employee<T>> order = comparator;
+            rows.sort(order);
+            uiExecutor.execute(() -> mergeSorted(rows, order));
+        } else {
+            uiExecutor.execute(() -> upsert(rows));
+        }
+    }
+
+    @Override
+    public void employeeRemoved(Employee<T> employee) {
+        T employeeId = employee.getEmployeeId();
+        uiExecutor.execute(() -> remove(List.of(employeeId)));
+    }
+
+    @Override
+    public void employeesRemoved(List<Employee<T>> employees) {
+        List<T> employeeIds = new ArrayList<>(employees.size());
+        for (Employee<T> employee : employees) {
+            employeeIds.add(employee.getEmployeeId());
+        }
+        uiExecutor.execute(() -> remove(employeeIds));
+    }
+
+    @Override
+    public void employeeUpdated(Employee<T> employee, EmployeeField field, Object oldValue, Object newValue) {
+        employeeAdded(employee);
+    }
+
+    @Override
+    public void employeesUpdated(List<FieldChange<T>> changes) {
+        // One snapshot per employee, however many of its fields changed.
+        Map<T, Employee<T>> latest = new LinkedHashMap<>();
+        for (FieldChange<T> change : changes) {
+            latest.putIfAbsent(change.employee().getEmployeeId(), change.employee());
+        }
+        employeesAdded(new ArrayList<>(latest.values()));
+    }
+
+    @Override
+    public void raiseGiven(double minRating, double raisePercent, List<Employee<T>> raised) {
+        employeesAdded(raised);
+    }
+
+    private void upsert(List<Employee<T>> rows) {
+        beginChange();
+        try {
+            for (Employee<T> row : rows) {
+                Employee<T> previous = rowsById.put(row.getEmployeeId(), row);
+                if (touched != null) {
+                    touched.add(row.getEmployeeId());
+                }
+                if (previous != null) {
+                    removeRow(previous);
+                }
+                int index = all.insert(row);
+                if (filtered == null) {
+                    nextAdd(index, index + 1);
+                } else if (filter.test(row)) {
+                    index = filtered.insert(row);
+                    nextAdd(index, index + 1);
+                }
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    private void remove(List<T> employeeIds) {
+        if (employeeIds.size() > REBUILD_THRESHOLD) {
+            for (T employeeId : employeeIds) {
+                rowsById.remove(employeeId);
+                if (touched != null) {
+                    touched.add(employeeId);
+                }
+            }
+            List<Employee<T>> before = visible().rows;
+            all.merge(List.of());
+            if (filtered != null) {
+                filtered.merge(List.of());
+            }
+            fireReplaced(before);
+            return;
+        }
+        beginChange();
+        try {
+            for (T employeeId : employeeIds) {
+                Employee<T> previous = rowsById.remove(employeeId);
+                if (touched != null) {
+                    touched.add(employeeId);
+                }
+                if (previous != null) {
+                    removeRow(previous);
+                }
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    private void removeRow(Employee<T> row) {
+        int index = all.remove(row);
+        if (filtered != null) {
+            index = filtered.remove(row);
+        }
+        if (index >= 0) {
+            nextRemove(index, row);
+        }
+    }
+
+    /**
+     * Applies a large batch of new rows, already sorted by {@code order}, in linear time.
+     */
+    private void mergeSorted(List<Employee<T>> rows, Comparator<? super Employee<T>> order) {
+        if (order != comparator) {
+            // The order changed while the batch was queued; only the batch needs sorting again.
+            rows.sort(comparator);
+        }
+        for (Employee<T> row : rows) {
+            rowsById.put(row.getEmployeeId(), row);
+            if (touched != null) {
+                touched.add(row.getEmployeeId());
+            }
+        }
+        List<Employee<T>> before = visible().rows;
+        all.merge(rows);
+        if (filtered != null) {
+            List<Employee<T>> matching = new ArrayList<>();
+            for (Employee<T> row : rows) {
+                if (filter.test(row)) {
+                    matching.add(row);
+                }
+            }
+            filtered.merge(matching);
+        }
+        fireReplaced(before);
+    }
+
+    private void fireReplaced(List<Employee<T>> before) {
+        beginChange();
+        try {
+            if (!before.isEmpty()) {
+                nextRemove(0, before);
+            }
+            if (size() > 0) {
+                nextAdd(0, size());
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    private int startBackgroundWork() {
+        touched = new HashSet<>();
+        return ++generation;
+    }
+
+    private void supersedeBackgroundWork() {
+        touched = null;
+        generation++;
+    }
+
+    /**
+     * Brings rows sorted in the background up to date: rows replaced or removed since the copy was
+     * taken are dropped, and the current rows of every employee changed meanwhile are inserted if
+     * they pass {@code include}. The result uses the background order, so the comparator must
+     * already be the one it was sorted with when this returns.
+     */
+    private List<Employee<T>> merge(List<Employee<T>> sorted, Predicate<? super Employee<T>> include) {
+        SortedRows merged = new SortedRows();
+        merged.rows = new ArrayList<>(sorted.size() + touched.size());
+        for (Employee<T> row : sorted) {
+            if (rowsById.get(row.getEmployeeId()) == row) {
+                merged.rows.add(row);
+            }
+        }
+        for (T employeeId : touched) {
+            Employee<T> row = rowsById.get(employeeId);
+            if (row != null && include.test(row)) {
+                merged.insert(row);
+            }
+        }
+        return merged.rows;
+    }
+
+    private List<Employee<T>> rowsFor(Collection<Employee<T>> matches) {
+        Map<T, Employee<T>> unique = new LinkedHashMap<>();
+        for (Employee<T> match : matches) {
+            Employee<T> row = rowsById.get(match.getEmployeeId());
+            if (row != null) {
+                unique.put(row.getEmployeeId(), row);
+            }
+        }
+        return new ArrayList<>(unique.values());
+    }
+
+    private static <E> List<E> sorted(List<E> rows, Comparator<? super E> comparator) {
+        rows.sort(comparator);
+        return rows;
+    }
+
+    private SortedRows visible() {
+        return filtered != null ? filtered : all;
+    }
+
+    /**
+     * Returns the rows for employees that were just changed. The database updates its snapshot
+     * before it tells other listeners, so the latest snapshot already holds them, read-only.
+     */
+    private List<Employee<T>> latestRows(List<Employee<T>> employees) {
+        EmployeeSnapshot<T> latest = database.snapshot();
+        List<Employee<T>> rows = new ArrayList<>(employees.size());
+        for (Employee<T> employee : employees) {
+            try {
+                rows.add(latest.getEmployee(employee.getEmployeeId()));
+            } catch (EmployeeNotFoundException e) {
+                // Removed again since; its removal is reported next.
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Rows ordered by the current comparator. Rows that compare equal keep their insertion order
+     * and are told apart by identity.
+     */
+    private final class SortedRows {
+        List<Employee<T>> rows = new ArrayList<>();
+
+        /**
+         * Replaces the contents with {@code source}, sorted, in a new list so that the previous
+         * list can still be reported as removed.
+         */
+        void reset(Collection<Employee<T>> source) {
+            List<Employee<T>> sorted = new ArrayList<>(source);
+            sorted.sort(comparator);
+            rows = sorted;
+        }
+
+        /**
+         * Drops the rows that were replaced or removed since they were added and merges in
+         * {@code batch}, which must be sorted, in a single pass. Like {@link #reset}, the result
+         * is a new list.
+         */
+        void merge(List<Employee<T>> batch) {
+            List<Employee<T>> merged = new ArrayList<>(rows.size() + batch.size());
+            int next = 0;
+            for (Employee<T> row : rows) {
+                if (!isCurrent(row)) {
+                    continue;
+                }
+                while (next < batch.size() && comparator.compare(batch.get(next), row) < 0) {
+                    addIfCurrent(merged, batch.get(next++));
+                }
+                merged.add(row);
+            }
+            while (next < batch.size()) {
+                addIfCurrent(merged, batch.get(next++));
+            }
+            rows = merged;
+        }
+
+        private void addIfCurrent(List<Employee<T>> merged, Employee<T> row) {
+            // A batch may report the same employee twice; only its latest row is kept.
+            if (isCurrent(row)) {
+                merged.add(row);
+            }
+        }
+
+        private boolean isCurrent(Employee<T> row) {
+            return rowsById.get(row.getEmployeeId()) == row;
+        }
+
+        int insert(Employee<T> row) {
+            int low = 0;
+            int high = rows.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (comparator.compare(rows.get(mid), row) <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            rows.add(low, row);
+            return low;
+        }
+
+        int remove(Employee<T> row) {
+            int low = 0;
+            int high = rows.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (comparator.compare(rows.get(mid), row) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            for (int i = low; i < rows.size() && comparator.compare(rows.get(i), row) == 0; i++) {
+                if (rows.get(i) == row) {
+                    rows.remove(i);
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
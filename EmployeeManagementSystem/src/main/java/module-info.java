@@ -1,9 +1,19 @@
 module com.example.employeemanagementsystem {
-    requires javafx.controls;
+    requires transitive javafx.controls;
     requires javafx.fxml;
     requires org.slf4j;
+    requires transitive java.management;
+    requires jdk.httpserver;
     exports com.example.employeemanagementsystem.model;
     exports com.example.employeemanagementsystem.exception;
+    exports com.example.employeemanagementsystem.persistence;
+    exports com.example.employeemanagementsystem.io;
+    exports com.example.employeemanagementsystem.metrics;
+    exports com.example.employeemanagementsystem.audit;
+    exports com.example.employeemanagementsystem.cdc;
+    exports com.example.employeemanagementsystem.controller;
+    exports com.example.employeemanagementsystem.view;
+    exports com.example.employeemanagementsystem.server;
 
     opens com.example.employeemanagementsystem to javafx.fxml;
     exports com.example.employeemanagementsystem;
@@ -0,0 +1,102 @@
+import com.example.employeemanagementsystem.controller.AsyncEmployeeController;
+import com.example.employeemanagementsystem.controller.EmployeeController;
+import com.example.employeemanagementsystem.exception.InvalidSalaryException;
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeChangeListener;
+import com.example.employeemanagementsystem.model.EmployeeDatabase;
+import com.example.employeemanagementsystem.model.EmployeeField;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncEmployeeControllerTest {
+
+    @Test
+    void testWritesRunInOrderAndReportFailures() throws Exception {
+        EmployeeController<String> controller = new EmployeeController<>();
+        try (AsyncEmployeeController<String> async = new AsyncEmployeeController<>(controller, Runnable::run)) {
+            async.addEmployee(new Employee<>("EMP001", "John Doe", "Engineering", 50000, 4.5, 5, true));
+            async.updateEmployeeDetails("EMP001", EmployeeField.SALARY, 60000.0);
+            CompletableFuture<Void> removed = async.removeEmployee("EMP001");
+            CompletableFuture<Void> rejected = async.addEmployee(
+                    new Employee<>("EMP002", "Jane Doe", "HR", -1, 3.0, 1, true));
+
+            removed.get(5, TimeUnit.SECONDS);
+            ExecutionException failure = assertThrows(ExecutionException.class, () -> rejected.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(InvalidSalaryException.class, failure.getCause());
+            assertTrue(controller.getAllEmployees().isEmpty());
+        }
+    }
+
+    @Test
+    void testNewSearchCancelsPendingOne() throws Exception {
+        EmployeeDatabase<String> database = new EmployeeDatabase<>();
+        database.addEmployee(new Employee<>("EMP001", "John Doe", "Engineering", 50000, 4.5, 5, true));
+        CountDownLatch release = new CountDownLatch(1);
+        database.addChangeListener(new EmployeeChangeListener<>() {
+            @Override
+            public void employeeAdded(Employee<String> employee) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        try (AsyncEmployeeController<String> async =
+                     new AsyncEmployeeController<>(new EmployeeController<>(database), Runnable::run, worker)) {
+            // Occupies the only worker until released.
+            CompletableFuture<Void> blocked = async.addEmployee(
+                    new Employee<>("EMP002", "Jane Engineering", "HR", 60000, 3.0, 8, true));
+            CompletableFuture<List<Employee<String>>> first = async.search("jo");
+            CompletableFuture<List<Employee<String>>> second = async.search("engineering");
+            release.countDown();
+
+            blocked.get(5, TimeUnit.SECONDS);
+            List<Employee<String>> results = second.get(5, TimeUnit.SECONDS);
+            assertTrue(first.isCancelled());
+            // Name and department matches come back together, each employee once.
+            assertEquals(List.of("EMP001", "EMP002"),
+                    results.stream().map(Employee::getEmployeeId).sorted().toList());
+        }
+    }
+
+    @Test
+    void testWritesBeyondThePendingLimitAreRejected() throws Exception {
+        EmployeeDatabase<String> database = new EmployeeDatabase<>();
+        CountDownLatch release = new CountDownLatch(1);
+        database.addChangeListener(new EmployeeChangeListener<>() {
+            @Override
+            public void employeeAdded(Employee<String> employee) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        try (AsyncEmployeeController<String> async =
+                     new AsyncEmployeeController<>(new EmployeeController<>(database), Runnable::run, worker, 2)) {
+            CompletableFuture<Void> running = async.addEmployee(
+                    new Employee<>("EMP001", "John Doe", "Engineering", 50000, 4.5, 5, true));
+            CompletableFuture<Void> waiting = async.updateEmployeeDetails("EMP001", EmployeeField.SALARY, 1.0);
+            CompletableFuture<Void> refused = async.removeEmployee("EMP001");
+
+            ExecutionException failure = assertThrows(ExecutionException.class, () -> refused.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(RejectedExecutionException.class, failure.getCause());
+            release.countDown();
+            running.get(5, TimeUnit.SECONDS);
+            waiting.get(5, TimeUnit.SECONDS);
+            // Finished writes free their slots.
+            async.removeEmployee("EMP001").get(5, TimeUnit.SECONDS);
+            assertTrue(database.getAllEmployees().isEmpty());
+        }
+    }
+}
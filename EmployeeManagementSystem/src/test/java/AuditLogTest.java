@@ -0,0 +1,108 @@
+import com.example.employeemanagementsystem.audit.AuditDetail;
+import com.example.employeemanagementsystem.audit.AuditLog;
+import com.example.employeemanagementsystem.audit.OverflowPolicy;
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeChangeListener;
+import com.example.employeemanagementsystem.model.EmployeeDatabase;
+import com.example.employeemanagementsystem.model.EmployeeField;
+import com.example.employeemanagementsystem.model.EmployeeUpdate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testSummaryModeWritesOneEventPerBulkOperation() throws Exception {
+        Path file = directory.resolve("audit.jsonl");
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        database.setMutationLogging(false);
+        try (AuditLog<Integer> log = new AuditLog<>(file)) {
+            database.addChangeListener(log);
+            List<Employee<Integer>> employees = new ArrayList<>();
+            for (int i = 1; i <= 5; i++) {
+                employees.add(new Employee<>(i, "Employee \"" + i + "\"", "IT", 1000.0 * i, i, i, true));
+            }
+            database.addAll(employees);
+            database.updateEmployeeDetails(1, EmployeeField.SALARY, 1500.0);
+            database.updateAll(List.of(
+                    new EmployeeUpdate<>(2, EmployeeField.NAME, "Ama"),
+                    new EmployeeUpdate<>(3, EmployeeField.ACTIVE, false)));
+            database.giveRaiseToHighPerformers(4.0, 10);
+            database.removeEmployee(5);
+            log.flush();
+            assertEquals(0, log.getDroppedEvents());
+        }
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(6, lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            assertTrue(lines.get(i).startsWith("{\"seq\":" + (i + 1) + ",\"time\":"), lines.get(i));
+        }
+        assertTrue(lines.get(0).contains("\"type\":\"opened\",\"overflow\":\"BLOCK\",\"detail\":\"SUMMARY\""));
+        assertTrue(lines.get(1).contains("\"type\":\"add\",\"count\":5"));
+        assertTrue(lines.get(1).contains("\"name\":\"Employee \\\"1\\\"\""));
+        assertTrue(lines.get(2).endsWith("\"type\":\"update\",\"employeeId\":1,\"field\":\"salary\",\"old\":1000.0,\"new\":1500.0}"));
+        assertTrue(lines.get(3).contains("\"count\":2,\"changes\":[{\"employeeId\":2,\"field\":\"name\""));
+        assertTrue(lines.get(3).contains("{\"employeeId\":3,\"field\":\"isActive\",\"old\":true,\"new\":false}"));
+        assertTrue(lines.get(4).endsWith("\"type\":\"raise\",\"minRating\":4.0,\"percent\":10.0,\"count\":2,\"employeeIds\":[4,5]}")
+                || lines.get(4).endsWith("\"employeeIds\":[5,4]}"), lines.get(4));
+        assertTrue(lines.get(5).endsWith("\"type\":\"remove\",\"employeeId\":5}"));
+    }
+
+    @Test
+    void testDroppedEventsAreCountedInTheFile() throws Exception {
+        Path file = directory.resolve("lossy.jsonl");
+        int updates = 20_000;
+        Employee<Integer> employee = new Employee<>(1, "Ama", "IT", 1000, 3, 2, true);
+        AuditLog<Integer> log = new AuditLog<>(file, 4, OverflowPolicy.DROP, AuditDetail.FULL);
+        for (int i = 0; i < updates; i++) {
+            log.employeeUpdated(employee, EmployeeField.YEARS_OF_EXPERIENCE, i, i + 1);
+        }
+        log.close();
+        long dropped = log.getDroppedEvents();
+
+        long written = 0;
+        long reportedDrops = 0;
+        for (String line : Files.readAllLines(file)) {
+            if (line.contains("\"type\":\"update\"")) {
+                written++;
+            } else if (line.contains("\"type\":\"dropped\"")) {
+                reportedDrops += Long.parseLong(line.substring(line.lastIndexOf(':') + 1, line.length() - 1));
+            }
+        }
+        assertEquals(updates, written + dropped);
+        assertEquals(dropped, reportedDrops);
+        assertThrows(IllegalStateException.class,
+                () -> log.employeeUpdated(employee, EmployeeField.YEARS_OF_EXPERIENCE, 0, 1));
+    }
+
+    @Test
+    void testClosedLogDoesNotFailTheMutationOrLaterListeners() throws Exception {
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        database.setMutationLogging(false);
+        AuditLog<Integer> log = new AuditLog<>(directory.resolve("audit.jsonl"));
+        database.addChangeListener(log);
+        List<Integer> added = new ArrayList<>();
+        database.addChangeListener(new EmployeeChangeListener<>() {
+            @Override
+            public void employeeAdded(Employee<Integer> employee) {
+                added.add(employee.getEmployeeId());
+            }
+        });
+        log.close();
+
+        database.addEmployee(new Employee<>(1, "Ama", "IT", 1000.0, 4.0, 1, true));
+        assertEquals(1, database.size());
+        assertEquals(List.of(1), added);
+    }
+}
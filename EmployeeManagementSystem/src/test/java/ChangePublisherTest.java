@@ -0,0 +1,146 @@
+import com.example.employeemanagementsystem.cdc.ChangeEvent;
+import com.example.employeemanagementsystem.cdc.ChangePublisher;
+import com.example.employeemanagementsystem.cdc.ReplayUnavailableException;
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeDatabase;
+import com.example.employeemanagementsystem.model.EmployeeField;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangePublisherTest {
+
+    private EmployeeDatabase<Integer> database;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmployeeDatabase<>();
+        database.setMutationLogging(false);
+    }
+
+    private ChangePublisher<Integer> publisher(int capacity) {
+        // Delivering on the calling thread keeps the tests deterministic.
+        ChangePublisher<Integer> publisher = new ChangePublisher<>(capacity, Runnable::run);
+        database.addChangeListener(publisher);
+        return publisher;
+    }
+
+    private static Employee<Integer> employee(int id, double salary, double rating) {
+        return new Employee<>(id, "Employee " + id, "IT", salary, rating, 3, true);
+    }
+
+    @Test
+    void testEventsArriveInOrderWithinDemand() throws Exception {
+        ChangePublisher<Integer> publisher = publisher(16);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        database.addEmployee(employee(1, 1000, 5.0));
+        database.updateEmployeeDetails(1, EmployeeField.SALARY, 1200.0);
+        database.giveRaiseToHighPerformers(4.0, 10);
+        database.removeEmployee(1);
+        assertTrue(subscriber.events.isEmpty(), "nothing is delivered before it is requested");
+
+        subscriber.subscription.request(2);
+        assertEquals(2, subscriber.events.size());
+        subscriber.subscription.request(10);
+        assertEquals(4, subscriber.events.size());
+
+        List<ChangeEvent<Integer>> events = subscriber.events;
+        for (int i = 0; i < events.size(); i++) {
+            assertEquals(i + 1, events.get(i).sequence());
+        }
+        assertEquals(1000.0, ((ChangeEvent.Inserted<Integer>) events.get(0)).employee().getSalary());
+        ChangeEvent.Updated<Integer> update = (ChangeEvent.Updated<Integer>) events.get(1);
+        assertEquals(EmployeeField.SALARY, update.field());
+        assertEquals(1000.0, update.oldValue());
+        assertEquals(1200.0, update.newValue());
+        ChangeEvent.RaiseGiven<Integer> raise = (ChangeEvent.RaiseGiven<Integer>) events.get(2);
+        assertEquals(List.of(1), raise.employeeIds());
+        assertEquals(1320.0, raise.raise(1200.0), 1e-9);
+        assertEquals(1, ((ChangeEvent.Deleted<Integer>) events.get(3)).employeeId());
+    }
+
+    @Test
+    void testResumesFromSequenceAndReportsExpiredEvents() throws Exception {
+        ChangePublisher<Integer> publisher = publisher(4);
+        for (int i = 1; i <= 6; i++) {
+            database.addEmployee(employee(i, 1000, 3.0));
+        }
+        assertEquals(6, publisher.lastSequence());
+        assertEquals(3, publisher.oldestSequence());
+
+        RecordingSubscriber resumed = new RecordingSubscriber();
+        publisher.subscribe(resumed, 4);
+        resumed.subscription.request(Long.MAX_VALUE);
+        assertEquals(List.of(5L, 6L), resumed.sequences());
+        database.removeEmployee(6);
+        assertEquals(List.of(5L, 6L, 7L), resumed.sequences());
+
+        RecordingSubscriber tooOld = new RecordingSubscriber();
+        publisher.subscribe(tooOld, 1);
+        tooOld.subscription.request(1);
+        ReplayUnavailableException error = assertInstanceOf(ReplayUnavailableException.class, tooOld.error);
+        assertEquals(2, error.getRequestedSequence());
+        assertEquals(4, error.getOldestAvailable());
+        assertEquals(1, publisher.getSubscriberCount());
+
+        publisher.close();
+        assertTrue(resumed.completed);
+    }
+
+    @Test
+    void testSlowSubscriberFallingOffTheBufferIsFailed() throws Exception {
+        ChangePublisher<Integer> publisher = publisher(4);
+        RecordingSubscriber slow = new RecordingSubscriber();
+        publisher.subscribe(slow);
+        slow.subscription.request(1);
+        for (int i = 1; i <= 6; i++) {
+            database.addEmployee(employee(i, 1000, 3.0));
+        }
+        slow.subscription.request(5);
+        assertEquals(List.of(1L), slow.sequences());
+        assertInstanceOf(ReplayUnavailableException.class, slow.error);
+        assertEquals(0, publisher.getSubscriberCount());
+    }
+
+    private static class RecordingSubscriber implements Flow.Subscriber<ChangeEvent<Integer>> {
+        final List<ChangeEvent<Integer>> events = new ArrayList<>();
+        Flow.Subscription subscription;
+        Throwable error;
+        boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(ChangeEvent<Integer> event) {
+            events.add(event);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+
+        List<Long> sequences() {
+            List<Long> sequences = new ArrayList<>();
+            for (ChangeEvent<Integer> event : events) {
+                sequences.add(event.sequence());
+            }
+            return sequences;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+import com.example.employeemanagementsystem.exception.EmployeeNotFoundException;
+import com.example.employeemanagementsystem.exception.InvalidDepartmentException;
+import com.example.employeemanagementsystem.exception.InvalidSalaryException;
+import com.example.employeemanagementsystem.model.ColumnarEmployeeStore;
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeDatabase;
+import com.example.employeemanagementsystem.model.EmployeeStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarEmployeeStoreTest {
+
+    private ColumnarEmployeeStore<String> store;
+    private EmployeeDatabase<String> reference;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        store = new ColumnarEmployeeStore<>();
+        reference = new EmployeeDatabase<>();
+        for (EmployeeStore<String> target : List.<EmployeeStore<String>>of(store, reference)) {
+            target.addEmployee(new Employee<>("EMP001", "John Doe", "Engineering", 50000.0, 4.5, 5, true));
+            target.addEmployee(new Employee<>("EMP002", "Jane Roe", "engineering", 70000.0, 3.0, 8, true));
+            target.addEmployee(new Employee<>("EMP003", "Jake Poe", "Sales", 40000.0, 4.8, 2, false));
+            target.addEmployee(new Employee<>("EMP004", "Mary Major", "HR", 45000.0, 2.5, 12, true));
+        }
+    }
+
+    @Test
+    void testQueriesMatchEmployeeDatabase() {
+        assertSameIds(reference.searchByDepartment("ENGINEERING"), store.searchByDepartment("ENGINEERING"));
+        assertSameIds(reference.searchByName("oe"), store.searchByName("OE"));
+        assertSameIds(reference.filterByPerformance(4.5), store.filterByPerformance(4.5));
+        assertSameIds(reference.filterBySalaryRange(42000, 60000), store.filterBySalaryRange(42000, 60000));
+        assertEquals(reference.getAverageSalaryByDepartment("engineering"),
+                store.getAverageSalaryByDepartment("engineering"), 1e-9);
+        assertTrue(store.searchByDepartment("Marketing").isEmpty());
+        assertEquals(0.0, store.getAverageSalaryByDepartment("Marketing"));
+    }
+
+    @Test
+    void testRemoveKeepsRowsDense() throws Exception {
+        store.removeEmployee("EMP001");
+        assertEquals(3, store.size());
+        assertEquals("Mary Major", store.getEmployee("EMP004").getName());
+        assertThrows(EmployeeNotFoundException.class, () -> store.getEmployee("EMP001"));
+        assertEquals(2, store.countActive());
+    }
+
+    @Test
+    void testUpdatesAndRaise() throws Exception {
+        store.updateEmployeeDetails("EMP004", "department", "Sales");
+        store.updateEmployeeDetails("EMP004", "performanceRating", 5.0);
+        store.giveRaiseToHighPerformers(4.5, 10.0);
+
+        assertEquals(2, store.searchByDepartment("sales").size());
+        assertEquals(49500.0, store.getEmployee("EMP004").getSalary(), 1e-9);
+        assertEquals(70000.0, store.getEmployee("EMP002").getSalary(), 1e-9);
+        assertThrows(InvalidSalaryException.class,
+                () -> store.updateEmployeeDetails("EMP001", "salary", -1.0));
+    }
+
+    @Test
+    void testInvalidUpdatesAreRejectedLikeEmployeeDatabase() throws Exception {
+        assertThrows(IllegalArgumentException.class, () -> store.updateEmployeeDetails("EMP001", "salary", "high"));
+        assertThrows(IllegalArgumentException.class, () -> store.updateEmployeeDetails("EMP001", "isActive", null));
+        assertThrows(IllegalArgumentException.class,
+                () -> store.updateEmployeeDetails("EMP001", "performanceRating", Double.NaN));
+        assertThrows(InvalidDepartmentException.class, () -> store.updateEmployeeDetails("EMP001", "department", null));
+        assertThrows(IllegalArgumentException.class, () -> store.updateEmployeeDetails("EMP001", "salaryy", 1.0));
+        assertThrows(EmployeeNotFoundException.class, () -> store.updateEmployeeDetails("EMP999", "salary", 1.0));
+        assertEquals(50000.0, store.getEmployee("EMP001").getSalary(), 0.0);
+        assertEquals(4.5, store.getEmployee("EMP001").getPerformanceRating(), 0.0);
+        assertTrue(store.getEmployee("EMP001").isActive());
+        assertEquals(reference.getAverageSalaryByDepartment("engineering"),
+                store.getAverageSalaryByDepartment("engineering"), 0.0);
+    }
+
+    @Test
+    void testCompactColumnsSurviveChurn() throws Exception {
+        ColumnarEmployeeStore<Long> compact = new ColumnarEmployeeStore<>();
+        Map<Long, String> expected = new HashMap<>();
+        Random random = new Random(11);
+        for (int i = 0; i < 5_000; i++) {
+            long id = random.nextInt(1_000);
+            int action = random.nextInt(4);
+            if (action == 0 && expected.containsKey(id)) {
+                compact.removeEmployee(id);
+                expected.remove(id);
+            } else if (action == 1 && expected.containsKey(id)) {
+                // Some names are not Latin-1 and take the two-byte path.
+                String name = (i % 7 == 0 ? "Łukasz " : "Ama ") + i;
+                compact.updateEmployeeDetails(id, "name", name);
+                expected.put(id, name);
+            } else {
+                String name = "Employee " + i;
+                compact.addEmployee(new Employee<>(id, name, "Dept " + id % 5, 1000.0, 3.0, 1, true));
+                expected.put(id, name);
+            }
+        }
+        compact.trimToSize();
+
+        assertEquals(expected.size(), compact.size());
+        for (Map.Entry<Long, String> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), compact.getEmployee(entry.getKey()).getName());
+        }
+        assertEquals(expected.values().stream().filter(name -> name.startsWith("Łukasz")).count(),
+                compact.searchByName("łUKASZ").size());
+
+        ColumnarEmployeeStore<Long>.Cursor cursor = compact.cursor();
+        Map<Long, String> seen = new HashMap<>();
+        while (cursor.next()) {
+            assertSame(cursor.getDepartment(), compact.getEmployee(cursor.getEmployeeId()).getDepartment());
+            seen.put(cursor.getEmployeeId(), cursor.getName());
+        }
+        assertEquals(expected, seen);
+        assertThrows(IllegalStateException.class, cursor::getSalary);
+    }
+
+    private static void assertSameIds(List<Employee<String>> expected, List<Employee<String>> actual) {
+        Comparator<Employee<String>> byId = Comparator.comparing(Employee::getEmployeeId);
+        assertEquals(expected.stream().sorted(byId).map(Employee::getEmployeeId).toList(),
+                actual.stream().sorted(byId).map(Employee::getEmployeeId).toList());
+    }
+}
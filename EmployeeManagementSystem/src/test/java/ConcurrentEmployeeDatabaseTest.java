@@ -0,0 +1,132 @@
+import com.example.employeemanagementsystem.exception.EmployeeNotFoundException;
+import com.example.employeemanagementsystem.model.ConcurrentEmployeeDatabase;
+import com.example.employeemanagementsystem.model.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentEmployeeDatabaseTest {
+
+    private static final int THREADS = 8;
+    private static final int EMPLOYEES_PER_THREAD = 250;
+
+    private ConcurrentEmployeeDatabase<Integer> database;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        database = new ConcurrentEmployeeDatabase<>();
+        database.setMutationLogging(false);
+        executor = Executors.newFixedThreadPool(THREADS + 2);
+    }
+
+    @Test
+    void testConcurrentAddsWhileReading() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<Future<?>> writers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int base = t * EMPLOYEES_PER_THREAD;
+            writers.add(executor.submit(() -> {
+                start.await();
+                for (int i = base; i < base + EMPLOYEES_PER_THREAD; i++) {
+                    database.addEmployee(new Employee<>(i, "Employee " + i, "Dept" + (i % 4),
+                            1000.0 + i, 3.0, i % 30, true));
+                }
+                return null;
+            }));
+        }
+        Future<?> reader = executor.submit(() -> {
+            start.await();
+            while (writing.get()) {
+                for (Employee<Integer> emp : database.filterBySalaryRange(0, Double.MAX_VALUE)) {
+                    assertEquals(1000.0 + emp.getEmployeeId(), emp.getSalary());
+                }
+            }
+            return null;
+        });
+
+        start.countDown();
+        for (Future<?> writer : writers) {
+            writer.get(30, TimeUnit.SECONDS);
+        }
+        writing.set(false);
+        reader.get(30, TimeUnit.SECONDS);
+
+        assertEquals(THREADS * EMPLOYEES_PER_THREAD, database.size());
+        assertEquals(EMPLOYEES_PER_THREAD * THREADS / 4, database.searchByDepartment("dept1").size());
+    }
+
+    @Test
+    void testConcurrentRaisesAreNotLost() throws Exception {
+        int employees = 200;
+        for (int i = 0; i < employees; i++) {
+            database.addEmployee(new Employee<>(i, "Employee " + i, "Engineering", 1000.0, 5.0, 1, true));
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            tasks.add(executor.submit(() -> {
+                start.await();
+                database.giveRaiseToHighPerformers(4.0, 10.0);
+                return null;
+            }));
+        }
+        // Concurrent single-field updates on the same employees must not undo any raise.
+        tasks.add(executor.submit(() -> {
+            start.await();
+            for (int i = 0; i < employees; i++) {
+                database.updateEmployeeDetails(i, "yearsOfExperience", 2);
+            }
+            return null;
+        }));
+
+        start.countDown();
+        for (Future<?> task : tasks) {
+            task.get(30, TimeUnit.SECONDS);
+        }
+
+        double expected = 1000.0;
+        for (int t = 0; t < THREADS; t++) {
+            expected += expected * 0.10;
+        }
+        for (int i = 0; i < employees; i++) {
+            Employee<Integer> emp = database.getEmployee(i);
+            assertEquals(expected, emp.getSalary(), 1e-6);
+            assertEquals(2, emp.getYearsOfExperience());
+        }
+    }
+
+    @Test
+    void testStoredEmployeeIsIsolatedFromCaller() throws Exception {
+        Employee<Integer> employee = new Employee<>(1, "John Doe", "Engineering", 50000.0, 4.5, 5, true);
+        database.addEmployee(employee);
+        employee.setSalary(1.0);
+        assertEquals(50000.0, database.getEmployee(1).getSalary());
+
+        // Employees handed out are read-only, on every read path.
+        assertThrows(UnsupportedOperationException.class, () -> database.getEmployee(1).setSalary(1.0));
+        assertThrows(UnsupportedOperationException.class,
+                () -> database.getAllEmployees().get(0).setName("Jane Doe"));
+        assertThrows(UnsupportedOperationException.class,
+                () -> database.searchByDepartment("engineering").get(0).setActive(false));
+        database.updateEmployeeDetails(1, "salary", 60000.0);
+        Employee<Integer> copy = new Employee<>(database.getEmployee(1));
+        copy.setSalary(1.0);
+        assertEquals(60000.0, database.getEmployee(1).getSalary());
+
+        database.removeEmployee(1);
+        assertThrows(EmployeeNotFoundException.class, () -> database.getEmployee(1));
+    }
+}
@@ -0,0 +1,76 @@
+import com.example.employeemanagementsystem.io.EmployeeCsvExporter;
+import com.example.employeemanagementsystem.io.EmployeeCsvImporter;
+import com.example.employeemanagementsystem.io.ImportReport;
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeDatabase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeCsvImportExportTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testImportReportsRejectedRows() throws Exception {
+        Path file = directory.resolve("employees.csv");
+        Files.writeString(file, String.join("\r\n",
+                "employeeId,name,department,salary,performanceRating,yearsOfExperience,active",
+                "EMP001,John Doe,Engineering,50000,4.5,5,true",
+                "EMP002,\"Roe, Jane\",HR,60000,3.0,8,false",
+                "EMP003,Jake Poe,Sales,-1,4.8,2,true",
+                "EMP004,Bad Row,Sales,abc,4.8,2,true",
+                "EMP005,No Dept,,1000,4.0,1,true",
+                "EMP006,Too Few,Sales",
+                "EMP007,\"Multi\nLine\",Sales,1000,4.0,1,true",
+                "EMP008,After Multi,Sales,-5,4.0,1,true"));
+
+        EmployeeDatabase<String> database = new EmployeeDatabase<>();
+        ImportReport report = new EmployeeCsvImporter<>(Function.identity()).importFile(file, database);
+
+        assertEquals(8, report.getRowsRead());
+        assertEquals(3, report.getRowsImported());
+        assertEquals(5, report.getRejectedCount());
+        assertEquals(4, report.getRejectedRows().get(0).lineNumber());
+        assertEquals("Salary cannot be negative!", report.getRejectedRows().get(0).reason());
+        assertEquals(7, report.getRejectedRows().get(3).lineNumber());
+        assertEquals(10, report.getRejectedRows().get(4).lineNumber());
+        assertEquals("Multi\nLine", database.getEmployee("EMP007").getName());
+        assertEquals("Roe, Jane", database.getEmployee("EMP002").getName());
+        assertFalse(database.getEmployee("EMP002").isActive());
+    }
+
+    @Test
+    void testRoundTripAcrossSmallChunks() throws Exception {
+        EmployeeDatabase<Long> source = new EmployeeDatabase<>();
+        for (long i = 0; i < 500; i++) {
+            String name = i % 10 == 0 ? "Employee\n" + i + "\r\nsecond, line" : "Employee \"" + i + "\"";
+            source.addEmployee(new Employee<>(i, name, "Dept" + (i % 7),
+                    1000.0 + i * 0.25, (i % 50) / 10.0, (int) (i % 30), i % 3 != 0));
+        }
+        Path file = directory.resolve("roundtrip.csv");
+        assertEquals(500, EmployeeCsvExporter.export(source, file));
+        assertFalse(source.isSnapshotsEnabled());
+
+        EmployeeDatabase<Long> target = new EmployeeDatabase<>();
+        ImportReport report = new EmployeeCsvImporter<>(Long::valueOf, 3, 100).importFile(file, target);
+
+        assertEquals(500, report.getRowsImported());
+        assertEquals(0, report.getRejectedCount());
+        for (Employee<Long> expected : source.getAllEmployees()) {
+            Employee<Long> actual = target.getEmployee(expected.getEmployeeId());
+            assertEquals(expected.getName(), actual.getName());
+            assertEquals(expected.getDepartment(), actual.getDepartment());
+            assertEquals(expected.getSalary(), actual.getSalary());
+            assertEquals(expected.getPerformanceRating(), actual.getPerformanceRating());
+            assertEquals(expected.getYearsOfExperience(), actual.getYearsOfExperience());
+            assertEquals(expected.isActive(), actual.isActive());
+        }
+    }
+}
@@ -1,12 +1,20 @@
 import com.example.employeemanagementsystem.exception.EmployeeNotFoundException;
 import com.example.employeemanagementsystem.exception.InvalidDepartmentException;
 import com.example.employeemanagementsystem.exception.InvalidSalaryException;
+import com.example.employeemanagementsystem.model.BatchResult;
+import com.example.employeemanagementsystem.model.DepartmentStats;
 import com.example.employeemanagementsystem.model.Employee;
 import com.example.employeemanagementsystem.model.EmployeeDatabase;
+import com.example.employeemanagementsystem.model.EmployeeField;
+import com.example.employeemanagementsystem.model.EmployeePatch;
+import com.example.employeemanagementsystem.model.EmployeeUpdate;
+import com.example.employeemanagementsystem.model.ParallelExecution;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -68,6 +76,37 @@ class EmployeeDatabaseTest {
                 database.updateEmployeeDetails(employee.getEmployeeId(), "salary", -10000.0));
     }
 
+    @Test
+    void testNonFiniteSalaryIsRejected() throws Exception {
+        database.addEmployee(employee);
+        assertThrows(InvalidSalaryException.class, () -> database.addEmployee(new Employee<>("EMP002", "Jane Doe",
+                "HR", Double.NaN, 3.5, 3, true)));
+        assertThrows(InvalidSalaryException.class, () ->
+                database.updateEmployeeDetails(employee.getEmployeeId(), "salary", Double.NaN));
+        assertThrows(InvalidSalaryException.class, () ->
+                database.updateEmployeeDetails(employee.getEmployeeId(), "salary", Double.POSITIVE_INFINITY));
+        assertEquals(employee.getSalary(), database.departmentStats(employee.getDepartment()).totalSalary(), 1e-9);
+    }
+
+    @Test
+    void testNonFiniteRatingsAndRaisesAreRejected() throws Exception {
+        database.addEmployee(employee);
+        assertThrows(IllegalArgumentException.class, () -> database.addEmployee(new Employee<>("EMP002", "Jane Doe",
+                "Engineering", 1000.0, Double.NaN, 3, true)));
+        assertThrows(IllegalArgumentException.class, () -> database.updatePerformanceRating("EMP001", Double.NaN));
+        assertThrows(IllegalArgumentException.class, () ->
+                database.updateEmployeeDetails("EMP001", "performanceRating", Double.POSITIVE_INFINITY));
+        assertThrows(IllegalArgumentException.class, () ->
+                database.applyPatch("EMP001", EmployeePatch.builder().performanceRating(Double.NaN).build()));
+        assertEquals(4.5, database.departmentStats("Engineering").averageRating(), 1e-9);
+
+        // The whole raise is refused when one result would not be a valid salary.
+        database.addEmployee(new Employee<>("EMP002", "Jane Doe", "Engineering", Double.MAX_VALUE, 4.8, 3, true));
+        assertThrows(IllegalArgumentException.class, () -> database.giveRaiseToHighPerformers(4.0, 50.0));
+        assertEquals(50000.0, database.getEmployee("EMP001").getSalary());
+        assertEquals(Double.MAX_VALUE, database.getEmployee("EMP002").getSalary());
+    }
+
     @Test
     void testUpdateEmployeeWithBlankDepartment() throws Exception {
         database.addEmployee(employee);
@@ -102,4 +141,249 @@ class EmployeeDatabaseTest {
     void testDeleteNonExistentEmployee() {
         assertThrows(EmployeeNotFoundException.class, () -> database.deleteEmployee("NON_EXISTENT"));
     }
+
+    @Test
+    void testIndexedQueriesFollowMutations() throws Exception {
+        database.addEmployee(employee);
+        database.addEmployee(new Employee<>("EMP002", "Jane Roe", "engineering", 70000.0, 3.0, 8, true));
+        database.addEmployee(new Employee<>("EMP003", "Jake Poe", "Sales", 40000.0, 4.8, 2, false));
+
+        assertEquals(2, database.searchByDepartment("ENGINEERING").size());
+        assertEquals(2, database.filterBySalaryRange(40000.0, 50000.0).size());
+        assertEquals(2, database.filterByPerformance(4.5).size());
+        assertEquals(1, database.filterByExperienceRange(6, 10).size());
+
+        database.updateEmployeeDetails("EMP002", "performanceRating", 4.9);
+        database.giveRaiseToHighPerformers(4.5, 10.0);
+        assertEquals(List.of("EMP002"),
+                database.filterBySalaryRange(75000.0, 80000.0).stream().map(Employee::getEmployeeId).toList());
+        assertTrue(database.filterBySalaryRange(50000.0, 50000.0).isEmpty());
+
+        database.removeEmployee("EMP001");
+        assertEquals(1, database.searchByDepartment("Engineering").size());
+        assertEquals(77000.0, database.getAverageSalaryByDepartment("engineering"), 0.01);
+    }
+
+    @Test
+    void testReplacingEmployeeReindexes() throws Exception {
+        database.addEmployee(employee);
+        database.addEmployee(new Employee<>("EMP001", "John Doe", "Finance", 60000.0, 4.5, 5, true));
+        assertTrue(database.searchByDepartment("Engineering").isEmpty());
+        assertEquals(1, database.searchByDepartment("Finance").size());
+        assertTrue(database.filterBySalaryRange(0.0, 55000.0).isEmpty());
+    }
+
+    @Test
+    void testGetTopPaidEmployeesReturnsHighestFirst() throws Exception {
+        database.addEmployee(employee);
+        database.addEmployee(new Employee<>("EMP002", "Jane Roe", "HR", 90000.0, 3.0, 8, true));
+        database.addEmployee(new Employee<>("EMP003", "Jake Poe", "Sales", 40000.0, 4.8, 2, false));
+
+        assertEquals(List.of("EMP002", "EMP001"),
+                database.getTopPaidEmployees(2).stream().map(Employee::getEmployeeId).toList());
+        assertEquals(3, database.getTopPaidEmployees(10).size());
+    }
+
+    @Test
+    void testUpdateAllIsAllOrNothing() throws Exception {
+        database.addAll(List.of(employee,
+                new Employee<>("EMP002", "Jane Roe", "HR", 60000.0, 3.0, 8, true)));
+
+        assertThrows(InvalidSalaryException.class, () -> database.updateAll(List.of(
+                new EmployeeUpdate<>("EMP001", "department", "Finance"),
+                new EmployeeUpdate<>("EMP002", "salary", -1.0))));
+        assertEquals("Engineering", database.getEmployee("EMP001").getDepartment());
+
+        database.updateAll(List.of(
+                new EmployeeUpdate<>("EMP001", "department", "Finance"),
+                new EmployeeUpdate<>("EMP002", "salary", 65000.0)));
+        assertEquals(1, database.searchByDepartment("finance").size());
+        assertEquals(1, database.filterBySalaryRange(65000.0, 65000.0).size());
+    }
+
+    @Test
+    void testTryBatchesReportFailures() throws Exception {
+        BatchResult<String> added = database.tryAddAll(List.of(employee,
+                new Employee<>("EMP002", "Jane Roe", "", 60000.0, 3.0, 8, true)));
+        assertEquals(1, added.applied());
+        assertEquals(1, added.failures().get(0).position());
+        assertInstanceOf(InvalidDepartmentException.class, added.failures().get(0).cause());
+
+        BatchResult<String> updated = database.tryUpdateAll(List.of(
+                new EmployeeUpdate<>("EMP001", "performanceRating", 4.9),
+                new EmployeeUpdate<>("EMP002", "name", "Nobody"),
+                new EmployeeUpdate<>("EMP001", "yearsOfExperience", "ten")));
+        assertEquals(1, updated.applied());
+        assertInstanceOf(EmployeeNotFoundException.class, updated.failures().get(0).cause());
+        assertInstanceOf(IllegalArgumentException.class, updated.failures().get(1).cause());
+        assertEquals(1, database.filterByPerformance(4.9).size());
+
+        BatchResult<String> removed = database.tryRemoveAll(List.of("EMP001", "EMP002"));
+        assertEquals(1, removed.applied());
+        assertEquals(0, database.size());
+    }
+
+    @Test
+    void testTypedUpdatesAndPatchesReindex() throws Exception {
+        database.addEmployee(employee);
+        database.addEmployee(new Employee<>("EMP002", "Jane Roe", "HR", 60000.0, 3.0, 8, true));
+
+        database.updateSalary("EMP001", 70000.0);
+        database.updateEmployeeDetails("EMP001", EmployeeField.YEARS_OF_EXPERIENCE, 6);
+        assertEquals(1, database.filterBySalaryRange(70000.0, 70000.0).size());
+        assertEquals(1, database.filterByExperienceRange(6, 6).size());
+        assertThrows(InvalidSalaryException.class, () -> database.updateSalary("EMP001", -1.0));
+
+        EmployeePatch transfer = EmployeePatch.builder().department("Finance").performanceRating(4.0).build();
+        database.applyPatch(List.of("EMP001", "EMP002"), transfer);
+        assertEquals(2, database.searchByDepartment("finance").size());
+        assertTrue(database.searchByDepartment("HR").isEmpty());
+        assertEquals(2, database.filterByPerformance(4.0).size());
+        assertEquals(EnumSet.of(EmployeeField.DEPARTMENT, EmployeeField.PERFORMANCE_RATING), transfer.fields());
+
+        assertThrows(InvalidDepartmentException.class, () -> EmployeePatch.builder().department(" ").build());
+    }
+
+    @Test
+    void testEmployeesShareDepartmentStrings() throws Exception {
+        database.addEmployee(employee);
+        database.addEmployee(new Employee<>("EMP002", "Jane Roe", new String("Sales"), 50000.0, 3.0, 2, true));
+        database.loadEmployees(List.of(new Employee<>("EMP003", "Max Poe", new String("Sales"), 40000.0, 3.0, 1, true)));
+        database.updateEmployeeDetails("EMP001", "department", new String("Sales"));
+
+        String shared = database.getEmployee("EMP002").getDepartment();
+        assertSame(shared, database.getEmployee("EMP003").getDepartment());
+        assertSame(shared, database.getEmployee("EMP001").getDepartment());
+    }
+
+    @Test
+    void testStoredEmployeesCannotBeChangedFromOutside() throws Exception {
+        database.addEmployee(employee);
+        // Neither the added object nor a returned one is the stored employee.
+        employee.setSalary(90000.0);
+        assertThrows(UnsupportedOperationException.class, () -> database.getEmployee("EMP001").setSalary(90000.0));
+        assertThrows(UnsupportedOperationException.class,
+                () -> database.filterBySalaryRange(0, 100000).get(0).setDepartment("HR"));
+        assertEquals(List.of("EMP001"), ids(database.filterBySalaryRange(49000, 51000)));
+        assertEquals(50000.0, database.departmentStats("Engineering").totalSalary(), 1e-9);
+
+        // A returned employee can be copied, changed and added back.
+        Employee<String> copy = new Employee<>(database.getEmployee("EMP001"));
+        copy.setSalary(90000.0);
+        database.addEmployee(copy);
+        assertEquals(List.of("EMP001"), ids(database.filterBySalaryRange(89000, 91000)));
+        assertEquals(List.of(), ids(database.filterBySalaryRange(49000, 51000)));
+
+        database.removeEmployee("EMP001");
+        assertEquals(List.of(), ids(database.filterBySalaryRange(0, 100000)));
+        assertEquals(0, database.departmentStats("Engineering").headcount());
+    }
+
+    @Test
+    void testOverriddenSettersAreNotStored() throws Exception {
+        Employee<String> locked = new Employee<>("EMP002", "Jane Roe", "HR", 60000.0, 3.0, 8, true) {
+            @Override
+            public void setSalary(double salary) {
+                throw new UnsupportedOperationException("locked");
+            }
+        };
+        database.addEmployee(locked);
+
+        // The database stores a plain copy, so its updates cannot fail halfway through a setter.
+        database.applyPatch("EMP002", EmployeePatch.builder().yearsOfExperience(9).salary(1.0).build());
+        assertEquals(List.of("EMP002"), ids(database.filterBySalaryRange(1.0, 1.0)));
+        assertEquals(List.of("EMP002"), ids(database.filterByExperienceRange(9, 9)));
+        assertEquals(1.0, database.departmentStats("HR").totalSalary(), 1e-9);
+    }
+
+    @Test
+    void testNameSearchFollowsRenames() throws Exception {
+        database.addEmployee(employee);
+        database.addEmployee(new Employee<>("EMP002", "Joanne Mensah", "HR", 60000.0, 3.0, 8, true));
+        database.addEmployee(new Employee<>("EMP003", "Anne Johnson", "Sales", 40000.0, 4.8, 2, false));
+
+        assertEquals(List.of("EMP002", "EMP003"), ids(database.searchByName("ANNE")));
+        assertEquals(List.of("EMP001", "EMP002", "EMP003"), ids(database.searchByName("o")));
+        assertEquals(List.of("EMP001", "EMP002"), ids(database.searchByNamePrefix("jo")));
+        assertTrue(database.searchByName("anne mensah x").isEmpty());
+
+        database.updateName("EMP002", "Joan Mensah");
+        database.updateEmployeeDetails("EMP003", "name", "Ann Johnson");
+        assertTrue(database.searchByName("anne").isEmpty());
+        assertEquals(List.of("EMP002"), ids(database.searchByName("mensah")));
+
+        database.removeEmployee("EMP002");
+        database.addEmployee(new Employee<>("EMP004", "Kofi Mensah", "HR", 50000.0, 3.0, 1, true));
+        assertEquals(List.of("EMP004"), ids(database.searchByName("ensa")));
+    }
+
+    private static List<String> ids(List<Employee<String>> employees) {
+        return employees.stream().map(Employee::getEmployeeId).sorted().toList();
+    }
+
+    @Test
+    void testDepartmentStatsFollowChanges() throws Exception {
+        database.addEmployee(employee);
+        database.addEmployee(new Employee<>("EMP002", "Jane Doe", "engineering", 70000.0, 3.5, 3, false));
+        database.addEmployee(new Employee<>("EMP003", "Jake Doe", "HR", 40000.0, 4.0, 2, true));
+
+        DepartmentStats engineering = database.departmentStats("ENGINEERING");
+        assertEquals(2, engineering.headcount());
+        assertEquals(1, engineering.activeHeadcount());
+        assertEquals(50000.0, engineering.minSalary());
+        assertEquals(70000.0, engineering.maxSalary());
+        assertEquals(60000.0, engineering.averageSalary(), 1e-9);
+        assertEquals(4.0, engineering.averageRating(), 1e-9);
+
+        database.updateDepartment("EMP002", "HR");
+        database.updateActive("EMP003", false);
+        database.giveRaiseToHighPerformers(4.5, 10);
+
+        engineering = database.departmentStats("Engineering");
+        assertEquals(1, engineering.headcount());
+        assertEquals(55000.0, engineering.maxSalary(), 1e-9);
+        DepartmentStats hr = database.departmentStats().get("HR");
+        assertEquals(2, hr.headcount());
+        assertEquals(0, hr.activeHeadcount());
+        assertEquals(110000.0, hr.totalSalary(), 1e-9);
+        assertEquals(55000.0, database.getAverageSalaryByDepartment("hr"), 1e-9);
+
+        database.applyPatch("EMP003", EmployeePatch.builder().active(true).build());
+        database.updateEmployeeDetails("EMP002", "isActive", true);
+        assertEquals(2, database.departmentStats("HR").activeHeadcount());
+        assertEquals(List.of("EMP003"), database.filterByPerformance(4.0).stream()
+                .filter(e -> e.getDepartment().equals("HR")).map(Employee::getEmployeeId).toList());
+
+        database.removeEmployee("EMP001");
+        assertEquals(0, database.departmentStats("Engineering").headcount());
+        assertEquals(1, database.departmentStats().size());
+    }
+
+    @Test
+    void testParallelExecutionMatchesSequential() throws Exception {
+        EmployeeDatabase<String> parallel = new EmployeeDatabase<>();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        parallel.setParallelExecution(ParallelExecution.on(pool, 0));
+        for (int i = 0; i < 2_000; i++) {
+            Employee<String> hire = new Employee<>("E" + i, "Employee " + i, "Dept" + (i % 5),
+                    1000.0 + (i % 97) * 13.7, (i % 11) / 2.0, i % 40, i % 3 != 0);
+            database.addEmployee(hire);
+            parallel.addEmployee(new Employee<>(hire));
+        }
+        try {
+            database.giveRaiseToHighPerformers(3.0, 7.5);
+            parallel.giveRaiseToHighPerformers(3.0, 7.5);
+
+            List<Employee<String>> expected = database.getAllEmployeesSorted(Employee::compareTo);
+            List<Employee<String>> actual = parallel.getAllEmployeesSorted(Employee::compareTo);
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).getEmployeeId(), actual.get(i).getEmployeeId());
+                assertEquals(expected.get(i).getSalary(), actual.get(i).getSalary());
+            }
+            assertEquals(database.departmentStats(), parallel.departmentStats());
+            assertEquals(ids(database.filterBySalaryRange(1500, 1600)), ids(parallel.filterBySalaryRange(1500, 1600)));
+        } finally {
+            pool.shutdown();
+        }
+    }
 }
@@ -0,0 +1,187 @@
+import com.example.employeemanagementsystem.exception.EmployeeNotFoundException;
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeChangeListener;
+import com.example.employeemanagementsystem.model.EmployeeDatabase;
+import com.example.employeemanagementsystem.model.EmployeeUpdate;
+import com.example.employeemanagementsystem.persistence.EmployeePersistence;
+import com.example.employeemanagementsystem.persistence.IdCodec;
+import com.example.employeemanagementsystem.persistence.SyncMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeePersistenceTest {
+
+    @TempDir
+    Path directory;
+
+    private EmployeeDatabase<String> reopen(SyncMode syncMode) throws Exception {
+        EmployeeDatabase<String> database = new EmployeeDatabase<>();
+        EmployeePersistence.open(directory, database, IdCodec.strings(), syncMode, 0).close();
+        return database;
+    }
+
+    @Test
+    void testMutationsSurviveRestart() throws Exception {
+        EmployeeDatabase<String> database = new EmployeeDatabase<>();
+        try (EmployeePersistence<String> persistence =
+                     EmployeePersistence.open(directory, database, IdCodec.strings())) {
+            database.addEmployee(new Employee<>("EMP001", "John Doe", "Engineering", 50000.0, 4.5, 5, true));
+            database.addEmployee(new Employee<>("EMP002", "Jane Roe", "HR", 60000.0, 3.0, 8, true));
+            database.addEmployee(new Employee<>("EMP003", "Jake Poe", "Sales", 40000.0, 4.8, 2, false));
+            database.updateEmployeeDetails("EMP002", "department", "Finance");
+            database.updateEmployeeDetails("EMP002", "isActive", false);
+            database.giveRaiseToHighPerformers(4.5, 10.0);
+            database.deleteEmployee("EMP003");
+            assertNull(persistence.getFailure());
+        }
+
+        EmployeeDatabase<String> recovered = reopen(SyncMode.SYNC);
+        assertEquals(2, recovered.size());
+        assertEquals(55000.0, recovered.getEmployee("EMP001").getSalary(), 1e-9);
+        assertEquals("Finance", recovered.getEmployee("EMP002").getDepartment());
+        assertFalse(recovered.getEmployee("EMP002").isActive());
+        assertEquals(1, recovered.searchByDepartment("finance").size());
+    }
+
+    @Test
+    void testCheckpointCompactsAndKeepsLaterChanges() throws Exception {
+        EmployeeDatabase<String> database = new EmployeeDatabase<>();
+        try (EmployeePersistence<String> persistence =
+                     EmployeePersistence.open(directory, database, IdCodec.strings(), SyncMode.ASYNC, 0)) {
+            for (int i = 0; i < 100; i++) {
+                database.addEmployee(new Employee<>("E" + i, "Name " + i, "Dept", 1000.0 + i, 3.0, 1, true));
+            }
+            persistence.checkpoint();
+            database.giveRaiseToHighPerformers(3.0, 50.0);
+            database.removeEmployee("E0");
+            persistence.sync();
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(List.of("snapshot-00000000000000000001.bin", "wal-00000000000000000001.log"),
+                    files.map(f -> f.getFileName().toString()).sorted().toList());
+        }
+        EmployeeDatabase<String> recovered = reopen(SyncMode.ASYNC);
+        assertEquals(99, recovered.size());
+        assertEquals(1507.5, recovered.getEmployee("E5").getSalary(), 1e-9);
+        assertThrows(EmployeeNotFoundException.class, () -> recovered.getEmployee("E0"));
+    }
+
+    @Test
+    void testBatchesSurviveRestart() throws Exception {
+        EmployeeDatabase<String> database = new EmployeeDatabase<>();
+        List<Employee<String>> employees = new ArrayList<>();
+        List<EmployeeUpdate<String>> updates = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            employees.add(new Employee<>("E" + i, "Name " + i, "Dept", 1000.0, 3.0, 1, true));
+            updates.add(new EmployeeUpdate<>("E" + i, "salary", 2000.0 + i));
+        }
+        try (EmployeePersistence<String> persistence =
+                     EmployeePersistence.open(directory, database, IdCodec.strings())) {
+            database.addAll(employees);
+            database.updateAll(updates);
+            database.removeAll(List.of("E0", "E1"));
+            assertNull(persistence.getFailure());
+        }
+
+        EmployeeDatabase<String> recovered = reopen(SyncMode.SYNC);
+        assertEquals(998, recovered.size());
+        assertEquals(2999.0, recovered.getEmployee("E999").getSalary(), 1e-9);
+        assertThrows(EmployeeNotFoundException.class, () -> recovered.getEmployee("E1"));
+    }
+
+    @Test
+    void testTornTailIsTruncated() throws Exception {
+        EmployeeDatabase<String> database = new EmployeeDatabase<>();
+        try (EmployeePersistence<String> persistence =
+                     EmployeePersistence.open(directory, database, IdCodec.strings())) {
+            database.addEmployee(new Employee<>("EMP001", "John Doe", "Engineering", 50000.0, 4.5, 5, true));
+            assertNull(persistence.getFailure());
+        }
+        Path log = directory.resolve("wal-00000000000000000000.log");
+        long intactSize = Files.size(log);
+        Files.write(log, new byte[]{0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        EmployeeDatabase<String> recovered = reopen(SyncMode.SYNC);
+        assertEquals(1, recovered.size());
+        assertEquals(intactSize, Files.size(log));
+    }
+
+    @Test
+    void testStringsLongerThan64KbSurviveRestart() throws Exception {
+        String name = "N".repeat(70_000) + "\u00e9";
+        EmployeeDatabase<String> database = new EmployeeDatabase<>();
+        try (EmployeePersistence<String> persistence =
+                     EmployeePersistence.open(directory, database, IdCodec.strings(), SyncMode.SYNC, 0)) {
+            database.addEmployee(new Employee<>("EMP001", name, "Engineering", 50000.0, 4.5, 5, true));
+            database.updateEmployeeDetails("EMP001", "department", "D".repeat(70_000));
+            persistence.checkpoint();
+            database.addEmployee(new Employee<>("EMP002", name, "HR", 60000.0, 3.0, 8, true));
+        }
+
+        EmployeeDatabase<String> recovered = reopen(SyncMode.SYNC);
+        assertEquals(name, recovered.getEmployee("EMP001").getName());
+        assertEquals(70_000, recovered.getEmployee("EMP001").getDepartment().length());
+        assertEquals(name, recovered.getEmployee("EMP002").getName());
+    }
+
+    @Test
+    void testLogFailureMarksPersistenceFailedUntilCheckpoint() throws Exception {
+        IdCodec<String> failing = new IdCodec<>() {
+            @Override
+            public void write(DataOutput out, String employeeId) throws IOException {
+                if (employeeId.equals("BAD")) {
+                    throw new IOException("disk full");
+                }
+                IdCodec.strings().write(out, employeeId);
+            }
+
+            @Override
+            public String read(DataInput in) throws IOException {
+                return IdCodec.strings().read(in);
+            }
+        };
+        EmployeeDatabase<String> database = new EmployeeDatabase<>();
+        List<String> seen = new ArrayList<>();
+        try (EmployeePersistence<String> persistence =
+                     EmployeePersistence.open(directory, database, failing, SyncMode.SYNC, 0)) {
+            database.addChangeListener(new EmployeeChangeListener<>() {
+                @Override
+                public void employeeAdded(Employee<String> employee) {
+                    seen.add(employee.getEmployeeId());
+                }
+            });
+            database.addEmployee(new Employee<>("EMP001", "John Doe", "Engineering", 50000.0, 4.5, 5, true));
+            assertNull(persistence.getFailure());
+
+            database.addEmployee(new Employee<>("BAD", "Jane Roe", "HR", 60000.0, 3.0, 8, true));
+            database.addEmployee(new Employee<>("EMP003", "Jake Poe", "Sales", 40000.0, 4.8, 2, false));
+            assertEquals(List.of("EMP001", "BAD", "EMP003"), seen);
+            assertEquals(3, database.size());
+            assertEquals("disk full", persistence.getFailure().getMessage());
+            assertThrows(UncheckedIOException.class, persistence::sync);
+
+            database.removeEmployee("BAD");
+            persistence.checkpoint();
+            assertNull(persistence.getFailure());
+            database.updateEmployeeDetails("EMP003", "salary", 45000.0);
+        }
+
+        EmployeeDatabase<String> recovered = reopen(SyncMode.SYNC);
+        assertEquals(2, recovered.size());
+        assertEquals(45000.0, recovered.getEmployee("EMP003").getSalary());
+    }
+}
@@ -0,0 +1,101 @@
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeDatabase;
+import com.example.employeemanagementsystem.model.EmployeeFilter;
+import com.example.employeemanagementsystem.model.EmployeeQuery;
+import com.example.employeemanagementsystem.model.EmployeeSalaryComparator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static com.example.employeemanagementsystem.model.EmployeeFilter.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeQueryTest {
+    private static final String[] DEPARTMENTS = {"Engineering", "Finance", "HR", "Sales"};
+    private static final String[] NAMES = {"Ama Mensah", "Kofi Boateng", "Joanne Owusu", "Yaw Asante"};
+
+    private EmployeeDatabase<Integer> database;
+    private List<Employee<Integer>> everyone;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        database = new EmployeeDatabase<>();
+        database.setMutationLogging(false);
+        everyone = new ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 2_000; i++) {
+            everyone.add(new Employee<>(i, NAMES[random.nextInt(NAMES.length)] + " " + i,
+                    DEPARTMENTS[random.nextInt(DEPARTMENTS.length)], 30_000 + random.nextInt(70_000),
+                    random.nextInt(51) / 10.0, random.nextInt(30), random.nextBoolean()));
+        }
+        database.addAll(everyone);
+    }
+
+    private List<Employee<Integer>> bruteForce(EmployeeFilter filter) {
+        return everyone.stream().filter(filter::test).toList();
+    }
+
+    private static List<Integer> sortedIds(List<Employee<Integer>> employees) {
+        return employees.stream().map(Employee::getEmployeeId).sorted().toList();
+    }
+
+    @Test
+    void testQueriesMatchBruteForce() {
+        List<EmployeeFilter> filters = List.of(
+                department("finance"),
+                department("Finance").and(salaryBetween(50_000, 60_000)).and(ratingAtLeast(4.0)),
+                nameContains("MENSAH").and(active(true)),
+                experienceBetween(3, 5).and(nameContains("ko")),
+                department("HR").or(nameContains("owusu 1")).or(ratingBetween(4.9, 5.0)),
+                active(false).or(salaryBetween(99_000, 100_000)),
+                anyOf(allOf(department("Sales"), experienceBetween(0, 1)), department("nowhere")),
+                all());
+        for (EmployeeFilter filter : filters) {
+            EmployeeQuery<Integer> query = EmployeeQuery.<Integer>builder().where(filter).build();
+            List<Employee<Integer>> result = database.query(query);
+            assertEquals(sortedIds(bruteForce(filter)), sortedIds(result), filter::toString);
+            assertEquals(result.size(), result.stream().distinct().count(), filter::toString);
+        }
+    }
+
+    @Test
+    void testPlannerPicksTheMostSelectiveIndex() {
+        EmployeeQuery<Integer> narrowSalary = EmployeeQuery.<Integer>builder()
+                .where(department("Engineering"))
+                .where(salaryBetween(40_000, 40_050))
+                .build();
+        assertTrue(database.explain(narrowSalary).startsWith("salary["), database.explain(narrowSalary));
+
+        EmployeeQuery<Integer> wideSalary = EmployeeQuery.<Integer>builder()
+                .where(department("Engineering").and(salaryBetween(0, 1_000_000)))
+                .build();
+        assertTrue(database.explain(wideSalary).startsWith("department=Engineering"), database.explain(wideSalary));
+
+        EmployeeQuery<Integer> unindexed = EmployeeQuery.<Integer>builder().where(active(true)).build();
+        assertTrue(database.explain(unindexed).startsWith("scan"));
+
+        EmployeeQuery<Integer> union = EmployeeQuery.<Integer>builder()
+                .where(nameContains("boateng 19").or(department("HR")))
+                .build();
+        assertTrue(database.explain(union).startsWith("union("), database.explain(union));
+    }
+
+    @Test
+    void testOrderAndLimit() {
+        EmployeeFilter filter = department("Sales").and(active(true));
+        Comparator<Employee<Integer>> bySalary = new EmployeeSalaryComparator<>();
+        List<Employee<Integer>> expected = bruteForce(filter).stream().sorted(bySalary).limit(5).toList();
+
+        List<Employee<Integer>> top = database.query(EmployeeQuery.<Integer>builder()
+                .where(filter).orderBy(bySalary).limit(5).build());
+        assertEquals(expected.stream().map(Employee::getSalary).toList(), top.stream().map(Employee::getSalary).toList());
+
+        List<Employee<Integer>> any = database.query(EmployeeQuery.<Integer>builder().where(filter).limit(3).build());
+        assertEquals(3, any.size());
+        assertTrue(any.stream().allMatch(filter::test));
+    }
+}
@@ -0,0 +1,194 @@
+import com.example.employeemanagementsystem.controller.EmployeeController;
+import com.example.employeemanagementsystem.io.Json;
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeChangeListener;
+import com.example.employeemanagementsystem.model.EmployeeDatabase;
+import com.example.employeemanagementsystem.server.EmployeeServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeServerTest {
+
+    private EmployeeServer<Integer> server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    private EmployeeDatabase<Integer> start(int workers, int maxQueued) throws IOException {
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        database.setMutationLogging(false);
+        server = new EmployeeServer<>(new EmployeeController<>(database), Integer::valueOf,
+                new InetSocketAddress("127.0.0.1", 0), workers, maxQueued);
+        return database;
+    }
+
+    private record Response(int status, String body) {
+        Map<String, Object> json() {
+            return Json.parseObject(body);
+        }
+    }
+
+    private Response call(String method, String path, String body) throws IOException {
+        URL url = new URL("http://127.0.0.1:" + server.getAddress().getPort() + path);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        // HttpURLConnection cannot send PATCH.
+        if (method.equals("PATCH")) {
+            connection.setRequestMethod("POST");
+            connection.setRequestProperty("X-HTTP-Method-Override", "PATCH");
+        } else {
+            connection.setRequestMethod(method);
+        }
+        if (body != null) {
+            connection.setDoOutput(true);
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        int status = connection.getResponseCode();
+        InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+        String text = in == null ? "" : new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        connection.disconnect();
+        return new Response(status, text);
+    }
+
+    @Test
+    void testCreateReadUpdateDelete() throws Exception {
+        start(2, 16);
+        String alice = "{\"employeeId\":1,\"name\":\"Alice\",\"department\":\"IT\",\"salary\":60000,"
+                + "\"performanceRating\":4.5,\"yearsOfExperience\":5,\"active\":true}";
+
+        assertEquals(201, call("POST", "/employees", alice).status());
+        assertEquals(409, call("POST", "/employees", alice).status());
+        assertEquals(400, call("POST", "/employees",
+                "{\"employeeId\":2,\"name\":\"Bob\",\"department\":\"IT\",\"salary\":-1}").status());
+        assertEquals(400, call("POST", "/employees",
+                "{\"employeeId\":2,\"name\":\"Bob\",\"department\":\"IT\",\"yearsOfExperience\":2.5}").status());
+        assertEquals(400, call("PATCH", "/employees/1", "{\"yearsOfExperience\":2.5}").status());
+
+        Response read = call("GET", "/employees/1", null);
+        assertEquals(200, read.status());
+        assertEquals("Alice", read.json().get("name"));
+
+        Response patched = call("PATCH", "/employees/1", "{\"salary\":65000,\"department\":\"Finance\"}");
+        assertEquals(200, patched.status());
+        assertEquals(65000.0, patched.json().get("salary"));
+        assertEquals("Finance", patched.json().get("department"));
+        // An invalid field rejects the whole patch.
+        assertEquals(400, call("PATCH", "/employees/1", "{\"name\":\"Al\",\"salary\":-5}").status());
+        assertEquals("Alice", call("GET", "/employees/1", null).json().get("name"));
+
+        assertEquals(204, call("DELETE", "/employees/1", null).status());
+        assertEquals(404, call("GET", "/employees/1", null).status());
+        assertEquals(404, call("DELETE", "/employees/1", null).status());
+        assertEquals(400, call("GET", "/employees/abc", null).status());
+    }
+
+    @Test
+    void testListsArePagedAndFiltered() throws Exception {
+        EmployeeDatabase<Integer> database = start(2, 16);
+        for (int id = 1; id <= 50; id++) {
+            database.addEmployee(new Employee<>(id, "Employee " + id, id % 2 == 0 ? "IT" : "Sales",
+                    1_000.0 * id, id % 5, id % 10, true));
+        }
+
+        Response page = call("GET", "/employees?sort=salary&offset=10&limit=5", null);
+        assertEquals(200, page.status());
+        assertTrue(page.body().startsWith("{\"total\":50,\"offset\":10,\"employees\":[{\"employeeId\":40,"),
+                page.body());
+
+        Response filtered = call("GET", "/employees/filter?minRating=4&minSalary=20000", null);
+        assertTrue(filtered.body().startsWith("{\"total\":6,"), filtered.body());
+        assertTrue(call("GET", "/employees/search?department=IT", null).body().startsWith("{\"total\":25,"));
+        Response lastPage = call("GET", "/employees/search?department=IT&offset=20&limit=10", null);
+        assertTrue(lastPage.body().startsWith("{\"total\":25,\"offset\":20,"), lastPage.body());
+        assertEquals(5, lastPage.body().split("\"employeeId\"").length - 1);
+        assertTrue(call("GET", "/employees?sort=experience&offset=60", null).body()
+                .startsWith("{\"total\":50,\"offset\":60,\"employees\":[]}"));
+        assertTrue(call("GET", "/employees/top?n=3", null).body()
+                .contains("\"employees\":[{\"employeeId\":50,"));
+
+        Response it = call("GET", "/departments/IT", null);
+        assertEquals(25L, it.json().get("headcount"));
+        assertEquals(404, call("GET", "/departments/Legal", null).status());
+
+        assertEquals(204, call("POST", "/raises", "{\"minRating\":4,\"percent\":10}").status());
+        assertEquals(4_400.0, call("GET", "/employees/4", null).json().get("salary"));
+    }
+
+    @Test
+    void testRequestsBeyondTheQueueAreRefused() throws Exception {
+        EmployeeDatabase<Integer> database = start(1, 1);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        database.addChangeListener(new EmployeeChangeListener<>() {
+            @Override
+            public void employeeAdded(Employee<Integer> employee) {
+                entered.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+
+        List<Integer> statuses = new ArrayList<>();
+        List<Thread> clients = new ArrayList<>();
+        clients.add(client(statuses, "POST", "/employees",
+                "{\"employeeId\":1,\"name\":\"Alice\",\"department\":\"IT\",\"salary\":60000}"));
+        assertTrue(entered.await(10, TimeUnit.SECONDS));
+        // The only worker is busy: one of these waits in the queue, the other is refused.
+        clients.add(client(statuses, "GET", "/health", null));
+        clients.add(client(statuses, "GET", "/health", null));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (server.getRejectedRequests() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+        for (Thread client : clients) {
+            client.join(10_000);
+        }
+
+        assertEquals(1, server.getRejectedRequests());
+        synchronized (statuses) {
+            assertEquals(3, statuses.size());
+            assertTrue(statuses.contains(201));
+            assertTrue(statuses.contains(200));
+            assertTrue(statuses.contains(503));
+        }
+    }
+
+    private Thread client(List<Integer> statuses, String method, String path, String body) {
+        Thread thread = new Thread(() -> {
+            try {
+                int status = call(method, path, body).status();
+                synchronized (statuses) {
+                    statuses.add(status);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        thread.start();
+        return thread;
+    }
+}
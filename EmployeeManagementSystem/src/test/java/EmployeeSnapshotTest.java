@@ -0,0 +1,121 @@
+import com.example.employeemanagementsystem.exception.EmployeeNotFoundException;
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeDatabase;
+import com.example.employeemanagementsystem.model.EmployeeField;
+import com.example.employeemanagementsystem.model.EmployeeSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeSnapshotTest {
+
+    private EmployeeDatabase<String> database;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmployeeDatabase<>();
+        database.setMutationLogging(false);
+    }
+
+    private static Employee<String> employee(String id, double salary) {
+        return new Employee<>(id, "Employee " + id, "IT", salary, 4.0, 3, true);
+    }
+
+    @Test
+    void testSnapshotIsUnaffectedByLaterChanges() throws Exception {
+        database.addEmployee(employee("a", 1000));
+        database.addEmployee(employee("b", 2000));
+        EmployeeSnapshot<String> before = database.snapshot();
+
+        database.updateEmployeeDetails("a", EmployeeField.SALARY, 1500.0);
+        database.giveRaiseToHighPerformers(3.0, 10);
+        database.removeEmployee("b");
+        database.addEmployee(employee("c", 3000));
+        EmployeeSnapshot<String> after = database.snapshot();
+
+        assertEquals(2, before.size());
+        assertEquals(1000.0, before.getEmployee("a").getSalary());
+        assertEquals(2000.0, before.getEmployee("b").getSalary());
+        assertFalse(before.containsEmployee("c"));
+        assertEquals(1500.0, before.getAverageSalaryByDepartment("it"));
+
+        assertEquals(2, after.size());
+        assertEquals(1650.0, after.getEmployee("a").getSalary(), 1e-9);
+        assertThrows(EmployeeNotFoundException.class, () -> after.getEmployee("b"));
+        assertEquals("c", after.getTopPaidEmployees(1).get(0).getEmployeeId());
+        assertThrows(UnsupportedOperationException.class, () -> after.getEmployee("c").setSalary(0));
+    }
+
+    @Test
+    void testSnapshotEmployeesCanBeAddedBackAsMutableCopies() throws Exception {
+        database.addEmployee(employee("a", 1000));
+        database.addEmployee(employee("b", 2000));
+        EmployeeSnapshot<String> snapshot = database.snapshot();
+
+        EmployeeDatabase<String> copy = new EmployeeDatabase<>();
+        copy.setMutationLogging(false);
+        copy.loadEmployees(snapshot.getAllEmployees());
+        copy.addEmployee(snapshot.getEmployee("a"));
+        copy.updateSalary("a", 1200.0);
+        copy.giveRaiseToHighPerformers(3.0, 10);
+
+        assertEquals(1320.0, copy.getEmployee("a").getSalary(), 1e-9);
+        assertEquals(2200.0, copy.getEmployee("b").getSalary(), 1e-9);
+        assertEquals(List.of("a"), copy.filterBySalaryRange(1300.0, 1400.0).stream()
+                .map(Employee::getEmployeeId).toList());
+        assertEquals(1000.0, snapshot.getEmployee("a").getSalary());
+    }
+
+    @Test
+    void testSnapshotsMatchTheDatabaseUnderRandomChanges() throws Exception {
+        // "Aa" and "BB" share a hash code, so colliding IDs are exercised too.
+        String[] ids = new String[200];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = (i % 2 == 0 ? "Aa" : "BB") + i / 2;
+        }
+        Random random = new Random(7);
+        List<EmployeeSnapshot<String>> snapshots = new ArrayList<>();
+        List<Map<String, Double>> expected = new ArrayList<>();
+        for (int round = 0; round < 50; round++) {
+            List<Employee<String>> batch = new ArrayList<>();
+            List<String> removals = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                String id = ids[random.nextInt(ids.length)];
+                if (random.nextInt(3) == 0 && database.containsEmployee(id) && !removals.contains(id)) {
+                    removals.add(id);
+                } else if (!removals.contains(id)) {
+                    batch.add(employee(id, random.nextInt(100_000)));
+                }
+            }
+            database.removeAll(removals);
+            database.addAll(batch);
+            database.addEmployee(employee(ids[random.nextInt(ids.length)], 1));
+            snapshots.add(database.snapshot());
+            Map<String, Double> salaries = new HashMap<>();
+            for (Employee<String> employee : database.getAllEmployees()) {
+                salaries.put(employee.getEmployeeId(), employee.getSalary());
+            }
+            expected.add(salaries);
+        }
+
+        for (int round = 0; round < snapshots.size(); round++) {
+            EmployeeSnapshot<String> snapshot = snapshots.get(round);
+            Map<String, Double> salaries = new HashMap<>();
+            for (Employee<String> employee : snapshot) {
+                assertNull(salaries.put(employee.getEmployeeId(), employee.getSalary()), "listed twice");
+            }
+            assertEquals(expected.get(round), salaries);
+            assertEquals(salaries.size(), snapshot.size());
+            for (String id : ids) {
+                assertEquals(salaries.containsKey(id), snapshot.containsEmployee(id));
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeDatabase;
+import com.example.employeemanagementsystem.model.EmployeeField;
+import com.example.employeemanagementsystem.model.EmployeeSalaryComparator;
+import com.example.employeemanagementsystem.view.EmployeeTableModel;
+import javafx.collections.ListChangeListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeTableModelTest {
+
+    private static List<String> names(List<Employee<String>> rows) {
+        List<String> names = new ArrayList<>();
+        for (Employee<String> row : rows) {
+            names.add(row.getName());
+        }
+        return names;
+    }
+
+    @Test
+    void testChangesKeepRowsSortedWithoutReset() throws Exception {
+        EmployeeDatabase<String> database = new EmployeeDatabase<>();
+        database.addEmployee(new Employee<>("EMP001", "Carol", "HR", 50000, 4.0, 3, true));
+        database.addEmployee(new Employee<>("EMP002", "Alice", "IT", 70000, 4.5, 6, true));
+        EmployeeTableModel<String> model = new EmployeeTableModel<>(database, Runnable::run);
+        assertEquals(List.of("Alice", "Carol"), names(model));
+
+        List<String> events = new ArrayList<>();
+        model.addListener((ListChangeListener<Employee<String>>) change -> {
+            while (change.next()) {
+                events.add(change.getFrom() + (change.wasAdded() ? "+" : "") + (change.wasRemoved() ? "-" : ""));
+            }
+        });
+
+        database.addEmployee(new Employee<>("EMP003", "Bob", "IT", 60000, 3.5, 2, true));
+        assertEquals(List.of("Alice", "Bob", "Carol"), names(model));
+        assertEquals(List.of("1+"), events);
+
+        events.clear();
+        database.updateEmployeeDetails("EMP002", EmployeeField.NAME, "Dave");
+        assertEquals(List.of("Bob", "Carol", "Dave"), names(model));
+        assertEquals(List.of("0-", "2+"), events);
+
+        events.clear();
+        database.removeEmployee("EMP001");
+        assertEquals(List.of("Bob", "Dave"), names(model));
+        assertEquals(List.of("1-"), events);
+
+        model.setComparator(new EmployeeSalaryComparator<>());
+        assertEquals(List.of("Dave", "Bob"), names(model));
+        model.dispose();
+    }
+
+    @Test
+    void testRowsAreSharedWithTheDatabaseSnapshot() throws Exception {
+        EmployeeDatabase<String> database = new EmployeeDatabase<>();
+        database.addEmployee(new Employee<>("EMP001", "Carol", "HR", 50000, 4.0, 3, true));
+        EmployeeTableModel<String> model = new EmployeeTableModel<>(database, Runnable::run);
+        assertTrue(database.isSnapshotsEnabled());
+        assertSame(database.snapshot().getEmployee("EMP001"), model.get(0));
+
+        database.updateEmployeeDetails("EMP001", EmployeeField.SALARY, 60000.0);
+        assertSame(database.snapshot().getEmployee("EMP001"), model.get(0));
+        assertThrows(UnsupportedOperationException.class, () -> model.get(0).setSalary(0));
+
+        model.dispose();
+        assertFalse(database.isSnapshotsEnabled());
+    }
+
+    @Test
+    void testFilterFollowsLaterChanges() throws Exception {
+        EmployeeDatabase<String> database = new EmployeeDatabase<>();
+        database.addEmployee(new Employee<>("EMP001", "John Doe", "Engineering", 50000, 4.5, 5, true));
+        database.addEmployee(new Employee<>("EMP002", "Jane Roe", "HR", 60000, 3.0, 8, true));
+        EmployeeTableModel<String> model = new EmployeeTableModel<>(database, Runnable::run);
+
+        List<Employee<String>> matches = new ArrayList<>(database.searchByDepartment("engineering"));
+        matches.addAll(database.searchByDepartment("engineering"));
+        model.setFilter(matches, employee -> "Engineering".equalsIgnoreCase(employee.getDepartment()));
+        assertEquals(List.of("John Doe"), names(model));
+
+        database.addEmployee(new Employee<>("EMP003", "Ann Poe", "Engineering", 40000, 4.0, 1, true));
+        database.addEmployee(new Employee<>("EMP004", "Zed Moe", "Sales", 40000, 4.0, 1, true));
+        database.updateEmployeeDetails("EMP001", EmployeeField.DEPARTMENT, "Sales");
+        assertEquals(List.of("Ann Poe"), names(model));
+
+        database.giveRaiseToHighPerformers(4.0, 10);
+        assertEquals(44000, model.get(0).getSalary(), 1e-9);
+
+        model.clearFilter();
+        assertEquals(List.of("Ann Poe", "Jane Roe", "John Doe", "Zed Moe"), names(model));
+    }
+
+    @Test
+    void testLargeBatchesAreMergedInOrder() throws Exception {
+        EmployeeDatabase<String> database = new EmployeeDatabase<>();
+        database.setMutationLogging(false);
+        List<Employee<String>> workforce = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            workforce.add(new Employee<>("EMP" + i, "E" + i, i % 2 == 0 ? "IT" : "HR",
+                    1000 + (i * 7919) % 3000, i % 2 == 0 ? 4.5 : 3.0, 1, true));
+        }
+        database.addAll(workforce.subList(0, 1000));
+        EmployeeSalaryComparator<String> bySalary = new EmployeeSalaryComparator<>();
+        EmployeeTableModel<String> model = new EmployeeTableModel<>(database, bySalary, Runnable::run);
+
+        database.addAll(workforce.subList(1000, 3000));
+        database.giveRaiseToHighPerformers(4.0, 50);
+        assertEquals(3000, model.size());
+        for (int i = 1; i < model.size(); i++) {
+            assertTrue(bySalary.compare(model.get(i - 1), model.get(i)) <= 0);
+        }
+        assertEquals(database.getEmployee("EMP2").getSalary(), model.stream()
+                .filter(row -> row.getEmployeeId().equals("EMP2")).findFirst().orElseThrow().getSalary(), 1e-9);
+
+        List<String> removedIds = new ArrayList<>();
+        for (Employee<String> employee : workforce.subList(0, 1500)) {
+            removedIds.add(employee.getEmployeeId());
+        }
+        database.removeAll(removedIds);
+        assertEquals(1500, model.size());
+        for (int i = 1; i < model.size(); i++) {
+            assertTrue(bySalary.compare(model.get(i - 1), model.get(i)) <= 0);
+        }
+        model.dispose();
+    }
+
+    @Test
+    void testBackgroundSortMergesChangesMadeMeanwhile() throws Exception {
+        EmployeeDatabase<String> database = new EmployeeDatabase<>();
+        database.addEmployee(new Employee<>("EMP001", "Carol", "HR", 50000, 4.0, 3, true));
+        database.addEmployee(new Employee<>("EMP002", "Alice", "IT", 70000, 4.5, 6, true));
+        database.addEmployee(new Employee<>("EMP003", "Bob", "IT", 60000, 3.5, 2, true));
+        EmployeeTableModel<String> model = new EmployeeTableModel<>(database, Runnable::run);
+
+        Deque<Runnable> background = new ArrayDeque<>();
+        CompletableFuture<Void> sorted = model.sortInBackground(new EmployeeSalaryComparator<>(), background::add);
+        database.removeEmployee("EMP003");
+        database.updateEmployeeDetails("EMP001", EmployeeField.SALARY, 90000.0);
+        database.addEmployee(new Employee<>("EMP004", "Dave", "IT", 80000, 4.0, 1, true));
+        assertEquals(List.of("Alice", "Carol", "Dave"), names(model));
+
+        background.poll().run();
+        assertTrue(sorted.isDone());
+        assertEquals(List.of("Carol", "Dave", "Alice"), names(model));
+
+        CompletableFuture<Void> superseded = model.sortInBackground(EmployeeTableModel.BY_NAME, background::add);
+        model.setComparator(new EmployeeSalaryComparator<>());
+        background.poll().run();
+        assertTrue(superseded.isCancelled());
+        assertEquals(List.of("Carol", "Dave", "Alice"), names(model));
+    }
+}
@@ -0,0 +1,82 @@
+import com.example.employeemanagementsystem.exception.EmployeeNotFoundException;
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.LongEmployeeDatabase;
+import com.example.employeemanagementsystem.model.UuidEmployeeDatabase;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongEmployeeDatabaseTest {
+
+    private static Employee<Long> employee(long employeeId) {
+        return new Employee<>(employeeId, "Employee " + employeeId, "IT", 1000, 3.0, 2, true);
+    }
+
+    @Test
+    void testMatchesHashMapUnderRandomAddsAndRemoves() throws Exception {
+        LongEmployeeDatabase database = new LongEmployeeDatabase();
+        database.setMutationLogging(false);
+        Map<Long, Employee<Long>> expected = new HashMap<>();
+        Random random = new Random(42);
+        // A narrow key range forces collisions, replacements and removals inside probe runs.
+        long[] specials = {0, -1, Long.MIN_VALUE, Long.MAX_VALUE};
+        for (int i = 0; i < 50_000; i++) {
+            long employeeId = i % 97 == 0 ? specials[i % specials.length] : random.nextInt(4_000) - 2_000;
+            if (random.nextInt(3) == 0) {
+                if (expected.remove(employeeId) != null) {
+                    database.removeEmployee(employeeId);
+                } else {
+                    assertThrows(EmployeeNotFoundException.class, () -> database.removeEmployee(employeeId));
+                }
+            } else {
+                Employee<Long> employee = employee(employeeId);
+                expected.put(employeeId, employee);
+                database.addEmployee(employee);
+            }
+            assertEquals(expected.size(), database.size());
+        }
+
+        for (long employeeId = -2_100; employeeId < 2_100; employeeId++) {
+            assertEquals(expected.containsKey(employeeId), database.containsEmployee(employeeId));
+            if (expected.containsKey(employeeId)) {
+                assertEquals(employeeId, database.getEmployee(employeeId).getEmployeeId());
+                assertEquals(employeeId, database.getEmployee(Long.valueOf(employeeId)).getEmployeeId());
+            }
+        }
+        List<Employee<Long>> all = database.getAllEmployees();
+        assertEquals(expected.size(), all.size());
+        assertEquals(expected.keySet(), all.stream().map(Employee::getEmployeeId).collect(Collectors.toSet()));
+        assertEquals(expected.size(), database.searchByDepartment("IT").size());
+    }
+
+    @Test
+    void testUuidDatabaseFindsEmployeesByValue() throws Exception {
+        UuidEmployeeDatabase database = new UuidEmployeeDatabase();
+        database.setMutationLogging(false);
+        List<UUID> employeeIds = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            UUID employeeId = i % 2 == 0 ? UUID.randomUUID() : new UUID(0, i);
+            employeeIds.add(employeeId);
+            database.addEmployee(new Employee<>(employeeId, "Employee " + i, "HR", 1000, 3.0, 2, true));
+        }
+        for (UUID employeeId : employeeIds) {
+            UUID copy = new UUID(employeeId.getMostSignificantBits(), employeeId.getLeastSignificantBits());
+            assertEquals(employeeId, database.getEmployee(copy).getEmployeeId());
+        }
+        for (int i = 0; i < employeeIds.size(); i += 3) {
+            database.removeEmployee(employeeIds.get(i));
+        }
+        for (int i = 0; i < employeeIds.size(); i++) {
+            assertEquals(i % 3 != 0, database.containsEmployee(employeeIds.get(i)));
+        }
+        assertEquals(666, database.size());
+    }
+}
@@ -0,0 +1,115 @@
+import com.example.employeemanagementsystem.exception.EmployeeNotFoundException;
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeDatabase;
+import com.example.employeemanagementsystem.persistence.IdCodec;
+import com.example.employeemanagementsystem.persistence.MappedEmployeeSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedEmployeeSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    private final UUID john = UUID.randomUUID();
+    private final UUID jane = UUID.randomUUID();
+    private final UUID jake = UUID.randomUUID();
+    private Path file;
+    private MappedEmployeeSnapshot<UUID> snapshot;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        file = directory.resolve("employees.snap");
+        MappedEmployeeSnapshot.write(file, List.of(
+                new Employee<>(john, "John Doe", "Engineering", 50000.0, 4.5, 5, true),
+                new Employee<>(jane, "Jane Roe", "engineering", 70000.0, 3.0, 8, false),
+                new Employee<>(jake, "Jaké Poe", "Sales", 40000.0, 4.8, 2, true)), IdCodec.uuids());
+        snapshot = MappedEmployeeSnapshot.open(file, IdCodec.uuids());
+    }
+
+    @Test
+    void testRecordsRoundTrip() throws Exception {
+        assertEquals(3, snapshot.size());
+        Employee<UUID> employee = snapshot.getEmployee(jake);
+        assertEquals("Jaké Poe", employee.getName());
+        assertEquals("Sales", employee.getDepartment());
+        assertEquals(40000.0, employee.getSalary());
+        assertEquals(2, employee.getYearsOfExperience());
+        assertTrue(employee.isActive());
+        assertFalse(snapshot.isActive(1));
+        assertThrows(EmployeeNotFoundException.class, () -> snapshot.getEmployee(UUID.randomUUID()));
+    }
+
+    @Test
+    void testQueriesRunAgainstMappedRecords() {
+        assertEquals(2, snapshot.searchByDepartment("ENGINEERING").size());
+        assertEquals(60000.0, snapshot.getAverageSalaryByDepartment("engineering"), 1e-9);
+        assertEquals(List.of(john, jake),
+                snapshot.filterByPerformance(4.5).stream().map(Employee::getEmployeeId).toList());
+        assertEquals(List.of(john), snapshot.filterBySalaryRange(45000, 60000).stream()
+                .map(Employee::getEmployeeId).toList());
+        assertEquals(List.of(jane, john), snapshot.getTopPaidEmployees(2).stream()
+                .map(Employee::getEmployeeId).toList());
+        assertEquals(1, snapshot.searchByName("ROE").size());
+    }
+
+    @Test
+    void testLoadIntoDatabase() throws Exception {
+        EmployeeDatabase<UUID> database = new EmployeeDatabase<>();
+        snapshot.loadInto(database);
+        assertEquals(3, database.size());
+        assertEquals(1, database.searchByDepartment("sales").size());
+    }
+
+    @Test
+    void testEveryEmployeeIsFoundById() throws Exception {
+        List<Employee<Long>> employees = new ArrayList<>();
+        for (long id = 0; id < 1_000; id++) {
+            employees.add(new Employee<>(id, "Employee " + id, "Engineering", 50000.0, 3.0, 1, true));
+        }
+        Path large = directory.resolve("large.snap");
+        MappedEmployeeSnapshot.write(large, employees, IdCodec.longs());
+        MappedEmployeeSnapshot<Long> mapped = MappedEmployeeSnapshot.open(large, IdCodec.longs());
+        for (long id = 0; id < 1_000; id++) {
+            assertEquals("Employee " + id, mapped.getEmployee(id).getName());
+        }
+        assertThrows(EmployeeNotFoundException.class, () -> mapped.getEmployee(1_000L));
+    }
+
+    @Test
+    void testCorruptHeaderIsRejected() throws Exception {
+        byte[] bytes = Files.readAllBytes(file);
+        // An employee count far beyond what the file holds.
+        ByteBuffer.wrap(bytes).putInt(8, 1_000_000);
+        Path corrupt = directory.resolve("corrupt.snap");
+        Files.write(corrupt, bytes);
+        IOException failure = assertThrows(IOException.class, () -> MappedEmployeeSnapshot.open(corrupt, IdCodec.uuids()));
+        assertTrue(failure.getMessage().startsWith("Corrupt mapped employee snapshot"));
+
+        Path truncated = directory.resolve("truncated.snap");
+        Files.write(truncated, Arrays.copyOf(Files.readAllBytes(file), bytes.length - 8));
+        assertThrows(IOException.class, () -> MappedEmployeeSnapshot.open(truncated, IdCodec.uuids()));
+    }
+
+    @Test
+    void testFailedWriteLeavesNoTemporaryFile() throws Exception {
+        // A non-empty directory cannot be replaced, so the final move fails.
+        Path target = Files.createDirectory(directory.resolve("failed.snap"));
+        Files.createFile(target.resolve("occupied"));
+        assertThrows(IOException.class, () -> MappedEmployeeSnapshot.write(target, List.of(
+                new Employee<>(john, "John Doe", "Engineering", 50000.0, 4.5, 5, true)), IdCodec.uuids()));
+        assertFalse(Files.exists(directory.resolve("failed.snap.tmp")));
+    }
+}
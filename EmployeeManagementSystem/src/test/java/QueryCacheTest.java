@@ -0,0 +1,80 @@
+import com.example.employeemanagementsystem.controller.EmployeeController;
+import com.example.employeemanagementsystem.controller.QueryCacheStats;
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeDatabase;
+import com.example.employeemanagementsystem.model.EmployeeField;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryCacheTest {
+    private EmployeeDatabase<String> database;
+    private EmployeeController<String> controller;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        database = new EmployeeDatabase<>();
+        database.setMutationLogging(false);
+        controller = new EmployeeController<>(database);
+        controller.addEmployee(new Employee<>("E1", "Ama Mensah", "IT", 5000, 4.0, 3, true));
+        controller.addEmployee(new Employee<>("E2", "Kofi Boateng", "HR", 7000, 3.0, 9, true));
+        controller.addEmployee(new Employee<>("E3", "Yaw Asante", "IT", 6000, 4.8, 1, true));
+    }
+
+    private static List<String> ids(List<Employee<String>> employees) {
+        return employees.stream().map(Employee::getEmployeeId).toList();
+    }
+
+    @Test
+    void testChangesOnlyInvalidateDependentResults() throws Exception {
+        assertEquals(List.of("E2", "E3", "E1"), ids(controller.sortBySalary()));
+        assertEquals(List.of("E2"), ids(controller.searchByDepartment("HR")));
+        controller.sortBySalary();
+        controller.searchByDepartment("HR");
+        QueryCacheStats stats = controller.getCacheStats();
+        assertEquals(2, stats.hits());
+        assertEquals(2, stats.misses());
+
+        assertThrows(IllegalArgumentException.class, () -> controller.updateEmployeeDetails("E1", "bonus", 1.0));
+
+        // A salary change drops the salary sort but keeps the department search.
+        controller.updateEmployeeDetails("E1", EmployeeField.SALARY, 9000.0);
+        assertEquals(List.of("E1", "E2", "E3"), ids(controller.sortBySalary()));
+        controller.searchByDepartment("HR");
+        stats = controller.getCacheStats();
+        assertEquals(3, stats.hits());
+        assertEquals(3, stats.misses());
+        assertEquals(1, stats.invalidations());
+
+        // Results are copies, so callers cannot corrupt the cache.
+        controller.sortBySalary().clear();
+        assertEquals(3, controller.sortBySalary().size());
+
+        // Adding an employee invalidates everything, including changes made behind the controller.
+        database.addEmployee(new Employee<>("E4", "Esi Owusu", "HR", 100, 2.0, 4, true));
+        assertEquals(List.of("E2", "E4"), ids(controller.searchByDepartment("HR")).stream().sorted().toList());
+        database.giveRaiseToHighPerformers(4.5, 100);
+        assertEquals(List.of("E3", "E1", "E2", "E4"), ids(controller.sortBySalary()));
+    }
+
+    @Test
+    void testResultsAreEvictedBeyondTheWeightLimit() throws Exception {
+        // Room for two results of three employees (weight 4 each), not three.
+        EmployeeController<String> small = new EmployeeController<>(database, 8);
+        small.sortBySalary();
+        small.sortByPerformance();
+        small.sortByExperience();
+        QueryCacheStats stats = small.getCacheStats();
+        assertEquals(1, stats.evictions());
+        assertEquals(2, stats.entries());
+        assertEquals(8, stats.weight());
+
+        small.sortByPerformance();
+        assertEquals(1, small.getCacheStats().hits());
+        small.sortBySalary();
+        assertEquals(4, small.getCacheStats().misses());
+    }
+}
@@ -0,0 +1,93 @@
+import com.example.employeemanagementsystem.exception.InvalidSalaryException;
+import com.example.employeemanagementsystem.metrics.Operation;
+import com.example.employeemanagementsystem.metrics.OperationStatistics;
+import com.example.employeemanagementsystem.metrics.RecordingEmployeeMetrics;
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeDatabase;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordingEmployeeMetricsTest {
+
+    @Test
+    void testDatabaseOperationsAreCounted() throws Exception {
+        EmployeeDatabase<String> database = new EmployeeDatabase<>();
+        // Time every call so result sizes are exact.
+        RecordingEmployeeMetrics metrics = new RecordingEmployeeMetrics(1);
+        database.setMetrics(metrics);
+
+        for (int i = 0; i < 100; i++) {
+            database.addEmployee(new Employee<>("E" + i, "Employee " + i, i % 4 == 0 ? "HR" : "IT",
+                    1000.0 * i, 3.0, 2, true));
+        }
+        assertThrows(InvalidSalaryException.class, () -> database.addEmployee(
+                new Employee<>("BAD", "Bad", "HR", -1, 3.0, 2, true)));
+        database.searchByDepartment("hr");
+        database.searchByDepartment("it");
+
+        OperationStatistics adds = metrics.snapshot(Operation.ADD);
+        assertEquals(101, adds.getCount());
+        assertEquals(1, adds.getFailures());
+        assertTrue(adds.getP50Nanos() <= adds.getP99Nanos());
+        assertTrue(adds.getP99Nanos() <= adds.getMaxNanos());
+
+        OperationStatistics searches = metrics.snapshot(Operation.SEARCH_BY_DEPARTMENT);
+        assertEquals(2, searches.getCount());
+        assertEquals(50.0, searches.getMeanResultSize(), 1e-9);
+        assertEquals(75, searches.getMaxResultSize());
+        assertEquals(100, metrics.getDatasetSize());
+        assertEquals(2, metrics.snapshot().size());
+
+        metrics.reset();
+        assertTrue(metrics.snapshot().isEmpty());
+    }
+
+    @Test
+    void testMetricsAreReadableOverJmx() throws Exception {
+        EmployeeDatabase<String> database = new EmployeeDatabase<>();
+        RecordingEmployeeMetrics metrics = new RecordingEmployeeMetrics();
+        database.setMetrics(metrics);
+        database.addEmployee(new Employee<>("E1", "John Doe", "HR", 1000, 3.0, 2, true));
+
+        ObjectName name = metrics.register("jmx-test");
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            assertEquals(1, server.getAttribute(name, "DatasetSize"));
+            CompositeData[] operations = (CompositeData[]) server.getAttribute(name, "Operations");
+            assertEquals(1, operations.length);
+            assertEquals("ADD", operations[0].get("operation"));
+            assertEquals(1L, operations[0].get("count"));
+        } finally {
+            metrics.unregister("jmx-test");
+        }
+    }
+
+    @Test
+    void testCallsFromExitedThreadsAreKept() throws Exception {
+        RecordingEmployeeMetrics metrics = new RecordingEmployeeMetrics();
+        for (int round = 0; round < 20; round++) {
+            Thread[] threads = new Thread[10];
+            for (int t = 0; t < threads.length; t++) {
+                threads[t] = new Thread(() -> {
+                    for (int i = 0; i < 100; i++) {
+                        metrics.record(Operation.GET, metrics.start(Operation.GET), 1);
+                    }
+                });
+                threads[t].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertEquals(1_000L * (round + 1), metrics.count(Operation.GET));
+        }
+        metrics.reset();
+        metrics.start(Operation.GET);
+        assertEquals(1, metrics.count(Operation.GET));
+    }
+}
@@ -0,0 +1,153 @@
+import com.example.employeemanagementsystem.exception.EmployeeNotFoundException;
+import com.example.employeemanagementsystem.model.ColumnarEmployeeStore;
+import com.example.employeemanagementsystem.model.DepartmentStats;
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeDatabase;
+import com.example.employeemanagementsystem.model.EmployeeFilter;
+import com.example.employeemanagementsystem.model.EmployeeQuery;
+import com.example.employeemanagementsystem.model.EmployeeSalaryComparator;
+import com.example.employeemanagementsystem.model.ParallelExecution;
+import com.example.employeemanagementsystem.model.ShardedEmployeeDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardedEmployeeDatabaseTest {
+
+    private static final int EMPLOYEES = 2_000;
+    private static final String[] DEPARTMENTS = {"IT", "Sales", "Finance", "HR", "Legal"};
+
+    private EmployeeDatabase<Integer> reference;
+    private ShardedEmployeeDatabase<Integer> sharded;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        reference = new EmployeeDatabase<>();
+        reference.setMutationLogging(false);
+        sharded = new ShardedEmployeeDatabase<>(4, () -> {
+            EmployeeDatabase<Integer> shard = new EmployeeDatabase<>();
+            shard.setMutationLogging(false);
+            return shard;
+        });
+        Random random = new Random(7);
+        for (int id = 0; id < EMPLOYEES; id++) {
+            String department = DEPARTMENTS[random.nextInt(DEPARTMENTS.length)];
+            double salary = 30_000 + random.nextInt(1_000) * 100;
+            double rating = random.nextInt(51) / 10.0;
+            reference.addEmployee(new Employee<>(id, "Employee " + id, department, salary, rating, id % 30, id % 7 != 0));
+            sharded.addEmployee(new Employee<>(id, "Employee " + id, department, salary, rating, id % 30, id % 7 != 0));
+        }
+    }
+
+    private static List<Integer> ids(List<Employee<Integer>> employees) {
+        return employees.stream().map(Employee::getEmployeeId).toList();
+    }
+
+    private static List<Integer> sortedIds(List<Employee<Integer>> employees) {
+        return employees.stream().map(Employee::getEmployeeId).sorted().toList();
+    }
+
+    private void assertSameAnswers() {
+        assertEquals(reference.size(), sharded.size());
+        assertEquals(sortedIds(reference.searchByDepartment("sales")), sortedIds(sharded.searchByDepartment("sales")));
+        assertEquals(sortedIds(reference.searchByName("Employee 1")), sortedIds(sharded.searchByName("Employee 1")));
+
+        List<Employee<Integer>> inRange = sharded.filterBySalaryRange(50_000, 60_000);
+        assertEquals(sortedIds(reference.filterBySalaryRange(50_000, 60_000)), sortedIds(inRange));
+        for (int i = 1; i < inRange.size(); i++) {
+            assertTrue(inRange.get(i - 1).getSalary() <= inRange.get(i).getSalary());
+        }
+        assertEquals(sortedIds(reference.filterByPerformance(4.5)), sortedIds(sharded.filterByPerformance(4.5)));
+
+        // Ties in salary may come back in any order, so compare salaries.
+        assertEquals(reference.getTopPaidEmployees(25).stream().map(Employee::getSalary).toList(),
+                sharded.getTopPaidEmployees(25).stream().map(Employee::getSalary).toList());
+        Comparator<Employee<Integer>> byId = Comparator.comparing(Employee::getEmployeeId);
+        EmployeeQuery<Integer> query = EmployeeQuery.<Integer>builder()
+                .where(EmployeeFilter.allOf(EmployeeFilter.department("IT"), EmployeeFilter.ratingAtLeast(3.0)))
+                .orderBy(byId)
+                .limit(40)
+                .build();
+        assertEquals(ids(reference.query(query)), ids(sharded.query(query)));
+
+        Map<String, DepartmentStats> expected = reference.departmentStats();
+        Map<String, DepartmentStats> actual = sharded.departmentStats();
+        assertEquals(expected.keySet(), actual.keySet());
+        for (String department : expected.keySet()) {
+            DepartmentStats e = expected.get(department);
+            DepartmentStats a = actual.get(department);
+            assertEquals(e.headcount(), a.headcount());
+            assertEquals(e.activeHeadcount(), a.activeHeadcount());
+            assertEquals(e.minSalary(), a.minSalary());
+            assertEquals(e.maxSalary(), a.maxSalary());
+            assertEquals(e.totalSalary(), a.totalSalary(), 1e-6);
+            assertEquals(e.averageRating(), a.averageRating(), 1e-9);
+            assertEquals(reference.getAverageSalaryByDepartment(department),
+                    sharded.getAverageSalaryByDepartment(department), 1e-6);
+        }
+    }
+
+    @Test
+    void testScatterGatherMatchesSingleDatabase() throws Exception {
+        assertSameAnswers();
+
+        reference.giveRaiseToHighPerformers(4.0, 10);
+        sharded.giveRaiseToHighPerformers(4.0, 10);
+        reference.updateEmployeeDetails(3, "department", "Legal");
+        sharded.updateEmployeeDetails(3, "department", "Legal");
+        reference.removeEmployee(4);
+        sharded.removeEmployee(4);
+        assertSameAnswers();
+        assertThrows(EmployeeNotFoundException.class, () -> sharded.getEmployee(4));
+    }
+
+    @Test
+    void testShardsAreBalancedAndAddingOneMovesOnlyItsShare() throws Exception {
+        for (int size : sharded.shardSizes()) {
+            assertTrue(size > EMPLOYEES / 4 * 0.75 && size < EMPLOYEES / 4 * 1.25, "shard size " + size);
+        }
+
+        int moved = sharded.addShard();
+        assertEquals(5, sharded.getShardCount());
+        int[] sizes = sharded.shardSizes();
+        assertEquals(moved, sizes[4]);
+        // Consistent hashing moves about a fifth of the employees, all of them to the new shard.
+        assertTrue(moved > EMPLOYEES / 5 * 0.75 && moved < EMPLOYEES / 5 * 1.25, "moved " + moved);
+        for (int id = 0; id < EMPLOYEES; id++) {
+            assertEquals(id, sharded.getEmployee(id).getEmployeeId());
+        }
+        assertSameAnswers();
+    }
+
+    @Test
+    void testParallelScatterGivesSameResults() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            sharded.setParallelExecution(ParallelExecution.on(pool, 0));
+            assertSameAnswers();
+            assertEquals(10, sharded.getTopEmployees(10, new EmployeeSalaryComparator<>()).size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testEmployeesHandedOutAreReadOnly() throws Exception {
+        ShardedEmployeeDatabase<Integer> columnar = new ShardedEmployeeDatabase<>(2, ColumnarEmployeeStore::new);
+        columnar.addEmployee(new Employee<>(1, "Ama", "IT", 1000.0, 4.0, 1, true));
+        for (ShardedEmployeeDatabase<Integer> database : List.of(sharded, columnar)) {
+            assertThrows(UnsupportedOperationException.class, () -> database.getEmployee(1).setSalary(0));
+            assertThrows(UnsupportedOperationException.class, () -> database.getAllEmployees().get(0).setSalary(0));
+            assertThrows(UnsupportedOperationException.class,
+                    () -> database.getTopPaidEmployees(1).get(0).setSalary(0));
+        }
+        assertEquals(1000.0, columnar.getEmployee(1).getSalary(), 0.0);
+    }
+}
@@ -0,0 +1,52 @@
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeExperienceComparator;
+import com.example.employeemanagementsystem.model.EmployeePerformanceComparator;
+import com.example.employeemanagementsystem.model.EmployeeSalaryComparator;
+import com.example.employeemanagementsystem.model.TopK;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopKTest {
+
+    private static List<Employee<Integer>> workforce(int size) {
+        Random random = new Random(7);
+        List<Employee<Integer>> employees = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            employees.add(new Employee<>(i, "Employee " + i, "Dept" + (i % 5),
+                    random.nextInt(200_000), random.nextInt(51) / 10.0, random.nextInt(40), true));
+        }
+        return employees;
+    }
+
+    private static <E> List<E> fullSort(List<E> source, int k, Comparator<? super E> order) {
+        return source.stream().sorted(order).limit(k).toList();
+    }
+
+    @Test
+    void testSelectMatchesFullSortForEachComparator() {
+        List<Employee<Integer>> employees = workforce(5_000);
+        List<Comparator<Employee<Integer>>> orders = List.of(
+                new EmployeeSalaryComparator<Integer>().thenComparing(Employee::getEmployeeId),
+                new EmployeePerformanceComparator<Integer>().thenComparing(Employee::getEmployeeId),
+                new EmployeeExperienceComparator<Integer>().thenComparing(Employee::getEmployeeId));
+        for (Comparator<Employee<Integer>> order : orders) {
+            assertEquals(fullSort(employees, 25, order), TopK.select(employees, 25, order));
+            assertEquals(fullSort(employees, 25, order), TopK.parallelSelect(employees, 25, order));
+        }
+    }
+
+    @Test
+    void testEdgeCases() {
+        List<Employee<Integer>> employees = workforce(3);
+        Comparator<Employee<Integer>> order = new EmployeeSalaryComparator<>();
+        assertTrue(TopK.select(employees, 0, order).isEmpty());
+        assertEquals(3, TopK.select(employees, 10, order).size());
+        assertTrue(TopK.select(List.<Employee<Integer>>of(), 5, order).isEmpty());
+    }
+}